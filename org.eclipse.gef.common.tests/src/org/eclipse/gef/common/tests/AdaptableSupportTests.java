@@ -130,6 +130,35 @@ public class AdaptableSupportTests {
 	private class ParameterType2 extends Object {
 	}
 
+	@Test
+	public void lookupAfterRegistrationChange() {
+		AdaptableSupportWrapper td = new AdaptableSupportWrapper();
+
+		// cache negative lookups
+		assertNull(td.getAdapter(ParameterType1.class));
+
+		ParameterType1 adapter1 = new ParameterType1();
+		td.setAdapter(adapter1);
+		assertEquals(adapter1, td.getAdapter(ParameterType1.class));
+		assertEquals(adapter1, td.getAdapter(Object.class));
+		assertEquals(adapter1,
+				td.getAdapter(AdapterKey.get(ParameterType1.class)));
+
+		// lookup via super type becomes ambiguous
+		ParameterType2 adapter2 = new ParameterType2();
+		td.setAdapter(adapter2, "role");
+		assertEquals(adapter1, td.getAdapter(Object.class));
+		assertEquals(2, td.getAdapters(Object.class).size());
+		assertEquals(adapter2, td.getAdapter(ParameterType2.class));
+
+		// lookups are updated when unregistering
+		td.unsetAdapter(adapter1);
+		assertNull(td.getAdapter(ParameterType1.class));
+		assertNull(td.getAdapter(AdapterKey.get(ParameterType1.class)));
+		assertEquals(adapter2, td.getAdapter(Object.class));
+		assertEquals(1, td.getAdapters(Object.class).size());
+	}
+
 	@SuppressWarnings({ "serial", "rawtypes" })
 	@Test
 	public void registrationWithAdapterTypeOnly() {
@@ -13,6 +13,8 @@
 package org.eclipse.gef.common.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -337,4 +339,113 @@ public class CollectionUtilsTests {
 		expectation[0] = list(9, 8, 7, 6, 5, 4, 3, 2, 1);
 	}
 
+	@Test
+	public void test_batchUpdate() {
+		final ObservableList<Integer> observable = CollectionUtils
+				.observableArrayList(list(10, 20, 30));
+		final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		final List<List<? extends Integer>> previousContents = new ArrayList<>();
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					javafx.collections.ListChangeListener.Change<? extends Integer> c) {
+				changes.add(c);
+				previousContents.add(CollectionUtils.getPreviousContents(c));
+			}
+		});
+
+		CollectionUtils.batchUpdate(observable, new Runnable() {
+			@Override
+			public void run() {
+				observable.add(40);
+				observable.add(50);
+				observable.addAll(list(60, 70));
+				observable.remove(Integer.valueOf(20));
+			}
+		});
+
+		// a single change is fired; as the removal precedes the (merged)
+		// additions, it is reported as a replacement of the affected range,
+		// so that the sub-changes are in ascending order
+		assertEquals(1, changes.size());
+		assertEquals(list(10, 30, 40, 50, 60, 70), observable);
+		assertEquals(list(10, 20, 30), previousContents.get(0));
+		ListChangeListener.Change<? extends Integer> change = changes.get(0);
+		change.reset();
+		assertTrue(change.next());
+		assertTrue(change.wasReplaced());
+		assertEquals(list(20, 30), change.getRemoved());
+		assertEquals(list(30, 40, 50, 60, 70), change.getAddedSubList());
+		assertEquals(1, change.getFrom());
+		assertEquals(6, change.getTo());
+		assertFalse(change.next());
+	}
+
+	@Test
+	public void test_batchUpdate_ascending() {
+		final ObservableList<Integer> observable = CollectionUtils
+				.observableArrayList(list(10, 20, 30, 40, 50));
+		final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					javafx.collections.ListChangeListener.Change<? extends Integer> c) {
+				changes.add(c);
+			}
+		});
+
+		CollectionUtils.batchUpdate(observable, new Runnable() {
+			@Override
+			public void run() {
+				observable.remove(Integer.valueOf(20));
+				observable.add(2, 35);
+				observable.add(60);
+			}
+		});
+
+		// sub-changes that are applied in ascending order are reported as
+		// such
+		assertEquals(1, changes.size());
+		assertEquals(list(10, 30, 35, 40, 50, 60), observable);
+		ListChangeListener.Change<? extends Integer> change = changes.get(0);
+		change.reset();
+		assertTrue(change.next());
+		assertEquals(list(20), change.getRemoved());
+		assertEquals(1, change.getFrom());
+		assertTrue(change.next());
+		assertEquals(list(35), change.getAddedSubList());
+		assertEquals(2, change.getFrom());
+		assertTrue(change.next());
+		assertEquals(list(60), change.getAddedSubList());
+		assertEquals(5, change.getFrom());
+		assertFalse(change.next());
+		assertEquals(list(10, 20, 30, 40, 50),
+				CollectionUtils.getPreviousContents(change));
+	}
+
+	@Test
+	public void test_computePreviousList_observableListWrapperEx() {
+		final ObservableList<Integer> observable = CollectionUtils
+				.observableArrayList(list(1, 2, 3, 4, 5, 6, 7, 8));
+		final List<Integer> expected = new ArrayList<>(observable);
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					javafx.collections.ListChangeListener.Change<? extends Integer> c) {
+				assertEquals(expected, CollectionUtils.getPreviousContents(c));
+				expected.clear();
+				expected.addAll(observable);
+			}
+		});
+
+		observable.removeAll(list(1, 3, 4, 6, 8));
+		observable.add(1, 9);
+		observable.retainAll(list(9, 7));
+		observable.setAll(list(3, 1, 2));
+		CollectionUtils.sort(observable);
+		observable.set(0, 5);
+		observable.remove(0, 2);
+		observable.clear();
+	}
+
 }
@@ -15,11 +15,13 @@ package org.eclipse.gef.common.tests;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -636,6 +638,47 @@ public class ObservableListTests {
 		// }
 	}
 
+	/**
+	 * Checks that listeners that are notified after a listener that modified
+	 * the list (during the notification) obtain the correct previous contents.
+	 */
+	@Test
+	public void listenersModifyingListReentrantly() {
+		assumeTrue(
+				"Skip for all except ObservableListWrapperEx, SimpleListPropertyEx, or ReadOnlyListWrapperEx",
+				observable.getClass().getSimpleName()
+						.equals("ObservableListWrapperEx")
+						|| observable instanceof SimpleListPropertyEx
+						|| observable instanceof ReadOnlyListWrapperEx);
+
+		observable.addAll(Arrays.asList(1, 2, 3));
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+				// modify the list (once) during notification
+				if (!change.getList().contains(5)) {
+					observable.add(5);
+				}
+			}
+		});
+		final List<List<Integer>> previousContents = new ArrayList<>();
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+				previousContents.add(new ArrayList<Integer>(
+						CollectionUtils.getPreviousContents(change)));
+			}
+		});
+
+		observable.add(4);
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5), observable);
+		// the nested notification (for adding 5) is received first
+		assertEquals(Arrays.asList(Arrays.asList(1, 2, 3, 4),
+				Arrays.asList(1, 2, 3)), previousContents);
+	}
+
 	@Test
 	public void listenersNotProperlyIterating() {
 		// ensure assumption exceptions can be properly handled by JUnit
@@ -1026,6 +1069,98 @@ public class ObservableListTests {
 		observable.addListener(listChangeListener);
 	}
 
+	/**
+	 * Checks that the previous contents of changes that are retained by a
+	 * listener are correct, even if they are obtained after the list was
+	 * modified again.
+	 */
+	@Test
+	public void previousContentsOfRetainedChanges() {
+		assumeTrue(
+				"Skip for all except ObservableListWrapperEx, SimpleListPropertyEx, or ReadOnlyListWrapperEx",
+				observable.getClass().getSimpleName()
+						.equals("ObservableListWrapperEx")
+						|| observable instanceof SimpleListPropertyEx
+						|| observable instanceof ReadOnlyListWrapperEx);
+
+		observable.addAll(Arrays.asList(1, 2, 3));
+		final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+				changes.add(change);
+			}
+		});
+
+		observable.add(4);
+		observable.remove(Integer.valueOf(1));
+		observable.set(0, 5);
+		observable.setAll(Arrays.asList(6));
+		observable.add(7);
+		assertEquals(5, changes.size());
+
+		// obtain previous contents after all modifications (out of order)
+		assertEquals(Arrays.asList(2, 3, 4),
+				CollectionUtils.getPreviousContents(changes.get(2)));
+		assertEquals(Arrays.asList(1, 2, 3),
+				CollectionUtils.getPreviousContents(changes.get(0)));
+		assertEquals(Arrays.asList(1, 2, 3, 4),
+				CollectionUtils.getPreviousContents(changes.get(1)));
+		assertEquals(Arrays.asList(5, 3, 4),
+				CollectionUtils.getPreviousContents(changes.get(3)));
+		assertEquals(Arrays.asList(6),
+				CollectionUtils.getPreviousContents(changes.get(4)));
+	}
+
+	/**
+	 * Checks that removed elements can be garbage collected, even if a
+	 * preceding change is retained by a listener.
+	 */
+	@Test
+	public void removedElementsCanBeGarbageCollected()
+			throws InterruptedException {
+		assumeTrue(
+				"Skip for all except ObservableListWrapperEx, SimpleListPropertyEx, or ReadOnlyListWrapperEx",
+				observable.getClass().getSimpleName()
+						.equals("ObservableListWrapperEx")
+						|| observable instanceof SimpleListPropertyEx
+						|| observable instanceof ReadOnlyListWrapperEx);
+
+		final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+				// only retain the first change
+				if (changes.isEmpty()) {
+					changes.add(change);
+				}
+			}
+		});
+		observable.add(1);
+
+		// values above 127 are not cached
+		Integer element = Integer.valueOf(1000);
+		WeakReference<Integer> reference = new WeakReference<>(element);
+		observable.add(element);
+		observable.remove(element);
+		element = null;
+		// perform further modifications, so that the chain of changes is cut
+		for (int i = 0; i < 100; i++) {
+			observable.add(i);
+		}
+
+		for (int i = 0; i < 10 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(reference.get());
+		// the retained change still provides the correct previous contents
+		assertEquals(Collections.emptyList(),
+				CollectionUtils.getPreviousContents(changes.get(0)));
+	}
+
 	@Test
 	public void remove() {
 		// initialize list with some values
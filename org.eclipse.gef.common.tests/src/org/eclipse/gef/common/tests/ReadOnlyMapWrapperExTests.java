@@ -12,15 +12,85 @@
  *******************************************************************************/
 package org.eclipse.gef.common.tests;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
 import org.eclipse.gef.common.tests.MapPropertyExTests.MapChangeExpector;
 import org.junit.Test;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.property.ReadOnlyMapProperty;
 import javafx.collections.FXCollections;
 
 public class ReadOnlyMapWrapperExTests {
 
+	@Test
+	public void batchedChangeNotifications() {
+		ReadOnlyMapWrapperEx<String, Integer> mapWrapper = new ReadOnlyMapWrapperEx<>(
+				FXCollections.observableHashMap());
+		mapWrapper.put("key1", 1);
+		mapWrapper.put("key2", 2);
+		ReadOnlyMapProperty<String, Integer> roProperty = mapWrapper
+				.getReadOnlyProperty();
+		MapChangeExpector<String, Integer> mapChangeListener = new MapChangeExpector<>(
+				roProperty);
+		roProperty.addListener(mapChangeListener);
+		final AtomicInteger invalidations = new AtomicInteger();
+		roProperty.addListener(new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				invalidations.incrementAndGet();
+			}
+		});
+
+		mapWrapper.beginBatch();
+		mapWrapper.beginBatch();
+		assertTrue(mapWrapper.isBatching());
+		roProperty.put("key1", 10);
+		roProperty.put("key1", 11);
+		roProperty.put("key3", 3);
+		roProperty.remove("key2");
+		// added and removed again
+		roProperty.put("key4", 4);
+		roProperty.remove("key4");
+		// added and changed again
+		roProperty.put("key3", 30);
+		mapWrapper.endBatch();
+		assertEquals(0, invalidations.get());
+
+		// one coalesced change per changed key
+		mapChangeListener.addExpectation("key1", 1, 11);
+		mapChangeListener.addExpectation("key3", null, 30);
+		mapChangeListener.addExpectation("key2", 2, null);
+		mapWrapper.endBatch();
+		mapChangeListener.check();
+		assertEquals(1, invalidations.get());
+		assertFalse(mapWrapper.isBatching());
+
+		// nothing is notified if the batch did not change anything
+		mapWrapper.beginBatch();
+		roProperty.put("key1", 12);
+		roProperty.put("key1", 11);
+		mapWrapper.endBatch();
+		assertEquals(1, invalidations.get());
+
+		// changes are notified immediately outside of a batch
+		mapChangeListener.addExpectation("key1", 11, 1);
+		roProperty.put("key1", 1);
+		mapChangeListener.check();
+		assertEquals(2, invalidations.get());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void endBatchWithoutBatch() {
+		new ReadOnlyMapWrapperEx<String, Integer>().endBatch();
+	}
+
 	@Test
 	public void readOnlyWrapperChangeNotifications() {
 		ReadOnlyMapWrapperEx<String, Integer> mapWrapper = new ReadOnlyMapWrapperEx<>(
@@ -12,9 +12,11 @@
 package org.eclipse.gef.common.adapt;
 
 import java.beans.PropertyChangeSupport;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -44,6 +46,9 @@ import javafx.collections.ObservableMap;
  */
 public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 
+	// Marks a cached lookup that did not yield an (unambiguous) adapter.
+	private static final Object NO_ADAPTER = new Object();
+
 	// XXX: We keep a sorted map of adapters to have a deterministic order
 	private ObservableMap<AdapterKey<?>, Object> adapters = FXCollections
 			.observableMap(new TreeMap<AdapterKey<?>, Object>());
@@ -51,6 +56,20 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	private ReadOnlyMapWrapperEx<AdapterKey<?>, Object> adaptersUnmodifiableProperty;
 	private A source;
 
+	// Lookup caches, which are cleared whenever an adapter is (un)registered:
+	// the keys of all adapters that are assignable to a requested type key,
+	// and the results of getAdapter() for Class, TypeToken, and AdapterKey
+	// keys.
+	private Map<TypeToken<?>, List<AdapterKey<?>>> assignableKeysCache = new HashMap<>();
+	private Map<Object, Object> adapterCache = new HashMap<>();
+
+	// Assignability of (registered) adapter types to (requested) key types,
+	// which is independent of the registered adapters, and is thus retained
+	// when adapters are (un)registered. It is held per instance (and not
+	// shared statically), so that it does not retain types (and thereby
+	// class loaders) beyond the life-time of the source adaptable.
+	private Map<TypeToken<?>, Map<TypeToken<?>, Boolean>> assignabilityCache = new HashMap<>();
+
 	/**
 	 * Creates a new {@link AdaptableSupport} for the given source
 	 * {@link IAdaptable} and a related {@link PropertyChangeSupport}.
@@ -94,6 +113,7 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		Map<AdapterKey<?>, Object> oldAdapters = new HashMap<>(adapters);
 		for (AdapterKey<?> key : oldAdapters.keySet()) {
 			Object adapter = adapters.remove(key);
+			clearCaches();
 			if (adapter != null) {
 				// unbind adapter (if its bound)
 				if (adapter instanceof IAdaptable.Bound) {
@@ -108,9 +128,16 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		}
 
 		adapters.clear();
+		clearCaches();
+		assignabilityCache.clear();
 		source = null;
 	}
 
+	private void clearCaches() {
+		assignableKeysCache.clear();
+		adapterCache.clear();
+	}
+
 	/**
 	 * Returns an adapter for the given {@link AdapterKey} if one can
 	 * unambiguously be retrieved, i.e. if there is only a single adapter
@@ -126,22 +153,29 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(AdapterKey)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(AdapterKey<T> key) {
 		if (adapters.isEmpty()) {
 			return null;
 		}
+		Object cached = adapterCache.get(key);
+		if (cached != null) {
+			return cached == NO_ADAPTER ? null : (T) cached;
+		}
 
 		// see if we can unambiguously retrieve a matching adapter
 		Map<AdapterKey<? extends T>, T> adaptersForTypeKey = getAdapters(
 				key.getKey(), key.getRole());
 
 		// an adapter instance may be registered under different keys
+		T adapter = null;
 		int adapterCount = new HashSet<>(adaptersForTypeKey.values()).size();
 		if (adapterCount == 1) {
-			return adaptersForTypeKey.values().iterator().next();
+			adapter = adaptersForTypeKey.values().iterator().next();
 		}
 
-		return null;
+		adapterCache.put(key, adapter == null ? NO_ADAPTER : adapter);
+		return adapter;
 	}
 
 	/**
@@ -160,8 +194,16 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(Class<T> key) {
-		return this.<T> getAdapter(TypeToken.of(key));
+		// avoid creating a TypeToken for cached lookups
+		Object cached = adapterCache.get(key);
+		if (cached != null) {
+			return cached == NO_ADAPTER ? null : (T) cached;
+		}
+		T adapter = this.<T> getAdapter(TypeToken.of(key));
+		adapterCache.put(key, adapter == null ? NO_ADAPTER : adapter);
+		return adapter;
 	}
 
 	/**
@@ -182,7 +224,13 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(TypeToken)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(TypeToken<T> key) {
+		Object cached = adapterCache.get(key);
+		if (cached != null) {
+			return cached == NO_ADAPTER ? null : (T) cached;
+		}
+
 		// if we have only one adapter (instance) for the given type key
 		// (disregarding the
 		// role), return this one
@@ -190,18 +238,18 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 				null);
 
 		// an adapter instance may be registered under different keys
+		T adapter = null;
 		int adapterCount = new HashSet<>(adaptersForTypeKey.values()).size();
 		if (adapterCount == 1) {
-			return adaptersForTypeKey.values().iterator().next();
-		}
-
-		if (adapterCount > 1) {
+			adapter = adaptersForTypeKey.values().iterator().next();
+		} else if (adapterCount > 1) {
 			// if we have more than one adapter instance, try to retrieve one
 			// unambiguously by using the default role
-			return getAdapter(AdapterKey.get(key, AdapterKey.DEFAULT_ROLE));
+			adapter = getAdapter(AdapterKey.get(key, AdapterKey.DEFAULT_ROLE));
 		}
 
-		return null;
+		adapterCache.put(key, adapter == null ? NO_ADAPTER : adapter);
+		return adapter;
 	}
 
 	/**
@@ -287,12 +335,9 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 			return Collections.emptyMap();
 		}
 		Map<AdapterKey<? extends T>, T> typeSafeAdapters = new TreeMap<>();
-		for (AdapterKey<?> k : adapters.keySet()) {
-			if (Types.isAssignable(key, k.getKey())) {
-				// check type compliance...
-				typeSafeAdapters.put((AdapterKey<? extends T>) k,
-						(T) adapters.get(k));
-			}
+		for (AdapterKey<?> k : getAssignableKeys(key)) {
+			typeSafeAdapters.put((AdapterKey<? extends T>) k,
+					(T) adapters.get(k));
 		}
 		return typeSafeAdapters;
 	}
@@ -308,18 +353,48 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		}
 
 		Map<AdapterKey<? extends T>, T> typeSafeAdapters = new TreeMap<>();
-		for (AdapterKey<?> k : adapters.keySet()) {
+		// return all adapters assignable to the given type key
+		for (AdapterKey<?> k : getAssignableKeys(typeKey)) {
 			if (role == null || k.getRole().equals(role)) {
-				// return all adapters assignable to the given type
-				// key
-				if (Types.isAssignable(typeKey, k.getKey())) {
-					typeSafeAdapters.put((AdapterKey<? extends T>) k,
-							(T) adapters.get(k));
+				typeSafeAdapters.put((AdapterKey<? extends T>) k,
+						(T) adapters.get(k));
+			}
+		}
+		return typeSafeAdapters;
+	}
+
+	private boolean isAssignable(TypeToken<?> superType,
+			TypeToken<?> subType) {
+		Map<TypeToken<?>, Boolean> subTypes = assignabilityCache
+				.get(superType);
+		if (subTypes == null) {
+			subTypes = new HashMap<>();
+			assignabilityCache.put(superType, subTypes);
+		}
+		Boolean assignable = subTypes.get(subType);
+		if (assignable == null) {
+			assignable = Types.isAssignable(superType, subType);
+			subTypes.put(subType, assignable);
+		}
+		return assignable;
+	}
 
+	/**
+	 * Returns the keys of all registered adapters whose type is assignable to
+	 * the given type key (in the order of the adapters map).
+	 */
+	private List<AdapterKey<?>> getAssignableKeys(TypeToken<?> typeKey) {
+		List<AdapterKey<?>> keys = assignableKeysCache.get(typeKey);
+		if (keys == null) {
+			keys = new ArrayList<>();
+			for (AdapterKey<?> k : adapters.keySet()) {
+				if (isAssignable(typeKey, k.getKey())) {
+					keys.add(k);
 				}
 			}
+			assignableKeysCache.put(typeKey, keys);
 		}
-		return typeSafeAdapters;
+		return keys;
 	}
 
 	/**
@@ -427,6 +502,7 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		}
 
 		adapters.put(key, adapter);
+		clearCaches();
 
 		if (adapter instanceof IAdaptable.Bound) {
 			((IAdaptable.Bound<A>) adapter).setAdaptable(source);
@@ -459,6 +535,7 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 				adapters.remove(key);
 			}
 		}
+		clearCaches();
 	}
 
 }
@@ -34,6 +34,23 @@ public interface IAttributeStore {
 	 */
 	public ReadOnlyMapProperty<String, Object> attributesProperty();
 
+	/**
+	 * Executes the given {@link Runnable} while the dispatch of change
+	 * notifications for the {@link #attributesProperty() attributes property}
+	 * is suspended. Listeners are notified when the {@link Runnable} finished,
+	 * so that they receive a single, coalesced notification per changed
+	 * attribute, no matter how often it was changed.
+	 * <p>
+	 * The default implementation does not suspend notifications, but simply
+	 * executes the given {@link Runnable}.
+	 *
+	 * @param runnable
+	 *            The {@link Runnable} that updates attributes.
+	 */
+	public default void batchUpdate(Runnable runnable) {
+		runnable.run();
+	}
+
 	/**
 	 * Returns a map of attributes, mapped to their keys.
 	 *
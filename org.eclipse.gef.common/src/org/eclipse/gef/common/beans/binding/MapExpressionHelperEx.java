@@ -110,6 +110,29 @@ public class MapExpressionHelperEx<K, V> extends MapListenerHelperEx<K, V> {
 		}
 	}
 
+	/**
+	 * Fires notifications to all attached {@link InvalidationListener
+	 * InvalidationListeners} (once), and {@link MapChangeListener
+	 * MapChangeListeners} (once per change).
+	 *
+	 * @param changes
+	 *            The changes that need to be propagated.
+	 */
+	@Override
+	public void fireValueChangedEvent(
+			List<? extends MapChangeListener.Change<? extends K, ? extends V>> changes) {
+		if (!changes.isEmpty()) {
+			notifyInvalidationListeners();
+			// XXX: We do not notify change listeners here, as the identity of
+			// the observed value did not change (see
+			// https://bugs.openjdk.java.net/browse/JDK-8089169)
+			for (MapChangeListener.Change<? extends K, ? extends V> change : changes) {
+				notifyMapChangeListeners(
+						new AtomicChange<>(observableValue, change));
+			}
+		}
+	}
+
 	private void notifyListeners(ObservableMap<K, V> oldValue,
 			ObservableMap<K, V> currentValue) {
 		if (currentValue != oldValue) {
@@ -13,7 +13,15 @@
  *******************************************************************************/
 package org.eclipse.gef.common.beans.property;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
 import org.eclipse.gef.common.beans.binding.MapExpressionHelperEx;
+import org.eclipse.gef.common.collections.MapListenerHelperEx.AtomicChange;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.ReadOnlyBooleanProperty;
@@ -40,6 +48,10 @@ import javafx.collections.ObservableMap;
  * listeners to the nested read-only property but rather keeping the lists of
  * listeners distinct.</li>
  * </ul>
+ * In addition, change notifications can be batched (see {@link #beginBatch()}
+ * and {@link #endBatch()}), so that a sequence of changes of the wrapped
+ * {@link ObservableMap} results in a single invalidation notification and in
+ * a single (coalesced) map change notification per changed key.
  *
  * @author mwienand
  * @author anyssen
@@ -99,6 +111,13 @@ public class ReadOnlyMapWrapperEx<K, V> extends ReadOnlyMapWrapper<K, V> {
 			}
 		}
 
+		private void fireValueChangedEvent(
+				List<? extends Change<? extends K, ? extends V>> changes) {
+			if (helper != null) {
+				helper.fireValueChangedEvent(changes);
+			}
+		}
+
 		@Override
 		public ObservableMap<K, V> get() {
 			return ReadOnlyMapWrapperEx.this.get();
@@ -143,9 +162,16 @@ public class ReadOnlyMapWrapperEx<K, V> extends ReadOnlyMapWrapper<K, V> {
 		}
 	}
 
+	// marker for keys that were not contained before a batch
+	private static final Object ABSENT = new Object();
+
 	private MapExpressionHelperEx<K, V> helper = null;
 	private ReadOnlyPropertyImplEx readOnlyProperty;
 
+	private int batchDepth = 0;
+	// changed keys mapped to their values before the batch (or ABSENT)
+	private Map<K, Object> batchedOldValues = null;
+
 	/**
 	 * The constructor of {@code ReadOnlyMapWrapperEx}
 	 */
@@ -229,6 +255,59 @@ public class ReadOnlyMapWrapperEx<K, V> extends ReadOnlyMapWrapper<K, V> {
 		helper.addListener(listener);
 	}
 
+	/**
+	 * Suspends the dispatch of change notifications for changes of the wrapped
+	 * {@link ObservableMap} until {@link #endBatch()} is called. Batches may
+	 * be nested, in which case notifications are dispatched when the outermost
+	 * batch is ended.
+	 */
+	public void beginBatch() {
+		if (batchDepth++ == 0) {
+			batchedOldValues = new LinkedHashMap<>();
+		}
+	}
+
+	/**
+	 * Ends a batch that was started using {@link #beginBatch()}. When the
+	 * outermost batch is ended, all listeners are notified about the changes
+	 * that were applied during the batch: invalidation listeners are notified
+	 * once, and map change listeners are notified once per key whose value
+	 * differs from its value before the batch.
+	 *
+	 * @throws IllegalStateException
+	 *             if no batch is in progress.
+	 */
+	@SuppressWarnings("unchecked")
+	public void endBatch() {
+		if (batchDepth == 0) {
+			throw new IllegalStateException("No batch in progress.");
+		}
+		if (--batchDepth > 0) {
+			return;
+		}
+		Map<K, Object> oldValues = batchedOldValues;
+		batchedOldValues = null;
+		ObservableMap<K, V> map = get();
+		List<Change<K, V>> changes = new ArrayList<>();
+		for (Entry<K, Object> entry : oldValues.entrySet()) {
+			K key = entry.getKey();
+			Object oldValue = entry.getValue();
+			Object newValue = map != null && map.containsKey(key)
+					? map.get(key) : ABSENT;
+			if (!Objects.equals(oldValue, newValue)) {
+				changes.add(new AtomicChange<>(this, key,
+						oldValue == ABSENT ? null : (V) oldValue,
+						newValue == ABSENT ? null : (V) newValue));
+			}
+		}
+		if (helper != null) {
+			helper.fireValueChangedEvent(changes);
+		}
+		if (readOnlyProperty != null) {
+			readOnlyProperty.fireValueChangedEvent(changes);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -248,6 +327,15 @@ public class ReadOnlyMapWrapperEx<K, V> extends ReadOnlyMapWrapper<K, V> {
 	@Override
 	protected void fireValueChangedEvent(
 			Change<? extends K, ? extends V> change) {
+		if (batchedOldValues != null && change != null) {
+			// record the value before the batch, and notify in endBatch()
+			K key = change.getKey();
+			if (!batchedOldValues.containsKey(key)) {
+				batchedOldValues.put(key, change.wasRemoved()
+						? change.getValueRemoved() : ABSENT);
+			}
+			return;
+		}
 		if (helper != null) {
 			helper.fireValueChangedEvent(change);
 		}
@@ -270,6 +358,17 @@ public class ReadOnlyMapWrapperEx<K, V> extends ReadOnlyMapWrapper<K, V> {
 		return readOnlyProperty;
 	}
 
+	/**
+	 * Returns <code>true</code> if a batch is in progress, i.e. change
+	 * notifications are currently suspended (see {@link #beginBatch()}).
+	 *
+	 * @return <code>true</code> if a batch is in progress, <code>false</code>
+	 *         otherwise.
+	 */
+	public boolean isBatching() {
+		return batchDepth > 0;
+	}
+
 	@Override
 	public int hashCode() {
 		// XXX: As we rely on equality to remove a binding again, we have to
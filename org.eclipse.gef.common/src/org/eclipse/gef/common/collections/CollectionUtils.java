@@ -26,6 +26,7 @@ import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.SetMultimap;
 
+import javafx.beans.value.ObservableListValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ListChangeListener.Change;
@@ -43,6 +44,40 @@ import javafx.collections.ObservableList;
  */
 public class CollectionUtils {
 
+	/**
+	 * Executes the given {@link Runnable}, combining all modifications that
+	 * are applied to the given {@link ObservableList} in the meantime into a
+	 * single change notification. This is supported for {@link ObservableList}
+	 * s created via {@link #observableList(List)} and
+	 * {@link #observableArrayList()}, as well as for {@link ObservableListValue
+	 * observable list values} (e.g. the properties returned by
+	 * {@link org.eclipse.gef.common.beans.property.ReadOnlyListWrapperEx#getReadOnlyProperty()})
+	 * wrapping them. For other {@link ObservableList}s, the {@link Runnable} is
+	 * simply executed, so that each modification is notified separately.
+	 *
+	 * @param <E>
+	 *            The element type of the {@link ObservableList}.
+	 * @param observableList
+	 *            The {@link ObservableList} that is modified.
+	 * @param updates
+	 *            The {@link Runnable} that modifies the {@link ObservableList}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> void batchUpdate(ObservableList<E> observableList,
+			Runnable updates) {
+		ObservableList<E> list = observableList;
+		// unwrap observable list values (i.e. list properties)
+		while (list instanceof ObservableListValue
+				&& ((ObservableListValue<E>) list).get() != list) {
+			list = ((ObservableListValue<E>) list).get();
+		}
+		if (list instanceof ObservableListWrapperEx) {
+			((ObservableListWrapperEx<E>) list).batchUpdate(updates);
+		} else {
+			updates.run();
+		}
+	}
+
 	/**
 	 * Returns an empty, unmodifiable {@link ObservableMultiset}.
 	 *
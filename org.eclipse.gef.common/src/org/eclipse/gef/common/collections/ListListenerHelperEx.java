@@ -48,7 +48,54 @@ public class ListListenerHelperEx<E> {
 		private int cursor = -1;
 		private ElementarySubChange<E>[] elementarySubChanges;
 
+		// previous contents are computed lazily in case they are not provided
 		private List<E> previousContents;
+		// the change from which to obtain the previous contents (if inferred)
+		private AtomicChange<? extends E> previousContentsProvider;
+		// the change that was applied to the source list after this one, from
+		// whose previous contents to compute ours (if not yet computed)
+		private AtomicChange<E> successor;
+
+		/**
+		 * Creates a new {@link ListListenerHelperEx.AtomicChange} that
+		 * represents a change comprising a single elementary sub-change. The
+		 * previous contents of the source {@link ObservableList} are not
+		 * recorded but computed lazily (see {@link #getPreviousContents()}).
+		 *
+		 * @param source
+		 *            The source {@link ObservableList} from which the change
+		 *            originated.
+		 * @param elementarySubChange
+		 *            The elementary sub-change that has been applied.
+		 */
+		@SuppressWarnings("unchecked")
+		public AtomicChange(ObservableList<E> source,
+				ElementarySubChange<E> elementarySubChange) {
+			super(source);
+			this.elementarySubChanges = new ElementarySubChange[] {
+					elementarySubChange };
+		}
+
+		/**
+		 * Creates a new {@link ListListenerHelperEx.AtomicChange} that
+		 * represents a change comprising multiple elementary sub-changes. The
+		 * previous contents of the source {@link ObservableList} are not
+		 * recorded but computed lazily (see {@link #getPreviousContents()}).
+		 *
+		 * @param source
+		 *            The source {@link ObservableList} from which the change
+		 *            originated.
+		 * @param elementarySubChanges
+		 *            The elementary sub-changes that have been applied as part
+		 *            of this change.
+		 */
+		@SuppressWarnings("unchecked")
+		public AtomicChange(ObservableList<E> source,
+				List<ElementarySubChange<E>> elementarySubChanges) {
+			super(source);
+			this.elementarySubChanges = elementarySubChanges
+					.toArray(new ElementarySubChange[] {});
+		}
 
 		/**
 		 * Creates a new {@link ListListenerHelperEx.AtomicChange} that
@@ -115,9 +162,14 @@ public class ListListenerHelperEx<E> {
 				ListChangeListener.Change<? extends E> change) {
 			super(source);
 
-			// copy previous contents
-			this.previousContents = new ArrayList<>(
-					CollectionUtils.getPreviousContents(change));
+			if (change instanceof AtomicChange) {
+				// share (lazily computed) previous contents
+				this.previousContentsProvider = (AtomicChange<? extends E>) change;
+			} else {
+				// copy previous contents
+				this.previousContents = new ArrayList<>(
+						CollectionUtils.getPreviousContents(change));
+			}
 
 			// retrieve elementary sub-changes by iterating them
 			// TODO: we could introduce an initialized field inside Change
@@ -182,11 +234,47 @@ public class ListListenerHelperEx<E> {
 		/**
 		 * Returns the previous contents of the observable list before the
 		 * change was applied.
+		 * <p>
+		 * In case the previous contents were not provided on construction,
+		 * they are computed (once) by reverting the elementary sub-changes on
+		 * the contents of the source list after this change, i.e. on the
+		 * current contents, or on the previous contents of the change that
+		 * was subsequently applied to the source list (see
+		 * {@link #setSuccessor(AtomicChange)}).
 		 *
 		 * @return An unmodifiable list containing the previous contents of the
 		 *         list.
 		 */
+		@SuppressWarnings("unchecked")
 		public List<E> getPreviousContents() {
+			if (previousContents == null) {
+				if (previousContentsProvider != null) {
+					previousContents = (List<E>) previousContentsProvider
+							.getPreviousContents();
+				} else {
+					// collect the subsequent changes whose previous contents
+					// have not been computed yet (iteratively, as the chain may
+					// be long)
+					List<AtomicChange<E>> chain = new ArrayList<>();
+					AtomicChange<E> c = this;
+					while (c != null && c.previousContents == null) {
+						chain.add(c);
+						c = c.successor;
+					}
+					// revert them on a single copy; the previous contents of
+					// the subsequent changes are not retained, so that they
+					// do not have to be copied
+					List<E> contents = new ArrayList<>(
+							c == null ? getList() : c.previousContents);
+					for (int i = chain.size() - 1; i >= 0; i--) {
+						revert(contents, Arrays
+								.asList(chain.get(i).elementarySubChanges));
+					}
+					previousContents = contents;
+					// the subsequent changes are no longer needed
+					successor = null;
+				}
+			}
 			return Collections.unmodifiableList(previousContents);
 		}
 
@@ -208,6 +296,28 @@ public class ListListenerHelperEx<E> {
 			return elementarySubChanges[cursor].getTo();
 		}
 
+		/**
+		 * Records the change that was applied to the source list after this
+		 * one, so that the previous contents of this change can still be
+		 * computed (see {@link #getPreviousContents()}) after the source list
+		 * was modified again. Has no effect if the previous contents of this
+		 * change are already known.
+		 *
+		 * @param successor
+		 *            The change that was applied to the source list after this
+		 *            one.
+		 * @return <code>true</code> if the given change was recorded as
+		 *         successor, <code>false</code> if the previous contents of
+		 *         this change are already known.
+		 */
+		boolean setSuccessor(AtomicChange<E> successor) {
+			if (previousContents == null && previousContentsProvider == null) {
+				this.successor = successor;
+				return true;
+			}
+			return false;
+		}
+
 		@Override
 		public boolean next() {
 			cursor++;
@@ -438,6 +548,29 @@ public class ListListenerHelperEx<E> {
 			}
 		}
 
+		/**
+		 * Merges the given addition into this one, in case both are additions
+		 * and the given one directly succeeds this one. This is used to
+		 * combine the changes of a batch update before they are fired.
+		 *
+		 * @param subsequent
+		 *            The subsequent elementary change.
+		 * @return <code>true</code> if the given change was merged into this
+		 *         one, <code>false</code> otherwise.
+		 */
+		boolean appendAdded(ElementarySubChange<E> subsequent) {
+			if (!Kind.ADD.equals(kind) || !Kind.ADD.equals(subsequent.kind)
+					|| subsequent.from != to) {
+				return false;
+			}
+			if (added == null) {
+				added = new ArrayList<>();
+			}
+			added.addAll(subsequent.getAdded());
+			to = subsequent.to;
+			return true;
+		}
+
 		/**
 		 * Returns the elements that were added by this change.
 		 *
@@ -520,6 +653,59 @@ public class ListListenerHelperEx<E> {
 		}
 	}
 
+	/**
+	 * Computes the contents of a list before the given elementary changes were
+	 * (sequentially) applied to it, by reverting them in reverse order.
+	 *
+	 * @param <E>
+	 *            The element type of the list.
+	 * @param currentContents
+	 *            The contents of the list after the changes were applied.
+	 * @param elementarySubChanges
+	 *            The elementary changes that were applied.
+	 * @return A newly created {@link List} containing the previous contents.
+	 */
+	protected static <E> List<E> computePreviousContents(
+			List<? extends E> currentContents,
+			List<ElementarySubChange<E>> elementarySubChanges) {
+		List<E> previousContents = new ArrayList<>(currentContents);
+		revert(previousContents, elementarySubChanges);
+		return previousContents;
+	}
+
+	/**
+	 * Reverts the given elementary changes (in reverse order) on the given
+	 * list.
+	 */
+	private static <E> void revert(List<E> previousContents,
+			List<ElementarySubChange<E>> elementarySubChanges) {
+		for (int i = elementarySubChanges.size() - 1; i >= 0; i--) {
+			ElementarySubChange<E> c = elementarySubChanges.get(i);
+			int from = c.getFrom();
+			int to = c.getTo();
+			switch (c.getKind()) {
+			case ADD:
+				previousContents.subList(from, to).clear();
+				break;
+			case REMOVE:
+				previousContents.addAll(from, c.getRemoved());
+				break;
+			case REPLACE:
+				previousContents.subList(from, to).clear();
+				previousContents.addAll(from, c.getRemoved());
+				break;
+			case PERMUTATE:
+				int[] permutation = c.getPermutation();
+				List<E> permutated = new ArrayList<>(
+						previousContents.subList(from, to));
+				for (int j = from; j < to; j++) {
+					previousContents.set(j, permutated.get(permutation[j - from] - from));
+				}
+				break;
+			}
+		}
+	}
+
 	/**
 	 * Infers the elementary changes constituting the change of the
 	 * {@link ObservableList}.
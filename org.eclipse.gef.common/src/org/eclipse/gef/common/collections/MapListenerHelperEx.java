@@ -216,6 +216,24 @@ public class MapListenerHelperEx<K, V> {
 		}
 	}
 
+	/**
+	 * Notifies all attached {@link InvalidationListener}s (once) and
+	 * {@link MapChangeListener}s (once per change) about the given changes.
+	 * Nothing is notified in case the given {@link List} is empty.
+	 *
+	 * @param changes
+	 *            The changes to notify listeners about.
+	 */
+	public void fireValueChangedEvent(
+			List<? extends MapChangeListener.Change<? extends K, ? extends V>> changes) {
+		if (!changes.isEmpty()) {
+			notifyInvalidationListeners();
+			for (MapChangeListener.Change<? extends K, ? extends V> change : changes) {
+				notifyMapChangeListeners(change);
+			}
+		}
+	}
+
 	/**
 	 * Returns the source {@link ObservableMap} this {@link MapListenerHelperEx}
 	 * is bound to, which is used in change notifications.
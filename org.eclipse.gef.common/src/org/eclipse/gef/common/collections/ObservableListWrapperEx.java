@@ -11,6 +11,7 @@
  *******************************************************************************/
 package org.eclipse.gef.common.collections;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -48,6 +49,22 @@ import javafx.collections.ObservableList;
  * (https://bugs.openjdk.java.net/browse/JDK-8092504): fixed by using
  * {@link ListListenerHelperEx} as a replacement for ListListenerHelper.</li>
  * </ul>
+ * <p>
+ * In contrast to the JavaFX implementation, the contents of the backing list
+ * are not copied for each change notification. Instead, the fired
+ * {@link ListListenerHelperEx.AtomicChange}s only record the affected ranges
+ * and compute the previous contents lazily (see
+ * {@link ListListenerHelperEx.AtomicChange#getPreviousContents()}). Each fired
+ * change is linked to the subsequently fired one, so that its previous
+ * contents can still be computed after further modifications. The changes are
+ * only weakly referenced by the list, and the chain of linked changes is cut
+ * regularly (see {@link #MAX_LINKED_CHANGES}), so that a change that is
+ * retained by a client keeps only a bounded number of subsequent changes (and
+ * the elements removed by them) reachable. In case the list is modified by a
+ * listener during change notification, the previous contents of the notified
+ * change are computed right away. Multiple
+ * modifications may further be combined into a single change notification
+ * using {@link #batchUpdate(Runnable)}.
  *
  * @author anyssen
  * @param <E>
@@ -57,9 +74,25 @@ import javafx.collections.ObservableList;
 class ObservableListWrapperEx<E> extends ForwardingList<E>
 		implements ObservableList<E> {
 
+	/**
+	 * The number of linked changes after which the chain of linked changes is
+	 * cut, by computing the previous contents of the earliest change that is
+	 * still reachable.
+	 */
+	static final int MAX_LINKED_CHANGES = 32;
+
 	private ListListenerHelperEx<E> helper = new ListListenerHelperEx<>(this);
 	private List<E> backingList;
 
+	// the (weakly referenced) changes that were linked since the chain was
+	// last cut, and the change that is currently fired
+	private List<WeakReference<ListListenerHelperEx.AtomicChange<E>>> linkedChanges = new ArrayList<>();
+	private ListListenerHelperEx.AtomicChange<E> firingChange;
+
+	// elementary sub-changes recorded during a batch update
+	private int batchUpdateDepth = 0;
+	private List<ElementarySubChange<E>> batchedSubChanges = null;
+
 	/**
 	 * Creates a new {@link ObservableList} wrapping the given {@link List}.
 	 *
@@ -73,40 +106,29 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean add(E element) {
-		List<E> previousContents = delegateCopy();
+		int index = size();
 		boolean result = super.add(element);
 		if (result) {
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ListListenerHelperEx.ElementarySubChange.added(
-									Collections.singletonList(element),
-									previousContents.size(),
-									previousContents.size() + 1)));
+			fireValueChangedEvent(ElementarySubChange.added(
+					Collections.singletonList(element), index, index + 1));
 		}
 		return result;
 	}
 
 	@Override
 	public void add(int index, E element) {
-		List<E> previousContents = delegateCopy();
 		super.add(index, element);
-		helper.fireValueChangedEvent(
-				new ListListenerHelperEx.AtomicChange<>(this, previousContents,
-						ListListenerHelperEx.ElementarySubChange.added(
-								Collections.singletonList(element), index,
-								index + 1)));
+		fireValueChangedEvent(ElementarySubChange.added(
+				Collections.singletonList(element), index, index + 1));
 	}
 
 	@Override
 	public boolean addAll(Collection<? extends E> collection) {
-		List<E> previousContents = delegateCopy();
+		int index = size();
 		boolean result = super.addAll(collection);
-		helper.fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(
-				this, previousContents,
-				ListListenerHelperEx.ElementarySubChange.added(
-						new ArrayList<>(collection), previousContents.size(),
-						previousContents.size() + collection.size())));
+		fireValueChangedEvent(
+				ElementarySubChange.added(new ArrayList<>(collection), index,
+						index + collection.size()));
 		return result;
 	}
 
@@ -118,13 +140,9 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean addAll(int index, Collection<? extends E> elements) {
-		List<E> previousContents = delegateCopy();
 		boolean result = super.addAll(index, elements);
-		helper.fireValueChangedEvent(
-				new ListListenerHelperEx.AtomicChange<>(this, previousContents,
-						ListListenerHelperEx.ElementarySubChange.added(
-								new ArrayList<>(elements), index,
-								index + elements.size())));
+		fireValueChangedEvent(ElementarySubChange.added(
+				new ArrayList<>(elements), index, index + elements.size()));
 		return result;
 	}
 
@@ -138,16 +156,120 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 		helper.addListener(listener);
 	}
 
+	/**
+	 * Executes the given {@link Runnable}, combining all modifications that
+	 * are applied to this {@link ObservableListWrapperEx} in the meantime into
+	 * a single change notification, which is fired after the
+	 * {@link Runnable} returned. Directly succeeding additions are merged. In
+	 * case the elementary sub-changes were applied in ascending order of their
+	 * indexes (without overlapping), they are reported as such. Otherwise, as
+	 * {@link javafx.collections.ListChangeListener.Change} requires the
+	 * sub-changes to be reported in ascending order, the combined change is
+	 * reported as a single replacement of the affected range. Batch updates
+	 * may be nested, in which case the change notification is fired when the
+	 * outermost batch update is finished.
+	 *
+	 * @param updates
+	 *            The {@link Runnable} that modifies this list.
+	 */
+	public void batchUpdate(Runnable updates) {
+		if (batchUpdateDepth++ == 0) {
+			batchedSubChanges = new ArrayList<>();
+		}
+		try {
+			updates.run();
+		} finally {
+			if (--batchUpdateDepth == 0) {
+				List<ElementarySubChange<E>> subChanges = batchedSubChanges;
+				batchedSubChanges = null;
+				if (isAscending(subChanges)) {
+					if (!subChanges.isEmpty()) {
+						fire(new ListListenerHelperEx.AtomicChange<>(this,
+								subChanges));
+					}
+				} else {
+					fireReplacement(subChanges);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fires a single change that replaces the range of this list that was
+	 * affected by the given elementary sub-changes.
+	 *
+	 * @param subChanges
+	 *            The {@link ElementarySubChange}s that were applied.
+	 */
+	private void fireReplacement(List<ElementarySubChange<E>> subChanges) {
+		List<E> previousContents = ListListenerHelperEx
+				.computePreviousContents(backingList, subChanges);
+		// elements before the minimum index are not affected
+		int from = Integer.MAX_VALUE;
+		for (ElementarySubChange<E> subChange : subChanges) {
+			from = Math.min(from, subChange.getFrom());
+		}
+		// determine the (unchanged) common suffix
+		int previousTo = previousContents.size();
+		int to = size();
+		while (previousTo > from && to > from && previousContents
+				.get(previousTo - 1) == backingList.get(to - 1)) {
+			previousTo--;
+			to--;
+		}
+		List<E> removed = new ArrayList<>(
+				previousContents.subList(from, previousTo));
+		List<E> added = new ArrayList<>(backingList.subList(from, to));
+		ElementarySubChange<E> replacement;
+		if (removed.isEmpty() && added.isEmpty()) {
+			// modifications cancelled each other out
+			return;
+		} else if (removed.isEmpty()) {
+			replacement = ElementarySubChange.added(added, from, to);
+		} else if (added.isEmpty()) {
+			replacement = ElementarySubChange.removed(removed, from, from);
+		} else {
+			replacement = ElementarySubChange.replaced(removed, added, from,
+					to);
+		}
+		fire(new ListListenerHelperEx.AtomicChange<>(this, previousContents,
+				replacement));
+	}
+
+	/**
+	 * Tests if the given elementary sub-changes can be reported as they are,
+	 * i.e. if they were applied in ascending order of their indexes, so that
+	 * their indexes are not shifted by the succeeding sub-changes. As
+	 * permutations may not be combined with other sub-changes, they may only
+	 * be reported on their own.
+	 *
+	 * @param subChanges
+	 *            The {@link ElementarySubChange}s that were applied.
+	 * @return <code>true</code> if the given sub-changes are in ascending
+	 *         order, otherwise <code>false</code>.
+	 */
+	private static <E> boolean isAscending(
+			List<ElementarySubChange<E>> subChanges) {
+		for (int i = 1; i < subChanges.size(); i++) {
+			ElementarySubChange<E> previous = subChanges.get(i - 1);
+			ElementarySubChange<E> current = subChanges.get(i);
+			if (ElementarySubChange.Kind.PERMUTATE.equals(previous.getKind())
+					|| ElementarySubChange.Kind.PERMUTATE
+							.equals(current.getKind())
+					|| current.getFrom() <= previous.getTo()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public void clear() {
-		List<E> previousContents = delegateCopy();
-		super.clear();
-		if (!previousContents.isEmpty()) {
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ListListenerHelperEx.ElementarySubChange
-									.removed(previousContents, 0, 0)));
+		if (!isEmpty()) {
+			List<E> previousContents = delegateCopy();
+			super.clear();
+			fireValueChangedEvent(
+					ElementarySubChange.removed(previousContents, 0, 0));
 		}
 	}
 
@@ -166,43 +288,168 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 		return new ArrayList<>(backingList);
 	}
 
+	/**
+	 * Notifies listeners about the given change. The change is linked to the
+	 * previously fired one (see
+	 * {@link ListListenerHelperEx.AtomicChange#setSuccessor(ListListenerHelperEx.AtomicChange)}
+	 * ), in case that is still reachable. In case this list was modified by a
+	 * listener during change notification (i.e. reentrantly), the previous
+	 * contents of the change that is currently fired are computed eagerly, so
+	 * that subsequently notified listeners obtain the correct previous
+	 * contents.
+	 *
+	 * @param change
+	 *            The {@link ListListenerHelperEx.AtomicChange} to fire.
+	 */
+	private void fire(ListListenerHelperEx.AtomicChange<E> change) {
+		ListListenerHelperEx.AtomicChange<E> lastChange = linkedChanges
+				.isEmpty() ? null
+						: linkedChanges.get(linkedChanges.size() - 1).get();
+		if (lastChange == null || !lastChange.setSuccessor(change)) {
+			// no (reachable) change depends on the new one
+			linkedChanges.clear();
+		} else if (linkedChanges.size() >= MAX_LINKED_CHANGES) {
+			// cut the chain, so that the earliest reachable change does not
+			// keep the subsequent ones reachable
+			for (WeakReference<ListListenerHelperEx.AtomicChange<E>> reference : linkedChanges) {
+				ListListenerHelperEx.AtomicChange<E> linkedChange = reference
+						.get();
+				if (linkedChange != null) {
+					linkedChange.getPreviousContents();
+					break;
+				}
+			}
+			linkedChanges.clear();
+		}
+		linkedChanges.add(new WeakReference<>(change));
+		ListListenerHelperEx.AtomicChange<E> outerChange = firingChange;
+		if (outerChange != null) {
+			outerChange.getPreviousContents();
+		}
+		firingChange = change;
+		try {
+			helper.fireValueChangedEvent(change);
+		} finally {
+			firingChange = outerChange;
+		}
+	}
+
+	/**
+	 * Notifies listeners about the given elementary sub-change, or records it
+	 * in case a {@link #batchUpdate(Runnable) batch update} is in progress.
+	 *
+	 * @param subChange
+	 *            The {@link ElementarySubChange} that was applied.
+	 */
+	private void fireValueChangedEvent(ElementarySubChange<E> subChange) {
+		if (batchUpdateDepth > 0) {
+			recordSubChange(subChange);
+		} else {
+			fire(new ListListenerHelperEx.AtomicChange<>(this, subChange));
+		}
+	}
+
+	/**
+	 * Notifies listeners about the given elementary sub-changes (as a single
+	 * change), or records them in case a {@link #batchUpdate(Runnable) batch
+	 * update} is in progress.
+	 *
+	 * @param subChanges
+	 *            The {@link ElementarySubChange}s that were applied.
+	 */
+	private void fireValueChangedEvent(List<ElementarySubChange<E>> subChanges) {
+		if (batchUpdateDepth > 0) {
+			for (ElementarySubChange<E> subChange : subChanges) {
+				recordSubChange(subChange);
+			}
+		} else {
+			fire(new ListListenerHelperEx.AtomicChange<>(this, subChanges));
+		}
+	}
+
+	private void recordSubChange(ElementarySubChange<E> subChange) {
+		if (!batchedSubChanges.isEmpty()) {
+			ElementarySubChange<E> last = batchedSubChanges
+					.get(batchedSubChanges.size() - 1);
+			if (last.appendAdded(subChange)) {
+				return;
+			}
+		}
+		batchedSubChanges.add(subChange);
+	}
+
+	/**
+	 * Computes the elementary sub-changes for removing those elements of this
+	 * list that are (or are not) contained in the given {@link Collection}.
+	 * Indexes are adjusted for the elements removed by preceding sub-changes.
+	 *
+	 * @param collection
+	 *            The {@link Collection} to test the elements against.
+	 * @param removeContained
+	 *            <code>true</code> if the contained elements are to be removed,
+	 *            <code>false</code> if the non-contained elements are to be
+	 *            removed.
+	 * @return A {@link List} of removal sub-changes.
+	 */
+	private List<ElementarySubChange<E>> computeRemovals(
+			Collection<?> collection, boolean removeContained) {
+		List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
+		List<E> removed = null;
+		int removedFrom = -1;
+		int removeCount = 0;
+		int lastRemovedIndex = -2;
+		int i = 0;
+		for (E e : backingList) {
+			if (collection.contains(e) == removeContained) {
+				// create a new elementary change, if elements are not
+				// 'continuous' (ensure that the count of elements that have
+				// already been deleted by preceding elementary changes is
+				// subtracted from the index)
+				if (removed == null || i - lastRemovedIndex > 1) {
+					if (removed != null) {
+						elementaryChanges.add(ElementarySubChange
+								.removed(removed, removedFrom, removedFrom));
+					}
+					removed = new ArrayList<>();
+					removedFrom = i - removeCount;
+				}
+				removed.add(e);
+				lastRemovedIndex = i;
+				removeCount++;
+			}
+			i++;
+		}
+		if (removed != null) {
+			elementaryChanges.add(
+					ElementarySubChange.removed(removed, removedFrom, removedFrom));
+		}
+		return elementaryChanges;
+	}
+
 	@Override
 	public E remove(int index) {
-		List<E> previousContents = delegateCopy();
 		E result = super.remove(index);
-		helper.fireValueChangedEvent(
-				new ListListenerHelperEx.AtomicChange<>(this, previousContents,
-						ListListenerHelperEx.ElementarySubChange.removed(
-								Collections.singletonList(result), index,
-								index)));
+		fireValueChangedEvent(ElementarySubChange
+				.removed(Collections.singletonList(result), index, index));
 		return result;
 	}
 
 	@Override
 	public void remove(int from, int to) {
-		List<E> previousContents = delegateCopy();
-		List<E> removed = new ArrayList<>();
-		for (int i = to - 1; i >= from; i--) {
-			removed.add(0, super.remove(i));
-		}
-		helper.fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(
-				this, previousContents, ListListenerHelperEx.ElementarySubChange
-						.removed(removed, from, from)));
+		List<E> removed = new ArrayList<>(subList(from, to));
+		delegate().subList(from, to).clear();
+		fireValueChangedEvent(ElementarySubChange.removed(removed, from, from));
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean remove(Object object) {
-		List<E> previousContents = delegateCopy();
-		if (super.remove(object)) {
+		int index = indexOf(object);
+		if (index >= 0) {
+			super.remove(index);
 			// XXX: if remove was successful, its safe to cast here
-			int index = previousContents.indexOf(object);
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ListListenerHelperEx.ElementarySubChange.removed(
-									Collections.singletonList((E) object),
-									index, index)));
+			fireValueChangedEvent(ElementarySubChange.removed(
+					Collections.singletonList((E) object), index, index));
 			return true;
 		}
 		return false;
@@ -210,48 +457,10 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean removeAll(Collection<?> collection) {
-		List<E> previousContents = delegateCopy();
+		List<ElementarySubChange<E>> elementaryChanges = computeRemovals(
+				collection, true);
 		if (super.removeAll(collection)) {
-			// check which have been removed
-			List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
-			ElementarySubChange<E> currentElementaryChange = null;
-			int removeCount = 0;
-			for (E e : previousContents) {
-				if (collection.contains(e)) {
-					// create a new elementary change, if elements are not
-					// 'continuous' (ensure that the count of elements that have
-					// already been deleted by preceding elementary changes is
-					// subtracted from the index)
-					if (currentElementaryChange == null
-							|| previousContents.indexOf(e)
-									- currentElementaryChange.getFrom() > 1) {
-						if (currentElementaryChange != null) {
-							removeCount += currentElementaryChange.getRemoved()
-									.size();
-						}
-						int index = previousContents.indexOf(e) - removeCount;
-						currentElementaryChange = ElementarySubChange.removed(
-								Collections.singletonList(e), index, index);
-						elementaryChanges.add(currentElementaryChange);
-					} else {
-						// replace current elementary change (i.e. append the
-						// removed element)
-						List<E> removed = new ArrayList<>(
-								currentElementaryChange.getRemoved());
-						removed.add(e);
-						int index = currentElementaryChange.getFrom();
-						elementaryChanges.remove(currentElementaryChange);
-						currentElementaryChange = ElementarySubChange
-								.removed(removed, index, index);
-						elementaryChanges.add(currentElementaryChange);
-					}
-				}
-			}
-			// determine lowest index that was removed (will be used as from and
-			// to index)
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+			fireValueChangedEvent(elementaryChanges);
 			return true;
 		}
 		return false;
@@ -275,48 +484,10 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean retainAll(Collection<?> collection) {
-		List<E> previousContents = delegateCopy();
+		List<ElementarySubChange<E>> elementaryChanges = computeRemovals(
+				collection, false);
 		if (super.retainAll(collection)) {
-			// check which have been removed
-			List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
-			ElementarySubChange<E> currentElementaryChange = null;
-			int removeCount = 0;
-			for (E e : previousContents) {
-				if (!collection.contains(e)) {
-					// create a new elementary change, if elements are not
-					// 'continuous' (ensure that the count of elements that have
-					// already been deleted by preceding elementary changes is
-					// subtracted from the index)
-					if (currentElementaryChange == null
-							|| previousContents.indexOf(e)
-									- currentElementaryChange.getFrom() > 1) {
-						if (currentElementaryChange != null) {
-							removeCount += currentElementaryChange.getRemoved()
-									.size();
-						}
-						int index = previousContents.indexOf(e) - removeCount;
-						currentElementaryChange = ElementarySubChange.removed(
-								Collections.singletonList(e), index, index);
-						elementaryChanges.add(currentElementaryChange);
-					} else {
-						// replace current elementary change (i.e. append the
-						// removed element)
-						List<E> removed = new ArrayList<>(
-								currentElementaryChange.getRemoved());
-						removed.add(e);
-						int index = currentElementaryChange.getFrom();
-						elementaryChanges.remove(currentElementaryChange);
-						currentElementaryChange = ElementarySubChange
-								.removed(removed, index, index);
-						elementaryChanges.add(currentElementaryChange);
-					}
-				}
-			}
-			// determine lowest index that was removed (will be used as from and
-			// to index)
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+			fireValueChangedEvent(elementaryChanges);
 			return true;
 		}
 		return false;
@@ -330,17 +501,12 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public E set(int index, E element) {
-		List<E> previousContents = delegateCopy();
 		if (get(index) != element) {
 			E result = super.remove(index);
 			super.add(index, element);
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ElementarySubChange.replaced(
-									Collections.singletonList(result),
-									Collections.singletonList(element), index,
-									index + 1)));
+			fireValueChangedEvent(ElementarySubChange.replaced(
+					Collections.singletonList(result),
+					Collections.singletonList(element), index, index + 1));
 			return result;
 		}
 		return element;
@@ -348,14 +514,18 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean setAll(Collection<? extends E> collection) {
-		List<E> previousContents = delegateCopy();
-		if (!previousContents.equals(collection)) {
+		if (!delegate().equals(collection)) {
+			List<E> previousContents = delegateCopy();
 			delegate().clear();
 			delegate().addAll(collection);
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents, ElementarySubChange.replaced(
-									previousContents, delegate(), 0, size())));
+			if (batchUpdateDepth > 0) {
+				recordSubChange(ElementarySubChange.replaced(previousContents,
+						delegate(), 0, size()));
+			} else {
+				fire(new ListListenerHelperEx.AtomicChange<>(this,
+						previousContents, ElementarySubChange.replaced(
+								previousContents, delegate(), 0, size())));
+			}
 			return true;
 		}
 		return false;
@@ -418,11 +588,14 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 			previousIndexIterator.remove();
 		}
 		if (changed) {
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ListListenerHelperEx.ElementarySubChange
-									.<E> permutated(permutation, 0, a.length)));
+			ElementarySubChange<E> subChange = ElementarySubChange
+					.<E> permutated(permutation, 0, a.length);
+			if (batchUpdateDepth > 0) {
+				recordSubChange(subChange);
+			} else {
+				fire(new ListListenerHelperEx.AtomicChange<>(this,
+						previousContents, subChange));
+			}
 		}
 	}
 
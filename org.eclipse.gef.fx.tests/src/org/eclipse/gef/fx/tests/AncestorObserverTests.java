@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.gef.fx.listeners.AncestorObserver;
+import org.junit.Test;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.transform.Transform;
+
+public class AncestorObserverTests {
+
+	private static class RecordingSubscriber
+			implements AncestorObserver.Subscriber {
+		private List<Node> changed = new ArrayList<>();
+
+		@Override
+		public void localToParentTransformChanged(Node node,
+				Transform oldTransform, Transform newTransform) {
+			changed.add(node);
+		}
+	}
+
+	@Test
+	public void deferredNotificationsWithoutScene() {
+		// nodes are not part of a scene, so that deferred notifications are
+		// dispatched immediately, as no pulse can be expected
+		Group root = new Group();
+		Group child = new Group();
+		root.getChildren().add(child);
+
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		AncestorObserver.subscribe(child, subscriber, true);
+		child.setTranslateX(10);
+		assertEquals(1, subscriber.changed.size());
+		child.setTranslateX(20);
+		assertEquals(2, subscriber.changed.size());
+
+		AncestorObserver.unsubscribe(child, subscriber, true);
+		assertEquals(0, AncestorObserver.getSubscriberCount(child));
+	}
+
+	@Test
+	public void subscriptionsAreShared() {
+		Group root = new Group();
+		Group parent = new Group();
+		Group child = new Group();
+		root.getChildren().add(parent);
+		parent.getChildren().add(child);
+
+		RecordingSubscriber first = new RecordingSubscriber();
+		RecordingSubscriber second = new RecordingSubscriber();
+		List<Node> firstNodes = AncestorObserver.subscribe(child, root, first);
+		List<Node> secondNodes = AncestorObserver.subscribe(child, root,
+				second);
+		assertEquals(2, firstNodes.size());
+		assertEquals(2, AncestorObserver.getSubscriberCount(parent));
+
+		parent.setTranslateX(10);
+		assertEquals(1, first.changed.size());
+		assertEquals(parent, first.changed.get(0));
+		assertEquals(1, second.changed.size());
+
+		// root is excluded
+		root.setTranslateX(10);
+		assertEquals(1, first.changed.size());
+
+		// reference counting
+		AncestorObserver.subscribe(parent, first, false);
+		AncestorObserver.unsubscribe(firstNodes, first);
+		assertEquals(2, AncestorObserver.getSubscriberCount(parent));
+		assertEquals(1, AncestorObserver.getSubscriberCount(child));
+		AncestorObserver.unsubscribe(parent, first, false);
+		AncestorObserver.unsubscribe(secondNodes, second);
+		assertEquals(0, AncestorObserver.getSubscriberCount(parent));
+		assertEquals(0, AncestorObserver.getSubscriberCount(child));
+
+		parent.setTranslateX(20);
+		assertEquals(1, first.changed.size());
+		assertEquals(1, second.changed.size());
+	}
+
+}
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingUtilities;
+
+import org.eclipse.gef.fx.anchors.DynamicAnchor;
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.fx.nodes.ConnectionRefreshScheduler;
+import org.eclipse.gef.fx.nodes.StraightRouter;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.shape.Rectangle;
+
+public class ConnectionRefreshSchedulerTests {
+
+	private interface FXRunnable {
+		void run() throws Throwable;
+	}
+
+	/**
+	 * Records the {@link Connection}s that are routed.
+	 */
+	private static class RecordingRouter extends StraightRouter {
+		private final List<Connection> routed;
+
+		public RecordingRouter(List<Connection> routed) {
+			this.routed = routed;
+		}
+
+		@Override
+		public void route(Connection connection) {
+			routed.add(connection);
+			super.route(connection);
+		}
+	}
+
+	private static Connection connect(Group root, Rectangle source,
+			Rectangle target, List<Connection> routed) {
+		Connection connection = new Connection();
+		root.getChildren().add(connection);
+		connection.setRouter(new RecordingRouter(routed));
+		connection.setStartAnchor(new DynamicAnchor(source));
+		connection.setEndAnchor(new DynamicAnchor(target));
+		return connection;
+	}
+
+	private static Rectangle createRectangle(Group root, double x, double y) {
+		Rectangle rectangle = new Rectangle(x, y, 50, 50);
+		root.getChildren().add(rectangle);
+		return rectangle;
+	}
+
+	/**
+	 * Ensure the JavaFX toolkit is properly initialized.
+	 */
+	@BeforeClass
+	public static void initializeToolkit() throws InterruptedException {
+		final CountDownLatch latch = new CountDownLatch(1);
+		SwingUtilities.invokeLater(() -> {
+			new JFXPanel();
+			latch.countDown();
+		});
+		latch.await();
+	}
+
+	/**
+	 * Executes the given {@link FXRunnable} on the JavaFX application thread,
+	 * which is required for deferring connection refreshes.
+	 */
+	private static void runOnFXThread(FXRunnable runnable) throws Throwable {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicReference<Throwable> throwableRef = new AtomicReference<>();
+		Platform.runLater(() -> {
+			try {
+				runnable.run();
+			} catch (Throwable t) {
+				throwableRef.set(t);
+			}
+			latch.countDown();
+		});
+		latch.await();
+		if (throwableRef.get() != null) {
+			throw throwableRef.get();
+		}
+	}
+
+	@Test
+	public void anchorChangesAreCoalesced() throws Throwable {
+		runOnFXThread(() -> {
+			Group root = new Group();
+			Scene scene = new Scene(root);
+			List<Connection> routed = new ArrayList<>();
+			Rectangle source = createRectangle(root, 0, 0);
+			Rectangle target = createRectangle(root, 300, 0);
+			Connection connection = connect(root, source, target, routed);
+			ConnectionRefreshScheduler scheduler = ConnectionRefreshScheduler
+					.get(scene);
+
+			routed.clear();
+			source.setX(10);
+			source.setY(20);
+			target.setX(310);
+			assertEquals(0, routed.size());
+			assertTrue(scheduler.isScheduled(connection));
+
+			scheduler.flush();
+			assertEquals(Arrays.asList(connection), routed);
+			assertFalse(scheduler.isScheduled(connection));
+		});
+	}
+
+	@Test
+	public void detachedConnectionsAreReleased() throws Throwable {
+		runOnFXThread(() -> {
+			Group root = new Group();
+			Scene scene = new Scene(root);
+			List<Connection> routed = new ArrayList<>();
+			Rectangle source = createRectangle(root, 0, 0);
+			Rectangle target = createRectangle(root, 300, 0);
+			Connection connection = connect(root, source, target, routed);
+			ConnectionRefreshScheduler scheduler = ConnectionRefreshScheduler
+					.get(scene);
+
+			routed.clear();
+			source.setX(10);
+			assertTrue(scheduler.isScheduled(connection));
+			root.getChildren().remove(connection);
+			assertFalse(scheduler.isScheduled(connection));
+			assertEquals(Arrays.asList(connection), routed);
+		});
+	}
+
+	@Test
+	public void nestedConnectionsAreRefreshedInDependencyOrder()
+			throws Throwable {
+		runOnFXThread(() -> {
+			Group root = new Group();
+			Scene scene = new Scene(root);
+			List<Connection> routed = new ArrayList<>();
+			Rectangle source = createRectangle(root, 0, 0);
+			Rectangle target = createRectangle(root, 300, 0);
+			Rectangle other = createRectangle(root, 150, 200);
+			Connection connection = connect(root, source, target, routed);
+			// nested connection anchored on the curve of the other connection
+			Connection nested = new Connection();
+			root.getChildren().add(nested);
+			nested.setRouter(new RecordingRouter(routed));
+			nested.setStartAnchor(new DynamicAnchor(other));
+			nested.setEndAnchor(new DynamicAnchor(connection.getCurve()));
+			ConnectionRefreshScheduler scheduler = ConnectionRefreshScheduler
+					.get(scene);
+
+			// mark the nested connection dirty first
+			routed.clear();
+			other.setX(160);
+			source.setY(10);
+			assertTrue(scheduler.isScheduled(nested));
+			assertTrue(scheduler.isScheduled(connection));
+
+			scheduler.flush();
+			assertEquals(Arrays.asList(connection, nested), routed);
+		});
+	}
+
+	@Test
+	public void queriesRefreshDirtyConnections() throws Throwable {
+		runOnFXThread(() -> {
+			Group root = new Group();
+			Scene scene = new Scene(root);
+			List<Connection> routed = new ArrayList<>();
+			Rectangle source = createRectangle(root, 0, 0);
+			Rectangle target = createRectangle(root, 300, 0);
+			Connection connection = connect(root, source, target, routed);
+			ConnectionRefreshScheduler scheduler = ConnectionRefreshScheduler
+					.get(scene);
+
+			routed.clear();
+			source.setX(10);
+			assertEquals(0, routed.size());
+			connection.getPointsUnmodifiable();
+			assertEquals(Arrays.asList(connection), routed);
+			assertFalse(scheduler.isScheduled(connection));
+		});
+	}
+
+	@Test
+	public void schedulerIsScenePrivate() throws Throwable {
+		runOnFXThread(() -> {
+			Scene scene1 = new Scene(new Group());
+			Scene scene2 = new Scene(new Group());
+			ConnectionRefreshScheduler scheduler = ConnectionRefreshScheduler
+					.get(scene1);
+			assertSame(scheduler, ConnectionRefreshScheduler.get(scene1));
+			assertNotSame(scheduler, ConnectionRefreshScheduler.get(scene2));
+
+			// synchronous mode only affects the connections of its scene
+			scheduler.setSynchronous(true);
+			assertFalse(ConnectionRefreshScheduler.get(scene2).isSynchronous());
+		});
+	}
+
+}
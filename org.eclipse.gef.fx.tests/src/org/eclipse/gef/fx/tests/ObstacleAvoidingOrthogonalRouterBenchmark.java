@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.fx.anchors.DynamicAnchor;
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.fx.nodes.ObstacleAvoidingOrthogonalRouter;
+import org.eclipse.gef.fx.nodes.ObstacleIndex;
+
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * A simple micro benchmark that measures the run time of the
+ * {@link ObstacleAvoidingOrthogonalRouter} for (pseudo-random) diagrams with
+ * 2000 obstacles, which are arranged on a jittered grid, and 5000 connections
+ * between nearby obstacles. It measures the initial routing of all connections,
+ * as well as the incremental re-routing after a single obstacle is moved. It is
+ * not part of the test suite and has to be started manually, optionally
+ * passing the number of obstacles and connections as arguments.
+ *
+ * @author agent
+ *
+ */
+public class ObstacleAvoidingOrthogonalRouterBenchmark {
+
+	private static final int WARMUP_RUNS = 2;
+	private static final int MEASURED_RUNS = 3;
+	private static final int MOVES = 100;
+
+	// maximum distance (in grid cells) between connected obstacles
+	private static final int NEIGHBORHOOD = 5;
+
+	private static class CountingRouter
+			extends ObstacleAvoidingOrthogonalRouter {
+		private int routeCount = 0;
+
+		public CountingRouter(ObstacleIndex obstacleIndex) {
+			super(obstacleIndex);
+		}
+
+		@Override
+		public void route(Connection connection) {
+			routeCount++;
+			super.route(connection);
+		}
+	}
+
+	public static void main(String[] args) {
+		int obstacleCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		int connectionCount = args.length > 1 ? Integer.parseInt(args[1])
+				: 5000;
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			run(obstacleCount, connectionCount, false);
+		}
+		for (int i = 0; i < MEASURED_RUNS; i++) {
+			run(obstacleCount, connectionCount, true);
+		}
+	}
+
+	private static void run(int obstacleCount, int connectionCount,
+			boolean report) {
+		Random random = new Random(obstacleCount);
+		Group root = new Group();
+		ObstacleIndex index = new ObstacleIndex(root);
+		int columns = (int) Math.ceil(Math.sqrt(obstacleCount));
+		int rows = (obstacleCount + columns - 1) / columns;
+		List<Rectangle> obstacles = new ArrayList<>();
+		for (int i = 0; i < obstacleCount; i++) {
+			Rectangle obstacle = new Rectangle(
+					120 * (i % columns) + random.nextInt(30),
+					100 * (i / columns) + random.nextInt(30),
+					40 + random.nextInt(30), 30 + random.nextInt(20));
+			root.getChildren().add(obstacle);
+			index.addObstacle(obstacle);
+			obstacles.add(obstacle);
+		}
+
+		List<CountingRouter> routers = new ArrayList<>();
+		long start = System.nanoTime();
+		for (int c = 0; c < connectionCount; c++) {
+			int source = random.nextInt(obstacleCount);
+			int column = Math.max(0, Math.min(columns - 1, source % columns
+					+ random.nextInt(2 * NEIGHBORHOOD + 1) - NEIGHBORHOOD));
+			int row = Math.max(0, Math.min(rows - 1, source / columns
+					+ random.nextInt(2 * NEIGHBORHOOD + 1) - NEIGHBORHOOD));
+			int target = Math.min(obstacleCount - 1, row * columns + column);
+			if (target == source) {
+				target = (source + 1) % obstacleCount;
+			}
+			CountingRouter router = new CountingRouter(index);
+			routers.add(router);
+			Connection connection = new Connection();
+			root.getChildren().add(connection);
+			connection.setRouter(router);
+			connection.setStartAnchor(new DynamicAnchor(obstacles.get(source)));
+			connection.setEndAnchor(new DynamicAnchor(obstacles.get(target)));
+		}
+		double initialMillis = (System.nanoTime() - start) / 1e6;
+
+		for (CountingRouter router : routers) {
+			router.routeCount = 0;
+		}
+		start = System.nanoTime();
+		for (int m = 0; m < MOVES; m++) {
+			Rectangle obstacle = obstacles.get(random.nextInt(obstacleCount));
+			obstacle.setX(obstacle.getX() + (m % 2 == 0 ? 15 : -15));
+		}
+		double moveMillis = (System.nanoTime() - start) / 1e6;
+		long rerouted = 0;
+		for (CountingRouter router : routers) {
+			rerouted += router.routeCount;
+		}
+
+		if (report) {
+			System.out.println(String.format(
+					"%d obstacles, %d connections: initial routing %.1f ms, "
+							+ "%.2f ms and %.1f re-routed connections per move",
+					obstacleCount, connectionCount, initialMillis,
+					moveMillis / MOVES, (double) rerouted / MOVES));
+		}
+	}
+
+}
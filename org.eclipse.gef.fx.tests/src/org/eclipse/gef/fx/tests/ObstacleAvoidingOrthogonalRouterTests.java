@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.gef.fx.anchors.DynamicAnchor;
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.fx.nodes.ObstacleAvoidingOrthogonalRouter;
+import org.eclipse.gef.fx.nodes.ObstacleIndex;
+import org.eclipse.gef.geometry.planar.Point;
+import org.junit.Test;
+
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+
+public class ObstacleAvoidingOrthogonalRouterTests {
+
+	private static class CountingRouter
+			extends ObstacleAvoidingOrthogonalRouter {
+		private int routeCount = 0;
+
+		public CountingRouter(ObstacleIndex obstacleIndex) {
+			super(obstacleIndex);
+		}
+
+		@Override
+		public void route(Connection connection) {
+			routeCount++;
+			super.route(connection);
+		}
+	}
+
+	private static Connection connect(Group root, Rectangle source,
+			Rectangle target, ObstacleAvoidingOrthogonalRouter router) {
+		Connection connection = new Connection();
+		root.getChildren().add(connection);
+		connection.setRouter(router);
+		connection.setStartAnchor(new DynamicAnchor(source));
+		connection.setEndAnchor(new DynamicAnchor(target));
+		return connection;
+	}
+
+	private static Rectangle createObstacle(Group parent, ObstacleIndex index,
+			double x, double y, double width, double height) {
+		Rectangle obstacle = new Rectangle(x, y, width, height);
+		parent.getChildren().add(obstacle);
+		index.addObstacle(obstacle);
+		return obstacle;
+	}
+
+	private static boolean intersectsInterior(Point p, Point q,
+			Rectangle obstacle) {
+		double minX = Math.min(p.x, q.x);
+		double maxX = Math.max(p.x, q.x);
+		double minY = Math.min(p.y, q.y);
+		double maxY = Math.max(p.y, q.y);
+		return maxX > obstacle.getX()
+				&& minX < obstacle.getX() + obstacle.getWidth()
+				&& maxY > obstacle.getY()
+				&& minY < obstacle.getY() + obstacle.getHeight();
+	}
+
+	private static boolean isOnOutline(Point p, Rectangle anchorage) {
+		double minX = anchorage.getX();
+		double minY = anchorage.getY();
+		double maxX = minX + anchorage.getWidth();
+		double maxY = minY + anchorage.getHeight();
+		boolean onX = p.x >= minX - 1e-9 && p.x <= maxX + 1e-9;
+		boolean onY = p.y >= minY - 1e-9 && p.y <= maxY + 1e-9;
+		return onX && (Math.abs(p.y - minY) < 1e-9
+				|| Math.abs(p.y - maxY) < 1e-9)
+				|| onY && (Math.abs(p.x - minX) < 1e-9
+						|| Math.abs(p.x - maxX) < 1e-9);
+	}
+
+	/**
+	 * Tests that the bounds of the obstacles are kept up-to-date when an
+	 * ancestor of an obstacle is transformed, and that they remain valid when
+	 * an ancestor of the reference node is transformed (e.g. when scrolling).
+	 */
+	@Test
+	public void ancestorTransformChanges() {
+		Group scrollGroup = new Group();
+		Group root = new Group();
+		Group layer = new Group();
+		scrollGroup.getChildren().add(root);
+		root.getChildren().add(layer);
+		ObstacleIndex index = new ObstacleIndex(root);
+		Rectangle source = createObstacle(root, index, 0, 0, 50, 50);
+		Rectangle target = createObstacle(root, index, 300, 0, 50, 50);
+		Rectangle obstacle = createObstacle(layer, index, 150, -50, 50, 150);
+		CountingRouter router = new CountingRouter(index);
+		connect(root, source, target, router);
+		assertEquals(150, index.getBounds(obstacle).getX(), 1e-9);
+
+		// transform the ancestor of an obstacle
+		router.routeCount = 0;
+		layer.setTranslateX(20);
+		assertEquals(170, index.getBounds(obstacle).getX(), 1e-9);
+		assertTrue(router.routeCount > 0);
+
+		// transform an ancestor of the reference node
+		router.routeCount = 0;
+		scrollGroup.setTranslateX(100);
+		assertEquals(270, index.getBounds(obstacle).getX(), 1e-9);
+		assertEquals(100, index.getBounds(source).getX(), 1e-9);
+		assertEquals(Collections.singletonList(obstacle),
+				index.getObstacles(index.getBounds(obstacle)));
+		assertEquals(0, router.routeCount);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeSpacing() {
+		new ObstacleAvoidingOrthogonalRouter(new ObstacleIndex(new Group()),
+				-1, 0);
+	}
+
+	@Test
+	public void onlyAffectedConnectionsAreRerouted() {
+		Group root = new Group();
+		ObstacleIndex index = new ObstacleIndex(root);
+		Rectangle source = createObstacle(root, index, 0, 0, 50, 50);
+		Rectangle target = createObstacle(root, index, 300, 0, 50, 50);
+		Rectangle obstacle = createObstacle(root, index, 150, -50, 50, 150);
+		Rectangle farSource = createObstacle(root, index, 0, 2000, 50, 50);
+		Rectangle farTarget = createObstacle(root, index, 300, 2000, 50, 50);
+		CountingRouter router = new CountingRouter(index);
+		CountingRouter farRouter = new CountingRouter(index);
+		Connection connection = connect(root, source, target, router);
+		connect(root, farSource, farTarget, farRouter);
+		assertEquals(2, index.getConnectionCount());
+		assertNotNull(index.getCorridor(connection));
+
+		router.routeCount = 0;
+		farRouter.routeCount = 0;
+		obstacle.setX(160);
+		assertTrue(router.routeCount > 0);
+		assertEquals(0, farRouter.routeCount);
+	}
+
+	@Test
+	public void routeAroundObstacle() {
+		Group root = new Group();
+		ObstacleIndex index = new ObstacleIndex(root);
+		Rectangle source = createObstacle(root, index, 0, 0, 50, 50);
+		Rectangle target = createObstacle(root, index, 300, 0, 50, 50);
+		Rectangle obstacle = createObstacle(root, index, 150, -50, 50, 150);
+		Connection connection = connect(root, source, target,
+				new ObstacleAvoidingOrthogonalRouter(index));
+
+		List<Point> points = connection.getPointsUnmodifiable();
+		assertTrue(points.size() > 2);
+		for (int i = 0; i < points.size() - 1; i++) {
+			Point p = points.get(i);
+			Point q = points.get(i + 1);
+			// orthogonal segments that do not pass through the obstacle
+			assertTrue(p.x == q.x || p.y == q.y);
+			assertFalse(intersectsInterior(p, q, obstacle));
+		}
+		// start and end are located on the outline of the anchorages
+		assertTrue(isOnOutline(points.get(0), source));
+		assertTrue(isOnOutline(points.get(points.size() - 1), target));
+	}
+
+}
@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.listeners;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.transform.Transform;
+
+/**
+ * The {@link AncestorObserver} is a shared service that observes the
+ * local-to-parent-transform of {@link Node}s on behalf of any number of
+ * {@link Subscriber}s. Per observed {@link Node}, only a single JavaFX
+ * listener is registered (and unregistered as soon as the last
+ * {@link Subscriber} is removed), no matter how many {@link Subscriber}s are
+ * interested in that {@link Node}. Subscriptions are reference-counted, i.e. a
+ * {@link Subscriber} that subscribes to the same {@link Node} multiple times
+ * has to unsubscribe equally often.
+ * <p>
+ * This is especially beneficial when a lot of observers need to observe the
+ * same ancestor {@link Node}s, which is for instance the case for the
+ * {@link VisualChangeListener}s of anchors that are attached to nodes nested
+ * in a deep hierarchy.
+ * <p>
+ * {@link Subscriber}s can either be notified immediately, or deferred (see
+ * {@link #subscribe(Node, Subscriber, boolean)}). Deferred notifications are
+ * batched and dispatched once per JavaFX pulse, reporting the first old and
+ * the last new transform for each changed {@link Node}.
+ *
+ * @author agent
+ *
+ */
+public class AncestorObserver {
+
+	/**
+	 * A {@link Subscriber} is notified about local-to-parent-transform changes
+	 * of the {@link Node}s it subscribed to.
+	 */
+	public interface Subscriber {
+
+		/**
+		 * Called upon a local-to-parent-transform change of a subscribed
+		 * {@link Node}.
+		 *
+		 * @param node
+		 *            The {@link Node} whose local-to-parent-transform changed.
+		 * @param oldTransform
+		 *            The old {@link Transform}.
+		 * @param newTransform
+		 *            The new {@link Transform}.
+		 */
+		public void localToParentTransformChanged(Node node,
+				Transform oldTransform, Transform newTransform);
+	}
+
+	/**
+	 * The observation state for a single {@link Node}, which is stored within
+	 * the {@link Node#getProperties() properties} of that {@link Node}, so
+	 * that it does not keep the {@link Node} alive.
+	 */
+	private static class Observation implements ChangeListener<Transform> {
+
+		private final Node node;
+		// subscribers mapped to their reference count
+		private final Map<Subscriber, Integer> immediate = new LinkedHashMap<>();
+		private final Map<Subscriber, Integer> deferred = new LinkedHashMap<>();
+
+		Observation(Node node) {
+			this.node = node;
+		}
+
+		@Override
+		public void changed(ObservableValue<? extends Transform> observable,
+				Transform oldValue, Transform newValue) {
+			if (!deferred.isEmpty()) {
+				for (Subscriber subscriber : deferred.keySet()) {
+					defer(subscriber, node, oldValue, newValue);
+				}
+				if (node.getScene() == null
+						|| !Platform.isFxApplicationThread()) {
+					flush();
+				}
+			}
+			if (!immediate.isEmpty()) {
+				for (Subscriber subscriber : immediate.keySet()
+						.toArray(new Subscriber[] {})) {
+					// skip subscribers that unsubscribed in the meantime
+					if (immediate.containsKey(subscriber)) {
+						subscriber.localToParentTransformChanged(node, oldValue,
+								newValue);
+					}
+				}
+			}
+		}
+
+		boolean isEmpty() {
+			return immediate.isEmpty() && deferred.isEmpty();
+		}
+	}
+
+	private static final String OBSERVATION_KEY = AncestorObserver.class
+			.getName();
+
+	// pending deferred notifications: subscriber -> node -> [old, new]
+	private static Map<Subscriber, Map<Node, Transform[]>> pending = new LinkedHashMap<>();
+	private static AnimationTimer pulseTimer;
+
+	private static void defer(Subscriber subscriber, Node node,
+			Transform oldTransform, Transform newTransform) {
+		Map<Node, Transform[]> changes = pending.get(subscriber);
+		if (changes == null) {
+			changes = new IdentityHashMap<>();
+			pending.put(subscriber, changes);
+		}
+		Transform[] change = changes.get(node);
+		if (change == null) {
+			changes.put(node, new Transform[] { oldTransform, newTransform });
+		} else {
+			// keep the first old transform
+			change[1] = newTransform;
+		}
+		if (Platform.isFxApplicationThread()) {
+			if (pulseTimer == null) {
+				pulseTimer = new AnimationTimer() {
+					@Override
+					public void handle(long now) {
+						stop();
+						flush();
+					}
+				};
+			}
+			pulseTimer.start();
+		}
+	}
+
+	/**
+	 * Dispatches all pending deferred notifications immediately.
+	 */
+	public static void flush() {
+		while (!pending.isEmpty()) {
+			Map<Subscriber, Map<Node, Transform[]>> batch = pending;
+			pending = new LinkedHashMap<>();
+			for (Subscriber subscriber : batch.keySet()) {
+				Map<Node, Transform[]> changes = batch.get(subscriber);
+				for (Node node : new ArrayList<>(changes.keySet())) {
+					// skip subscribers that unsubscribed in the meantime
+					Observation observation = getObservation(node);
+					if (observation != null
+							&& observation.deferred.containsKey(subscriber)) {
+						Transform[] change = changes.get(node);
+						subscriber.localToParentTransformChanged(node,
+								change[0], change[1]);
+					}
+				}
+			}
+		}
+	}
+
+	private static Observation getObservation(Node node) {
+		return (Observation) node.getProperties().get(OBSERVATION_KEY);
+	}
+
+	/**
+	 * Returns the number of {@link Subscriber}s that are currently subscribed
+	 * to the given {@link Node} (disregarding reference counts).
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the number of
+	 *            {@link Subscriber}s.
+	 * @return The number of {@link Subscriber}s for the given {@link Node}.
+	 */
+	public static int getSubscriberCount(Node node) {
+		Observation observation = getObservation(node);
+		return observation == null ? 0
+				: observation.immediate.size() + observation.deferred.size();
+	}
+
+	/**
+	 * Subscribes the given {@link Subscriber} to all {@link Node}s on the
+	 * parent chain from the given {@link Node} (inclusive) up to the given
+	 * ancestor (exclusive) for immediate notifications.
+	 *
+	 * @param node
+	 *            The first {@link Node} to subscribe to.
+	 * @param ancestor
+	 *            The ancestor of the given {@link Node} at which to stop, or
+	 *            <code>null</code> to subscribe up to the root.
+	 * @param subscriber
+	 *            The {@link Subscriber} to notify.
+	 * @return A {@link List} containing the {@link Node}s that were subscribed
+	 *         to, which can be passed into
+	 *         {@link #unsubscribe(List, Subscriber)}.
+	 */
+	public static List<Node> subscribe(Node node, Node ancestor,
+			Subscriber subscriber) {
+		List<Node> nodes = new ArrayList<>();
+		while (node != null && node != ancestor) {
+			subscribe(node, subscriber, false);
+			nodes.add(node);
+			node = node.getParent();
+		}
+		return nodes;
+	}
+
+	/**
+	 * Subscribes the given {@link Subscriber} to local-to-parent-transform
+	 * changes of the given {@link Node}.
+	 *
+	 * @param node
+	 *            The {@link Node} to observe.
+	 * @param subscriber
+	 *            The {@link Subscriber} to notify.
+	 * @param deferred
+	 *            <code>true</code> if the notifications should be batched and
+	 *            dispatched once per pulse, <code>false</code> if they should
+	 *            be dispatched immediately.
+	 */
+	public static void subscribe(Node node, Subscriber subscriber,
+			boolean deferred) {
+		Observation observation = getObservation(node);
+		if (observation == null) {
+			observation = new Observation(node);
+			node.getProperties().put(OBSERVATION_KEY, observation);
+			node.localToParentTransformProperty().addListener(observation);
+		}
+		Map<Subscriber, Integer> subscribers = deferred ? observation.deferred
+				: observation.immediate;
+		Integer count = subscribers.get(subscriber);
+		subscribers.put(subscriber, count == null ? 1 : count + 1);
+	}
+
+	/**
+	 * Unsubscribes the given {@link Subscriber} from all given {@link Node}s,
+	 * to which it was subscribed for immediate notifications.
+	 *
+	 * @param nodes
+	 *            The {@link Node}s to unsubscribe from.
+	 * @param subscriber
+	 *            The {@link Subscriber} to unsubscribe.
+	 */
+	public static void unsubscribe(List<Node> nodes, Subscriber subscriber) {
+		for (Node node : nodes) {
+			unsubscribe(node, subscriber, false);
+		}
+	}
+
+	/**
+	 * Removes one subscription of the given {@link Subscriber} for the given
+	 * {@link Node}. The JavaFX listener is removed from the {@link Node} when
+	 * its last subscription is removed.
+	 *
+	 * @param node
+	 *            The {@link Node} to unsubscribe from.
+	 * @param subscriber
+	 *            The {@link Subscriber} to unsubscribe.
+	 * @param deferred
+	 *            <code>true</code> if the subscription was deferred,
+	 *            <code>false</code> otherwise.
+	 */
+	public static void unsubscribe(Node node, Subscriber subscriber,
+			boolean deferred) {
+		Observation observation = getObservation(node);
+		if (observation == null) {
+			return;
+		}
+		Map<Subscriber, Integer> subscribers = deferred ? observation.deferred
+				: observation.immediate;
+		Integer count = subscribers.get(subscriber);
+		if (count == null) {
+			return;
+		}
+		if (count > 1) {
+			subscribers.put(subscriber, count - 1);
+		} else {
+			subscribers.remove(subscriber);
+			if (observation.isEmpty()) {
+				node.localToParentTransformProperty()
+						.removeListener(observation);
+				node.getProperties().remove(OBSERVATION_KEY);
+			}
+		}
+	}
+
+	private AncestorObserver() {
+		// not to be instantiated
+	}
+
+}
@@ -12,8 +12,9 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.listeners;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
@@ -35,7 +36,9 @@ import javafx.scene.transform.Transform;
  * stroke, local transformations, or geometric bounds change. A
  * local-to-parent-transform change occurs when the node undergoes a
  * transformation change. Transformation listeners are registered for all nodes
- * in the hierarchy up to a specific parent.
+ * in the hierarchy up to a specific parent, using the shared
+ * {@link AncestorObserver}, so that ancestors that are observed by multiple
+ * {@link VisualChangeListener}s only get a single listener.
  *
  * @author anyssen
  * @author mwienand
@@ -45,7 +48,7 @@ public abstract class VisualChangeListener {
 
 	private Node observed;
 	private Node parent;
-	private HashMap<ChangeListener<Transform>, Node> localToParentTransformListeners = new HashMap<>();
+	private List<Node> transformObservedNodes = new ArrayList<>();
 	private boolean layoutBoundsChanged = false;
 	private boolean boundsInLocalChanged = false;
 	private boolean boundsInParentChanged = false;
@@ -78,6 +81,18 @@ public abstract class VisualChangeListener {
 		}
 	};
 
+	private AncestorObserver.Subscriber transformSubscriber = new AncestorObserver.Subscriber() {
+		@Override
+		public void localToParentTransformChanged(Node node,
+				Transform oldTransform, Transform newTransform) {
+			// only fire a visual change event if the new transform is valid
+			if (isValidTransform(newTransform)) {
+				VisualChangeListener.this.localToParentTransformChanged(node,
+						oldTransform, newTransform);
+			}
+		}
+	};
+
 	private ChangeListener<? super Bounds> boundsInParentListener = new ChangeListener<Bounds>() {
 		@Override
 		public void changed(ObservableValue<? extends Bounds> observable,
@@ -318,52 +333,11 @@ public abstract class VisualChangeListener {
 		observed.boundsInLocalProperty().addListener(boundsInLocalListener);
 		observed.boundsInParentProperty().addListener(boundsInParentListener);
 
-		// add transform listeners
-		tmp = observed;
-		while (tmp != null && tmp != parent) {
-			final Node current = tmp;
-			ChangeListener<Transform> transformChangeListener = new ChangeListener<Transform>() {
-				@Override
-				public void changed(
-						ObservableValue<? extends Transform> observable,
-						Transform oldValue, Transform newValue) {
-					// only fire a visual change event if the new transform is
-					// valid
-					if (isValidTransform(newValue)) {
-						localToParentTransformChanged(current, oldValue,
-								newValue);
-					}
-				}
-			};
-			tmp.localToParentTransformProperty()
-					.addListener(transformChangeListener);
-			localToParentTransformListeners.put(transformChangeListener, tmp);
-			tmp = tmp.getParent();
-		}
-
-		// add transform listeners
-		// FIXME: Duplicate code!
-		tmp = observer;
-		while (tmp != null && tmp != parent) {
-			final Node current = tmp;
-			ChangeListener<Transform> transformChangeListener = new ChangeListener<Transform>() {
-				@Override
-				public void changed(
-						ObservableValue<? extends Transform> observable,
-						Transform oldValue, Transform newValue) {
-					// only fire a visual change event if the new transform is
-					// valid
-					if (isValidTransform(newValue)) {
-						localToParentTransformChanged(current, oldValue,
-								newValue);
-					}
-				}
-			};
-			tmp.localToParentTransformProperty()
-					.addListener(transformChangeListener);
-			localToParentTransformListeners.put(transformChangeListener, tmp);
-			tmp = tmp.getParent();
-		}
+		// add transform listeners for observed and observer hierarchies
+		transformObservedNodes.addAll(AncestorObserver.subscribe(observed,
+				parent, transformSubscriber));
+		transformObservedNodes.addAll(AncestorObserver.subscribe(observer,
+				parent, transformSubscriber));
 	}
 
 	/**
@@ -381,15 +355,12 @@ public abstract class VisualChangeListener {
 				.removeListener(boundsInParentListener);
 
 		// remove transform listeners
-		for (ChangeListener<Transform> l : localToParentTransformListeners
-				.keySet()) {
-			localToParentTransformListeners.get(l)
-					.localToParentTransformProperty().removeListener(l);
-		}
+		AncestorObserver.unsubscribe(transformObservedNodes,
+				transformSubscriber);
 
 		// reset fields
 		parent = null;
 		observed = null;
-		localToParentTransformListeners.clear();
+		transformObservedNodes.clear();
 	}
 }
@@ -13,6 +13,8 @@
  * This package provides a
  * {@link org.eclipse.gef.fx.listeners.VisualChangeListener}, which can be used
  * to recognize visual changes of one observed {@link javafx.scene.Node} visual
- * relative to an observer visual.
+ * relative to an observer visual, as well as an
+ * {@link org.eclipse.gef.fx.listeners.AncestorObserver}, which shares
+ * local-to-parent-transform listeners between multiple subscribers.
  */
 package org.eclipse.gef.fx.listeners;
\ No newline at end of file
@@ -21,6 +21,7 @@ import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.GeometrySnapshot;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Point;
@@ -71,8 +72,8 @@ public abstract class AbstractInterpolator implements IConnectionInterpolator {
 		decoration.getTransforms().setAll(Geometry2FX.toFXAffine(transform));
 	}
 
-	private void arrangeEndDecoration(Node endDecoration, ICurve curve,
-			Point endPoint) {
+	private void arrangeEndDecoration(Node endDecoration,
+			GeometrySnapshot<ICurve> curve, Point endPoint) {
 		if (endDecoration == null) {
 			return;
 		}
@@ -88,7 +89,7 @@ public abstract class AbstractInterpolator implements IConnectionInterpolator {
 			return;
 		}
 
-		BezierCurve endDerivative = beziers[beziers.length - 1].getDerivative();
+		BezierCurve endDerivative = curve.getDerivative(beziers.length - 1);
 		Point slope = endDerivative.get(1);
 		if (slope.equals(0, 0)) {
 			/*
@@ -103,8 +104,8 @@ public abstract class AbstractInterpolator implements IConnectionInterpolator {
 		arrangeDecoration(endDecoration, endPoint, endDirection);
 	}
 
-	private void arrangeStartDecoration(Node startDecoration, ICurve curve,
-			Point startPoint) {
+	private void arrangeStartDecoration(Node startDecoration,
+			GeometrySnapshot<ICurve> curve, Point startPoint) {
 		// TODO: check if we can use curve.get(0) to obtain start point
 
 		// determine curve start point and curve start direction
@@ -117,7 +118,7 @@ public abstract class AbstractInterpolator implements IConnectionInterpolator {
 			return;
 		}
 
-		BezierCurve startDerivative = beziers[0].getDerivative();
+		BezierCurve startDerivative = curve.getDerivative(0);
 		Point slope = startDerivative.get(0);
 		if (slope.equals(0, 0)) {
 			/*
@@ -194,19 +195,22 @@ public abstract class AbstractInterpolator implements IConnectionInterpolator {
 			curveNode.setGeometry(newGeometry);
 		}
 
+		// compute the Bezier decomposition and bounds only once
+		GeometrySnapshot<ICurve> snapshot = new GeometrySnapshot<>(
+				newGeometry);
+
 		Node startDecoration = connection.getStartDecoration();
 		if (startDecoration != null) {
-			arrangeStartDecoration(startDecoration, newGeometry,
+			arrangeStartDecoration(startDecoration, snapshot,
 					newGeometry.getP1());
 		}
 
 		Node endDecoration = connection.getEndDecoration();
 		if (endDecoration != null) {
-			arrangeEndDecoration(endDecoration, newGeometry,
-					newGeometry.getP2());
+			arrangeEndDecoration(endDecoration, snapshot, newGeometry.getP2());
 		}
 
-		if (!newGeometry.getBounds().isEmpty()
+		if (!snapshot.getBounds().isEmpty()
 				&& (startDecoration != null || endDecoration != null)) {
 			// XXX Use scene coordinates, as the clip node does not provide a
 			// parent.
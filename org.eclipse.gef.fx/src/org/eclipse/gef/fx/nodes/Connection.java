@@ -55,6 +55,7 @@ import javafx.collections.ObservableList;
 import javafx.geometry.Bounds;
 import javafx.scene.Group;
 import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.transform.Transform;
 
 /**
@@ -312,6 +313,8 @@ public class Connection extends Group {
 		}
 	};
 	private boolean inRefresh = false;
+	// the scheduler at which a refresh is pending (see scheduleRefresh())
+	ConnectionRefreshScheduler refreshScheduler = null;
 
 	/**
 	 * Constructs a new {@link Connection} whose start and end point are set to
@@ -396,6 +399,19 @@ public class Connection extends Group {
 			}
 		});
 
+		// refresh immediately when leaving the scene while a refresh is
+		// pending, so that the scheduler does not retain this connection
+		sceneProperty().addListener(new ChangeListener<Scene>() {
+			@Override
+			public void changed(ObservableValue<? extends Scene> observable,
+					Scene oldValue, Scene newValue) {
+				if (refreshScheduler != null) {
+					ConnectionRefreshScheduler.unschedule(Connection.this);
+					refresh();
+				}
+			}
+		});
+
 		// set default curve
 		setCurve(new GeometryNode<ICurve>());
 
@@ -422,7 +438,7 @@ public class Connection extends Group {
 		if (anchorKey == null) {
 			throw new IllegalArgumentException("anchorKey may not be null.");
 		}
-		if (anchorKey.getAnchored() != getCurve()) {
+		if (anchorKey.getAnchored() != curveProperty.get()) {
 			throw new IllegalArgumentException(
 					"anchorKey may only be anchored to curveProperty node");
 		}
@@ -471,7 +487,7 @@ public class Connection extends Group {
 		// update lists
 		anchors.add(getAnchorIndex(anchorKey), anchor);
 		points.add(getAnchorIndex(anchorKey),
-				FX2Geometry.toPoint(getCurve().localToParent(
+				FX2Geometry.toPoint(curveProperty.get().localToParent(
 						Geometry2FX.toFXPoint(anchor.getPosition(anchorKey)))));
 
 		if (!anchorKey.equals(startAnchorKey)
@@ -489,7 +505,7 @@ public class Connection extends Group {
 				int anchorIndex = getAnchorIndex(ak);
 				anchors.add(anchorIndex, a);
 				points.add(anchorIndex,
-						FX2Geometry.toPoint(getCurve().localToParent(
+						FX2Geometry.toPoint(curveProperty.get().localToParent(
 								Geometry2FX.toFXPoint(a.getPosition(ak)))));
 
 				registerPCL(ak, a);
@@ -554,9 +570,10 @@ public class Connection extends Group {
 	}
 
 	/**
-	 * Creates a position change listener (PCL) which {@link #refresh()
-	 * refreshes} this {@link Connection} upon anchor position changes
-	 * corresponding to the given {@link AnchorKey}.
+	 * Creates a position change listener (PCL) which
+	 * {@link #scheduleRefresh() schedules a refresh} of this {@link Connection}
+	 * upon anchor position changes corresponding to the given
+	 * {@link AnchorKey}.
 	 *
 	 * @param anchorKey
 	 *            The {@link AnchorKey} for which a position change will trigger
@@ -576,13 +593,13 @@ public class Connection extends Group {
 				// }
 				if (change.getKey().equals(anchorKey)) {
 					if (change.wasAdded() && change.wasRemoved()) {
-						Point newPoint = FX2Geometry
-								.toPoint(getCurve().localToParent(Geometry2FX
+						Point newPoint = FX2Geometry.toPoint(
+								curveProperty.get().localToParent(Geometry2FX
 										.toFXPoint(change.getValueAdded())));
 						if (!points.get(getAnchorIndex(anchorKey))
 								.equals(newPoint)) {
 							points.set(getAnchorIndex(anchorKey), newPoint);
-							refresh();
+							scheduleRefresh();
 						}
 					}
 				}
@@ -746,7 +763,8 @@ public class Connection extends Group {
 	 * @return The {@link AnchorKey} for the given control anchor index.
 	 */
 	protected AnchorKey getControlAnchorKey(int index) {
-		return new AnchorKey(getCurve(), CONTROL_POINT_ROLE_PREFIX + index);
+		return new AnchorKey(curveProperty.get(),
+				CONTROL_POINT_ROLE_PREFIX + index);
 	}
 
 	/**
@@ -791,6 +809,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public Point getControlPoint(int index) {
+		ConnectionRefreshScheduler.refreshIfScheduled(this);
 		int anchorIndex = getAnchorIndex(getControlAnchorKey(index));
 		return anchorIndex < 0 ? null : points.get(anchorIndex);
 	}
@@ -818,6 +837,7 @@ public class Connection extends Group {
 	 * @return The {@link Node} which displays the curveProperty geometry.
 	 */
 	public Node getCurve() {
+		ConnectionRefreshScheduler.refreshIfScheduled(this);
 		return curveProperty.get();
 	}
 
@@ -841,7 +861,7 @@ public class Connection extends Group {
 	 */
 	// TODO: AnchorKeys should not be exposed -> make protected
 	protected AnchorKey getEndAnchorKey() {
-		return new AnchorKey(getCurve(), END_ROLE);
+		return new AnchorKey(curveProperty.get(), END_ROLE);
 	}
 
 	/**
@@ -868,6 +888,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public Point getEndPoint() {
+		ConnectionRefreshScheduler.refreshIfScheduled(this);
 		int anchorIndex = getAnchorIndex(getEndAnchorKey());
 		return anchorIndex < 0 ? null : points.get(anchorIndex);
 	}
@@ -908,6 +929,7 @@ public class Connection extends Group {
 	 * @see #getPointsUnmodifiable()
 	 */
 	public Point getPoint(int index) {
+		ConnectionRefreshScheduler.refreshIfScheduled(this);
 		return points.get(index);
 	}
 
@@ -919,6 +941,7 @@ public class Connection extends Group {
 	 * @return The {@link Point}s constituting this {@link Connection}.
 	 */
 	public ObservableList<Point> getPointsUnmodifiable() {
+		ConnectionRefreshScheduler.refreshIfScheduled(this);
 		return FXCollections.unmodifiableObservableList(points);
 	}
 
@@ -951,7 +974,7 @@ public class Connection extends Group {
 	 */
 	// TODO: AnchorKeys should not be exposed -> make protected
 	protected AnchorKey getStartAnchorKey() {
-		return new AnchorKey(getCurve(), START_ROLE);
+		return new AnchorKey(curveProperty.get(), START_ROLE);
 	}
 
 	/**
@@ -978,6 +1001,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public Point getStartPoint() {
+		ConnectionRefreshScheduler.refreshIfScheduled(this);
 		int anchorIndex = getAnchorIndex(getStartAnchorKey());
 		return anchorIndex < 0 ? null : points.get(anchorIndex);
 	}
@@ -1234,6 +1258,7 @@ public class Connection extends Group {
 			return;
 		}
 		inRefresh = true;
+		ConnectionRefreshScheduler.unschedule(this);
 		// System.out.println("+--- Refresh ---+");
 
 		// unregister PCLs
@@ -1246,7 +1271,7 @@ public class Connection extends Group {
 		}
 
 		// clear visuals except for the curveProperty
-		getChildren().retainAll(getCurve());
+		getChildren().retainAll(curveProperty.get());
 
 		// z-order: place decorations above curve
 		Node startDecoration = getStartDecoration();
@@ -1350,8 +1375,8 @@ public class Connection extends Group {
 			Point position = getAnchor(i).getPosition(getAnchorKey(i));
 			// XXX: Here the same computation is used that
 			// is also used within #createPCL().
-			Point newPoint = FX2Geometry.toPoint(
-					getCurve().localToParent(Geometry2FX.toFXPoint(position)));
+			Point newPoint = FX2Geometry.toPoint(curveProperty.get()
+					.localToParent(Geometry2FX.toFXPoint(position)));
 			if (!points.get(i).equals(newPoint)) {
 				points.set(i, newPoint);
 				changed = true;
@@ -1465,7 +1490,7 @@ public class Connection extends Group {
 				int anchorIndex = getAnchorIndex(ak);
 				anchors.add(anchorIndex, a);
 				points.add(anchorIndex,
-						FX2Geometry.toPoint(getCurve().localToParent(
+						FX2Geometry.toPoint(curveProperty.get().localToParent(
 								Geometry2FX.toFXPoint(a.getPosition(ak)))));
 
 				registerPCL(ak, a);
@@ -1541,7 +1566,7 @@ public class Connection extends Group {
 		if (anchorKey == null) {
 			throw new IllegalArgumentException("anchorKey may not be null.");
 		}
-		if (anchorKey.getAnchored() != getCurve()) {
+		if (anchorKey.getAnchored() != curveProperty.get()) {
 			throw new IllegalArgumentException(
 					"anchorKey may only be anchored to curveProperty node");
 		}
@@ -1562,8 +1587,9 @@ public class Connection extends Group {
 		int anchorIndex = getAnchorIndex(anchorKey);
 		anchors.set(anchorIndex, anchor);
 		// update position (if changed)
-		Point newPosition = FX2Geometry.toPoint(getCurve().localToParent(
-				Geometry2FX.toFXPoint(anchor.getPosition(anchorKey))));
+		Point newPosition = FX2Geometry
+				.toPoint(curveProperty.get().localToParent(
+						Geometry2FX.toFXPoint(anchor.getPosition(anchorKey))));
 		if (!newPosition.equals(points.get(anchorIndex))) {
 			points.set(anchorIndex, newPosition);
 		}
@@ -1571,6 +1597,20 @@ public class Connection extends Group {
 		refresh();
 	}
 
+	/**
+	 * Schedules a {@link #refresh()} of this {@link Connection} via the
+	 * {@link ConnectionRefreshScheduler}, so that multiple anchor position
+	 * changes within the same pulse lead to a single refresh. If this
+	 * {@link Connection} is not part of a scene, or synchronous refreshes are
+	 * enabled (see {@link ConnectionRefreshScheduler#setSynchronous(boolean)}
+	 * ), it is refreshed immediately. A pending refresh is performed as soon as
+	 * the points (e.g. {@link #getPointsUnmodifiable()}) or the curve (see
+	 * {@link #getCurve()}) of this {@link Connection} are queried.
+	 */
+	protected void scheduleRefresh() {
+		ConnectionRefreshScheduler.schedule(this);
+	}
+
 	/**
 	 * Replaces all anchors of this {@link Connection} with the given
 	 * {@link IAnchor}s, i.e. the first given {@link IAnchor} replaces the
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.fx.anchors.IAnchor;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+/**
+ * The {@link ConnectionRefreshScheduler} coalesces the refreshes of
+ * {@link Connection}s that are caused by anchor position changes, so that each
+ * affected {@link Connection} is refreshed only once per JavaFX pulse, no
+ * matter how many of its anchors changed their positions.
+ * <p>
+ * There is one {@link ConnectionRefreshScheduler} per {@link Scene} (see
+ * {@link #get(Scene)}), which is stored within the properties of the
+ * {@link Scene}. It only manages the {@link Connection}s that are part of that
+ * {@link Scene}. A {@link Connection} that is removed from the {@link Scene}
+ * while a refresh is pending is refreshed immediately and released by the
+ * {@link ConnectionRefreshScheduler}.
+ * <p>
+ * Dirty {@link Connection}s are refreshed at the beginning of the next pulse
+ * (before CSS and layout are processed), in dependency order, i.e. a
+ * {@link Connection} that is anchored on another {@link Connection} is
+ * refreshed after that other {@link Connection}. In addition, a dirty
+ * {@link Connection} (and the dirty {@link Connection}s it depends on) is
+ * refreshed as soon as its points or its curve are queried, so that clients
+ * always observe an up-to-date {@link Connection}.
+ * <p>
+ * A {@link Connection} is refreshed immediately if it is not part of a
+ * {@link Scene}, if the refresh is not requested on the JavaFX application
+ * thread, or if the {@link ConnectionRefreshScheduler} of its {@link Scene} is
+ * switched to synchronous mode (see {@link #setSynchronous(boolean)}).
+ *
+ * @author agent
+ *
+ */
+public class ConnectionRefreshScheduler {
+
+	private static final String SCHEDULER_PROPERTY = "ConnectionRefreshScheduler";
+
+	private boolean synchronous = false;
+	private boolean flushing = false;
+	private final Set<Connection> dirtyConnections = new LinkedHashSet<>();
+	private final AnimationTimer pulseTimer = new AnimationTimer() {
+		@Override
+		public void handle(long now) {
+			stop();
+			flush();
+		}
+	};
+
+	/**
+	 * Returns the {@link ConnectionRefreshScheduler} for the given
+	 * {@link Scene}. The {@link ConnectionRefreshScheduler} is created upon
+	 * first access and stored within the properties of the {@link Scene}.
+	 *
+	 * @param scene
+	 *            The {@link Scene} for which to return the
+	 *            {@link ConnectionRefreshScheduler}.
+	 * @return The {@link ConnectionRefreshScheduler} for the given
+	 *         {@link Scene}.
+	 */
+	public static ConnectionRefreshScheduler get(Scene scene) {
+		if (scene == null) {
+			throw new IllegalArgumentException("scene may not be null.");
+		}
+		ConnectionRefreshScheduler scheduler = (ConnectionRefreshScheduler) scene
+				.getProperties().get(SCHEDULER_PROPERTY);
+		if (scheduler == null) {
+			scheduler = new ConnectionRefreshScheduler();
+			scene.getProperties().put(SCHEDULER_PROPERTY, scheduler);
+		}
+		return scheduler;
+	}
+
+	/**
+	 * Returns the number of {@link Connection}s that the given
+	 * {@link Connection} depends on transitively via its anchors, i.e. the
+	 * length of the longest chain of {@link Connection}s that are anchorages
+	 * of each other.
+	 */
+	private static int getDepth(Connection connection,
+			Map<Connection, Integer> depths, Set<Connection> visiting) {
+		Integer depth = depths.get(connection);
+		if (depth != null) {
+			return depth;
+		}
+		if (!visiting.add(connection)) {
+			// cyclic dependency
+			return 0;
+		}
+		int d = 0;
+		for (IAnchor anchor : connection.getAnchorsUnmodifiable()) {
+			Connection anchorage = getEnclosingConnection(
+					anchor.getAnchorage());
+			if (anchorage != null && anchorage != connection) {
+				d = Math.max(d, getDepth(anchorage, depths, visiting) + 1);
+			}
+		}
+		visiting.remove(connection);
+		depths.put(connection, d);
+		return d;
+	}
+
+	private static Connection getEnclosingConnection(Node node) {
+		while (node != null) {
+			if (node instanceof Connection) {
+				return (Connection) node;
+			}
+			node = node.getParent();
+		}
+		return null;
+	}
+
+	/**
+	 * Refreshes the given {@link Connection} if a refresh is pending for it.
+	 * The dirty {@link Connection}s the given {@link Connection} depends on are
+	 * refreshed before.
+	 *
+	 * @param connection
+	 *            The {@link Connection} that is queried.
+	 */
+	static void refreshIfScheduled(Connection connection) {
+		ConnectionRefreshScheduler scheduler = connection.refreshScheduler;
+		if (scheduler != null) {
+			scheduler.refresh(connection, new HashSet<Connection>());
+		}
+	}
+
+	/**
+	 * Schedules a refresh of the given {@link Connection}. The
+	 * {@link Connection} is refreshed during the next pulse, or immediately if
+	 * a deferred refresh is not possible or not desired.
+	 *
+	 * @param connection
+	 *            The {@link Connection} to refresh.
+	 */
+	static void schedule(Connection connection) {
+		Scene scene = connection.getScene();
+		if (scene == null || !Platform.isFxApplicationThread()) {
+			connection.refresh();
+			return;
+		}
+		ConnectionRefreshScheduler scheduler = get(scene);
+		if (scheduler.synchronous) {
+			connection.refresh();
+			return;
+		}
+		scheduler.dirtyConnections.add(connection);
+		connection.refreshScheduler = scheduler;
+		if (!scheduler.flushing) {
+			scheduler.pulseTimer.start();
+		}
+	}
+
+	/**
+	 * Removes the given {@link Connection} from the dirty connections of its
+	 * {@link ConnectionRefreshScheduler}, because it is refreshed or removed
+	 * from the {@link Scene}.
+	 *
+	 * @param connection
+	 *            The {@link Connection} that is refreshed.
+	 */
+	static void unschedule(Connection connection) {
+		ConnectionRefreshScheduler scheduler = connection.refreshScheduler;
+		if (scheduler != null) {
+			scheduler.dirtyConnections.remove(connection);
+			connection.refreshScheduler = null;
+		}
+	}
+
+	private ConnectionRefreshScheduler() {
+		// use get(Scene) to obtain the instance for a scene
+	}
+
+	/**
+	 * Refreshes all dirty {@link Connection}s immediately, in dependency order.
+	 * Each {@link Connection} is refreshed at most once, unless it is marked
+	 * dirty again after it was refreshed (e.g. because it is anchored on a
+	 * {@link Connection} that was refreshed later).
+	 */
+	public void flush() {
+		if (flushing) {
+			return;
+		}
+		flushing = true;
+		try {
+			while (!dirtyConnections.isEmpty()) {
+				List<Connection> batch = new ArrayList<>(dirtyConnections);
+				final Map<Connection, Integer> depths = new HashMap<>();
+				for (Connection connection : batch) {
+					getDepth(connection, depths, new HashSet<Connection>());
+				}
+				Collections.sort(batch, new Comparator<Connection>() {
+					@Override
+					public int compare(Connection c1, Connection c2) {
+						return Integer.compare(depths.get(c1),
+								depths.get(c2));
+					}
+				});
+				for (Connection connection : batch) {
+					// skip connections that were already refreshed because a
+					// dependency was queried
+					if (dirtyConnections.contains(connection)) {
+						unschedule(connection);
+						connection.refresh();
+					}
+				}
+			}
+		} finally {
+			flushing = false;
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if a refresh is pending for the given
+	 * {@link Connection}, otherwise <code>false</code>.
+	 *
+	 * @param connection
+	 *            The {@link Connection} to test.
+	 * @return <code>true</code> if a refresh is pending for the given
+	 *         {@link Connection}, otherwise <code>false</code>.
+	 */
+	public boolean isScheduled(Connection connection) {
+		return dirtyConnections.contains(connection);
+	}
+
+	/**
+	 * Returns <code>true</code> if connections are refreshed immediately,
+	 * <code>false</code> if refreshes are deferred to the next pulse.
+	 *
+	 * @return <code>true</code> if connections are refreshed immediately,
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isSynchronous() {
+		return synchronous;
+	}
+
+	private void refresh(Connection connection, Set<Connection> visiting) {
+		if (!visiting.add(connection)) {
+			// cyclic dependency
+			return;
+		}
+		for (IAnchor anchor : connection.getAnchorsUnmodifiable()) {
+			Connection anchorage = getEnclosingConnection(
+					anchor.getAnchorage());
+			if (anchorage != null && anchorage.refreshScheduler == this) {
+				refresh(anchorage, visiting);
+			}
+		}
+		if (connection.refreshScheduler == this) {
+			unschedule(connection);
+			connection.refresh();
+		}
+	}
+
+	/**
+	 * Specifies whether connections are refreshed immediately (
+	 * <code>true</code>) or deferred to the next pulse (<code>false</code>,
+	 * default). Pending refreshes are performed when switching to synchronous
+	 * mode.
+	 *
+	 * @param synchronous
+	 *            <code>true</code> to refresh connections immediately,
+	 *            <code>false</code> to defer refreshes to the next pulse.
+	 */
+	public void setSynchronous(boolean synchronous) {
+		this.synchronous = synchronous;
+		if (synchronous) {
+			flush();
+		}
+	}
+
+}
@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.gef.fx.anchors.IAnchor;
+import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
+import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+import javafx.scene.Node;
+
+/**
+ * An {@link IConnectionRouter} that routes {@link Connection}s orthogonally
+ * around the obstacles of an {@link ObstacleIndex}. The {@link Connection}
+ * control points are interpreted as way points, and each section between two
+ * subsequent anchors is routed independently.
+ * <p>
+ * For each section, an orthogonal path is searched within a corridor around
+ * the start and end of the section, using A* on a sparse orthogonal
+ * visibility graph that is induced by the obstacles within the corridor. The
+ * corridor is enlarged step-wise if no path can be found, until it covers all
+ * obstacles. The path starts and ends at the center of the anchorages (if the
+ * respective anchor is connected), so that the anchors are positioned on the
+ * outline of the anchorages, where the path leaves or enters them.
+ * <p>
+ * The corridors are registered at the {@link ObstacleIndex}, so that only
+ * those {@link Connection}s are re-routed whose corridors are affected when an
+ * obstacle is added, moved, resized, or removed.
+ *
+ * @author agent
+ *
+ */
+public class ObstacleAvoidingOrthogonalRouter extends AbstractRouter {
+
+	/**
+	 * The default minimum distance between a route and an obstacle.
+	 */
+	public static final double DEFAULT_SPACING = 10;
+
+	/**
+	 * The default cost of a bend, in terms of route length.
+	 */
+	public static final double DEFAULT_BEND_PENALTY = 30;
+
+	// the initial margin around start and end of a section
+	private static final double INITIAL_MARGIN = 100;
+
+	private final ObstacleIndex obstacleIndex;
+	private final double spacing;
+	private final OrthogonalPathFinder pathFinder;
+
+	// route of the current connection (in connection coordinates): the
+	// (anchorage center or anchor) points and the bends of each section
+	private List<Point> routePoints;
+	private List<List<Point>> sectionBends;
+
+	/**
+	 * Constructs a new {@link ObstacleAvoidingOrthogonalRouter} for the given
+	 * {@link ObstacleIndex}, using the {@link #DEFAULT_SPACING} and
+	 * {@link #DEFAULT_BEND_PENALTY}.
+	 *
+	 * @param obstacleIndex
+	 *            The {@link ObstacleIndex} that provides the obstacles.
+	 */
+	public ObstacleAvoidingOrthogonalRouter(ObstacleIndex obstacleIndex) {
+		this(obstacleIndex, DEFAULT_SPACING, DEFAULT_BEND_PENALTY);
+	}
+
+	/**
+	 * Constructs a new {@link ObstacleAvoidingOrthogonalRouter} for the given
+	 * {@link ObstacleIndex}, using the given spacing and bend penalty.
+	 *
+	 * @param obstacleIndex
+	 *            The {@link ObstacleIndex} that provides the obstacles.
+	 * @param spacing
+	 *            The minimum distance between a route and an obstacle.
+	 * @param bendPenalty
+	 *            The cost of a bend, in terms of route length.
+	 */
+	public ObstacleAvoidingOrthogonalRouter(ObstacleIndex obstacleIndex,
+			double spacing, double bendPenalty) {
+		if (obstacleIndex == null) {
+			throw new IllegalArgumentException(
+					"The obstacle index may not be null.");
+		}
+		if (spacing < 0 || bendPenalty < 0) {
+			throw new IllegalArgumentException(
+					"Spacing and bend penalty may not be negative, but are "
+							+ spacing + " and " + bendPenalty + ".");
+		}
+		this.obstacleIndex = obstacleIndex;
+		this.spacing = spacing;
+		this.pathFinder = new OrthogonalPathFinder(spacing, bendPenalty);
+	}
+
+	private static Rectangle getBounds(Point point, Rectangle bounds) {
+		return bounds != null ? bounds.getCopy()
+				: new Rectangle(point.x, point.y, 0, 0);
+	}
+
+	/**
+	 * Computes the route of the given {@link Connection}, i.e. the bends of
+	 * each section, and registers the corridor of the {@link Connection} at
+	 * the {@link ObstacleIndex}.
+	 */
+	private void computeRoute(Connection connection) {
+		List<IAnchor> anchors = connection.getAnchorsUnmodifiable();
+		int n = anchors.size();
+		Point[] points = new Point[n];
+		Rectangle[] bounds = new Rectangle[n];
+		Set<Node> anchorages = Collections
+				.newSetFromMap(new IdentityHashMap<Node, Boolean>());
+		for (int i = 0; i < n; i++) {
+			IAnchor anchor = anchors.get(i);
+			Node anchorage = anchor.getAnchorage();
+			if (connection.isConnected(anchor)
+					&& !(anchorage instanceof Connection)) {
+				// route from/to the center of the anchorage
+				bounds[i] = FX2Geometry.toRectangle(
+						anchorage.localToScene(anchorage.getLayoutBounds()));
+				points[i] = bounds[i].getCenter();
+				anchorages.add(anchorage);
+			} else {
+				Point position = FX2Geometry.toPoint(connection.getCurve()
+						.localToParent(Geometry2FX.toFXPoint(anchor
+								.getPosition(connection.getAnchorKey(i)))));
+				points[i] = NodeUtils.localToScene(connection, position);
+			}
+		}
+
+		routePoints = new ArrayList<>();
+		for (Point point : points) {
+			routePoints.add(NodeUtils.sceneToLocal(connection, point));
+		}
+		sectionBends = new ArrayList<>();
+		Rectangle corridor = null;
+		for (int i = 0; i < n - 1; i++) {
+			Rectangle[] area = new Rectangle[1];
+			List<Point> bends = routeSection(points[i], bounds[i],
+					points[i + 1], bounds[i + 1], anchorages, area);
+			corridor = corridor == null ? area[0] : corridor.union(area[0]);
+			List<Point> bendsInConnection = new ArrayList<>();
+			for (Point bend : bends) {
+				bendsInConnection.add(NodeUtils.sceneToLocal(connection, bend));
+			}
+			sectionBends.add(bendsInConnection);
+		}
+		if (corridor != null) {
+			obstacleIndex.setCorridor(connection, corridor);
+		}
+	}
+
+	@Override
+	protected Point getAnchoredReferencePoint(List<Point> points, int index) {
+		// the adjacent bend or route point (which is aligned with the route
+		// point at the given index)
+		if (index < sectionBends.size()
+				&& !sectionBends.get(index).isEmpty()) {
+			return sectionBends.get(index).get(0);
+		}
+		if (index > 0 && !sectionBends.get(index - 1).isEmpty()) {
+			List<Point> bends = sectionBends.get(index - 1);
+			return bends.get(bends.size() - 1);
+		}
+		return routePoints.get(index < routePoints.size() - 1 ? index + 1
+				: index - 1);
+	}
+
+	/**
+	 * Returns the {@link ObstacleIndex} that provides the obstacles.
+	 *
+	 * @return The {@link ObstacleIndex} of this router.
+	 */
+	public ObstacleIndex getObstacleIndex() {
+		return obstacleIndex;
+	}
+
+	@Override
+	protected void insertRouterAnchors(Connection connection) {
+		ControlPointManipulator cpm = createControlPointManipulator(
+				connection);
+		Point origin = new Point();
+		for (int i = 0; i < sectionBends.size(); i++) {
+			List<Point> bends = sectionBends.get(i);
+			if (!bends.isEmpty()) {
+				double[] coordinates = new double[2 * bends.size()];
+				for (int j = 0; j < bends.size(); j++) {
+					coordinates[2 * j] = bends.get(j).x;
+					coordinates[2 * j + 1] = bends.get(j).y;
+				}
+				cpm.addRoutingPoints(i + 1, origin, coordinates);
+			}
+		}
+		cpm.applyChanges();
+	}
+
+	/**
+	 * Computes the bends of an orthogonal path (in scene coordinates) from the
+	 * given start to the given end point. The search area is enlarged until a
+	 * path is found or the area covers all obstacles. If no path can be found,
+	 * the bends of a simple orthogonal path (ignoring obstacles) are returned.
+	 */
+	private List<Point> routeSection(Point start, Rectangle startBounds,
+			Point end, Rectangle endBounds, Set<Node> anchorages,
+			Rectangle[] corridor) {
+		Rectangle ends = getBounds(start, startBounds)
+				.union(getBounds(end, endBounds));
+		Rectangle obstacleBounds = null;
+		double margin = INITIAL_MARGIN + spacing;
+		while (true) {
+			Rectangle area = ends.getExpanded(margin, margin);
+			List<Rectangle> obstacles = new ArrayList<>();
+			for (Node obstacle : obstacleIndex.getObstacles(area)) {
+				if (!anchorages.contains(obstacle)) {
+					obstacles.add(obstacleIndex.getBounds(obstacle));
+				}
+			}
+			List<Point> bends = pathFinder.findPath(start, startBounds, end,
+					endBounds, obstacles, area);
+			corridor[0] = area;
+			if (bends != null) {
+				return bends;
+			}
+			if (obstacleBounds == null) {
+				obstacleBounds = obstacleIndex.getObstacleBounds();
+			}
+			if (obstacleBounds == null || area.contains(
+					obstacleBounds.getExpanded(spacing, spacing))) {
+				break;
+			}
+			margin *= 2;
+		}
+		// fall back to a simple orthogonal path
+		List<Point> bends = new ArrayList<>();
+		if (start.x != end.x && start.y != end.y) {
+			double x = (start.x + end.x) / 2;
+			bends.add(new Point(x, start.y));
+			bends.add(new Point(x, end.y));
+		}
+		return bends;
+	}
+
+	@Override
+	protected void updateComputationParameters(Connection connection) {
+		// the route has to be known to compute the anchored reference points
+		computeRoute(connection);
+		super.updateComputationParameters(connection);
+	}
+
+}
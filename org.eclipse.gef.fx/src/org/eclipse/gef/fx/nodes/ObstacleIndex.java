@@ -0,0 +1,352 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.fx.listeners.VisualChangeListener;
+import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
+import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
+import org.eclipse.gef.geometry.internal.utils.UniformGrid;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.transform.Transform;
+
+/**
+ * The {@link ObstacleIndex} maintains a uniform grid over the (scene) bounds
+ * of a set of obstacle {@link Node}s, so that the obstacles within a certain
+ * area can be determined efficiently. It is intended to be shared by the
+ * {@link ObstacleAvoidingOrthogonalRouter}s of all {@link Connection}s that
+ * are routed around the same obstacles.
+ * <p>
+ * In addition, the {@link ObstacleIndex} keeps track of the corridor (i.e.
+ * the search area) that was used when routing a {@link Connection}. When the
+ * bounds of an obstacle change, only those {@link Connection}s whose corridor
+ * overlaps the old or new bounds of the obstacle are scheduled for a refresh
+ * (see {@link ConnectionRefreshScheduler}).
+ * <p>
+ * The bounds of the obstacles and the corridors are kept in the coordinate
+ * system of a reference {@link Node} (e.g. the content layer of an
+ * {@link InfiniteCanvas}), so that transformation changes of the reference
+ * {@link Node} or its ancestors (e.g. scrolling and zooming) do not invalidate
+ * the index. The bounds of an obstacle are updated automatically when its
+ * bounds-in-local change, or when the local-to-parent-transform of the
+ * obstacle or one of its ancestors (up to the common ancestor of the obstacle
+ * and the reference {@link Node}) changes (see {@link VisualChangeListener}).
+ * All queries expect and return scene coordinates.
+ *
+ * @author agent
+ *
+ */
+public class ObstacleIndex {
+
+	/**
+	 * The default size of the grid cells (in the coordinate system of the
+	 * reference {@link Node}).
+	 */
+	public static final double DEFAULT_CELL_SIZE = 256;
+
+	private final Node reference;
+	private final UniformGrid<Node> obstacles;
+	private final UniformGrid<Connection> corridors;
+	private final Map<Node, VisualChangeListener> visualChangeListeners = new IdentityHashMap<>();
+	private final Map<Connection, ChangeListener<Scene>> sceneListeners = new IdentityHashMap<>();
+
+	/**
+	 * Constructs a new {@link ObstacleIndex} that keeps the bounds of the
+	 * obstacles in the coordinate system of the given reference {@link Node}
+	 * and uses the {@link #DEFAULT_CELL_SIZE}.
+	 *
+	 * @param reference
+	 *            The {@link Node} that defines the coordinate system of this
+	 *            {@link ObstacleIndex}. The obstacles have to share a common
+	 *            ancestor with it, and are preferably nested within it.
+	 */
+	public ObstacleIndex(Node reference) {
+		this(reference, DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * Constructs a new {@link ObstacleIndex} that keeps the bounds of the
+	 * obstacles in the coordinate system of the given reference {@link Node}
+	 * and uses the given cell size.
+	 *
+	 * @param reference
+	 *            The {@link Node} that defines the coordinate system of this
+	 *            {@link ObstacleIndex}. The obstacles have to share a common
+	 *            ancestor with it, and are preferably nested within it.
+	 * @param cellSize
+	 *            The size of the grid cells (in the coordinate system of the
+	 *            reference {@link Node}).
+	 */
+	public ObstacleIndex(Node reference, double cellSize) {
+		if (reference == null) {
+			throw new IllegalArgumentException(
+					"The reference node may not be null.");
+		}
+		this.reference = reference;
+		obstacles = new UniformGrid<>(cellSize);
+		corridors = new UniformGrid<>(cellSize);
+	}
+
+	private static double[] toArray(Bounds b) {
+		return new double[] { b.getMinX(), b.getMinY(), b.getMaxX(),
+				b.getMaxY() };
+	}
+
+	/**
+	 * Adds the given {@link Node} as an obstacle to this {@link ObstacleIndex}
+	 * . Has no effect if the given {@link Node} is already contained.
+	 *
+	 * @param obstacle
+	 *            The {@link Node} to add as an obstacle.
+	 */
+	public void addObstacle(final Node obstacle) {
+		if (visualChangeListeners.containsKey(obstacle)) {
+			return;
+		}
+		VisualChangeListener visualChangeListener = new VisualChangeListener() {
+			@Override
+			protected void boundsInLocalChanged(Bounds oldBounds,
+					Bounds newBounds) {
+				updateObstacle(obstacle);
+			}
+
+			@Override
+			protected void localToParentTransformChanged(Node observed,
+					Transform oldTransform, Transform newTransform) {
+				updateObstacle(obstacle);
+			}
+		};
+		visualChangeListener.register(obstacle, reference);
+		visualChangeListeners.put(obstacle, visualChangeListener);
+		updateObstacle(obstacle);
+	}
+
+	/**
+	 * Returns the bounds of the given obstacle (in scene coordinates), or
+	 * <code>null</code> if the given {@link Node} is not contained in this
+	 * {@link ObstacleIndex}.
+	 *
+	 * @param obstacle
+	 *            The obstacle {@link Node} for which to return the bounds.
+	 * @return The bounds of the given obstacle, or <code>null</code>.
+	 */
+	public Rectangle getBounds(Node obstacle) {
+		double[] b = obstacles.get(obstacle);
+		return b == null ? null : toScene(b);
+	}
+
+	/**
+	 * Returns the number of {@link Connection}s for which a corridor is
+	 * currently registered at this {@link ObstacleIndex}.
+	 *
+	 * @return The number of {@link Connection}s with a registered corridor.
+	 */
+	public int getConnectionCount() {
+		return corridors.size();
+	}
+
+	/**
+	 * Returns the corridor (in scene coordinates) that was used when the given
+	 * {@link Connection} was routed, or <code>null</code> if no corridor is
+	 * registered for the given {@link Connection}.
+	 *
+	 * @param connection
+	 *            The {@link Connection} for which to return the corridor.
+	 * @return The corridor of the given {@link Connection}, or
+	 *         <code>null</code>.
+	 */
+	public Rectangle getCorridor(Connection connection) {
+		double[] b = corridors.get(connection);
+		return b == null ? null : toScene(b);
+	}
+
+	/**
+	 * Returns the union of the bounds of all obstacles (in scene coordinates),
+	 * or <code>null</code> if this {@link ObstacleIndex} does not contain any
+	 * obstacles.
+	 *
+	 * @return The union of the bounds of all obstacles, or <code>null</code>.
+	 */
+	public Rectangle getObstacleBounds() {
+		double[] union = null;
+		for (Node obstacle : obstacles.getElements()) {
+			double[] b = obstacles.get(obstacle);
+			if (union == null) {
+				union = b.clone();
+			} else {
+				union[0] = Math.min(union[0], b[0]);
+				union[1] = Math.min(union[1], b[1]);
+				union[2] = Math.max(union[2], b[2]);
+				union[3] = Math.max(union[3], b[3]);
+			}
+		}
+		return union == null ? null : toScene(union);
+	}
+
+	/**
+	 * Returns all obstacles whose bounds overlap or touch the given area (in
+	 * scene coordinates).
+	 *
+	 * @param area
+	 *            The area (in scene coordinates) for which to return the
+	 *            obstacles.
+	 * @return A {@link List} containing the obstacles within the given area.
+	 */
+	public List<Node> getObstacles(Rectangle area) {
+		double[] b = toReference(area);
+		return obstacles.query(b[0], b[1], b[2], b[3]);
+	}
+
+	/**
+	 * Returns the reference {@link Node} that defines the coordinate system in
+	 * which the bounds of the obstacles and the corridors are kept.
+	 *
+	 * @return The reference {@link Node} of this {@link ObstacleIndex}.
+	 */
+	public Node getReference() {
+		return reference;
+	}
+
+	/**
+	 * Schedules a refresh of all {@link Connection}s whose corridors overlap
+	 * the given bounds.
+	 */
+	private void invalidate(double[] b) {
+		for (Connection connection : corridors.query(b[0], b[1], b[2],
+				b[3])) {
+			ConnectionRefreshScheduler.schedule(connection);
+		}
+	}
+
+	/**
+	 * Removes the corridor of the given {@link Connection}, so that it is no
+	 * longer refreshed when obstacles within its corridor change.
+	 *
+	 * @param connection
+	 *            The {@link Connection} whose corridor is removed.
+	 */
+	public void removeCorridor(Connection connection) {
+		corridors.remove(connection);
+		ChangeListener<Scene> sceneListener = sceneListeners
+				.remove(connection);
+		if (sceneListener != null) {
+			connection.sceneProperty().removeListener(sceneListener);
+		}
+	}
+
+	/**
+	 * Removes the given obstacle from this {@link ObstacleIndex}. All
+	 * {@link Connection}s whose corridors overlap the bounds of the obstacle
+	 * are scheduled for a refresh.
+	 *
+	 * @param obstacle
+	 *            The obstacle {@link Node} to remove.
+	 */
+	public void removeObstacle(Node obstacle) {
+		VisualChangeListener visualChangeListener = visualChangeListeners
+				.remove(obstacle);
+		if (visualChangeListener != null) {
+			visualChangeListener.unregister();
+		}
+		double[] b = obstacles.get(obstacle);
+		if (obstacles.remove(obstacle)) {
+			invalidate(b);
+		}
+	}
+
+	/**
+	 * Registers the given corridor (in scene coordinates) for the given
+	 * {@link Connection}, so that the {@link Connection} is scheduled for a
+	 * refresh when an obstacle within the corridor changes. The corridor is
+	 * removed automatically when the {@link Connection} is removed from its
+	 * {@link Scene}.
+	 *
+	 * @param connection
+	 *            The {@link Connection} for which to register the corridor.
+	 * @param corridor
+	 *            The corridor (in scene coordinates) that was used for routing
+	 *            the given {@link Connection}.
+	 */
+	public void setCorridor(final Connection connection, Rectangle corridor) {
+		corridors.put(connection, toReference(corridor));
+		if (!sceneListeners.containsKey(connection)) {
+			ChangeListener<Scene> sceneListener = new ChangeListener<Scene>() {
+				@Override
+				public void changed(ObservableValue<? extends Scene> observable,
+						Scene oldValue, Scene newValue) {
+					if (newValue == null) {
+						removeCorridor(connection);
+					}
+				}
+			};
+			sceneListeners.put(connection, sceneListener);
+			connection.sceneProperty().addListener(sceneListener);
+		}
+	}
+
+	/**
+	 * Transforms the given bounds from the coordinate system of the reference
+	 * {@link Node} into a {@link Rectangle} in scene coordinates.
+	 */
+	private Rectangle toScene(double[] b) {
+		return FX2Geometry.toRectangle(reference.localToScene(
+				new BoundingBox(b[0], b[1], b[2] - b[0], b[3] - b[1])));
+	}
+
+	/**
+	 * Transforms the given {@link Rectangle} from scene coordinates into the
+	 * coordinate system of the reference {@link Node}.
+	 */
+	private double[] toReference(Rectangle r) {
+		return toArray(reference.sceneToLocal(Geometry2FX.toFXBounds(r)));
+	}
+
+	/**
+	 * Re-computes the bounds of the given obstacle. If the bounds changed, all
+	 * {@link Connection}s whose corridors overlap the old or new bounds of the
+	 * obstacle are scheduled for a refresh. Has no effect if the given
+	 * {@link Node} was not {@link #addObstacle(Node) added} before.
+	 *
+	 * @param obstacle
+	 *            The obstacle {@link Node} to update.
+	 */
+	public void updateObstacle(Node obstacle) {
+		if (!visualChangeListeners.containsKey(obstacle)) {
+			return;
+		}
+		double[] newBounds = toArray(reference.sceneToLocal(
+				obstacle.localToScene(obstacle.getLayoutBounds())));
+		double[] oldBounds = obstacles.get(obstacle);
+		if (oldBounds != null && oldBounds[0] == newBounds[0]
+				&& oldBounds[1] == newBounds[1] && oldBounds[2] == newBounds[2]
+				&& oldBounds[3] == newBounds[3]) {
+			return;
+		}
+		obstacles.put(obstacle, newBounds);
+		if (oldBounds != null) {
+			invalidate(oldBounds);
+		}
+		invalidate(newBounds);
+	}
+
+}
@@ -0,0 +1,516 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+/**
+ * The {@link OrthogonalPathFinder} computes orthogonal paths around
+ * rectangular obstacles. It searches a sparse orthogonal visibility graph
+ * using A*, where the cost of a path is its length plus a penalty per bend.
+ * <p>
+ * The vertices of the visibility graph are the intersections of the
+ * "interesting" horizontal and vertical lines within the search area, i.e. the
+ * lines through the start and end points, and the lines along the (expanded)
+ * borders of the obstacles and of the start and end bounds. As all obstacle
+ * borders are part of these lines, a segment between two neighboring vertices
+ * either lies completely inside of an obstacle or completely outside of all
+ * obstacles. The graph is never materialized, but its edges are evaluated
+ * lazily when A* expands a vertex, so that only the vertices near the optimal
+ * path are visited.
+ * <p>
+ * Paths may pass through the start and end bounds (which are not treated as
+ * obstacles), but only straight, i.e. all bends are located outside of the
+ * start and end bounds, so that the first and last segment of a path can be
+ * clipped at the outline of the start and end bounds.
+ *
+ * @author agent
+ *
+ */
+class OrthogonalPathFinder {
+
+	// directions (east, south, west, north), and start (no direction)
+	private static final int[] DX = { 1, 0, -1, 0 };
+	private static final int[] DY = { 0, 1, 0, -1 };
+	private static final int NONE = 4;
+
+	private final double spacing;
+	private final double bendPenalty;
+
+	// grid lines
+	private double[] xs;
+	private double[] ys;
+	private int nx;
+	private int ny;
+
+	// obstacles (expanded by spacing) as (minX, minY, maxX, maxY) and a
+	// uniform grid over them (cell -> obstacle indices, compressed)
+	private double[] obstacles;
+	private int[] cellStart;
+	private int[] cellObstacles;
+	private double cellMinX;
+	private double cellMinY;
+	private double cellSize;
+	private int cellsX;
+	private int cellsY;
+
+	// start and end bounds, or null
+	private Rectangle startBounds;
+	private Rectangle endBounds;
+
+	// open list (binary heap)
+	private double[] heapF = new double[64];
+	private double[] heapG = new double[64];
+	private long[] heapState = new long[64];
+	private int heapSize;
+
+	// visited states (open addressing hash table, linear probing), mapped to
+	// their best known cost and their parent state
+	private long[] visitedStates = new long[1024];
+	private double[] visitedCosts = new double[1024];
+	private long[] visitedParents = new long[1024];
+	private int visitedSize;
+
+	/**
+	 * Constructs a new {@link OrthogonalPathFinder}.
+	 *
+	 * @param spacing
+	 *            The minimum distance between a path and an obstacle.
+	 * @param bendPenalty
+	 *            The cost of a bend, in terms of path length.
+	 */
+	OrthogonalPathFinder(double spacing, double bendPenalty) {
+		this.spacing = spacing;
+		this.bendPenalty = bendPenalty;
+	}
+
+	private void clearVisited() {
+		Arrays.fill(visitedStates, -1);
+		visitedSize = 0;
+	}
+
+	private static int indexOf(double[] values, double value) {
+		int index = Arrays.binarySearch(values, value);
+		return index < 0 ? -1 : index;
+	}
+
+	private static boolean isInside(Rectangle bounds, double x, double y) {
+		return bounds != null && x > bounds.getX()
+				&& x < bounds.getX() + bounds.getWidth() && y > bounds.getY()
+				&& y < bounds.getY() + bounds.getHeight();
+	}
+
+	private static double[] toSortedUnique(double[] values, int size) {
+		Arrays.sort(values, 0, size);
+		int unique = 0;
+		for (int i = 0; i < size; i++) {
+			if (unique == 0 || values[i] != values[unique - 1]) {
+				values[unique++] = values[i];
+			}
+		}
+		return Arrays.copyOf(values, unique);
+	}
+
+	private void addLines(double[] lineXs, double[] lineYs, int[] count,
+			Rectangle area, double minX, double minY, double maxX,
+			double maxY) {
+		double areaMaxX = area.getX() + area.getWidth();
+		double areaMaxY = area.getY() + area.getHeight();
+		if (minX > area.getX() && minX < areaMaxX) {
+			lineXs[count[0]++] = minX;
+		}
+		if (maxX > area.getX() && maxX < areaMaxX) {
+			lineXs[count[0]++] = maxX;
+		}
+		if (minY > area.getY() && minY < areaMaxY) {
+			lineYs[count[1]++] = minY;
+		}
+		if (maxY > area.getY() && maxY < areaMaxY) {
+			lineYs[count[1]++] = maxY;
+		}
+	}
+
+	/**
+	 * Computes the grid lines and the obstacle grid.
+	 */
+	private void buildGrid(Point start, Point end, List<Rectangle> obstacleList,
+			Rectangle area) {
+		int n = obstacleList.size();
+		double[] lineXs = new double[2 * n + 8];
+		double[] lineYs = new double[2 * n + 8];
+		int[] count = new int[2];
+		lineXs[count[0]++] = area.getX();
+		lineXs[count[0]++] = area.getX() + area.getWidth();
+		lineYs[count[1]++] = area.getY();
+		lineYs[count[1]++] = area.getY() + area.getHeight();
+		lineXs[count[0]++] = start.x;
+		lineXs[count[0]++] = end.x;
+		lineYs[count[1]++] = start.y;
+		lineYs[count[1]++] = end.y;
+
+		// the expanded start and end bounds allow to bend right after leaving
+		// the start bounds, and right before entering the end bounds
+		for (Rectangle bounds : new Rectangle[] { startBounds, endBounds }) {
+			if (bounds != null) {
+				addLines(lineXs, lineYs, count, area,
+						bounds.getX() - spacing, bounds.getY() - spacing,
+						bounds.getX() + bounds.getWidth() + spacing,
+						bounds.getY() + bounds.getHeight() + spacing);
+			}
+		}
+
+		// expand obstacles, ignoring those that contain the start or end
+		// point (e.g. containers of the start or end bounds)
+		obstacles = new double[4 * n];
+		int m = 0;
+		for (Rectangle r : obstacleList) {
+			double minX = r.getX() - spacing;
+			double minY = r.getY() - spacing;
+			double maxX = r.getX() + r.getWidth() + spacing;
+			double maxY = r.getY() + r.getHeight() + spacing;
+			if (start.x > minX && start.x < maxX && start.y > minY
+					&& start.y < maxY
+					|| end.x > minX && end.x < maxX && end.y > minY
+							&& end.y < maxY) {
+				continue;
+			}
+			obstacles[4 * m] = minX;
+			obstacles[4 * m + 1] = minY;
+			obstacles[4 * m + 2] = maxX;
+			obstacles[4 * m + 3] = maxY;
+			m++;
+			addLines(lineXs, lineYs, count, area, minX, minY, maxX, maxY);
+		}
+		obstacles = Arrays.copyOf(obstacles, 4 * m);
+		xs = toSortedUnique(lineXs, count[0]);
+		ys = toSortedUnique(lineYs, count[1]);
+		nx = xs.length;
+		ny = ys.length;
+
+		// index the obstacles using approximately one cell per obstacle
+		cellMinX = area.getX();
+		cellMinY = area.getY();
+		cellSize = Math.max(1, Math.sqrt(
+				area.getWidth() * area.getHeight() / Math.max(1, m)));
+		cellsX = (int) (area.getWidth() / cellSize) + 1;
+		cellsY = (int) (area.getHeight() / cellSize) + 1;
+		cellStart = new int[cellsX * cellsY + 1];
+		for (int pass = 0; pass < 2; pass++) {
+			int[] fill = pass == 0 ? null
+					: Arrays.copyOf(cellStart, cellStart.length);
+			for (int o = 0; o < m; o++) {
+				int cx0 = toCellX(obstacles[4 * o]);
+				int cy0 = toCellY(obstacles[4 * o + 1]);
+				int cx1 = toCellX(obstacles[4 * o + 2]);
+				int cy1 = toCellY(obstacles[4 * o + 3]);
+				for (int cx = cx0; cx <= cx1; cx++) {
+					for (int cy = cy0; cy <= cy1; cy++) {
+						int cell = cy * cellsX + cx;
+						if (pass == 0) {
+							cellStart[cell + 1]++;
+						} else {
+							cellObstacles[fill[cell]++] = o;
+						}
+					}
+				}
+			}
+			if (pass == 0) {
+				for (int c = 0; c < cellsX * cellsY; c++) {
+					cellStart[c + 1] += cellStart[c];
+				}
+				cellObstacles = new int[cellStart[cellsX * cellsY]];
+			}
+		}
+	}
+
+	/**
+	 * Computes an orthogonal path from the given start point to the given end
+	 * point within the given area, avoiding the given obstacles. Returns the
+	 * bend points of the path (excluding the start and end point), or
+	 * <code>null</code> if no path could be found within the given area.
+	 *
+	 * @param start
+	 *            The start {@link Point}.
+	 * @param startBounds
+	 *            The bounds that contain the start point and may only be
+	 *            passed straight, or <code>null</code>.
+	 * @param end
+	 *            The end {@link Point}.
+	 * @param endBounds
+	 *            The bounds that contain the end point and may only be passed
+	 *            straight, or <code>null</code>.
+	 * @param obstacles
+	 *            The obstacles to avoid.
+	 * @param area
+	 *            The area to which the search is restricted. Needs to contain
+	 *            the start and end point.
+	 * @return The bend points of the path, or <code>null</code> if no path
+	 *         could be found.
+	 */
+	List<Point> findPath(Point start, Rectangle startBounds, Point end,
+			Rectangle endBounds, List<Rectangle> obstacles, Rectangle area) {
+		if (start.x == end.x && start.y == end.y) {
+			return Collections.emptyList();
+		}
+		this.startBounds = startBounds;
+		this.endBounds = endBounds;
+		buildGrid(start, end, obstacles, area);
+		int si = indexOf(xs, start.x);
+		int sj = indexOf(ys, start.y);
+		int ti = indexOf(xs, end.x);
+		int tj = indexOf(ys, end.y);
+		if (si < 0 || sj < 0 || ti < 0 || tj < 0) {
+			// start or end point outside of the area
+			return null;
+		}
+
+		heapSize = 0;
+		clearVisited();
+		long startState = toState(si, sj, NONE);
+		visit(startState, 0, -1);
+		push(heuristic(si, sj, NONE, ti, tj), 0, startState);
+		while (heapSize > 0) {
+			double g = heapG[0];
+			long state = pop();
+			if (g > visitedCosts[slot(state)]) {
+				// outdated entry
+				continue;
+			}
+			int d = (int) (state % 5);
+			int node = (int) (state / 5);
+			int i = node / ny;
+			int j = node % ny;
+			if (i == ti && j == tj) {
+				return toBends(state);
+			}
+			double x = xs[i];
+			double y = ys[j];
+			boolean straightOnly = d != NONE && (isInside(startBounds, x, y)
+					|| isInside(endBounds, x, y));
+			for (int nd = 0; nd < 4; nd++) {
+				if (d != NONE && (nd + 2) % 4 == d
+						|| straightOnly && nd != d) {
+					continue;
+				}
+				int ni = i + DX[nd];
+				int nj = j + DY[nd];
+				if (ni < 0 || ni >= nx || nj < 0 || nj >= ny) {
+					continue;
+				}
+				double nxv = xs[ni];
+				double nyv = ys[nj];
+				if (isBlocked((x + nxv) / 2, (y + nyv) / 2)) {
+					continue;
+				}
+				double ng = g + Math.abs(nxv - x) + Math.abs(nyv - y)
+						+ (d != NONE && nd != d ? bendPenalty : 0);
+				long nextState = toState(ni, nj, nd);
+				if (visit(nextState, ng, state)) {
+					push(ng + heuristic(ni, nj, nd, ti, tj), ng, nextState);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a lower bound for the cost from the given vertex (entered in the
+	 * given direction) to the target vertex, i.e. the Manhattan distance plus
+	 * the penalty for the bend that is needed at least.
+	 */
+	private double heuristic(int i, int j, int d, int ti, int tj) {
+		double distance = Math.abs(xs[ti] - xs[i]) + Math.abs(ys[tj] - ys[j]);
+		if (i != ti && j != tj) {
+			return distance + bendPenalty;
+		}
+		if (d == NONE || i == ti && j == tj) {
+			return distance;
+		}
+		// aligned with the target, so that a bend is needed unless the
+		// current direction points towards the target
+		int targetDirection = i == ti ? (tj > j ? 1 : 3) : (ti > i ? 0 : 2);
+		return distance + (d == targetDirection ? 0 : bendPenalty);
+	}
+
+	private boolean isBlocked(double x, double y) {
+		int cell = toCellY(y) * cellsX + toCellX(x);
+		for (int c = cellStart[cell]; c < cellStart[cell + 1]; c++) {
+			int o = 4 * cellObstacles[c];
+			if (x > obstacles[o] && x < obstacles[o + 2] && y > obstacles[o + 1]
+					&& y < obstacles[o + 3]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// returns true if entry a should be polled before entry b, i.e. it has a
+	// lower f, or an equal f and a higher g (which prefers deeper entries on
+	// plateaus of equal cost)
+	private boolean isBefore(int a, int b) {
+		return heapF[a] < heapF[b]
+				|| heapF[a] == heapF[b] && heapG[a] > heapG[b];
+	}
+
+	private long pop() {
+		long top = heapState[0];
+		heapSize--;
+		if (heapSize > 0) {
+			heapF[0] = heapF[heapSize];
+			heapG[0] = heapG[heapSize];
+			heapState[0] = heapState[heapSize];
+			int i = 0;
+			while (true) {
+				int min = i;
+				int l = 2 * i + 1;
+				int r = l + 1;
+				if (l < heapSize && isBefore(l, min)) {
+					min = l;
+				}
+				if (r < heapSize && isBefore(r, min)) {
+					min = r;
+				}
+				if (min == i) {
+					break;
+				}
+				swap(i, min);
+				i = min;
+			}
+		}
+		return top;
+	}
+
+	private void push(double f, double g, long state) {
+		if (heapSize == heapF.length) {
+			heapF = Arrays.copyOf(heapF, 2 * heapSize);
+			heapG = Arrays.copyOf(heapG, 2 * heapSize);
+			heapState = Arrays.copyOf(heapState, 2 * heapSize);
+		}
+		int i = heapSize++;
+		heapF[i] = f;
+		heapG[i] = g;
+		heapState[i] = state;
+		while (i > 0) {
+			int parent = (i - 1) / 2;
+			if (!isBefore(i, parent)) {
+				break;
+			}
+			swap(i, parent);
+			i = parent;
+		}
+	}
+
+	private void swap(int a, int b) {
+		double f = heapF[a];
+		heapF[a] = heapF[b];
+		heapF[b] = f;
+		double g = heapG[a];
+		heapG[a] = heapG[b];
+		heapG[b] = g;
+		long s = heapState[a];
+		heapState[a] = heapState[b];
+		heapState[b] = s;
+	}
+
+	/**
+	 * Returns the slot of the given state within the visited states, which is
+	 * either occupied by the given state, or the empty slot at which to insert
+	 * it.
+	 */
+	private int slot(long state) {
+		int mask = visitedStates.length - 1;
+		// Fibonacci hashing (the table length is a power of two)
+		int slot = (int) ((state * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+		while (visitedStates[slot] != -1 && visitedStates[slot] != state) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private List<Point> toBends(long endState) {
+		List<Point> bends = new ArrayList<>();
+		long state = endState;
+		long parent = visitedParents[slot(state)];
+		while (parent != -1) {
+			int d = (int) (state % 5);
+			int pd = (int) (parent % 5);
+			if (pd != NONE && pd != d) {
+				// direction changes at the parent node
+				int node = (int) (parent / 5);
+				bends.add(new Point(xs[node / ny], ys[node % ny]));
+			}
+			state = parent;
+			parent = visitedParents[slot(state)];
+		}
+		Collections.reverse(bends);
+		return bends;
+	}
+
+	private int toCellX(double x) {
+		return Math.max(0,
+				Math.min(cellsX - 1, (int) ((x - cellMinX) / cellSize)));
+	}
+
+	private int toCellY(double y) {
+		return Math.max(0,
+				Math.min(cellsY - 1, (int) ((y - cellMinY) / cellSize)));
+	}
+
+	private long toState(int i, int j, int d) {
+		return ((long) i * ny + j) * 5 + d;
+	}
+
+	/**
+	 * Records the given cost and parent for the given state, unless a lower
+	 * or equal cost is already known for it. Returns <code>true</code> if the
+	 * state was updated, <code>false</code> otherwise.
+	 */
+	private boolean visit(long state, double cost, long parent) {
+		int slot = slot(state);
+		if (visitedStates[slot] == -1) {
+			if (2 * (visitedSize + 1) > visitedStates.length) {
+				// keep the load factor below 0.5
+				long[] states = visitedStates;
+				double[] costs = visitedCosts;
+				long[] parents = visitedParents;
+				visitedStates = new long[2 * states.length];
+				visitedCosts = new double[2 * states.length];
+				visitedParents = new long[2 * states.length];
+				Arrays.fill(visitedStates, -1);
+				for (int s = 0; s < states.length; s++) {
+					if (states[s] != -1) {
+						int newSlot = slot(states[s]);
+						visitedStates[newSlot] = states[s];
+						visitedCosts[newSlot] = costs[s];
+						visitedParents[newSlot] = parents[s];
+					}
+				}
+				slot = slot(state);
+			}
+			visitedStates[slot] = state;
+			visitedSize++;
+		} else if (cost >= visitedCosts[slot]) {
+			return false;
+		}
+		visitedCosts[slot] = cost;
+		visitedParents[slot] = parent;
+		return true;
+	}
+
+}
@@ -12,9 +12,15 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
+import java.awt.geom.NoninvertibleTransformException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.Point;
@@ -36,6 +42,151 @@ public class AffineTransformTests {
 		assertEquals(t0, t1);
 	}
 
+	@Test
+	public void test_awt_conformance()
+			throws NoninvertibleTransformException {
+		AffineTransform tx = new AffineTransform();
+		java.awt.geom.AffineTransform awt = new java.awt.geom.AffineTransform();
+		double[] expected = new double[6];
+		for (int i = 0; i < 8; i++) {
+			tx.translate(i - 3, 2 * i);
+			awt.translate(i - 3, 2 * i);
+			tx.rotate(Angle.fromDeg(45 * i).rad(), 1, i);
+			awt.rotate(Angle.fromDeg(45 * i).rad(), 1, i);
+			tx.quadrantRotate(i);
+			awt.quadrantRotate(i);
+			tx.scale(i % 3 + 1, -i % 2 - 0.5);
+			awt.scale(i % 3 + 1, -i % 2 - 0.5);
+			tx.shear(0.25 * i, 0);
+			awt.shear(0.25 * i, 0);
+			awt.getMatrix(expected);
+			assertArrayEquals(expected, tx.getMatrix(), 0);
+			assertEquals(awt.getType(), tx.getType());
+			// signed zeros may differ, so compare with a converted transform
+			assertEquals(Geometry2AWT.toAWTAffineTransform(tx).hashCode(),
+					tx.hashCode());
+			assertEquals(Geometry2AWT.toAWTAffineTransform(tx).toString(),
+					tx.toString());
+		}
+
+		// composition and inversion
+		AffineTransform other = new AffineTransform(2, 1, -1, 3, 5, -7);
+		java.awt.geom.AffineTransform awtOther = Geometry2AWT
+				.toAWTAffineTransform(other);
+		tx.concatenate(other);
+		awt.concatenate(awtOther);
+		awt.getMatrix(expected);
+		assertArrayEquals(expected, tx.getMatrix(), 0);
+		tx.preConcatenate(other);
+		awt.preConcatenate(awtOther);
+		awt.getMatrix(expected);
+		assertArrayEquals(expected, tx.getMatrix(), 0);
+		tx = tx.getInverse();
+		awt = awt.createInverse();
+		awt.getMatrix(expected);
+		assertArrayEquals(expected, tx.getMatrix(), 1e-12);
+	}
+
+	@Test
+	public void test_getType_awt_conformance()
+			throws NoninvertibleTransformException {
+		// the transformation type is recorded when setting a rotation
+		AffineTransform tx = new AffineTransform().setToRotation(1, 1, 2, 3);
+		java.awt.geom.AffineTransform awt = java.awt.geom.AffineTransform
+				.getRotateInstance(1, 1, 2, 3);
+		assertEquals(awt.getType(), tx.getType());
+
+		// random sequences of operations applied to both transformations
+		Random random = new Random(42);
+		double[] expected = new double[6];
+		for (int run = 0; run < 200; run++) {
+			tx.setToIdentity();
+			awt.setToIdentity();
+			for (int op = 0; op < 6; op++) {
+				double a = random.nextInt(5) - 2;
+				double b = random.nextInt(5) - 2;
+				double theta = random.nextDouble() * 2 * Math.PI;
+				switch (random.nextInt(14)) {
+				case 0:
+					tx.setToRotation(theta, a, b);
+					awt.setToRotation(theta, a, b);
+					break;
+				case 1:
+					tx.setToRotation(a, b);
+					awt.setToRotation(a, b);
+					break;
+				case 2:
+					tx.setToQuadrantRotation((int) a, a, b);
+					awt.setToQuadrantRotation((int) a, a, b);
+					break;
+				case 3:
+					tx.rotate(theta);
+					awt.rotate(theta);
+					break;
+				case 4:
+					tx.rotate(a, b, b, a);
+					awt.rotate(a, b, b, a);
+					break;
+				case 5:
+					tx.quadrantRotate((int) a, b, a);
+					awt.quadrantRotate((int) a, b, a);
+					break;
+				case 6:
+					tx.translate(a, b);
+					awt.translate(a, b);
+					break;
+				case 7:
+					tx.scale(a, a);
+					awt.scale(a, a);
+					break;
+				case 8:
+					tx.scale(a, b);
+					awt.scale(a, b);
+					break;
+				case 9:
+					tx.shear(a, b);
+					awt.shear(a, b);
+					break;
+				case 10:
+					tx.concatenate(
+							new AffineTransform().setToRotation(theta, a, b));
+					awt.concatenate(java.awt.geom.AffineTransform
+							.getRotateInstance(theta, a, b));
+					break;
+				case 11:
+					if (tx.getTranslateX() + a == 0
+							&& tx.getTranslateY() + b == 0) {
+						// AWT keeps reporting a translation when a
+						// pre-concatenated translation cancels out
+						a++;
+					}
+					tx.preConcatenate(new AffineTransform().translate(a, b));
+					awt.preConcatenate(java.awt.geom.AffineTransform
+							.getTranslateInstance(a, b));
+					break;
+				case 12:
+					if (awt.getDeterminant() != 0) {
+						tx.invert();
+						awt.invert();
+					}
+					break;
+				default:
+					tx.setToTranslation(a, b);
+					awt.setToTranslation(a, b);
+				}
+				awt.getMatrix(expected);
+				assertArrayEquals(expected, tx.getMatrix(), 0);
+				assertEquals(awt.getType(), tx.getType());
+				assertEquals(awt.getType(), tx.getCopy().getType());
+			}
+		}
+	}
+
+	@Test(expected = NoninvertibleTransformException.class)
+	public void test_invert_singular() throws NoninvertibleTransformException {
+		new AffineTransform().scale(0, 1).invert();
+	}
+
 	@Test
 	public void test_rotate90() {
 		AffineTransform tx = new AffineTransform();
@@ -44,4 +195,32 @@ public class AffineTransformTests {
 		assertEquals(new Point(0, 1), tx.getTransformed(new Point(1, 0)));
 	}
 
+	@Test
+	public void test_transform_coordinates() {
+		AffineTransform tx = new AffineTransform(2, 1, -1, 3, 5, -7);
+		double[] coordinates = new double[] { 0, 0, 1, 2, -3, 4, 5, -6 };
+		double[] expected = new double[coordinates.length + 2];
+		for (int i = 0; i < coordinates.length; i += 2) {
+			Point p = tx.getTransformed(
+					new Point(coordinates[i], coordinates[i + 1]));
+			expected[i + 2] = p.x;
+			expected[i + 3] = p.y;
+		}
+
+		// in place
+		double[] inPlace = coordinates.clone();
+		tx.transform(inPlace);
+		assertArrayEquals(
+				Arrays.copyOfRange(expected, 2, expected.length),
+				inPlace, 0);
+
+		// overlapping source and destination ranges
+		double[] overlapping = new double[coordinates.length + 2];
+		System.arraycopy(coordinates, 0, overlapping, 0, coordinates.length);
+		tx.transform(overlapping, 0, overlapping, 2, coordinates.length / 2);
+		expected[0] = coordinates[0];
+		expected[1] = coordinates[1];
+		assertArrayEquals(expected, overlapping, 0);
+	}
+
 }
@@ -21,13 +21,13 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ AffineTransformTests.class, AngleTests.class, ArcTests.class,
 		AWTConversionTests.class, BezierCurveTests.class, CubicCurveTests.class,
 		CurvedPolygonTests.class, CurveUtilsTests.class, DimensionTests.class,
-		EllipseTests.class, IGeometryTests.class, LineTests.class,
-		PathTests.class, PieTests.class, PointListUtilsTests.class,
-		PointTests.class, PolygonTests.class, PolylineTests.class,
-		PrecisionUtilsTests.class, QuadraticCurveTests.class,
-		RectangleTests.class, RegionTests.class, RingTests.class,
-		RoundedRectangleTests.class, StraightTests.class, VectorTests.class,
-		Vector3DTests.class })
+		EllipseTests.class, GeometrySnapshotTests.class, IGeometryTests.class,
+		LineTests.class, PathTests.class, PieTests.class,
+		PointListUtilsTests.class, PointTests.class, PolygonTests.class,
+		PolylineTests.class, PrecisionUtilsTests.class,
+		QuadraticCurveTests.class, RectangleTests.class, RegionTests.class,
+		RingTests.class, RoundedRectangleTests.class, StraightTests.class,
+		UniformGridTests.class, VectorTests.class, Vector3DTests.class })
 public class AllTests {
 
 }
@@ -232,6 +232,13 @@ public class BezierCurveTests {
 		assertEquals(new Point(5.5, 5.5), c1.get(1));
 		assertEquals(new Point(5.5, 5.5), c2.get(0));
 		assertEquals(new Point(10, 10), c2.get(1));
+
+		// an interior clip has the shape of the original curve
+		BezierCurve c3 = c0.getClipped(0.2, 0.7);
+		assertEquals(4, c3.getPoints().length);
+		for (double t = 0; t <= 1; t += 0.1) {
+			assertEquals(c0.get(0.2 + 0.5 * t), c3.get(t));
+		}
 	}
 
 	@Test
@@ -264,7 +271,27 @@ public class BezierCurveTests {
 		BezierCurve c0 = new BezierCurve(1, 1, 1, 10, 10, 1, 10, 10);
 		BezierCurve d0 = c0.getDerivative();
 		assertEquals(3, d0.getPoints().length);
-		// TODO: check the derivative for some points on the curve
+
+		// compare to central differences
+		double h = 1e-6;
+		for (double t = 0.1; t < 0.95; t += 0.1) {
+			Point p0 = c0.get(t - h);
+			Point p1 = c0.get(t + h);
+			Point d = d0.get(t);
+			assertEquals((p1.x - p0.x) / (2 * h), d.x, 1e-4);
+			assertEquals((p1.y - p0.y) / (2 * h), d.y, 1e-4);
+		}
+	}
+
+	@Test
+	public void test_getElevated() {
+		BezierCurve c0 = new BezierCurve(1, 1, 1, 10, 10, 1, 10, 10);
+		BezierCurve e0 = c0.getElevated();
+		assertEquals(5, e0.getPoints().length);
+		assertEquals(c0, e0);
+		for (double t = 0; t <= 1; t += 0.1) {
+			assertEquals(c0.get(t), e0.get(t));
+		}
 	}
 
 	@Test
@@ -260,6 +260,40 @@ public class CurveUtilsTests {
 		assertEquals(0, yAxis.getIntersections(curve).length);
 	}
 
+	@Test
+	public void test_getIntersections_many_segments() {
+		// zig-zag line with 1000 segments, crossing y = 0.5 once per segment
+		Point[] zigZag = new Point[1001];
+		for (int i = 0; i < zigZag.length; i++) {
+			zigZag[i] = new Point(i, i % 2);
+		}
+		// horizontal line at y = 0.5 with 300 segments
+		Point[] horizontal = new Point[301];
+		for (int i = 0; i < horizontal.length; i++) {
+			horizontal[i] = new Point(i * 10.0 / 3, 0.5);
+		}
+
+		Point[] intersections = new Polyline(zigZag)
+				.getIntersections(new Polyline(horizontal));
+		assertEquals(1000, intersections.length);
+		boolean[] found = new boolean[1000];
+		for (Point poi : intersections) {
+			assertTrue(PrecisionUtils.equal(0.5, poi.y));
+			int i = (int) Math.floor(poi.x);
+			assertTrue(PrecisionUtils.equal(i + 0.5, poi.x));
+			found[i] = true;
+		}
+		for (boolean f : found) {
+			assertTrue(f);
+		}
+
+		// intersections at shared segment end points are only reported once
+		assertEquals(1,
+				new Polyline(0, 0, 1, 1, 2, 0)
+						.getIntersections(new Polyline(0, 2, 1, 1, 2, 2))
+						.length);
+	}
+
 	@Test
 	public void test_getIntersections_overlapping() {
 		/*
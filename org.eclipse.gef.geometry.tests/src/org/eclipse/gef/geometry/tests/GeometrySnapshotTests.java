@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.GeometrySnapshot;
+import org.eclipse.gef.geometry.planar.ICurve;
+import org.eclipse.gef.geometry.planar.Line;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.junit.Test;
+
+public class GeometrySnapshotTests {
+
+	@Test
+	public void test_arcLengths() {
+		GeometrySnapshot<Polyline> snapshot = new GeometrySnapshot<>(
+				new Polyline(0, 0, 10, 0, 10, 20, 40, 60));
+		assertArrayEquals(new double[] { 10, 30, 80 },
+				snapshot.getArcLengths(), 1e-9);
+		assertEquals(80, snapshot.getLength(), 1e-9);
+
+		GeometrySnapshot<BezierCurve> curve = new GeometrySnapshot<>(
+				new BezierCurve(0, 0, 50, 100, 100, 0));
+		double length = 0;
+		for (Line l : curve.toBezier()[0].toLineStrip(0.0001)) {
+			length += l.getLength();
+		}
+		assertEquals(length, curve.getLength(), 0.01);
+	}
+
+	@Test
+	public void test_memoization() {
+		Rectangle rectangle = new Rectangle(0, 0, 100, 50);
+		GeometrySnapshot<Rectangle> snapshot = new GeometrySnapshot<>(
+				rectangle);
+
+		// the snapshot is not affected by mutations of the original geometry
+		rectangle.translate(10, 10);
+		assertEquals(new Rectangle(0, 0, 100, 50), snapshot.getBounds());
+		assertEquals(new Rectangle(0, 0, 100, 50), snapshot.getGeometry());
+
+		// returned bounds may be modified
+		snapshot.getBounds().translate(10, 10);
+		assertEquals(new Rectangle(0, 0, 100, 50), snapshot.getBounds());
+
+		// derived geometries are computed once
+		ICurve[] outline = snapshot.getOutlineSegments();
+		assertEquals(4, outline.length);
+		assertSame(outline[0], snapshot.getOutlineSegments()[0]);
+		BezierCurve[] beziers = snapshot.toBezier();
+		assertEquals(4, beziers.length);
+		assertSame(beziers[0], snapshot.toBezier()[0]);
+		assertSame(snapshot.getDerivative(2), snapshot.getDerivative(2));
+		assertEquals(beziers[2].getDerivative(), snapshot.getDerivative(2));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void test_outlineSegments_curve() {
+		new GeometrySnapshot<>(new Polyline(0, 0, 10, 10))
+				.getOutlineSegments();
+	}
+
+}
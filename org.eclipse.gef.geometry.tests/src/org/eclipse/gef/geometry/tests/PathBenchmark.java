@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.convert.awt.AWT2Geometry;
+import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
+import org.eclipse.gef.geometry.planar.Ellipse;
+import org.eclipse.gef.geometry.planar.Path;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+
+/**
+ * A simple micro benchmark that compares the boolean operations and the
+ * containment tests of {@link Path} with the corresponding computations based
+ * on {@link Area}. It is not part of the test suite and has to be started
+ * manually, optionally passing the number of polygon vertices as arguments
+ * (defaults to 16, 256, and 2048 vertices).
+ *
+ * @author agent
+ *
+ */
+public class PathBenchmark {
+
+	private static final int WARMUP_RUNS = 200;
+	private static final int MEASURED_RUNS = 200;
+
+	private static Path createPolygon(int vertexCount, double cx, double cy,
+			long seed) {
+		Random random = new Random(seed);
+		Point[] points = new Point[vertexCount];
+		for (int i = 0; i < vertexCount; i++) {
+			double angle = 2 * Math.PI * i / vertexCount;
+			double radius = 50 + 50 * random.nextDouble();
+			points[i] = new Point(cx + radius * Math.cos(angle),
+					cy + radius * Math.sin(angle));
+		}
+		return new Polygon(points).toPath();
+	}
+
+	public static void main(String[] args) {
+		int[] sizes = { 16, 256, 2048 };
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				sizes[i] = Integer.parseInt(args[i]);
+			}
+		}
+		for (int n : sizes) {
+			Path p0 = createPolygon(n, 0, 0, n);
+			Path p1 = createPolygon(n, 40, 30, 2 * n);
+			report("native add", n, measureNative(p0, p1));
+			report("awt add", n, measureAWT(p0, p1));
+			report("native contains", n, measureContains(p0, false));
+			report("awt contains", n, measureContains(p0, true));
+		}
+		Path e0 = new Ellipse(0, 0, 100, 60).toPath();
+		Path e1 = new Ellipse(40, 20, 100, 60).toPath();
+		report("native add (curved)", 4, measureNative(e0, e1));
+		report("awt add (curved)", 4, measureAWT(e0, e1));
+	}
+
+	private static double measureAWT(Path p0, Path p1) {
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			unionAWT(p0, p1);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_RUNS; i++) {
+			unionAWT(p0, p1);
+		}
+		return (System.nanoTime() - start) / 1e3 / MEASURED_RUNS;
+	}
+
+	private static double measureContains(Path p, boolean awt) {
+		Point[] probes = new Point[1000];
+		Random random = new Random(1);
+		for (int i = 0; i < probes.length; i++) {
+			probes[i] = new Point(random.nextDouble() * 200 - 100,
+					random.nextDouble() * 200 - 100);
+		}
+		int hits = 0;
+		long start = 0;
+		for (int r = 0; r < WARMUP_RUNS + MEASURED_RUNS; r++) {
+			if (r == WARMUP_RUNS) {
+				start = System.nanoTime();
+			}
+			for (Point probe : probes) {
+				if (awt ? Geometry2AWT.toAWTPath(p).contains(probe.x, probe.y)
+						: p.contains(probe)) {
+					hits++;
+				}
+			}
+		}
+		// prevent dead code elimination
+		if (hits < 0) {
+			throw new IllegalStateException();
+		}
+		return (System.nanoTime() - start) / 1e3 / MEASURED_RUNS;
+	}
+
+	private static double measureNative(Path p0, Path p1) {
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			Path.add(p0, p1);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_RUNS; i++) {
+			Path.add(p0, p1);
+		}
+		return (System.nanoTime() - start) / 1e3 / MEASURED_RUNS;
+	}
+
+	private static void report(String mode, int n, double micros) {
+		System.out.println(String.format("%-20s %5d vertices: %10.2f us/op",
+				mode, n, micros));
+	}
+
+	private static Path unionAWT(Path p0, Path p1) {
+		Area area = new Area(Geometry2AWT.toAWTPath(p0));
+		area.add(new Area(Geometry2AWT.toAWTPath(p1)));
+		return AWT2Geometry.toPath(new Path2D.Double(area));
+	}
+
+}
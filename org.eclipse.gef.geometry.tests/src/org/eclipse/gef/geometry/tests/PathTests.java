@@ -18,6 +18,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 
+import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
@@ -35,6 +36,80 @@ public class PathTests {
 		assertTrue(unionPath.contains(r1.getCenter()));
 	}
 
+	@Test
+	public void test_CAG_add_curved() {
+		Ellipse e0 = new Ellipse(0, 0, 100, 100);
+		Ellipse e1 = new Ellipse(50, 0, 100, 100);
+		Path unionPath = Path.add(e0.toPath(), e1.toPath());
+		assertTrue(unionPath.contains(new Point(10, 50)));
+		assertTrue(unionPath.contains(new Point(75, 50)));
+		assertTrue(unionPath.contains(new Point(140, 50)));
+		assertFalse(unionPath.contains(new Point(75, 2)));
+		assertFalse(unionPath.contains(new Point(5, 5)));
+		Rectangle bounds = unionPath.getBounds();
+		assertEquals(0, bounds.getX(), 0.01);
+		assertEquals(150, bounds.getX() + bounds.getWidth(), 0.01);
+		// curved segments are preserved (not flattened)
+		int curves = 0;
+		for (Path.Segment s : unionPath.getSegments()) {
+			if (s.getType() == Path.Segment.CUBIC_TO) {
+				curves++;
+			}
+		}
+		assertTrue(curves > 0);
+		assertTrue(unionPath.getSegments().length < 20);
+	}
+
+	@Test
+	public void test_CAG_evenOdd() {
+		// the inner square is a hole w.r.t. the even-odd winding rule
+		Path ring = new Path(Path.WIND_EVEN_ODD);
+		ring.moveTo(0, 0).lineTo(100, 0).lineTo(100, 100).lineTo(0, 100)
+				.close();
+		ring.moveTo(25, 25).lineTo(75, 25).lineTo(75, 75).lineTo(25, 75)
+				.close();
+		Path bar = new Rectangle(40, -10, 20, 120).toPath();
+
+		Path union = Path.add(ring, bar);
+		assertTrue(union.contains(new Point(10, 50)));
+		assertTrue(union.contains(new Point(50, 50)));
+		assertFalse(union.contains(new Point(30, 50)));
+
+		Path intersection = Path.intersect(ring, bar);
+		assertTrue(intersection.contains(new Point(50, 10)));
+		assertFalse(intersection.contains(new Point(50, 50)));
+		assertFalse(intersection.contains(new Point(50, -5)));
+	}
+
+	@Test
+	public void test_CAG_nonZero() {
+		// the inner square is filled w.r.t. the non-zero winding rule
+		Path ring = new Path(Path.WIND_NON_ZERO);
+		ring.moveTo(0, 0).lineTo(100, 0).lineTo(100, 100).lineTo(0, 100)
+				.close();
+		ring.moveTo(25, 25).lineTo(75, 25).lineTo(75, 75).lineTo(25, 75)
+				.close();
+		Path difference = Path.subtract(ring,
+				new Rectangle(40, -10, 20, 120).toPath());
+		assertTrue(difference.contains(new Point(30, 50)));
+		assertTrue(difference.contains(new Point(70, 50)));
+		assertFalse(difference.contains(new Point(50, 50)));
+	}
+
+	@Test
+	public void test_contains_rectangle() {
+		Rectangle r0 = new Rectangle(0, 0, 100, 100);
+		Rectangle r1 = new Rectangle(50, 50, 100, 100);
+		Path unionPath = Path.add(r0.toPath(), r1.toPath());
+		assertTrue(unionPath.contains(new Rectangle(10, 10, 80, 80)));
+		assertTrue(unionPath.contains(new Rectangle(60, 60, 80, 80)));
+		assertTrue(unionPath.contains(new Rectangle(0, 0, 100, 100)));
+		assertFalse(unionPath.contains(new Rectangle(60, 10, 80, 20)));
+		assertFalse(unionPath.contains(new Rectangle(0, 0, 150, 150)));
+		// empty rectangles are never contained
+		assertFalse(unionPath.contains(new Rectangle(10, 10, 0, 10)));
+	}
+
 	@Test
 	public void test_CAG_exclusiveOr() {
 		Rectangle r0 = new Rectangle(0, 0, 100, 100);
@@ -544,6 +544,67 @@ public class PolygonTests {
 		assertTrue(true);
 	}
 
+	@Test
+	public void test_getTriangulation_many_vertices() {
+		// comb with 1000 teeth, which results in many split and merge vertices
+		int teeth = 1000;
+		double[] coordinates = new double[8 * teeth + 8];
+		int i = 0;
+		coordinates[i++] = 0;
+		coordinates[i++] = 0;
+		for (int t = 0; t < teeth; t++) {
+			double x = 2 * t;
+			coordinates[i++] = x + 1;
+			coordinates[i++] = 0;
+			coordinates[i++] = x + 1;
+			coordinates[i++] = -10;
+			coordinates[i++] = x + 2;
+			coordinates[i++] = -10;
+			coordinates[i++] = x + 2;
+			coordinates[i++] = 0;
+		}
+		coordinates[i++] = 2 * teeth + 1;
+		coordinates[i++] = 0;
+		coordinates[i++] = 2 * teeth + 1;
+		coordinates[i++] = 5;
+		coordinates[i++] = 0;
+		coordinates[i++] = 5;
+		Polygon p = new Polygon(coordinates);
+
+		Polygon[] triangulation = p.getTriangulation();
+		double area = 0;
+		for (Polygon triangle : triangulation) {
+			assertEquals(3, triangle.getPoints().length);
+			assertTrue(p.contains(triangle.getCentroid()));
+			area += triangle.getArea();
+		}
+		assertTrue(PrecisionUtils.equal(p.getArea(), area));
+		assertEquals(5 * (2 * teeth + 1) + 10 * teeth, area, 0.000001);
+	}
+
+	@Test
+	public void test_getTriangulation_non_simple() {
+		// bow tie
+		Polygon p = new Polygon(0, 0, 10, 10, 10, 0, 0, 10);
+		boolean thrown = false;
+		try {
+			p.getTriangulation();
+		} catch (IllegalStateException x) {
+			thrown = true;
+		}
+		assertTrue(thrown);
+
+		// vertex on a non-adjacent edge
+		p = new Polygon(0, 0, 10, 0, 10, 10, 5, 0, 0, 10);
+		thrown = false;
+		try {
+			p.getTriangulation();
+		} catch (IllegalStateException x) {
+			thrown = true;
+		}
+		assertTrue(thrown);
+	}
+
 	@Test
 	public void test_intersects_Ellipse() {
 		assertTrue(RHOMB.touches(new Ellipse(0, 0, 4, 4)));
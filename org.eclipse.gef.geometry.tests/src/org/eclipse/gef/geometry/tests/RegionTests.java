@@ -104,6 +104,71 @@ public class RegionTests {
 		assertFalse(region.contains(new Rectangle(25, 25, 50, 50)));
 	}
 
+	@Test
+	public void test_contains_Point() {
+		Region region = new Region(new Rectangle(0, 0, 200, 50),
+				new Rectangle(0, 0, 50, 150), new Rectangle(0, 100, 200, 50),
+				new Rectangle(150, 0, 50, 150));
+
+		assertTrue(region.contains(new Point(0, 0)));
+		assertTrue(region.contains(new Point(25, 75)));
+		assertTrue(region.contains(new Point(200, 150)));
+		assertTrue(region.contains(new Point(100, 50)));
+		assertFalse(region.contains(new Point(100, 75)));
+		assertFalse(region.contains(new Point(-1, 75)));
+		assertFalse(region.contains(new Point(100, 151)));
+	}
+
+	@Test
+	public void test_getShapes_canonical() {
+		// adjacent tiles are combined into a single internal rectangle
+		Rectangle[] tiles = new Rectangle[1000];
+		for (int i = 0; i < tiles.length; i++) {
+			tiles[i] = new Rectangle(i % 100 * 10, i / 100 * 10, 10, 10);
+		}
+		Region region = new Region(tiles);
+		assertEquals(1, region.getShapes().length);
+		assertEquals(new Rectangle(0, 0, 1000, 100), region.getShapes()[0]);
+
+		region = new Region();
+		for (Rectangle tile : tiles) {
+			region.add(tile);
+		}
+		assertEquals(1, region.getShapes().length);
+		assertEquals(new Rectangle(0, 0, 1000, 100), region.getBounds());
+	}
+
+	@Test
+	public void test_intersect() {
+		Region region = new Region(new Rectangle(0, 0, 100, 100),
+				new Rectangle(200, 0, 100, 100));
+		region.intersect(new Rectangle(50, 50, 200, 100));
+
+		assertEquals(new Region(new Rectangle(50, 50, 50, 50),
+				new Rectangle(200, 50, 50, 50)), region);
+
+		region.intersect(new Region(new Rectangle(500, 500, 10, 10)));
+		assertTrue(region.isEmpty());
+		assertEquals(0, region.getShapes().length);
+		assertEquals(null, region.getBounds());
+	}
+
+	@Test
+	public void test_subtract() {
+		Region region = new Region(new Rectangle(0, 0, 150, 150));
+		region.subtract(new Rectangle(50, 50, 50, 50));
+
+		assertEquals(new Region(new Rectangle(0, 0, 150, 50),
+				new Rectangle(0, 0, 50, 150), new Rectangle(0, 100, 150, 50),
+				new Rectangle(100, 0, 50, 150)), region);
+		assertEquals(4, region.getShapes().length);
+		assertTrue(region.contains(new Rectangle(0, 0, 50, 150)));
+		assertFalse(region.contains(new Rectangle(25, 25, 50, 50)));
+
+		region.subtract(new Region(new Rectangle(-10, -10, 200, 200)));
+		assertTrue(region.isEmpty());
+	}
+
 	@Test
 	public void test_equals() {
 		Region r0 = new Region(new Rectangle(0, 0, 100, 100));
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.internal.utils.UniformGrid;
+import org.junit.Test;
+
+public class UniformGridTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_invalidCellSize() {
+		new UniformGrid<String>(0);
+	}
+
+	@Test
+	public void test_largeElements() {
+		UniformGrid<String> grid = new UniformGrid<>(10);
+		grid.put("large", new double[] { -1000, -1000, 1000, 1000 });
+		grid.put("small", new double[] { 5, 5, 6, 6 });
+		// large elements are always candidates
+		assertTrue(grid.getCandidates(500, 500, 501, 501).contains("large"));
+		assertEquals(Collections.singletonList("large"),
+				grid.query(500, 500, 501, 501));
+		assertEquals(Arrays.asList("large", "small"), grid.query(0, 0, 9, 9));
+		assertTrue(grid.remove("large"));
+		assertEquals(Collections.emptyList(), grid.query(500, 500, 501, 501));
+	}
+
+	@Test
+	public void test_put_move_remove() {
+		UniformGrid<String> grid = new UniformGrid<>(10);
+		grid.put("a", new double[] { 0, 0, 5, 5 });
+		grid.put("b", new double[] { 20, 20, 25, 25 });
+		assertEquals(2, grid.size());
+		assertArrayEquals(new double[] { 0, 0, 5, 5 }, grid.get("a"), 0);
+		assertEquals(Collections.singletonList("a"), grid.query(-1, -1, 1, 1));
+
+		// move "a" next to "b"
+		grid.put("a", new double[] { 30, 30, 35, 35 });
+		assertEquals(2, grid.size());
+		assertEquals(Collections.emptyList(), grid.query(-1, -1, 1, 1));
+		assertEquals(new HashSet<>(Arrays.asList("a", "b")),
+				new HashSet<>(grid.query(20, 20, 40, 40)));
+		// touching bounds are contained
+		assertEquals(Collections.singletonList("b"),
+				grid.query(25, 25, 29, 29));
+
+		assertTrue(grid.remove("b"));
+		assertFalse(grid.remove("b"));
+		assertNull(grid.get("b"));
+		assertEquals(Collections.singletonList("a"),
+				grid.query(20, 20, 40, 40));
+
+		grid.clear();
+		assertEquals(0, grid.size());
+		assertEquals(Collections.emptyList(), grid.query(-1e9, -1e9, 1e9, 1e9));
+	}
+
+	@Test
+	public void test_query_random() {
+		// compare against brute force
+		Random random = new Random(7);
+		UniformGrid<Integer> grid = new UniformGrid<>(16);
+		double[][] bounds = new double[200][];
+		for (int i = 0; i < bounds.length; i++) {
+			double x = random.nextDouble() * 1000 - 500;
+			double y = random.nextDouble() * 1000 - 500;
+			bounds[i] = new double[] { x, y, x + random.nextDouble() * 100,
+					y + random.nextDouble() * 100 };
+			grid.put(i, bounds[i]);
+		}
+		for (int q = 0; q < 100; q++) {
+			double x = random.nextDouble() * 1200 - 600;
+			double y = random.nextDouble() * 1200 - 600;
+			double w = random.nextDouble() * 300;
+			double h = random.nextDouble() * 300;
+			List<Integer> result = grid.query(x, y, x + w, y + h);
+			for (int i = 0; i < bounds.length; i++) {
+				assertEquals(UniformGrid.intersects(bounds[i], x, y, x + w,
+						y + h), result.contains(i));
+			}
+		}
+	}
+
+}
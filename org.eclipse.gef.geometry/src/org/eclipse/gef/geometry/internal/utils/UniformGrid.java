@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.internal.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link UniformGrid} maps elements to their (axis-aligned) bounds and
+ * registers each element at the grid cells that are overlapped by its bounds,
+ * so that the elements within a certain area can be determined without
+ * iterating all elements. Elements that span many cells are kept in a separate
+ * set, which is part of every query result.
+ * <p>
+ * Bounds are represented as <code>double[]</code> of the form
+ * <code>{ minX, minY, maxX, maxY }</code>. The coordinate system is defined by
+ * the client.
+ *
+ * @param <T>
+ *            The type of the elements.
+ *
+ * @author agent
+ *
+ */
+public class UniformGrid<T> {
+
+	/**
+	 * The maximum number of cells at which an element is registered. Elements
+	 * spanning more cells are kept in a separate set.
+	 */
+	public static final int MAX_CELLS_PER_ELEMENT = 64;
+
+	private final double cellSize;
+	// elements and their bounds (minX, minY, maxX, maxY)
+	private final Map<T, double[]> bounds = new LinkedHashMap<>();
+	private final Map<Long, List<T>> cells = new HashMap<>();
+	private final Set<T> largeElements = new LinkedHashSet<>();
+
+	/**
+	 * Constructs a new {@link UniformGrid} that uses the given cell size.
+	 *
+	 * @param cellSize
+	 *            The size of the grid cells, which has to be positive.
+	 */
+	public UniformGrid(double cellSize) {
+		if (!(cellSize > 0)) {
+			throw new IllegalArgumentException(
+					"The cell size has to be positive, but is " + cellSize
+							+ ".");
+		}
+		this.cellSize = cellSize;
+	}
+
+	private static long cellKey(int cx, int cy) {
+		return ((long) cx << 32) ^ (cy & 0xffffffffL);
+	}
+
+	/**
+	 * Tests if the given bounds overlap or touch the given area.
+	 *
+	 * @param b
+	 *            The bounds to test.
+	 * @param minX
+	 *            The minimum x coordinate of the area.
+	 * @param minY
+	 *            The minimum y coordinate of the area.
+	 * @param maxX
+	 *            The maximum x coordinate of the area.
+	 * @param maxY
+	 *            The maximum y coordinate of the area.
+	 * @return <code>true</code> if the given bounds overlap or touch the given
+	 *         area, otherwise <code>false</code>.
+	 */
+	public static boolean intersects(double[] b, double minX, double minY,
+			double maxX, double maxY) {
+		return b[0] <= maxX && b[2] >= minX && b[1] <= maxY && b[3] >= minY;
+	}
+
+	/**
+	 * Removes all elements from this {@link UniformGrid}.
+	 */
+	public void clear() {
+		bounds.clear();
+		cells.clear();
+		largeElements.clear();
+	}
+
+	/**
+	 * Returns the bounds of the given element, or <code>null</code> if the
+	 * given element is not contained in this {@link UniformGrid}. The returned
+	 * array may not be modified.
+	 *
+	 * @param element
+	 *            The element for which to return the bounds.
+	 * @return The bounds of the given element, or <code>null</code>.
+	 */
+	public double[] get(T element) {
+		return bounds.get(element);
+	}
+
+	/**
+	 * Returns all elements that are registered at the cells overlapped by the
+	 * given area, as well as all elements that span too many cells (see
+	 * {@link #MAX_CELLS_PER_ELEMENT}). The result is a superset of the
+	 * elements whose bounds overlap or touch the given area (see
+	 * {@link #query(double, double, double, double)}), which can be used in
+	 * case the client needs to apply a different criterion.
+	 *
+	 * @param minX
+	 *            The minimum x coordinate of the area.
+	 * @param minY
+	 *            The minimum y coordinate of the area.
+	 * @param maxX
+	 *            The maximum x coordinate of the area.
+	 * @param maxY
+	 *            The maximum y coordinate of the area.
+	 * @return A new {@link Set} containing the candidates for the given area.
+	 */
+	public Set<T> getCandidates(double minX, double minY, double maxX,
+			double maxY) {
+		Set<T> candidates = new LinkedHashSet<>(largeElements);
+		int cx0 = toCell(minX), cx1 = toCell(maxX);
+		int cy0 = toCell(minY), cy1 = toCell(maxY);
+		if ((long) (cx1 - cx0 + 1) * (cy1 - cy0 + 1) > cells.size()) {
+			// the area covers more cells than are occupied
+			for (List<T> cell : cells.values()) {
+				candidates.addAll(cell);
+			}
+			return candidates;
+		}
+		for (int cx = cx0; cx <= cx1; cx++) {
+			for (int cy = cy0; cy <= cy1; cy++) {
+				List<T> cell = cells.get(cellKey(cx, cy));
+				if (cell != null) {
+					candidates.addAll(cell);
+				}
+			}
+		}
+		return candidates;
+	}
+
+	/**
+	 * Returns the size of the grid cells.
+	 *
+	 * @return The size of the grid cells.
+	 */
+	public double getCellSize() {
+		return cellSize;
+	}
+
+	/**
+	 * Returns an unmodifiable {@link Set} containing all elements of this
+	 * {@link UniformGrid}.
+	 *
+	 * @return An unmodifiable {@link Set} containing all elements.
+	 */
+	public Set<T> getElements() {
+		return Collections.unmodifiableSet(bounds.keySet());
+	}
+
+	/**
+	 * Inserts the given element with the given bounds into this
+	 * {@link UniformGrid}. In case the element was contained before, it is
+	 * re-inserted with the new bounds.
+	 *
+	 * @param element
+	 *            The element to insert.
+	 * @param b
+	 *            The bounds of the element (minX, minY, maxX, maxY).
+	 */
+	public void put(T element, double[] b) {
+		remove(element);
+		bounds.put(element, b);
+		int cx0 = toCell(b[0]), cx1 = toCell(b[2]);
+		int cy0 = toCell(b[1]), cy1 = toCell(b[3]);
+		if ((long) (cx1 - cx0 + 1)
+				* (cy1 - cy0 + 1) > MAX_CELLS_PER_ELEMENT) {
+			largeElements.add(element);
+			return;
+		}
+		for (int cx = cx0; cx <= cx1; cx++) {
+			for (int cy = cy0; cy <= cy1; cy++) {
+				long key = cellKey(cx, cy);
+				List<T> cell = cells.get(key);
+				if (cell == null) {
+					cell = new ArrayList<>(4);
+					cells.put(key, cell);
+				}
+				cell.add(element);
+			}
+		}
+	}
+
+	/**
+	 * Returns all elements whose bounds overlap or touch the given area.
+	 *
+	 * @param minX
+	 *            The minimum x coordinate of the area.
+	 * @param minY
+	 *            The minimum y coordinate of the area.
+	 * @param maxX
+	 *            The maximum x coordinate of the area.
+	 * @param maxY
+	 *            The maximum y coordinate of the area.
+	 * @return A new {@link List} containing the elements within the given
+	 *         area.
+	 */
+	public List<T> query(double minX, double minY, double maxX, double maxY) {
+		List<T> result = new ArrayList<>();
+		for (T candidate : getCandidates(minX, minY, maxX, maxY)) {
+			if (intersects(bounds.get(candidate), minX, minY, maxX, maxY)) {
+				result.add(candidate);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the given element from this {@link UniformGrid}.
+	 *
+	 * @param element
+	 *            The element to remove.
+	 * @return <code>true</code> if the element was contained, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean remove(T element) {
+		double[] b = bounds.remove(element);
+		if (b == null) {
+			return false;
+		}
+		if (largeElements.remove(element)) {
+			return true;
+		}
+		int cx0 = toCell(b[0]), cx1 = toCell(b[2]);
+		int cy0 = toCell(b[1]), cy1 = toCell(b[3]);
+		for (int cx = cx0; cx <= cx1; cx++) {
+			for (int cy = cy0; cy <= cy1; cy++) {
+				long key = cellKey(cx, cy);
+				List<T> cell = cells.get(key);
+				if (cell != null) {
+					cell.remove(element);
+					if (cell.isEmpty()) {
+						cells.remove(key);
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of elements contained in this {@link UniformGrid}.
+	 *
+	 * @return The number of elements.
+	 */
+	public int size() {
+		return bounds.size();
+	}
+
+	private int toCell(double coordinate) {
+		return (int) Math.max(Integer.MIN_VALUE,
+				Math.min(Integer.MAX_VALUE, Math.floor(coordinate / cellSize)));
+	}
+
+}
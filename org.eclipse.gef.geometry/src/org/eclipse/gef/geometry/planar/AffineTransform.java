@@ -26,7 +26,14 @@ import org.eclipse.gef.geometry.euclidean.Vector;
  * 2-dimensional affine transformations.
  * </p>
  * <p>
- * It delegates to the {@link java.awt.geom.AffineTransform} functionality.
+ * The transformation matrix is stored in six <code>double</code> fields, so
+ * that composition and transformation do not allocate any intermediate
+ * objects. Coordinates that are stored in <code>double</code> arrays can be
+ * transformed in bulk (see
+ * {@link #transform(double[], int, double[], int, int)}). The semantics
+ * conform to {@link java.awt.geom.AffineTransform}, which can be obtained via
+ * {@link Geometry2AWT#toAWTAffineTransform(AffineTransform)} and
+ * {@link AWT2Geometry#toAffineTransform(java.awt.geom.AffineTransform)}.
  * </p>
  *
  * @author anyssen
@@ -35,10 +42,34 @@ import org.eclipse.gef.geometry.euclidean.Vector;
  */
 public class AffineTransform implements Cloneable {
 
-	// TODO: implement affine transform locally to get rid of dependency on
-	// awt.geom.
+	// transformation types (see java.awt.geom.AffineTransform#getType())
+	private static final int TYPE_UNKNOWN = -1;
+	private static final int TYPE_IDENTITY = 0;
+	private static final int TYPE_TRANSLATION = 1;
+	private static final int TYPE_UNIFORM_SCALE = 2;
+	private static final int TYPE_GENERAL_SCALE = 4;
+	private static final int TYPE_QUADRANT_ROTATION = 8;
+	private static final int TYPE_GENERAL_ROTATION = 16;
+	private static final int TYPE_GENERAL_TRANSFORM = 32;
+	private static final int TYPE_FLIP = 64;
 
-	private java.awt.geom.AffineTransform delegate = new java.awt.geom.AffineTransform();
+	private static double round(double matrixValue) {
+		return Math.rint(matrixValue * 1E15) / 1E15;
+	}
+
+	private double m00 = 1;
+	private double m10 = 0;
+	private double m01 = 0;
+	private double m11 = 1;
+	private double m02 = 0;
+	private double m12 = 0;
+
+	// The transformation type is recorded by those operations that know the
+	// type of the result (e.g. setToRotation()), and computed from the matrix
+	// values otherwise (TYPE_UNKNOWN). This conforms to
+	// java.awt.geom.AffineTransform, which reports e.g. a pure rotation even
+	// if the determinant of the rotation matrix is not exactly 1.
+	private int type = TYPE_IDENTITY;
 
 	/**
 	 * Creates a new {@link AffineTransform} with its transformation matrix set
@@ -73,8 +104,7 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform(double m00, double m10, double m01, double m11,
 			double m02, double m12) {
-		delegate = new java.awt.geom.AffineTransform(m00, m10, m01, m11, m02,
-				m12);
+		setTransform(m00, m10, m01, m11, m02, m12);
 	}
 
 	/**
@@ -90,16 +120,20 @@ public class AffineTransform implements Cloneable {
 	 *      double, double)
 	 */
 	public AffineTransform(double[] flatmatrix) {
-		delegate = new java.awt.geom.AffineTransform(flatmatrix);
-	}
-
-	private AffineTransform(java.awt.geom.AffineTransform delegate) {
-		this.delegate = delegate;
+		m00 = flatmatrix[0];
+		m10 = flatmatrix[1];
+		m01 = flatmatrix[2];
+		m11 = flatmatrix[3];
+		if (flatmatrix.length > 5) {
+			m02 = flatmatrix[4];
+			m12 = flatmatrix[5];
+		}
+		type = TYPE_UNKNOWN;
 	}
 
 	@Override
 	public Object clone() {
-		return delegate.clone();
+		return getCopy();
 	}
 
 	/**
@@ -114,8 +148,21 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform concatenate(AffineTransform Tx) {
-		delegate.concatenate(Tx.delegate);
-		return this;
+		if (Tx.isIdentity()) {
+			return this;
+		} else if (isIdentity()) {
+			return setTransform(Tx);
+		} else if (Tx.m01 == 0 && Tx.m10 == 0) {
+			if (Tx.m00 == 1 && Tx.m11 == 1) {
+				return translate(Tx.m02, Tx.m12);
+			} else if (Tx.m02 == 0 && Tx.m12 == 0) {
+				return scale(Tx.m00, Tx.m11);
+			}
+		}
+		return setTransform(m00 * Tx.m00 + m01 * Tx.m10,
+				m10 * Tx.m00 + m11 * Tx.m10, m00 * Tx.m01 + m01 * Tx.m11,
+				m10 * Tx.m01 + m11 * Tx.m11, m00 * Tx.m02 + m01 * Tx.m12 + m02,
+				m10 * Tx.m02 + m11 * Tx.m12 + m12);
 	}
 
 	/**
@@ -140,7 +187,8 @@ public class AffineTransform implements Cloneable {
 	 */
 	public void deltaTransform(double[] srcPts, int srcOff, double[] dstPts,
 			int dstOff, int numPts) {
-		delegate.deltaTransform(srcPts, srcOff, dstPts, dstOff, numPts);
+		transform(srcPts, srcOff, dstPts, dstOff, numPts, m00, m10, m01, m11,
+				0, 0);
 	}
 
 	/**
@@ -153,14 +201,15 @@ public class AffineTransform implements Cloneable {
 	 * @return a new, transformed {@link Point}
 	 */
 	public Point deltaTransform(Point pt) {
-		return AWT2Geometry.toPoint(
-				delegate.deltaTransform(Geometry2AWT.toAWTPoint(pt), null));
+		return new Point(m00 * pt.x + m01 * pt.y, m10 * pt.x + m11 * pt.y);
 	}
 
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof AffineTransform) {
-			return delegate.equals(((AffineTransform) obj).delegate);
+			AffineTransform o = (AffineTransform) obj;
+			return m00 == o.m00 && m01 == o.m01 && m02 == o.m02
+					&& m10 == o.m10 && m11 == o.m11 && m12 == o.m12;
 		}
 		return false;
 	}
@@ -171,7 +220,10 @@ public class AffineTransform implements Cloneable {
 	 * @return a copy of this {@link AffineTransform}
 	 */
 	public AffineTransform getCopy() {
-		return new AffineTransform(getMatrix());
+		AffineTransform copy = new AffineTransform(m00, m10, m01, m11, m02,
+				m12);
+		copy.type = type;
+		return copy;
 	}
 
 	/**
@@ -182,7 +234,16 @@ public class AffineTransform implements Cloneable {
 	 *         {@link AffineTransform}
 	 */
 	public double getDeterminant() {
-		return delegate.getDeterminant();
+		return m00 * m11 - m01 * m10;
+	}
+
+	private double getNonSingularDeterminant()
+			throws NoninvertibleTransformException {
+		double det = m00 * m11 - m01 * m10;
+		if (Math.abs(det) <= Double.MIN_VALUE) {
+			throw new NoninvertibleTransformException("Determinant is " + det);
+		}
+		return det;
 	}
 
 	/**
@@ -194,7 +255,9 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform getInverse() {
 		try {
-			return new AffineTransform(delegate.createInverse());
+			AffineTransform inverse = getCopy().invert();
+			inverse.type = TYPE_UNKNOWN;
+			return inverse;
 		} catch (NoninvertibleTransformException e) {
 			throw new IllegalArgumentException(e);
 		}
@@ -206,7 +269,7 @@ public class AffineTransform implements Cloneable {
 	 * @return The matrix component in the first row and first column.
 	 */
 	public double getM00() {
-		return delegate.getScaleX();
+		return m00;
 	}
 
 	/**
@@ -215,7 +278,7 @@ public class AffineTransform implements Cloneable {
 	 * @return The matrix component in the first row and second column.
 	 */
 	public double getM01() {
-		return delegate.getShearX();
+		return m01;
 	}
 
 	/**
@@ -224,7 +287,7 @@ public class AffineTransform implements Cloneable {
 	 * @return The matrix component in the second row and first column.
 	 */
 	public double getM10() {
-		return delegate.getShearY();
+		return m10;
 	}
 
 	/**
@@ -233,7 +296,7 @@ public class AffineTransform implements Cloneable {
 	 * @return The matrix component in the second row and second column.
 	 */
 	public double getM11() {
-		return delegate.getScaleY();
+		return m11;
 	}
 
 	/**
@@ -244,9 +307,7 @@ public class AffineTransform implements Cloneable {
 	 *         {@link AffineTransform}
 	 */
 	public double[] getMatrix() {
-		double[] flatmatrix = new double[6];
-		delegate.getMatrix(flatmatrix);
-		return flatmatrix;
+		return new double[] { m00, m10, m01, m11, m02, m12 };
 	}
 
 	/**
@@ -291,8 +352,8 @@ public class AffineTransform implements Cloneable {
 	 * @return a new, transformed {@link Point}
 	 */
 	public Point getTransformed(Point ptSrc) {
-		return AWT2Geometry.toPoint(
-				delegate.transform(Geometry2AWT.toAWTPoint(ptSrc), null));
+		return new Point(m00 * ptSrc.x + m01 * ptSrc.y + m02,
+				m10 * ptSrc.x + m11 * ptSrc.y + m12);
 	}
 
 	/**
@@ -323,7 +384,7 @@ public class AffineTransform implements Cloneable {
 	 *         transformation matrix
 	 */
 	public double getTranslateX() {
-		return delegate.getTranslateX();
+		return m02;
 	}
 
 	/**
@@ -334,7 +395,7 @@ public class AffineTransform implements Cloneable {
 	 *         transformation matrix
 	 */
 	public double getTranslateY() {
-		return delegate.getTranslateY();
+		return m12;
 	}
 
 	/**
@@ -347,12 +408,83 @@ public class AffineTransform implements Cloneable {
 	 *         {@link AffineTransform}
 	 */
 	public int getType() {
-		return delegate.getType();
+		if (type == TYPE_UNKNOWN) {
+			type = calculateType();
+		}
+		return type;
+	}
+
+	private int calculateType() {
+		int result = m02 != 0 || m12 != 0 ? TYPE_TRANSLATION : TYPE_IDENTITY;
+		if (m01 == 0 && m10 == 0) {
+			// (flipped) scaling or 180deg rotation
+			boolean sgn0 = m00 >= 0;
+			boolean sgn1 = m11 >= 0;
+			if (m00 == 1 && m11 == 1) {
+				return result;
+			} else if (sgn0 == sgn1) {
+				if (sgn0) {
+					return result | (m00 == m11 ? TYPE_UNIFORM_SCALE
+							: TYPE_GENERAL_SCALE);
+				} else if (m00 != m11) {
+					return result | TYPE_QUADRANT_ROTATION | TYPE_GENERAL_SCALE;
+				} else if (m00 != -1) {
+					return result | TYPE_QUADRANT_ROTATION | TYPE_UNIFORM_SCALE;
+				}
+				return result | TYPE_QUADRANT_ROTATION;
+			} else if (m00 == -m11) {
+				return result | (m00 == 1 || m00 == -1 ? TYPE_FLIP
+						: TYPE_FLIP | TYPE_UNIFORM_SCALE);
+			}
+			return result | TYPE_FLIP | TYPE_GENERAL_SCALE;
+		} else if (m00 == 0 && m11 == 0) {
+			// (flipped) 90deg rotation
+			boolean sgn0 = m01 >= 0;
+			boolean sgn1 = m10 >= 0;
+			if (sgn0 != sgn1) {
+				if (m01 != -m10) {
+					return result | TYPE_QUADRANT_ROTATION | TYPE_GENERAL_SCALE;
+				} else if (m01 != 1 && m01 != -1) {
+					return result | TYPE_QUADRANT_ROTATION | TYPE_UNIFORM_SCALE;
+				}
+				return result | TYPE_QUADRANT_ROTATION;
+			} else if (m01 == m10) {
+				return result | TYPE_QUADRANT_ROTATION | TYPE_FLIP
+						| TYPE_UNIFORM_SCALE;
+			}
+			return result | TYPE_QUADRANT_ROTATION | TYPE_FLIP
+					| TYPE_GENERAL_SCALE;
+		}
+		if (m00 * m01 + m10 * m11 != 0) {
+			// the transformed unit vectors are not perpendicular
+			return TYPE_GENERAL_TRANSFORM;
+		}
+		result |= TYPE_GENERAL_ROTATION;
+		if (m00 >= 0 == m11 >= 0) {
+			if (m00 != m11 || m01 != -m10) {
+				return result | TYPE_GENERAL_SCALE;
+			} else if (m00 * m11 - m01 * m10 != 1) {
+				return result | TYPE_UNIFORM_SCALE;
+			}
+			return result;
+		}
+		if (m00 != -m11 || m01 != m10) {
+			return result | TYPE_FLIP | TYPE_GENERAL_SCALE;
+		} else if (m00 * m11 - m01 * m10 != 1) {
+			return result | TYPE_FLIP | TYPE_UNIFORM_SCALE;
+		}
+		return result | TYPE_FLIP;
 	}
 
 	@Override
 	public int hashCode() {
-		return delegate.hashCode();
+		long bits = Double.doubleToLongBits(m00);
+		bits = bits * 31 + Double.doubleToLongBits(m01);
+		bits = bits * 31 + Double.doubleToLongBits(m02);
+		bits = bits * 31 + Double.doubleToLongBits(m10);
+		bits = bits * 31 + Double.doubleToLongBits(m11);
+		bits = bits * 31 + Double.doubleToLongBits(m12);
+		return ((int) bits) ^ ((int) (bits >> 32));
 	}
 
 	/**
@@ -378,7 +510,10 @@ public class AffineTransform implements Cloneable {
 	 */
 	public void inverseTransform(double[] srcPts, int srcOff, double[] dstPts,
 			int dstOff, int numPts) throws NoninvertibleTransformException {
-		delegate.inverseTransform(srcPts, srcOff, dstPts, dstOff, numPts);
+		double det = getNonSingularDeterminant();
+		transform(srcPts, srcOff, dstPts, dstOff, numPts, m11 / det,
+				-m10 / det, -m01 / det, m00 / det,
+				(m01 * m12 - m11 * m02) / det, (m10 * m02 - m00 * m12) / det);
 	}
 
 	/**
@@ -393,8 +528,10 @@ public class AffineTransform implements Cloneable {
 	 */
 	public Point inverseTransform(Point pt)
 			throws NoninvertibleTransformException {
-		return AWT2Geometry.toPoint(
-				delegate.inverseTransform(Geometry2AWT.toAWTPoint(pt), null));
+		double det = getNonSingularDeterminant();
+		double x = pt.x - m02;
+		double y = pt.y - m12;
+		return new Point((x * m11 - y * m01) / det, (y * m00 - x * m10) / det);
 	}
 
 	/**
@@ -405,7 +542,29 @@ public class AffineTransform implements Cloneable {
 	 *             when this {@link AffineTransform} is not invertible.
 	 */
 	public AffineTransform invert() throws NoninvertibleTransformException {
-		delegate.invert();
+		// the inverse is of the same type
+		int type = this.type;
+		if (m01 == 0 && m10 == 0) {
+			// scaling and/or translation
+			if (m00 == 0 || m11 == 0) {
+				throw new NoninvertibleTransformException("Determinant is 0");
+			}
+			setTransform(1 / m00, 0, 0, 1 / m11, m02 == 0 ? 0 : -m02 / m00,
+					m12 == 0 ? 0 : -m12 / m11);
+		} else if (m00 == 0 && m11 == 0) {
+			// shearing (quadrant rotation) and/or translation
+			if (m01 == 0 || m10 == 0) {
+				throw new NoninvertibleTransformException("Determinant is 0");
+			}
+			setTransform(0, 1 / m01, 1 / m10, 0, m12 == 0 ? 0 : -m12 / m10,
+					m02 == 0 ? 0 : -m02 / m01);
+		} else {
+			double det = getNonSingularDeterminant();
+			setTransform(m11 / det, -m10 / det, -m01 / det, m00 / det,
+					(m01 * m12 - m11 * m02) / det,
+					(m10 * m02 - m00 * m12) / det);
+		}
+		this.type = type;
 		return this;
 	}
 
@@ -418,7 +577,8 @@ public class AffineTransform implements Cloneable {
 	 *         <code>false</code>
 	 */
 	public boolean isIdentity() {
-		return delegate.isIdentity();
+		return m00 == 1 && m10 == 0 && m01 == 0 && m11 == 1 && m02 == 0
+				&& m12 == 0;
 	}
 
 	/**
@@ -433,8 +593,20 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform preConcatenate(AffineTransform Tx) {
-		delegate.preConcatenate(Tx.delegate);
-		return this;
+		if (Tx.isIdentity()) {
+			return this;
+		} else if (Tx.m00 == 1 && Tx.m10 == 0 && Tx.m01 == 0 && Tx.m11 == 1) {
+			boolean translated = m02 != 0 || m12 != 0;
+			m02 += Tx.m02;
+			m12 += Tx.m12;
+			updateTranslationType(translated);
+			return this;
+		}
+		return setTransform(Tx.m00 * m00 + Tx.m01 * m10,
+				Tx.m10 * m00 + Tx.m11 * m10, Tx.m00 * m01 + Tx.m01 * m11,
+				Tx.m10 * m01 + Tx.m11 * m11,
+				Tx.m00 * m02 + Tx.m01 * m12 + Tx.m02,
+				Tx.m10 * m02 + Tx.m11 * m12 + Tx.m12);
 	}
 
 	/**
@@ -447,8 +619,17 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform quadrantRotate(int numquadrants) {
-		delegate.quadrantRotate(numquadrants);
-		return this;
+		switch (numquadrants & 3) {
+		case 1:
+			// multiply with [[0, -1], [1, 0]]
+			return setTransform(m01, m11, -m00, -m10, m02, m12);
+		case 2:
+			return setTransform(-m00, -m10, -m01, -m11, m02, m12);
+		case 3:
+			return setTransform(-m01, -m11, m00, m10, m02, m12);
+		default:
+			return this;
+		}
 	}
 
 	/**
@@ -466,8 +647,23 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform quadrantRotate(int numquadrants, double anchorx,
 			double anchory) {
-		delegate.quadrantRotate(numquadrants, anchorx, anchory);
-		return this;
+		switch (numquadrants & 3) {
+		case 1:
+			m02 += anchorx * (m00 - m01) + anchory * (m01 + m00);
+			m12 += anchorx * (m10 - m11) + anchory * (m11 + m10);
+			break;
+		case 2:
+			m02 += anchorx * (m00 + m00) + anchory * (m01 + m01);
+			m12 += anchorx * (m10 + m10) + anchory * (m11 + m11);
+			break;
+		case 3:
+			m02 += anchorx * (m00 + m01) + anchory * (m01 - m00);
+			m12 += anchorx * (m10 + m11) + anchory * (m11 - m10);
+			break;
+		default:
+			return this;
+		}
+		return quadrantRotate(numquadrants);
 	}
 
 	/**
@@ -479,8 +675,19 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform rotate(double theta) {
-		delegate.rotate(theta);
-		return this;
+		double sin = Math.sin(theta);
+		if (sin == 1) {
+			return quadrantRotate(1);
+		} else if (sin == -1) {
+			return quadrantRotate(3);
+		}
+		double cos = Math.cos(theta);
+		if (cos == -1) {
+			return quadrantRotate(2);
+		} else if (cos == 1) {
+			return this;
+		}
+		return rotateBy(sin, cos);
 	}
 
 	/**
@@ -497,8 +704,13 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform rotate(double vecx, double vecy) {
-		delegate.rotate(vecx, vecy);
-		return this;
+		if (vecy == 0) {
+			return vecx < 0 ? quadrantRotate(2) : this;
+		} else if (vecx == 0) {
+			return quadrantRotate(vecy > 0 ? 1 : 3);
+		}
+		double len = Math.sqrt(vecx * vecx + vecy * vecy);
+		return rotateBy(vecy / len, vecx / len);
 	}
 
 	/**
@@ -516,8 +728,8 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform rotate(double theta, double anchorx,
 			double anchory) {
-		delegate.rotate(theta, anchorx, anchory);
-		return this;
+		return translate(anchorx, anchory).rotate(theta).translate(-anchorx,
+				-anchory);
 	}
 
 	// TODO: Add the possibility to pass Angle objects instead of simple double
@@ -543,8 +755,18 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform rotate(double vecx, double vecy, double anchorx,
 			double anchory) {
-		delegate.rotate(vecx, vecy, anchorx, anchory);
-		return this;
+		return translate(anchorx, anchory).rotate(vecx, vecy)
+				.translate(-anchorx, -anchory);
+	}
+
+	/**
+	 * Multiplies the transformation matrix of this {@link AffineTransform}
+	 * from the right with the rotation matrix that is specified by the given
+	 * sine and cosine values.
+	 */
+	private AffineTransform rotateBy(double sin, double cos) {
+		return setTransform(m00 * cos + m01 * sin, m10 * cos + m11 * sin,
+				m01 * cos - m00 * sin, m11 * cos - m10 * sin, m02, m12);
 	}
 
 	/**
@@ -560,7 +782,14 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform scale(double sx, double sy) {
-		delegate.scale(sx, sy);
+		m00 *= sx;
+		m10 *= sx;
+		m01 *= sy;
+		m11 *= sy;
+		// the type of a shearing or rotating transformation is retained
+		if (m01 == 0 && m10 == 0) {
+			type = TYPE_UNKNOWN;
+		}
 		return this;
 	}
 
@@ -571,8 +800,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToIdentity() {
-		delegate.setToIdentity();
-		return this;
+		return setTransform(1, 0, 0, 1, 0, 0);
 	}
 
 	/**
@@ -584,8 +812,16 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToQuadrantRotation(int numquadrants) {
-		delegate.setToQuadrantRotation(numquadrants);
-		return this;
+		switch (numquadrants & 3) {
+		case 1:
+			return setTransform(0, 1, -1, 0, 0, 0);
+		case 2:
+			return setTransform(-1, 0, 0, -1, 0, 0);
+		case 3:
+			return setTransform(0, -1, 1, 0, 0, 0);
+		default:
+			return setToIdentity();
+		}
 	}
 
 	/**
@@ -604,8 +840,19 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform setToQuadrantRotation(int numquadrants,
 			double anchorx, double anchory) {
-		delegate.setToQuadrantRotation(numquadrants, anchorx, anchory);
-		return this;
+		switch (numquadrants & 3) {
+		case 1:
+			return setTransform(0, 1, -1, 0, anchorx + anchory,
+					anchory - anchorx);
+		case 2:
+			return setTransform(-1, 0, 0, -1, anchorx + anchorx,
+					anchory + anchory);
+		case 3:
+			return setTransform(0, -1, 1, 0, anchorx - anchory,
+					anchory + anchorx);
+		default:
+			return setToIdentity();
+		}
 	}
 
 	/**
@@ -617,7 +864,18 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToRotation(double theta) {
-		delegate.setToRotation(theta);
+		double sin = Math.sin(theta);
+		double cos = Math.cos(theta);
+		// snap to exact values for quadrant rotations
+		if (sin == 1 || sin == -1) {
+			cos = 0;
+		} else if (cos == 1 || cos == -1) {
+			sin = 0;
+		}
+		setTransform(cos, sin, -sin, cos, 0, 0);
+		if (sin != 0 && cos != 0) {
+			type = TYPE_GENERAL_ROTATION;
+		}
 		return this;
 	}
 
@@ -635,7 +893,17 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToRotation(double vecx, double vecy) {
-		delegate.setToRotation(vecx, vecy);
+		if (vecy == 0) {
+			return setTransform(vecx < 0 ? -1 : 1, 0, 0, vecx < 0 ? -1 : 1, 0,
+					0);
+		} else if (vecx == 0) {
+			return setToQuadrantRotation(vecy > 0 ? 1 : 3);
+		}
+		double len = Math.sqrt(vecx * vecx + vecy * vecy);
+		double sin = vecy / len;
+		double cos = vecx / len;
+		setTransform(cos, sin, -sin, cos, 0, 0);
+		type = TYPE_GENERAL_ROTATION;
 		return this;
 	}
 
@@ -655,7 +923,13 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform setToRotation(double theta, double anchorx,
 			double anchory) {
-		delegate.setToRotation(theta, anchorx, anchory);
+		setToRotation(theta);
+		double oneMinusCos = 1 - m00;
+		m02 = anchorx * oneMinusCos + anchory * m10;
+		m12 = anchory * oneMinusCos - anchorx * m10;
+		if (type != TYPE_UNKNOWN && (m02 != 0 || m12 != 0)) {
+			type |= TYPE_TRANSLATION;
+		}
 		return this;
 	}
 
@@ -680,7 +954,13 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform setToRotation(double vecx, double vecy,
 			double anchorx, double anchory) {
-		delegate.setToRotation(vecx, vecy, anchorx, anchory);
+		setToRotation(vecx, vecy);
+		double oneMinusCos = 1 - m00;
+		m02 = anchorx * oneMinusCos + anchory * m10;
+		m12 = anchory * oneMinusCos - anchorx * m10;
+		if (type != TYPE_UNKNOWN && (m02 != 0 || m12 != 0)) {
+			type |= TYPE_TRANSLATION;
+		}
 		return this;
 	}
 
@@ -695,8 +975,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToScale(double sx, double sy) {
-		delegate.setToScale(sx, sy);
-		return this;
+		return setTransform(sx, 0, 0, sy, 0, 0);
 	}
 
 	/**
@@ -710,8 +989,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToShear(double shx, double shy) {
-		delegate.setToShear(shx, shy);
-		return this;
+		return setTransform(1, shy, shx, 1, 0, 0);
 	}
 
 	/**
@@ -726,8 +1004,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToTranslation(double tx, double ty) {
-		delegate.setToTranslation(tx, ty);
-		return this;
+		return setTransform(1, 0, 0, 1, tx, ty);
 	}
 
 	/**
@@ -740,7 +1017,8 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setTransform(AffineTransform Tx) {
-		delegate.setTransform(Tx.delegate);
+		setTransform(Tx.m00, Tx.m10, Tx.m01, Tx.m11, Tx.m02, Tx.m12);
+		type = Tx.type;
 		return this;
 	}
 
@@ -771,7 +1049,13 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform setTransform(double m00, double m10, double m01,
 			double m11, double m02, double m12) {
-		delegate.setTransform(m00, m10, m01, m11, m02, m12);
+		this.m00 = m00;
+		this.m10 = m10;
+		this.m01 = m01;
+		this.m11 = m11;
+		this.m02 = m02;
+		this.m12 = m12;
+		type = TYPE_UNKNOWN;
 		return this;
 	}
 
@@ -788,13 +1072,74 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform shear(double shx, double shy) {
-		delegate.shear(shx, shy);
-		return this;
+		return setTransform(m00 + m01 * shy, m10 + m11 * shy, m00 * shx + m01,
+				m10 * shx + m11, m02, m12);
 	}
 
 	@Override
 	public String toString() {
-		return delegate.toString();
+		return "AffineTransform[[" + round(m00) + ", " + round(m01) + ", "
+				+ round(m02) + "], [" + round(m10) + ", " + round(m11) + ", "
+				+ round(m12) + "]]";
+	}
+
+	/**
+	 * Transforms the {@link Point}s that are specified by the given array of
+	 * alternating x and y coordinates with this {@link AffineTransform}. The
+	 * coordinates are replaced by the transformed ones, i.e. no {@link Point}s
+	 * or arrays are created.
+	 *
+	 * @param coordinates
+	 *            the array of alternating x and y coordinates specifying the
+	 *            {@link Point}s to transform in place
+	 */
+	public void transform(double[] coordinates) {
+		transform(coordinates, 0, coordinates, 0, coordinates.length / 2);
+	}
+
+	/**
+	 * Transforms an array of {@link Point}s specified by their coordinate
+	 * values with this {@link AffineTransform}. The source and destination
+	 * arrays may be the same array, even if the source and destination ranges
+	 * overlap.
+	 *
+	 * @param srcPts
+	 *            the array of x and y coordinates specifying the {@link Point}s
+	 *            that are transformed
+	 * @param srcOff
+	 *            the index of the <i>srcPts</i> array where the x coordinate of
+	 *            the first {@link Point} to transform is found
+	 * @param dstPts
+	 *            the destination array of x and y coordinates for the result of
+	 *            the transformation
+	 * @param dstOff
+	 *            the index of the <i>dstPts</i> array where the x coordinate of
+	 *            the first transformed {@link Point} is stored
+	 * @param numPts
+	 *            the number of {@link Point}s to transform
+	 */
+	public void transform(double[] srcPts, int srcOff, double[] dstPts,
+			int dstOff, int numPts) {
+		transform(srcPts, srcOff, dstPts, dstOff, numPts, m00, m10, m01, m11,
+				m02, m12);
+	}
+
+	private static void transform(double[] srcPts, int srcOff,
+			double[] dstPts, int dstOff, int numPts, double m00, double m10,
+			double m01, double m11, double m02, double m12) {
+		if (dstPts == srcPts && dstOff > srcOff
+				&& dstOff < srcOff + numPts * 2) {
+			// the destination range would overwrite source coordinates that
+			// are not yet transformed, therefore, move them out of the way
+			System.arraycopy(srcPts, srcOff, dstPts, dstOff, numPts * 2);
+			srcOff = dstOff;
+		}
+		for (int i = 0; i < 2 * numPts; i += 2) {
+			double x = srcPts[srcOff + i];
+			double y = srcPts[srcOff + i + 1];
+			dstPts[dstOff + i] = m00 * x + m01 * y + m02;
+			dstPts[dstOff + i + 1] = m10 * x + m11 * y + m12;
+		}
 	}
 
 	/**
@@ -808,8 +1153,23 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform translate(double tx, double ty) {
-		delegate.translate(tx, ty);
+		boolean translated = m02 != 0 || m12 != 0;
+		m02 += tx * m00 + ty * m01;
+		m12 += tx * m10 + ty * m11;
+		updateTranslationType(translated);
 		return this;
 	}
 
+	/**
+	 * Updates the recorded type after the translation components of the
+	 * transformation matrix were changed, i.e. the recorded type only changes
+	 * if the translation vanishes or arises.
+	 */
+	private void updateTranslationType(boolean translated) {
+		if (type != TYPE_UNKNOWN && translated != (m02 != 0 || m12 != 0)) {
+			type = translated ? type & ~TYPE_TRANSLATION
+					: type | TYPE_TRANSLATION;
+		}
+	}
+
 }
@@ -24,15 +24,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.function.BiFunction;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.euclidean.Straight;
 import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
-import org.eclipse.gef.geometry.projective.Straight3D;
-import org.eclipse.gef.geometry.projective.Vector3D;
 
 /**
  * <p>
@@ -49,6 +46,25 @@ public class BezierCurve extends AbstractGeometry
 		implements ICurve, ITranslatable<BezierCurve>, IScalable<BezierCurve>,
 		IRotatable<BezierCurve> {
 
+	/**
+	 * The {@link ClippingBuffers} bundle the scratch buffers that are re-used
+	 * by the Bezier clipping routines throughout a single intersection
+	 * computation, so that sub-curves do not need to be allocated.
+	 */
+	private static final class ClippingBuffers {
+
+		private final double[] p;
+		private final double[] q;
+		private final double[] interval = new double[4];
+
+		public ClippingBuffers(BezierCurve p, BezierCurve q) {
+			int length = Math.max(p.coordinates.length, q.coordinates.length);
+			this.p = new double[length];
+			this.q = new double[length];
+		}
+
+	}
+
 	private static class CuspAwareOffsetApproximator {
 
 		private static class Cusp extends PartialCurve {
@@ -654,60 +670,6 @@ public class BezierCurve extends AbstractGeometry
 		}
 	}
 
-	/**
-	 * <p>
-	 * A {@link FatLine} combines a {@link Straight3D} with a positive and
-	 * negative distance called dmax and dmin, respectively.
-	 * </p>
-	 * <p>
-	 * It is used to apply a geometric clipping algorithm for finding
-	 * {@link Point}s of intersection on two {@link BezierCurve}s. One of the
-	 * {@link BezierCurve}s is bounded by a {@link FatLine} so that the other
-	 * {@link BezierCurve} can be clipped against that {@link FatLine}.
-	 * </p>
-	 */
-	private static class FatLine {
-
-		public static FatLine from(BezierCurve c, boolean ortho) {
-			FatLine L = new FatLine();
-			L.dmin = L.dmax = 0;
-
-			L.line = Straight3D.through(c.points[0],
-					c.points[c.points.length - 1]);
-			if (L.line == null) {
-				return null;
-			}
-
-			if (ortho) {
-				L.line = L.line.getOrtho();
-			}
-			if (L.line == null) {
-				return null;
-			}
-
-			for (int i = 0; i < c.points.length; i++) {
-				double d = L.line.getSignedDistanceCW(c.points[i]);
-				if (d < L.dmin) {
-					L.dmin = d;
-				} else if (d > L.dmax) {
-					L.dmax = d;
-				}
-			}
-
-			return L;
-		}
-
-		public Straight3D line;
-
-		public double dmin, dmax;
-
-		private FatLine() {
-			line = null;
-			dmin = dmax = 0;
-		}
-
-	}
-
 	/**
 	 * An {@link Interval} records a lower and an upper limit that define the
 	 * mathematical interval [a;b] (inclusively). It is used to represent
@@ -927,14 +889,6 @@ public class BezierCurve extends AbstractGeometry
 			dst.qi = src.qi;
 		}
 
-		private static boolean equals(Vector3D v1, Vector3D v2,
-				int precisionShift) {
-			return PrecisionUtils.equal(v1.x / v1.z, v2.x / v2.z,
-					precisionShift)
-					&& PrecisionUtils.equal(v1.y / v1.z, v2.y / v2.z,
-							precisionShift);
-		}
-
 		/**
 		 * The first {@link BezierCurve}.
 		 */
@@ -1001,10 +955,8 @@ public class BezierCurve extends AbstractGeometry
 		 *         converge, otherwise <code>false</code>
 		 */
 		public boolean converges(int shift) {
-			return (pi.converges(shift)
-					|| equals(p.getHC(pi.a), p.getHC(pi.b), shift))
-					&& (qi.converges(shift)
-							|| equals(q.getHC(qi.a), q.getHC(qi.b), shift));
+			return (pi.converges(shift) || p.equalAt(pi.a, pi.b, shift))
+					&& (qi.converges(shift) || q.equalAt(qi.a, qi.b, shift));
 		}
 
 		/**
@@ -1015,7 +967,7 @@ public class BezierCurve extends AbstractGeometry
 		 *         point, otherwise <code>false</code>.
 		 */
 		public boolean convergesP() {
-			return equals(p.getHC(pi.a), p.getHC(pi.b), 0);
+			return p.equalAt(pi.a, pi.b, 0);
 		}
 
 		/**
@@ -1026,7 +978,7 @@ public class BezierCurve extends AbstractGeometry
 		 *         single point, otherwise <code>false</code>.
 		 */
 		public boolean convergesQ() {
-			return equals(q.getHC(qi.a), q.getHC(qi.b), 0);
+			return q.equalAt(qi.a, qi.b, 0);
 		}
 
 		/**
@@ -1069,6 +1021,19 @@ public class BezierCurve extends AbstractGeometry
 			return p.getClipped(Math.max(pi.a, 0), Math.min(pi.b, 1));
 		}
 
+		/**
+		 * Writes the packed control points of the first sub-curve of this
+		 * {@link IntervalPair} (see {@link #getPClipped()}) to the given
+		 * buffer.
+		 *
+		 * @param out
+		 *            the buffer to which the control points are written
+		 * @return the number of control points of the first sub-curve
+		 */
+		int getPClipped(double[] out) {
+			return p.clip(Math.max(pi.a, 0), Math.min(pi.b, 1), out);
+		}
+
 		/**
 		 * Splits the first parameter {@link Interval} <i>pi</i> at half and
 		 * returns the resulting {@link IntervalPair}s.
@@ -1100,6 +1065,19 @@ public class BezierCurve extends AbstractGeometry
 			return q.getClipped(Math.max(qi.a, 0), Math.min(qi.b, 1));
 		}
 
+		/**
+		 * Writes the packed control points of the second sub-curve of this
+		 * {@link IntervalPair} (see {@link #getQClipped()}) to the given
+		 * buffer.
+		 *
+		 * @param out
+		 *            the buffer to which the control points are written
+		 * @return the number of control points of the second sub-curve
+		 */
+		int getQClipped(double[] out) {
+			return q.clip(Math.max(qi.a, 0), Math.min(qi.b, 1), out);
+		}
+
 		/**
 		 * Splits the second parameter {@link Interval} <i>qi</i> at half and
 		 * returns the resulting {@link IntervalPair}s.
@@ -1611,61 +1589,9 @@ public class BezierCurve extends AbstractGeometry
 
 	private static final int CHUNK_SHIFT = -3;
 
-	private static final boolean ORTHOGONAL = true;
-
-	private static final boolean PARALLEL = false;
-
 	private static final double UNRECOGNIZABLE_PRECISION_FRACTION = PrecisionUtils
 			.calculateFraction(0) / 10;
 
-	/**
-	 * A criteria {@link BiFunction} to find the {@link Point} with the minimal
-	 * x coordinate in a list of {@link Point}s.
-	 *
-	 * @see #findExtreme(BiFunction)
-	 * @see #findExtreme(BiFunction, Interval)
-	 */
-	private static final BiFunction<Point, Point, Boolean> xminCriteria = (p,
-			q) -> {
-		return PrecisionUtils.smallerEqual(p.x, q.x);
-	};
-
-	/**
-	 * A criteria {@link BiFunction} to find the {@link Point} with the maximal
-	 * x coordinate in a list of {@link Point}s.
-	 *
-	 * @see #findExtreme(BiFunction)
-	 * @see #findExtreme(BiFunction, Interval)
-	 */
-	private static final BiFunction<Point, Point, Boolean> xmaxCriteria = (p,
-			q) -> {
-		return PrecisionUtils.greaterEqual(p.x, q.x);
-	};
-
-	/**
-	 * A criteria {@link BiFunction} to find the {@link Point} with the minimal
-	 * y coordinate in a list of {@link Point}s.
-	 *
-	 * @see #findExtreme(BiFunction)
-	 * @see #findExtreme(BiFunction, Interval)
-	 */
-	private static final BiFunction<Point, Point, Boolean> yminCriteria = (p,
-			q) -> {
-		return PrecisionUtils.smallerEqual(p.y, q.y);
-	};
-
-	/**
-	 * A criteria {@link BiFunction} to find the {@link Point} with the maximal
-	 * y coordinate in a list of {@link Point}s.
-	 *
-	 * @see #findExtreme(BiFunction)
-	 * @see #findExtreme(BiFunction, Interval)
-	 */
-	private static final BiFunction<Point, Point, Boolean> ymaxCriteria = (p,
-			q) -> {
-		return PrecisionUtils.greaterEqual(p.y, q.y);
-	};
-
 	/**
 	 * <p>
 	 * Clusters consecutive {@link IntervalPair}s into a new array of
@@ -1757,36 +1683,9 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	private static boolean containmentParameter(BezierCurve c,
 			double[] interval, Point p) {
-		Stack<Interval> parts = new Stack<>();
-		parts.push(new Interval(interval));
-		while (!parts.empty()) {
-			Interval i = parts.pop();
-
-			if (i.converges(1)) {
-				interval[0] = i.a;
-				interval[1] = i.b;
-				break;
-			}
-
-			double iMid = i.getMid();
-			Interval left = new Interval(i.a, iMid);
-			Interval right = new Interval(iMid, i.b);
-
-			BezierCurve clipped = c.getClipped(left.a, left.b);
-			Rectangle bounds = clipped.getControlBounds();
-
-			if (bounds.contains(p)) {
-				parts.push(left);
-			}
-
-			clipped = c.getClipped(right.a, right.b);
-			bounds = clipped.getControlBounds();
-
-			if (bounds.contains(p)) {
-				parts.push(right);
-			}
-		}
-		return PrecisionUtils.equal(interval[0], interval[1], 1);
+		return BezierCurveCore.findParameter(c.coordinates,
+				c.coordinates.length / 2, p.x, p.y, interval,
+				new double[c.coordinates.length], new double[64]);
 	}
 
 	/**
@@ -1807,20 +1706,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Line}
 	 */
 	private static double distanceToBaseLine(BezierCurve c) {
-		Straight3D baseLine = Straight3D.through(c.points[0],
-				c.points[c.points.length - 1]);
-
-		if (baseLine == null) {
-			return 0d;
-		}
-
-		double maxDistance = 0d;
-		for (int i = 1; i < c.points.length - 1; i++) {
-			maxDistance = Math.max(maxDistance,
-					Math.abs(baseLine.getSignedDistanceCW(c.points[i])));
-		}
-
-		return maxDistance;
+		return BezierCurveCore.distanceToBaseLine(c.coordinates,
+				c.coordinates.length / 2);
 	}
 
 	/**
@@ -1915,7 +1802,7 @@ public class BezierCurve extends AbstractGeometry
 		final double CHUNK_SHIFT_EPSILON = PrecisionUtils
 				.calculateFraction(CHUNK_SHIFT);
 
-		Point poi = ip.p.points[0].toPoint();
+		Point poi = ip.p.getP1();
 		double[] interval = new double[] { 0, 1 };
 		if (containmentParameter(ip.q, interval, poi)) {
 			ip.pi.a = CHUNK_SHIFT_EPSILON;
@@ -1927,7 +1814,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.p.points[ip.p.points.length - 1].toPoint();
+		poi = ip.p.getP2();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.q, interval, poi)) {
@@ -1940,7 +1827,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.q.points[0].toPoint();
+		poi = ip.q.getP1();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.p, interval, poi)) {
@@ -1953,7 +1840,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.q.points[ip.q.points.length - 1].toPoint();
+		poi = ip.q.getP2();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.p, interval, poi)) {
@@ -1987,41 +1874,34 @@ public class BezierCurve extends AbstractGeometry
 	 *            the set of intersection {@link Point}s to store those in case
 	 *            of a degenerated {@link BezierCurve} (or a degenerated
 	 *            sub-curve)
+	 * @param buffers
+	 *            the scratch buffers to use for clipping
 	 */
 	private static void findIntersectionChunks(IntervalPair ip,
-			Set<IntervalPair> intervalPairs, Set<Point> intersections) {
+			Set<IntervalPair> intervalPairs, Set<Point> intersections,
+			ClippingBuffers buffers) {
 		if (ip.converges(CHUNK_SHIFT)) {
 			intervalPairs.add(ip.getCopy());
 			return;
 		}
 
-		BezierCurve pClipped = ip.getPClipped();
-		BezierCurve qClipped = ip.getQClipped();
+		int pn = ip.getPClipped(buffers.p);
+		int qn = ip.getQClipped(buffers.q);
 
-		// construct "parallel" and "orthogonal" fat lines
-		FatLine L1 = FatLine.from(qClipped, PARALLEL);
-		FatLine L2 = FatLine.from(qClipped, ORTHOGONAL);
-
-		// curve implosion check
-		if (L1 == null || L2 == null) {
+		// clip to the "parallel" and "orthogonal" fat lines
+		if (!BezierCurveCore.clipToFatLines(buffers.p, pn, buffers.q, qn,
+				buffers.interval)) {
 			// q is degenerated
-			Point poi = ip.q.getHC(ip.qi.getMid()).toPoint();
+			Point poi = ip.q.get(ip.qi.getMid());
 			double[] interval = new double[] { 0, 1 };
-			if (poi != null && containmentParameter(ip.p, interval, poi)) {
+			if (containmentParameter(ip.p, interval, poi)) {
 				intersections.add(poi);
 			}
 			return;
 		}
 
-		// clip to the fat lines
-		Interval interval = new Interval(pClipped.clipTo(L1));
-		Interval intervalOrtho = new Interval(pClipped.clipTo(L2));
-
-		// pick smaller interval range
-		interval = Interval.min(interval, intervalOrtho);
-
 		// re-calculate s and e from the clipped interval
-		double ratio = ip.pi.scaleTo(interval);
+		double ratio = ip.pi.scaleTo(new Interval(buffers.interval));
 
 		if (ratio < 0) {
 			// no more intersections
@@ -2033,20 +1913,15 @@ public class BezierCurve extends AbstractGeometry
 			 * interval, so that only one of the getIntersection() calls can
 			 * converge in the middle.
 			 */
-			if (ip.isPLonger()) {
-				IntervalPair[] nip = ip.getPSplit();
-				findIntersectionChunks(nip[0], intervalPairs, intersections);
-				findIntersectionChunks(nip[1], intervalPairs, intersections);
-			} else {
-				IntervalPair[] nip = ip.getQSplit();
-				findIntersectionChunks(nip[0], intervalPairs, intersections);
-				findIntersectionChunks(nip[1], intervalPairs, intersections);
-			}
-
-			return;
+			IntervalPair[] nip = ip.isPLonger() ? ip.getPSplit()
+					: ip.getQSplit();
+			findIntersectionChunks(nip[0], intervalPairs, intersections,
+					buffers);
+			findIntersectionChunks(nip[1], intervalPairs, intersections,
+					buffers);
 		} else {
 			findIntersectionChunks(ip.getSwapped(), intervalPairs,
-					intersections);
+					intersections, buffers);
 		}
 	}
 
@@ -2059,6 +1934,7 @@ public class BezierCurve extends AbstractGeometry
 	 *            of intersection on two {@link BezierCurve}s
 	 */
 	private static Point findSinglePreciseIntersection(IntervalPair ipIO) {
+		ClippingBuffers buffers = new ClippingBuffers(ipIO.p, ipIO.q);
 		Stack<IntervalPair> partStack = new Stack<>();
 		partStack.push(ipIO);
 
@@ -2066,22 +1942,22 @@ public class BezierCurve extends AbstractGeometry
 			IntervalPair ip = partStack.pop();
 
 			// quick check if intersections can be found
-			BezierCurve pClipped = ip.getPClipped();
-			BezierCurve qClipped = ip.getQClipped();
-			if (!pClipped.getControlBounds()
-					.touches(qClipped.getControlBounds())) {
+			int pn = ip.getPClipped(buffers.p);
+			int qn = ip.getQClipped(buffers.q);
+			if (!BezierCurveCore.controlBoundsTouch(buffers.p, pn, buffers.q,
+					qn)) {
 				continue;
 			}
 
 			if (ip.convergesP()) {
-				Point p = ip.p.getHC(ip.pi.a).toPoint();
+				Point p = ip.p.get(ip.pi.a);
 				if (ip.q.contains(p)) {
 					return p;
 				}
 			}
 
 			if (ip.convergesQ()) {
-				Point q = ip.q.getHC(ip.qi.a).toPoint();
+				Point q = ip.q.get(ip.qi.a);
 				if (ip.p.contains(q)) {
 					return q;
 				}
@@ -2101,14 +1977,11 @@ public class BezierCurve extends AbstractGeometry
 				continue;
 			}
 
-			// construct "parallel" and "orthogonal" fat lines
-			FatLine L1 = FatLine.from(qClipped, PARALLEL);
-			FatLine L2 = FatLine.from(qClipped, ORTHOGONAL);
-
-			// curve implosion check
-			if (L1 == null || L2 == null) {
+			// clip to the "parallel" and "orthogonal" fat lines
+			if (!BezierCurveCore.clipToFatLines(buffers.p, pn, buffers.q, qn,
+					buffers.interval)) {
 				// q is degenerated
-				Point poi = ip.q.getHC(ip.qi.getMid()).toPoint();
+				Point poi = ip.q.get(ip.qi.getMid());
 				if (ip.p.contains(poi)) {
 					IntervalPair.copy(ipIO, ip);
 					return poi;
@@ -2116,15 +1989,8 @@ public class BezierCurve extends AbstractGeometry
 				continue;
 			}
 
-			// clip to the fat lines
-			Interval interval = new Interval(pClipped.clipTo(L1));
-			Interval intervalOrtho = new Interval(pClipped.clipTo(L2));
-
-			// pick smaller interval range
-			interval = Interval.min(interval, intervalOrtho);
-
 			// re-calculate s and e from the clipped interval
-			double ratio = ip.pi.scaleTo(interval);
+			double ratio = ip.pi.scaleTo(new Interval(buffers.interval));
 
 			if (ratio < 0) {
 				// no more intersections
@@ -2148,35 +2014,6 @@ public class BezierCurve extends AbstractGeometry
 		return null;
 	}
 
-	/**
-	 * Computes the intersection of the line from {@link Point} p to
-	 * {@link Point} q with the x-axis-parallel line f(x) = y.
-	 *
-	 * There is always an intersection, because this routine is only called when
-	 * either the lower or the higher fat line bound is crossed.
-	 *
-	 * The following conditions are fulfilled: (p.x!=q.x) and (p.y!=q.y) and
-	 * (p.y<y<q.y) or (p.y>y>q.y).
-	 *
-	 * From these values, one can build a function g(x) = m*x + b where
-	 * m=(q.y-p.y)/(q.x-p.x) and b=p.y-m*p.x.
-	 *
-	 * The point of intersection is given by f(x) = g(x). The x-coordinate of
-	 * this point is x = (y - b) / m.
-	 *
-	 * @param p
-	 *            The start point of the {@link Line}
-	 * @param q
-	 *            The end point of the {@link Line}
-	 * @param y
-	 *            The x-axis-parallel line f(x) = y
-	 * @return the x coordinate of the intersection point.
-	 */
-	private static double intersectXAxisParallel(Point p, Point q, double y) {
-		double m = (q.y - p.y) / (q.x - p.x);
-		return (y - p.y + m * p.x) / m;
-	}
-
 	/**
 	 * Checks if the given {@link Interval}s are considered to be next to each
 	 * other within the specified imprecision. Two {@link Interval}s are
@@ -2246,34 +2083,6 @@ public class BezierCurve extends AbstractGeometry
 		return new PolyBezier(curves.toArray(new BezierCurve[] {}));
 	}
 
-	/**
-	 * Moves the {@link Interval}'s start and end values. The start value is set
-	 * to <i>x</i> if <i>x</i> is smaller than the start value. The end value is
-	 * set to <i>x</i> if <i>x</i> is greater than the end value.
-	 *
-	 * @param interval
-	 *            the {@link Interval} to modify
-	 * @param x
-	 *            the modification value
-	 */
-	// TODO: Migrate into a member function of Internal (and use it instead of
-	// double[])
-	private static void moveInterval(double[] interval, double x) {
-		// assure that 0 <= x <= 1 to prevent invalid parameter values
-		if (x < 0) {
-			x = 0;
-		} else if (x > 1) {
-			x = 1;
-		}
-
-		if (interval[0] > x) {
-			interval[0] = x;
-		}
-		if (interval[1] < x) {
-			interval[1] = x;
-		}
-	}
-
 	/**
 	 * Normalizes the given {@link IntervalPair}s so that all
 	 * {@link IntervalPair}s have the same {@link BezierCurve} assigned to their
@@ -2404,10 +2213,10 @@ public class BezierCurve extends AbstractGeometry
 	}
 
 	/**
-	 * An array of {@link Vector3D}s which represent the control points of this
-	 * {@link BezierCurve} in homogenous coordinates.
+	 * The control points of this {@link BezierCurve}, packed into an array in
+	 * x, y order (see {@link BezierCurveCore}).
 	 */
-	private final Vector3D[] points;
+	private final double[] coordinates;
 
 	/**
 	 * Constructs a new {@link BezierCurve} from the given {@link CubicCurve}.
@@ -2430,7 +2239,11 @@ public class BezierCurve extends AbstractGeometry
 	 *            {@link BezierCurve} in x, y order
 	 */
 	public BezierCurve(double... controlPoints) {
-		this(PointListUtils.toPointsArray(controlPoints));
+		if (controlPoints.length % 2 != 0) {
+			throw new IllegalArgumentException(
+					"The coordinates array may not have an odd number of items.");
+		}
+		coordinates = Arrays.copyOf(controlPoints, controlPoints.length);
 	}
 
 	/**
@@ -2441,9 +2254,10 @@ public class BezierCurve extends AbstractGeometry
 	 *            the control {@link Point}s of the new {@link BezierCurve}
 	 */
 	public BezierCurve(Point... controlPoints) {
-		points = new Vector3D[controlPoints.length];
-		for (int i = 0; i < points.length; i++) {
-			points[i] = new Vector3D(controlPoints[i].x, controlPoints[i].y, 1);
+		coordinates = new double[2 * controlPoints.length];
+		for (int i = 0; i < controlPoints.length; i++) {
+			coordinates[2 * i] = controlPoints[i].x;
+			coordinates[2 * i + 1] = controlPoints[i].y;
 		}
 	}
 
@@ -2460,112 +2274,40 @@ public class BezierCurve extends AbstractGeometry
 	}
 
 	/**
-	 * <p>
-	 * Constructs a new {@link BezierCurve} object from the control points
-	 * represented by the given {@link Vector3D}s.
-	 * </p>
-	 * <p>
-	 * Note that a Point(x, y) is represented by a Vector3D(x, y, 1).
-	 * </p>
+	 * Constructs a new {@link BezierCurve} from the first <i>n</i> control
+	 * points of the given packed coordinates (see {@link BezierCurveCore}).
 	 *
-	 * @param controlPoints
-	 *            the {@link Vector3D}s representing the control points of the
-	 *            new {@link BezierCurve}
+	 * @param coordinates
+	 *            the packed control point coordinates, which are copied
+	 * @param n
+	 *            the number of control points
 	 */
-	private BezierCurve(Vector3D... controlPoints) {
-		points = new Vector3D[controlPoints.length];
-		for (int i = 0; i < points.length; i++) {
-			points[i] = controlPoints[i].getCopy();
-		}
+	private BezierCurve(double[] coordinates, int n) {
+		this.coordinates = Arrays.copyOf(coordinates, 2 * n);
 	}
 
 	/**
-	 * <p>
-	 * Firstly, the difference of this {@link BezierCurve} to the given
-	 * {@link FatLine} is computed. This is another {@link BezierCurve} of which
-	 * the control {@link Point}s are further examined.
-	 * </p>
-	 * <p>
-	 * Every difference control {@link Point} is checked if it is inside the
-	 * given {@link FatLine}. Difference control {@link Point}s within the
-	 * {@link FatLine} represent portions of this {@link BezierCurve} which
-	 * cannot be clipped. Therefore, the {@link Interval} recording the
-	 * parameter range of this {@link BezierCurve} is appropriately modified for
-	 * these difference control {@link Point}s.
-	 * </p>
-	 * <p>
-	 * Subsequently, the {@link Line}s connecting the start/end {@link Point} of
-	 * the difference {@link BezierCurve} and the other control {@link Point}s
-	 * of the difference {@link BezierCurve} are intersected with the
-	 * {@link FatLine}'s border {@link Line}s. The outermost intersections
-	 * identify parameter ranges that can be clipped away from this
-	 * {@link BezierCurve}. Therefore, the {@link Interval} recording the
-	 * parameter range of this {@link BezierCurve} is appropriately modified for
-	 * these intersections.
-	 * </p>
-	 * <p>
-	 * The starting {@link Interval} is chosen to be invalid. The individual
-	 * checks move the lower and upper limits past to one another. If everything
-	 * can be clipped, the resulting {@link Interval} remains invalid. If the
-	 * resulting {@link Interval} <code>I = [a;b]</code> is valid (
-	 * <code>a <= b</code>), then the portions <code>[0;a]</code> and
-	 * <code>[b;1]</code> of this {@link BezierCurve} can be clipped away.
-	 * </p>
+	 * Writes the packed control points of this {@link BezierCurve} on the
+	 * parameter {@link Interval} <code>[s;e]</code> to the given buffer (see
+	 * {@link #getClipped(double, double)}).
 	 *
-	 * @param L
-	 *            the {@link FatLine} to clip this {@link BezierCurve} to
-	 * @return the new parameter {@link Interval} for this {@link BezierCurve}
+	 * @param s
+	 *            the lower limit of the parameter {@link Interval}
+	 * @param e
+	 *            the upper limit of the parameter {@link Interval}
+	 * @param out
+	 *            the buffer to which the control points are written
+	 * @return the number of control points of the clipped curve
 	 */
-	// TODO: return Interval
-	private double[] clipTo(FatLine L) {
-		double[] interval = new double[] { 1, 0 };
-
-		Vector3D[] differenceVectors = genDifferencePoints(L.line);
-
-		Point[] differencePoints = new Point[differenceVectors.length];
-		for (int i = 0; i < differenceVectors.length; i++) {
-			differencePoints[i] = differenceVectors[i].toPoint();
-		}
-
-		// inside fat line check
-		for (Point p : differencePoints) {
-			if (Double.isNaN(p.y) || L.dmin <= p.y && p.y <= L.dmax) {
-				moveInterval(interval, p.x);
-			}
-		}
-
-		// intersections from start
-		for (int i = 1; i < differencePoints.length; i++) {
-			Line seg = new Line(differencePoints[0], differencePoints[i]);
-			if (seg.getP1().y < L.dmin != seg.getP2().y < L.dmin) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmin);
-				moveInterval(interval, x);
-			}
-			if (seg.getP1().y < L.dmax != seg.getP2().y < L.dmax) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmax);
-				moveInterval(interval, x);
-			}
-		}
-
-		// intersections from end
-		for (int i = 0; i < differencePoints.length - 1; i++) {
-			Line seg = new Line(differencePoints[i],
-					differencePoints[differencePoints.length - 1]);
-			if (seg.getP1().y < L.dmin != seg.getP2().y < L.dmin) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmin);
-				moveInterval(interval, x);
-			}
-			if (seg.getP1().y < L.dmax != seg.getP2().y < L.dmax) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmax);
-				moveInterval(interval, x);
-			}
+	private int clip(double s, double e, double[] out) {
+		int n = coordinates.length / 2;
+		if (s == 1) {
+			out[0] = coordinates[2 * n - 2];
+			out[1] = coordinates[2 * n - 1];
+			return 1;
 		}
-
-		return interval;
+		BezierCurveCore.clip(coordinates, n, s, e, out);
+		return n;
 	}
 
 	/**
@@ -2610,10 +2352,10 @@ public class BezierCurve extends AbstractGeometry
 		}
 		BezierCurve o = (BezierCurve) other;
 		BezierCurve t = this;
-		while (o.points.length < t.points.length) {
+		while (o.coordinates.length < t.coordinates.length) {
 			o = o.getElevated();
 		}
-		while (t.points.length < o.points.length) {
+		while (t.coordinates.length < o.coordinates.length) {
 			t = t.getElevated();
 		}
 		Point[] oPoints = o.getPoints();
@@ -2623,96 +2365,22 @@ public class BezierCurve extends AbstractGeometry
 	}
 
 	/**
-	 * Searches for the specified extreme on this {@link BezierCurve}.
-	 *
-	 * @param criteria
-	 *            Specifies the criteria to use for finding the extreme. As long
-	 *            as it returns <code>true</code> for a given pair of points,
-	 *            search is continued.
-	 * @return The extreme {@link Point} that can be identified
-	 */
-	private Point findExtreme(BiFunction<Point, Point, Boolean> criteria) {
-		return findExtreme(criteria, Interval.getFull());
-	}
-
-	/**
-	 * <p>
-	 * Searches for an extreme {@link Point} on this {@link BezierCurve}.
-	 * </p>
-	 *
-	 * @param criteria
-	 *            Specifies the criteria to use for finding the extreme. As long
-	 *            as it returns <code>true</code> for a given pair of points,
-	 *            search is continued.
-	 * @param iStart
-	 *            the start {@link Interval} on this {@link BezierCurve} in
-	 *            which the extreme {@link Point} is searched for
-	 * @return The extreme {@link Point} that could be found
-	 */
-	private Point findExtreme(BiFunction<Point, Point, Boolean> criteria,
-			Interval iStart) {
-		Stack<Interval> parts = new Stack<>();
-		parts.push(iStart);
-
-		Point xtreme = getHC(iStart.a).toPoint();
-
-		while (!parts.isEmpty()) {
-			Interval i = parts.pop();
-			BezierCurve clipped = getClipped(i.a, i.b);
-
-			Point sp = clipped.points[0].toPoint();
-			xtreme = criteria.apply(sp, xtreme) ? sp : xtreme;
-			Point ep = clipped.points[clipped.points.length - 1].toPoint();
-			xtreme = criteria.apply(ep, xtreme) ? ep : xtreme;
-
-			boolean everythingWorse = true;
-			for (int j = 1; j < clipped.points.length - 1; j++) {
-				if (!criteria.apply(xtreme, clipped.points[j].toPoint())) {
-					everythingWorse = false;
-					break;
-				}
-			}
-
-			if (everythingWorse) {
-				continue;
-			}
-
-			// split interval
-			if (!i.converges()) {
-				double im = i.getMid();
-				parts.push(new Interval(im, i.b));
-				parts.push(new Interval(i.a, im));
-			}
-		}
-
-		return xtreme;
-	}
-
-	/**
-	 * <p>
-	 * Generates the difference control {@link Point}s of this
-	 * {@link BezierCurve} to the given {@link Straight3D}.
-	 * </p>
-	 * <p>
-	 * The difference control {@link Point}s are the control {@link Point}s of a
-	 * {@link BezierCurve} that yields the signed distance of each {@link Point}
-	 * on this {@link BezierCurve} to the given {@link Straight3D}.
-	 * </p>
+	 * Determines if the {@link Point}s at the given parameter values are equal
+	 * with respect to the given precision shift.
 	 *
-	 * @param line
-	 *            the {@link Straight3D} to which the difference
-	 *            {@link BezierCurve}'s control {@link Point}s are to be
-	 *            computed
-	 * @return the difference {@link BezierCurve}'s control {@link Point}s
+	 * @param s
+	 *            the first parameter value
+	 * @param t
+	 *            the second parameter value
+	 * @param shift
+	 *            the precision shift (see
+	 *            {@link PrecisionUtils#calculateFraction(int)})
+	 * @return <code>true</code> if the {@link Point}s are equal, otherwise
+	 *         <code>false</code>
 	 */
-	private Vector3D[] genDifferencePoints(Straight3D line) {
-		Vector3D[] D = new Vector3D[points.length];
-		for (int i = 0; i < points.length; i++) {
-			double y = line.getSignedDistanceCW(points[i]);
-			D[i] = new Vector3D((double) (i) / (double) (points.length - 1), y,
-					1);
-		}
-		return D;
+	private boolean equalAt(double s, double t, int shift) {
+		return BezierCurveCore.equalAt(coordinates, coordinates.length / 2, s,
+				t, shift);
 	}
 
 	/**
@@ -2727,16 +2395,28 @@ public class BezierCurve extends AbstractGeometry
 	 *         parameter value
 	 */
 	public Point get(double t) {
-		return getHC(t).toPoint();
+		if (t < 0 || t > 1) {
+			throw new IllegalArgumentException("t out of range: " + t);
+		}
+		int n = coordinates.length / 2;
+		return new Point(
+				BezierCurveCore.evaluate(coordinates, n, t, BezierCurveCore.X),
+				BezierCurveCore.evaluate(coordinates, n, t, BezierCurveCore.Y));
 	}
 
 	@Override
 	public Rectangle getBounds() {
-		// TODO: check costs of 'inlining' lambdas here
-		double xmin = findExtreme(xminCriteria).x;
-		double xmax = findExtreme(xmaxCriteria).x;
-		double ymin = findExtreme(yminCriteria).y;
-		double ymax = findExtreme(ymaxCriteria).y;
+		int n = coordinates.length / 2;
+		double[] scratch = new double[coordinates.length];
+		double[] stack = new double[64];
+		double xmin = BezierCurveCore.findExtreme(coordinates, n,
+				BezierCurveCore.X, false, 0, 1, scratch, stack);
+		double xmax = BezierCurveCore.findExtreme(coordinates, n,
+				BezierCurveCore.X, true, 0, 1, scratch, stack);
+		double ymin = BezierCurveCore.findExtreme(coordinates, n,
+				BezierCurveCore.Y, false, 0, 1, scratch, stack);
+		double ymax = BezierCurveCore.findExtreme(coordinates, n,
+				BezierCurveCore.Y, true, 0, 1, scratch, stack);
 		return new Rectangle(new Point(xmin, ymin), new Point(xmax, ymax));
 	}
 
@@ -2754,12 +2434,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         on the {@link Interval} <code>[s;e]</code>
 	 */
 	public BezierCurve getClipped(double s, double e) {
-		if (s == 1) {
-			return new BezierCurve(points[points.length - 1]);
-		}
-		BezierCurve right = split(s)[1];
-		double rightT2 = (e - s) / (1 - s);
-		return right.split(rightT2)[0];
+		double[] clipped = new double[coordinates.length];
+		return new BezierCurve(clipped, clip(s, e, clipped));
 	}
 
 	/**
@@ -2770,31 +2446,38 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Polygon} of this {@link BezierCurve}
 	 */
 	public Rectangle getControlBounds() {
-		Point[] realPoints = getPoints();
-
-		double xmin = realPoints[0].x, xmax = realPoints[0].x,
-				ymin = realPoints[0].y, ymax = realPoints[0].y;
-
-		for (int i = 1; i < realPoints.length; i++) {
-			if (realPoints[i].x < xmin) {
-				xmin = realPoints[i].x;
-			} else if (realPoints[i].x > xmax) {
-				xmax = realPoints[i].x;
-			}
-
-			if (realPoints[i].y < ymin) {
-				ymin = realPoints[i].y;
-			} else if (realPoints[i].y > ymax) {
-				ymax = realPoints[i].y;
-			}
-		}
-
+		int n = coordinates.length / 2;
+		double xmin = BezierCurveCore.min(coordinates, n, BezierCurveCore.X);
+		double xmax = BezierCurveCore.max(coordinates, n, BezierCurveCore.X);
+		double ymin = BezierCurveCore.min(coordinates, n, BezierCurveCore.Y);
+		double ymax = BezierCurveCore.max(coordinates, n, BezierCurveCore.Y);
 		return new Rectangle(xmin, ymin, xmax - xmin, ymax - ymin);
 	}
 
+	/**
+	 * Stores the bounds of the control {@link Polygon} of this
+	 * {@link BezierCurve} (min x, min y, max x, max y) in the given array,
+	 * starting at the given offset, without allocating a {@link Rectangle}.
+	 *
+	 * @param bounds
+	 *            the array in which to store the control bounds
+	 * @param offset
+	 *            the index at which to store the min x coordinate
+	 */
+	void getControlBounds(double[] bounds, int offset) {
+		int n = coordinates.length / 2;
+		bounds[offset] = BezierCurveCore.min(coordinates, n, BezierCurveCore.X);
+		bounds[offset + 1] = BezierCurveCore.min(coordinates, n,
+				BezierCurveCore.Y);
+		bounds[offset + 2] = BezierCurveCore.max(coordinates, n,
+				BezierCurveCore.X);
+		bounds[offset + 3] = BezierCurveCore.max(coordinates, n,
+				BezierCurveCore.Y);
+	}
+
 	@Override
 	public BezierCurve getCopy() {
-		return new BezierCurve(points);
+		return new BezierCurve(coordinates, coordinates.length / 2);
 	}
 
 	/**
@@ -2804,16 +2487,12 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the hodograph of this {@link BezierCurve}
 	 */
 	public BezierCurve getDerivative() {
-		Vector3D[] controlPoints = new Vector3D[points.length - 1];
-
-		for (int i = 0; i < controlPoints.length; i++) {
-			controlPoints[i] = points[i + 1].getSubtracted(points[i])
-					.getScaled(points.length - 1);
-			// ignore z coordinate:
-			controlPoints[i].z = 1;
+		int n = coordinates.length / 2;
+		double[] derivative = new double[2 * (n - 1)];
+		for (int i = 0; i < derivative.length; i++) {
+			derivative[i] = (coordinates[i + 2] - coordinates[i]) * (n - 1);
 		}
-
-		return new BezierCurve(controlPoints);
+		return new BezierCurve(derivative, n - 1);
 	}
 
 	/**
@@ -2824,47 +2503,20 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link BezierCurve} but with one more control {@link Point}
 	 */
 	public BezierCurve getElevated() {
-		Point[] p = getPoints();
-		Point[] q = new Point[p.length + 1];
-		q[0] = p[0];
-		q[p.length] = p[p.length - 1];
-		for (int i = 1; i < p.length; i++) {
-			double c = (double) i / (double) (p.length);
-			q[i] = p[i - 1].getScaled(c).getTranslated(p[i].getScaled(1 - c));
-		}
-		return new BezierCurve(q);
-	}
-
-	/**
-	 * Returns a {@link Vector3D} representing the {@link Point} at the given
-	 * parameter value.
-	 *
-	 * @param t
-	 *            the parameter value for which this {@link BezierCurve} is
-	 *            evaluated
-	 * @return The point at the given parameter value, represented in
-	 *         homogeneous coordinates as a {@link Vector3D}.
-	 */
-	private Vector3D getHC(double t) {
-		if (t < 0 || t > 1) {
-			throw new IllegalArgumentException("t out of range: " + t);
-		}
-
-		// using horner's scheme:
-		int n = points.length;
-		if (n < 1) {
-			return null;
-		}
-
-		double bn = 1, tn = 1, d = 1d - t;
-		Vector3D pn = points[0].getScaled(bn * tn);
+		int n = coordinates.length / 2;
+		double[] elevated = new double[2 * (n + 1)];
+		elevated[0] = coordinates[0];
+		elevated[1] = coordinates[1];
+		elevated[2 * n] = coordinates[2 * n - 2];
+		elevated[2 * n + 1] = coordinates[2 * n - 1];
 		for (int i = 1; i < n; i++) {
-			bn = bn * (n - i) / i;
-			tn = tn * t;
-			pn = pn.getScaled(d).getAdded(points[i].getScaled(bn * tn));
+			double c = (double) i / (double) n;
+			elevated[2 * i] = coordinates[2 * i - 2] * c
+					+ coordinates[2 * i] * (1 - c);
+			elevated[2 * i + 1] = coordinates[2 * i - 1] * c
+					+ coordinates[2 * i + 1] * (1 - c);
 		}
-
-		return pn;
+		return new BezierCurve(elevated, n + 1);
 	}
 
 	/**
@@ -2904,7 +2556,8 @@ public class BezierCurve extends AbstractGeometry
 				Interval.getFull());
 
 		findEndPointIntersections(ip, endPointIntervalPairs, intersections);
-		findIntersectionChunks(ip, intervalPairs, intersections);
+		findIntersectionChunks(ip, intervalPairs, intersections,
+				new ClippingBuffers(this, other));
 		normalizeIntervalPairs(intervalPairs.toArray(new IntervalPair[] {}));
 		IntervalPair[] clusters = clusterChunks(
 				intervalPairs.toArray(new IntervalPair[] {}), 0);
@@ -3050,7 +2703,8 @@ public class BezierCurve extends AbstractGeometry
 				Interval.getFull());
 
 		findEndPointIntersections(ip, endPointIntervalPairs, intersections);
-		findIntersectionChunks(ip, intervalPairs, intersections);
+		findIntersectionChunks(ip, intervalPairs, intersections,
+				new ClippingBuffers(this, other));
 		IntervalPair[] intervalPairs2 = intervalPairs
 				.toArray(new IntervalPair[] {});
 		normalizeIntervalPairs(intervalPairs2);
@@ -3068,12 +2722,12 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public Point getP1() {
-		return points[0].toPoint();
+		return new Point(coordinates[0], coordinates[1]);
 	}
 
 	@Override
 	public Point getP2() {
-		return points[points.length - 1].toPoint();
+		return getPoint(coordinates.length / 2 - 1);
 	}
 
 	/**
@@ -3115,13 +2769,13 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the <i>i</i>th control {@link Point} of this {@link BezierCurve}
 	 */
 	public Point getPoint(int i) {
-		if (i < 0 || i >= points.length) {
+		if (i < 0 || i >= coordinates.length / 2) {
 			throw new IllegalArgumentException(
 					"You can only index this BezierCurve's points from 0 to "
-							+ (points.length - 1) + ": getPoint(" + i
+							+ (coordinates.length / 2 - 1) + ": getPoint(" + i
 							+ "), this = " + this);
 		}
-		return points[i].toPoint();
+		return new Point(coordinates[2 * i], coordinates[2 * i + 1]);
 	}
 
 	/**
@@ -3130,26 +2784,7 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the control {@link Point}s of this {@link BezierCurve}
 	 */
 	public Point[] getPoints() {
-		Point[] realPoints = new Point[points.length];
-		for (int i = 0; i < points.length; i++) {
-			realPoints[i] = points[i].toPoint();
-		}
-		return realPoints;
-	}
-
-	/**
-	 * Returns a copy of the {@link Vector3D} representations of the control
-	 * points of this {@link BezierCurve}.
-	 *
-	 * @return a copy of the {@link Vector3D} representations of the control
-	 *         points of this {@link BezierCurve}
-	 */
-	private Vector3D[] getPointsCopy() {
-		Vector3D[] copy = new Vector3D[points.length];
-		for (int i = 0; i < points.length; i++) {
-			copy[i] = points[i].getCopy();
-		}
-		return copy;
+		return PointListUtils.toPointsArray(coordinates);
 	}
 
 	@Override
@@ -3283,7 +2918,10 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	@Override
 	public BezierCurve getTransformed(AffineTransform t) {
-		return new BezierCurve(t.getTransformed(getPoints()));
+		BezierCurve transformed = new BezierCurve(coordinates,
+				coordinates.length / 2);
+		t.transform(transformed.coordinates);
+		return transformed;
 	}
 
 	@Override
@@ -3395,9 +3033,9 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve rotateCCW(Angle angle, Point center) {
-		for (int i = 0; i < points.length; i++) {
-			points[i] = new Vector3D(new Vector(
-					points[i].toPoint().getTranslated(center.getNegated()))
+		for (int i = 0; i < coordinates.length / 2; i++) {
+			setPoint(i,
+					new Vector(getPoint(i).getTranslated(center.getNegated()))
 							.getRotatedCCW(angle).toPoint()
 							.getTranslated(center));
 		}
@@ -3514,7 +3152,7 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve setP2(Point p2) {
-		setPoint(points.length - 1, p2);
+		setPoint(coordinates.length / 2 - 1, p2);
 		return this;
 	}
 
@@ -3531,12 +3169,13 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve setPoint(int i, Point p) {
-		if (i < 0 || i >= points.length) {
+		if (i < 0 || i >= coordinates.length / 2) {
 			throw new IllegalArgumentException("setPoint(" + i + ", " + p
 					+ "): You can only index this BezierCurve's points from 0 to "
-					+ (points.length - 1) + ".");
+					+ (coordinates.length / 2 - 1) + ".");
 		}
-		points[i] = new Vector3D(p);
+		coordinates[2 * i] = p.x;
+		coordinates[2 * i + 1] = p.y;
 		return this;
 	}
 
@@ -3554,23 +3193,12 @@ public class BezierCurve extends AbstractGeometry
 	 *         <code>[0;t]</code>) and the right (<code>[t;1]</code>)
 	 */
 	public BezierCurve[] split(double t) {
-		Vector3D[] leftPoints = new Vector3D[points.length];
-		Vector3D[] rightPoints = new Vector3D[points.length];
-
-		Vector3D[] ratioPoints = getPointsCopy();
-
-		for (int i = 0; i < points.length; i++) {
-			leftPoints[i] = ratioPoints[0];
-			rightPoints[points.length - 1 - i] = ratioPoints[points.length - 1
-					- i];
-
-			for (int j = 0; j < points.length - i - 1; j++) {
-				ratioPoints[j] = ratioPoints[j].getRatio(ratioPoints[j + 1], t);
-			}
-		}
-
-		return new BezierCurve[] { new BezierCurve(leftPoints),
-				new BezierCurve(rightPoints) };
+		int n = coordinates.length / 2;
+		BezierCurve left = new BezierCurve(new double[coordinates.length], n);
+		BezierCurve right = new BezierCurve(new double[coordinates.length], n);
+		BezierCurveCore.split(coordinates, n, t, left.coordinates,
+				right.coordinates);
+		return new BezierCurve[] { left, right };
 	}
 
 	@Override
@@ -3594,9 +3222,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Point}s
 	 */
 	public CubicCurve toCubic() {
-		if (points.length > 3) {
-			return new CubicCurve(points[0].toPoint(), points[1].toPoint(),
-					points[2].toPoint(), points[points.length - 1].toPoint());
+		if (coordinates.length > 6) {
+			return new CubicCurve(getP1(), getPoint(1), getPoint(2), getP2());
 		}
 		return null;
 	}
@@ -3611,9 +3238,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         this {@link BezierCurve} does only have one control {@link Point}
 	 */
 	public Line toLine() {
-		if (points.length > 1) {
-			return new Line(points[0].toPoint(),
-					points[points.length - 1].toPoint());
+		if (coordinates.length > 2) {
+			return new Line(getP1(), getP2());
 		}
 		return null;
 	}
@@ -3660,17 +3286,18 @@ public class BezierCurve extends AbstractGeometry
 	public Line[] toLineStrip(double lineSimilarity, Interval startInterval) {
 		ArrayList<Line> lines = new ArrayList<>();
 
-		Point startPoint = getHC(startInterval.a).toPoint();
+		Point startPoint = get(startInterval.a);
 
+		double[] part = new double[coordinates.length];
 		Stack<Interval> parts = new Stack<>();
 		parts.push(startInterval);
 
 		while (!parts.isEmpty()) {
 			Interval i = parts.pop();
-			BezierCurve part = getClipped(i.a, i.b);
+			int n = clip(i.a, i.b, part);
 
-			if (distanceToBaseLine(part) < lineSimilarity) {
-				Point endPoint = getHC(i.b).toPoint();
+			if (BezierCurveCore.distanceToBaseLine(part, n) < lineSimilarity) {
+				Point endPoint = get(i.b);
 				lines.add(new Line(startPoint, endPoint));
 				startPoint = endPoint;
 			} else {
@@ -3694,7 +3321,7 @@ public class BezierCurve extends AbstractGeometry
 	public Path toPath() {
 		Path path = new Path();
 
-		Point startPoint = points[0].toPoint();
+		Point startPoint = getP1();
 		path.moveTo(startPoint.x, startPoint.y);
 
 		for (Line seg : toLineStrip(0.25d)) {
@@ -3718,27 +3345,27 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	public Point[] toPoints(Interval startInterval) {
 		ArrayList<Point> points = new ArrayList<>();
-		points.add(getHC(startInterval.a).toPoint());
+		points.add(get(startInterval.a));
 
+		double[] part = new double[coordinates.length];
 		Stack<Interval> parts = new Stack<>();
 		parts.push(startInterval);
 
 		while (!parts.isEmpty()) {
 			Interval i = parts.pop();
-			BezierCurve part = getClipped(i.a, i.b);
-
-			Point[] partPoints = part.getPoints();
+			int n = clip(i.a, i.b, part);
 
 			boolean allTogether = true;
-			for (int j = 1; j < partPoints.length; j++) {
-				if (!partPoints[0].equals(partPoints[j])) {
+			for (int j = 1; j < n; j++) {
+				if (!PrecisionUtils.equal(part[0], part[2 * j])
+						|| !PrecisionUtils.equal(part[1], part[2 * j + 1])) {
 					allTogether = false;
 					break;
 				}
 			}
 
 			if (allTogether) {
-				points.add(partPoints[partPoints.length - 1]);
+				points.add(new Point(part[2 * n - 2], part[2 * n - 1]));
 			} else {
 				double im = i.getMid();
 				parts.push(new Interval(im, i.b));
@@ -3765,9 +3392,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Point}s
 	 */
 	public QuadraticCurve toQuadratic() {
-		if (points.length > 2) {
-			return new QuadraticCurve(points[0].toPoint(), points[1].toPoint(),
-					points[points.length - 1].toPoint());
+		if (coordinates.length > 4) {
+			return new QuadraticCurve(getP1(), getPoint(1), getP2());
 		}
 		return null;
 	}
@@ -3776,10 +3402,10 @@ public class BezierCurve extends AbstractGeometry
 	public String toString() {
 		StringBuffer str = new StringBuffer();
 		str.append("BezierCurve(");
-		for (int i = 0; i < points.length; i++) {
-			Vector3D v = points[i];
-			str.append(v);
-			if (i < points.length - 1) {
+		for (int i = 0; i < coordinates.length / 2; i++) {
+			str.append("Vector3D(" + coordinates[2 * i] + ", "
+					+ coordinates[2 * i + 1] + ", 1.0)");
+			if (i < coordinates.length / 2 - 1) {
 				str.append(", ");
 			}
 		}
@@ -0,0 +1,556 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+
+/**
+ * The {@link BezierCurveCore} provides the primitive operations on which
+ * {@link BezierCurve} is based. A curve is represented by its control points
+ * packed into a <code>double[]</code> in x, y order, i.e.
+ * <code>x0, y0, x1, y1, ...</code>, together with the number of control
+ * points <i>n</i>, so that (larger) scratch buffers may be re-used for curves
+ * of different degrees.
+ * <p>
+ * None of the operations allocate memory (apart from growing the traversal
+ * stacks that are passed in). Results are written to caller-provided buffers
+ * instead.
+ *
+ * @author agent
+ *
+ */
+final class BezierCurveCore {
+
+	/**
+	 * Index of the x coordinate within a packed control point.
+	 */
+	static final int X = 0;
+
+	/**
+	 * Index of the y coordinate within a packed control point.
+	 */
+	static final int Y = 1;
+
+	/**
+	 * Clips the given curve to the parameter interval <code>[s;e]</code>,
+	 * writing the control points of the resulting curve to the given output
+	 * buffer, which may be the same as the input buffer.
+	 *
+	 * @param c
+	 *            The packed control points of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param s
+	 *            The start parameter value.
+	 * @param e
+	 *            The end parameter value.
+	 * @param out
+	 *            The buffer to which the clipped control points are written.
+	 */
+	static void clip(double[] c, int n, double s, double e, double[] out) {
+		if (c != out) {
+			System.arraycopy(c, 0, out, 0, 2 * n);
+		}
+		// the right part at s is computed in place from the front
+		for (int i = 0; i < n - 1; i++) {
+			for (int j = 0; j < n - i - 1; j++) {
+				lerp(out, j, j + 1, s, j);
+			}
+		}
+		if (s == 1) {
+			return;
+		}
+		// the left part at (e - s) / (1 - s) is computed in place from the
+		// back
+		double t = (e - s) / (1 - s);
+		for (int i = 1; i < n; i++) {
+			for (int j = n - 1; j >= i; j--) {
+				lerp(out, j - 1, j, t, j);
+			}
+		}
+	}
+
+	/**
+	 * Clips the curve <i>p</i> to the "parallel" and the "orthogonal" fat line
+	 * of the curve <i>q</i> and stores the smaller resulting parameter
+	 * interval (relative to <i>p</i>) in the given buffer. An empty interval
+	 * (with lower limit greater than the upper limit) indicates that no
+	 * intersection can exist.
+	 *
+	 * @param p
+	 *            The packed control points of the curve to clip.
+	 * @param pn
+	 *            The number of control points of <i>p</i>.
+	 * @param q
+	 *            The packed control points of the curve that defines the fat
+	 *            lines.
+	 * @param qn
+	 *            The number of control points of <i>q</i>.
+	 * @param interval
+	 *            A buffer of length 4 of which the first two entries receive
+	 *            the resulting interval.
+	 * @return <code>false</code> if <i>q</i> is degenerated (so that no fat
+	 *         line can be constructed), otherwise <code>true</code>
+	 */
+	static boolean clipToFatLines(double[] p, int pn, double[] q, int qn,
+			double[] interval) {
+		if (!clipToFatLine(p, pn, q, qn, false, interval, 0)
+				|| !clipToFatLine(p, pn, q, qn, true, interval, 2)) {
+			return false;
+		}
+		// pick smaller interval range
+		if (interval[1] - interval[0] > interval[3] - interval[2]) {
+			interval[0] = interval[2];
+			interval[1] = interval[3];
+		}
+		return true;
+	}
+
+	/**
+	 * Clips the curve <i>p</i> to a fat line of <i>q</i>, following the Bezier
+	 * clipping approach: The signed distances of <i>p</i>'s control points to
+	 * the fat line's base line form the control points of a "difference"
+	 * curve, whose convex hull is intersected with the fat line's borders.
+	 */
+	private static boolean clipToFatLine(double[] p, int pn, double[] q,
+			int qn, boolean orthogonal, double[] interval, int offset) {
+		double x0 = q[0], y0 = q[1];
+		double xn = q[2 * qn - 2], yn = q[2 * qn - 1];
+		// line through start and end point in homogeneous coordinates
+		double a = y0 - yn;
+		double b = xn - x0;
+		double c = x0 * yn - y0 * xn;
+		double f = Math.sqrt(a * a + b * b);
+		if (f == 0) {
+			return false;
+		}
+		if (orthogonal) {
+			// line through start point in direction (a, b)
+			double x1 = x0 + a, y1 = y0 + b;
+			a = y0 - y1;
+			b = x1 - x0;
+			c = x0 * y1 - y0 * x1;
+			f = Math.sqrt(a * a + b * b);
+			if (f == 0) {
+				return false;
+			}
+		}
+
+		// compute fat line bounds
+		double dmin = 0, dmax = 0;
+		for (int i = 0; i < qn; i++) {
+			double d = (a * q[2 * i] + b * q[2 * i + 1] + c) / f;
+			if (d < dmin) {
+				dmin = d;
+			} else if (d > dmax) {
+				dmax = d;
+			}
+		}
+
+		// clip p against the fat line
+		interval[offset] = 1;
+		interval[offset + 1] = 0;
+		double firstY = distance(p, 0, a, b, c, f);
+		double lastY = distance(p, pn - 1, a, b, c, f);
+		for (int i = 0; i < pn; i++) {
+			double x = (double) i / (double) (pn - 1);
+			double y = distance(p, i, a, b, c, f);
+			// inside fat line check
+			if (Double.isNaN(y) || dmin <= y && y <= dmax) {
+				moveInterval(interval, offset, x);
+			}
+			// intersections from start
+			if (i > 0) {
+				moveInterval(interval, offset, 0, firstY, x, y, dmin);
+				moveInterval(interval, offset, 0, firstY, x, y, dmax);
+			}
+			// intersections from end
+			if (i < pn - 1) {
+				moveInterval(interval, offset, x, y, 1, lastY, dmin);
+				moveInterval(interval, offset, x, y, 1, lastY, dmax);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Determines if the control bounds of the given curves touch each other
+	 * (within the default imprecision).
+	 *
+	 * @param p
+	 *            The packed control points of the first curve.
+	 * @param pn
+	 *            The number of control points of <i>p</i>.
+	 * @param q
+	 *            The packed control points of the second curve.
+	 * @param qn
+	 *            The number of control points of <i>q</i>.
+	 * @return <code>true</code> if the control bounds touch, otherwise
+	 *         <code>false</code>
+	 */
+	static boolean controlBoundsTouch(double[] p, int pn, double[] q,
+			int qn) {
+		return PrecisionUtils.smallerEqual(min(q, qn, X), max(p, pn, X))
+				&& PrecisionUtils.smallerEqual(min(q, qn, Y), max(p, pn, Y))
+				&& PrecisionUtils.greaterEqual(max(q, qn, X), min(p, pn, X))
+				&& PrecisionUtils.greaterEqual(max(q, qn, Y), min(p, pn, Y));
+	}
+
+	/**
+	 * Returns the signed distance of the <i>i</i>th control point to the line
+	 * <code>a * x + b * y + c = 0</code>, where <code>f</code> is the length
+	 * of <code>(a, b)</code>.
+	 */
+	private static double distance(double[] p, int i, double a, double b,
+			double c, double f) {
+		return (a * p[2 * i] + b * p[2 * i + 1] + c) / f;
+	}
+
+	/**
+	 * Returns the maximum distance of the inner control points of the given
+	 * curve to the base line through its start and end point.
+	 *
+	 * @param c
+	 *            The packed control points of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @return The distance of the given curve to its base line.
+	 */
+	static double distanceToBaseLine(double[] c, int n) {
+		double x0 = c[0], y0 = c[1];
+		double xn = c[2 * n - 2], yn = c[2 * n - 1];
+		double a = y0 - yn;
+		double b = xn - x0;
+		double f = Math.sqrt(a * a + b * b);
+		if (f == 0) {
+			return 0;
+		}
+		double lc = x0 * yn - y0 * xn;
+		double maxDistance = 0;
+		for (int i = 1; i < n - 1; i++) {
+			maxDistance = Math.max(maxDistance,
+					Math.abs(distance(c, i, a, b, lc, f)));
+		}
+		return maxDistance;
+	}
+
+	/**
+	 * Determines if the points at the parameter values <i>s</i> and <i>t</i>
+	 * on the given curve are equal with respect to the given precision shift.
+	 *
+	 * @param c
+	 *            The packed control points of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param s
+	 *            The first parameter value.
+	 * @param t
+	 *            The second parameter value.
+	 * @param shift
+	 *            The precision shift (see
+	 *            {@link PrecisionUtils#calculateFraction(int)}).
+	 * @return <code>true</code> if both points are equal, otherwise
+	 *         <code>false</code>
+	 */
+	static boolean equalAt(double[] c, int n, double s, double t, int shift) {
+		return PrecisionUtils.equal(evaluate(c, n, s, X), evaluate(c, n, t, X),
+				shift)
+				&& PrecisionUtils.equal(evaluate(c, n, s, Y),
+						evaluate(c, n, t, Y), shift);
+	}
+
+	/**
+	 * Evaluates the given coordinate of the given curve at the given parameter
+	 * value, using Horner's scheme.
+	 *
+	 * @param c
+	 *            The packed control points of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param t
+	 *            The parameter value, which has to lie in <code>[0;1]</code>.
+	 * @param coordinate
+	 *            The coordinate to evaluate, either {@link #X} or {@link #Y}.
+	 * @return The coordinate value of the point at the given parameter value.
+	 */
+	static double evaluate(double[] c, int n, double t, int coordinate) {
+		// the weight is accumulated in the same way as the coordinate (instead
+		// of assuming it sums up to exactly 1)
+		double bn = 1, tn = 1, d = 1d - t;
+		double v = c[coordinate];
+		double w = 1;
+		for (int i = 1; i < n; i++) {
+			bn = bn * (n - i) / i;
+			tn = tn * t;
+			v = v * d + c[2 * i + coordinate] * (bn * tn);
+			w = w * d + bn * tn;
+		}
+		return v / w;
+	}
+
+	/**
+	 * Searches the given curve for the extreme value of the given coordinate
+	 * within the given parameter interval, using de Casteljau subdivision and
+	 * the convex hull property.
+	 *
+	 * @param c
+	 *            The packed control points of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param coordinate
+	 *            The coordinate to search an extreme for, either {@link #X}
+	 *            or {@link #Y}.
+	 * @param max
+	 *            <code>true</code> to search for the maximum,
+	 *            <code>false</code> to search for the minimum.
+	 * @param s
+	 *            The start of the parameter interval.
+	 * @param e
+	 *            The end of the parameter interval.
+	 * @param scratch
+	 *            A buffer that can hold <i>n</i> control points.
+	 * @param stack
+	 *            A traversal stack, which is enlarged if necessary.
+	 * @return The extreme coordinate value.
+	 */
+	static double findExtreme(double[] c, int n, int coordinate, boolean max,
+			double s, double e, double[] scratch, double[] stack) {
+		double extreme = evaluate(c, n, s, coordinate);
+		int top = 0;
+		stack[top++] = s;
+		stack[top++] = e;
+		while (top > 0) {
+			double b = stack[--top];
+			double a = stack[--top];
+			clip(c, n, a, b, scratch);
+
+			double sp = scratch[coordinate];
+			extreme = isBetter(sp, extreme, max) ? sp : extreme;
+			double ep = scratch[2 * (n - 1) + coordinate];
+			extreme = isBetter(ep, extreme, max) ? ep : extreme;
+
+			boolean everythingWorse = true;
+			for (int j = 1; j < n - 1; j++) {
+				if (!isBetter(extreme, scratch[2 * j + coordinate], max)) {
+					everythingWorse = false;
+					break;
+				}
+			}
+			if (everythingWorse || PrecisionUtils.equal(a, b, 0)) {
+				continue;
+			}
+
+			// split interval
+			if (top + 4 > stack.length) {
+				stack = Arrays.copyOf(stack, 2 * stack.length);
+			}
+			double m = (a + b) / 2;
+			stack[top++] = m;
+			stack[top++] = b;
+			stack[top++] = a;
+			stack[top++] = m;
+		}
+		return extreme;
+	}
+
+	/**
+	 * Searches the parameter interval of the given point on the given curve
+	 * using de Casteljau subdivision. If the point can be found within the
+	 * given parameter interval, the interval is set to a converging parameter
+	 * range that contains the point.
+	 *
+	 * @param c
+	 *            The packed control points of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param px
+	 *            The x coordinate of the point to find.
+	 * @param py
+	 *            The y coordinate of the point to find.
+	 * @param interval
+	 *            The parameter interval to search, which receives the result.
+	 * @param scratch
+	 *            A buffer that can hold <i>n</i> control points.
+	 * @param stack
+	 *            A traversal stack, which is enlarged if necessary.
+	 * @return <code>true</code> if a converging parameter interval that
+	 *         contains the point could be identified, otherwise
+	 *         <code>false</code>
+	 */
+	static boolean findParameter(double[] c, int n, double px, double py,
+			double[] interval, double[] scratch, double[] stack) {
+		int top = 0;
+		stack[top++] = interval[0];
+		stack[top++] = interval[1];
+		while (top > 0) {
+			double b = stack[--top];
+			double a = stack[--top];
+
+			if (PrecisionUtils.equal(a, b, 1)) {
+				interval[0] = a;
+				interval[1] = b;
+				break;
+			}
+
+			if (top + 4 > stack.length) {
+				stack = Arrays.copyOf(stack, 2 * stack.length);
+			}
+			double m = (a + b) / 2;
+			clip(c, n, a, m, scratch);
+			if (hullBoundsContain(scratch, n, px, py)) {
+				stack[top++] = a;
+				stack[top++] = m;
+			}
+			clip(c, n, m, b, scratch);
+			if (hullBoundsContain(scratch, n, px, py)) {
+				stack[top++] = m;
+				stack[top++] = b;
+			}
+		}
+		return PrecisionUtils.equal(interval[0], interval[1], 1);
+	}
+
+	/**
+	 * Tests if the control bounds of the given curve contain the given point
+	 * (within the default imprecision).
+	 */
+	private static boolean hullBoundsContain(double[] c, int n, double px,
+			double py) {
+		return PrecisionUtils.greaterEqual(py, min(c, n, Y))
+				&& PrecisionUtils.smallerEqual(py, max(c, n, Y))
+				&& PrecisionUtils.greaterEqual(px, min(c, n, X))
+				&& PrecisionUtils.smallerEqual(px, max(c, n, X));
+	}
+
+	/**
+	 * Computes the x coordinate of the intersection of the line from
+	 * <code>(x1, y1)</code> to <code>(x2, y2)</code> with the x-axis-parallel
+	 * line <code>f(x) = y</code>.
+	 */
+	private static double intersectXAxisParallel(double x1, double y1,
+			double x2, double y2, double y) {
+		double m = (y2 - y1) / (x2 - x1);
+		return (y - y1 + m * x1) / m;
+	}
+
+	private static boolean isBetter(double v, double extreme, boolean max) {
+		return max ? PrecisionUtils.greaterEqual(v, extreme)
+				: PrecisionUtils.smallerEqual(v, extreme);
+	}
+
+	/**
+	 * Linearly interpolates the control points <i>i</i> and <i>j</i> of the
+	 * given buffer at <i>t</i> and stores the result at index <i>k</i>.
+	 */
+	private static void lerp(double[] c, int i, int j, double t, int k) {
+		double x = c[2 * i] + (c[2 * j] - c[2 * i]) * t;
+		double y = c[2 * i + 1] + (c[2 * j + 1] - c[2 * i + 1]) * t;
+		c[2 * k] = x;
+		c[2 * k + 1] = y;
+	}
+
+	/**
+	 * Returns the maximum of the given coordinate over all control points.
+	 */
+	static double max(double[] c, int n, int coordinate) {
+		double max = c[coordinate];
+		for (int i = 1; i < n; i++) {
+			max = Math.max(max, c[2 * i + coordinate]);
+		}
+		return max;
+	}
+
+	/**
+	 * Moves the interval stored at the given offset to include the given
+	 * parameter value, which is clamped to <code>[0;1]</code>.
+	 */
+	private static void moveInterval(double[] interval, int offset,
+			double x) {
+		if (x < 0) {
+			x = 0;
+		} else if (x > 1) {
+			x = 1;
+		}
+		if (interval[offset] > x) {
+			interval[offset] = x;
+		}
+		if (interval[offset + 1] < x) {
+			interval[offset + 1] = x;
+		}
+	}
+
+	/**
+	 * Moves the interval stored at the given offset to include the x
+	 * coordinate of the intersection of the line from <code>(x1, y1)</code> to
+	 * <code>(x2, y2)</code> with the fat line border <code>y = d</code>, if
+	 * the line crosses the border.
+	 */
+	private static void moveInterval(double[] interval, int offset, double x1,
+			double y1, double x2, double y2, double d) {
+		if (y1 < d != y2 < d) {
+			moveInterval(interval, offset,
+					intersectXAxisParallel(x1, y1, x2, y2, d));
+		}
+	}
+
+	/**
+	 * Returns the minimum of the given coordinate over all control points.
+	 */
+	static double min(double[] c, int n, int coordinate) {
+		double min = c[coordinate];
+		for (int i = 1; i < n; i++) {
+			min = Math.min(min, c[2 * i + coordinate]);
+		}
+		return min;
+	}
+
+	/**
+	 * Subdivides the given curve at the given parameter value, writing the
+	 * control points of the left part (<code>[0;t]</code>) and of the right
+	 * part (<code>[t;1]</code>) to the given buffers. The input buffer may be
+	 * the same as either of the output buffers.
+	 *
+	 * @param c
+	 *            The packed control points of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param t
+	 *            The parameter value at which to subdivide.
+	 * @param left
+	 *            The buffer for the left part, may be <code>null</code>.
+	 * @param right
+	 *            The buffer for the right part.
+	 */
+	static void split(double[] c, int n, double t, double[] left,
+			double[] right) {
+		if (c != right) {
+			System.arraycopy(c, 0, right, 0, 2 * n);
+		}
+		for (int i = 0; i < n; i++) {
+			if (left != null) {
+				left[2 * i] = right[0];
+				left[2 * i + 1] = right[1];
+			}
+			for (int j = 0; j < n - i - 1; j++) {
+				lerp(right, j, j + 1, t, j);
+			}
+		}
+	}
+
+	private BezierCurveCore() {
+		// static utility class
+	}
+
+}
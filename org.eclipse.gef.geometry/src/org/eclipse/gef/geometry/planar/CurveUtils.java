@@ -41,7 +41,10 @@ class CurveUtils {
 	}
 
 	/**
-	 * Delegates to the {@link BezierCurve#getIntersections(ICurve)} method.
+	 * Computes the intersection {@link Point}s of the given {@link ICurve}s
+	 * using the {@link SegmentIntersector}, so that only those
+	 * {@link BezierCurve} segments are intersected, whose control bounds
+	 * overlap.
 	 *
 	 * @param curve1
 	 *            The first {@link ICurve} to intersect
@@ -50,14 +53,8 @@ class CurveUtils {
 	 * @return An array of intersection {@link Point}s
 	 */
 	public static Point[] getIntersections(ICurve curve1, ICurve curve2) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (BezierCurve bezier : curve1.toBezier()) {
-			intersections
-					.addAll(Arrays.asList(bezier.getIntersections(curve2)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return SegmentIntersector.getIntersections(curve1.toBezier(),
+				curve2.toBezier());
 	}
 
 	/**
@@ -86,7 +83,9 @@ class CurveUtils {
 	}
 
 	/**
-	 * Delegates to the {@link #getIntersections(ICurve, IShape)} method.
+	 * Computes the intersection {@link Point}s of the given {@link ICurve} and
+	 * the outline segments of all {@link IShape}s of the given
+	 * {@link IMultiShape} in one pass of the {@link SegmentIntersector}.
 	 *
 	 * @param curve
 	 *            the {@link ICurve} to intersect
@@ -96,17 +95,14 @@ class CurveUtils {
 	 */
 	public static Point[] getIntersections(ICurve curve,
 			IMultiShape multiShape) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (IShape shape : multiShape.getShapes()) {
-			intersections.addAll(Arrays.asList(getIntersections(curve, shape)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return SegmentIntersector.getIntersections(curve.toBezier(),
+				SegmentIntersector.getSegments(multiShape));
 	}
 
 	/**
-	 * Delegates to the {@link #getIntersections(ICurve, ICurve)} method.
+	 * Computes the intersection {@link Point}s of the given {@link ICurve} and
+	 * the outline segments of the given {@link IShape} in one pass of the
+	 * {@link SegmentIntersector}.
 	 *
 	 * @param curve
 	 *            the {@link ICurve} to intersect
@@ -115,18 +111,14 @@ class CurveUtils {
 	 * @return an array of intersection {@link Point}s
 	 */
 	public static Point[] getIntersections(ICurve curve, IShape shape) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (ICurve curve2 : shape.getOutlineSegments()) {
-			intersections
-					.addAll(Arrays.asList(getIntersections(curve, curve2)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return SegmentIntersector.getIntersections(curve.toBezier(),
+				SegmentIntersector.getSegments(shape));
 	}
 
 	/**
-	 * Delegates to the {@link #getIntersections(ICurve, IGeometry)} method.
+	 * Computes the intersection {@link Point}s of the given {@link IGeometry
+	 * geometries}, i.e. of their (outline) segments, in one pass of the
+	 * {@link SegmentIntersector}.
 	 *
 	 * @param geom1
 	 *            the first {@link IGeometry} to intersect
@@ -135,29 +127,9 @@ class CurveUtils {
 	 * @return points of intersection
 	 */
 	public static Point[] getIntersections(IGeometry geom1, IGeometry geom2) {
-		if (geom1 instanceof ICurve) {
-			return getIntersections((ICurve) geom1, geom2);
-		} else {
-			Set<Point> intersections = new HashSet<>();
-
-			if (geom1 instanceof IShape) {
-				for (ICurve curve : ((IShape) geom1).getOutlineSegments()) {
-					intersections.addAll(
-							Arrays.asList(getIntersections(curve, geom2)));
-				}
-			} else if (geom1 instanceof IMultiShape) {
-				for (IShape shape : ((IMultiShape) geom1).getShapes()) {
-					for (ICurve curve : shape.getOutlineSegments()) {
-						intersections.addAll(
-								Arrays.asList(getIntersections(curve, geom2)));
-					}
-				}
-			} else {
-				throw new UnsupportedOperationException("Not yet implemented.");
-			}
-
-			return intersections.toArray(new Point[] {});
-		}
+		return SegmentIntersector.getIntersections(
+				SegmentIntersector.getSegments(geom1),
+				SegmentIntersector.getSegments(geom2));
 	}
 
 	/**
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+
+/**
+ * A {@link GeometrySnapshot} is an immutable copy of an {@link IGeometry} that
+ * memoizes data which is derived from the {@link IGeometry}, i.e. its bounds,
+ * its outline segments, its Bézier decomposition, the derivatives of the
+ * Bézier segments, and an arc length table. The derived data is computed on
+ * first access and reused afterwards. As the {@link GeometrySnapshot} copies
+ * the {@link IGeometry} upon construction, mutating the original
+ * {@link IGeometry} afterwards does not affect the snapshot. Instead, a new
+ * {@link GeometrySnapshot} has to be created for the mutated
+ * {@link IGeometry}.
+ * <p>
+ * In order to prevent repeated allocations, the {@link ICurve}s and
+ * {@link BezierCurve}s that are returned by a {@link GeometrySnapshot} are
+ * shared by all callers and may not be modified. Only the arrays containing
+ * them are copied.
+ *
+ * @param <T>
+ *            The type of the {@link IGeometry} of which the
+ *            {@link GeometrySnapshot} is taken.
+ *
+ * @author agent
+ *
+ */
+public final class GeometrySnapshot<T extends IGeometry> {
+
+	/**
+	 * The line similarity (see {@link BezierCurve#toLineStrip(double)}) up to
+	 * which the Bézier segments are approximated by {@link Line}s when
+	 * computing their arc lengths.
+	 */
+	private static final double ARC_LENGTH_SIMILARITY = 0.01;
+
+	private final T geometry;
+	private Rectangle bounds;
+	private ICurve[] outlineSegments;
+	private BezierCurve[] beziers;
+	private BezierCurve[] derivatives;
+	private double[] arcLengths;
+
+	/**
+	 * Creates a new {@link GeometrySnapshot} for a copy of the given
+	 * {@link IGeometry}.
+	 *
+	 * @param geometry
+	 *            the {@link IGeometry} of which to take a snapshot
+	 */
+	@SuppressWarnings("unchecked")
+	public GeometrySnapshot(T geometry) {
+		if (geometry == null) {
+			throw new IllegalArgumentException(
+					"The given geometry may not be null.");
+		}
+		this.geometry = (T) geometry.getCopy();
+	}
+
+	/**
+	 * Returns the cumulative arc lengths of the Bézier segments of the
+	 * {@link IGeometry} of this {@link GeometrySnapshot} (see
+	 * {@link #toBezier()}), i.e. the value at index <i>i</i> is the length
+	 * from the start of the first segment to the end of the segment with index
+	 * <i>i</i>. The arc lengths are approximated by {@link Line} strips (see
+	 * {@link BezierCurve#toLineStrip(double)}).
+	 *
+	 * @return the cumulative arc lengths of the Bézier segments
+	 */
+	public double[] getArcLengths() {
+		if (arcLengths == null) {
+			BezierCurve[] segments = getBeziers();
+			double[] lengths = new double[segments.length];
+			double length = 0;
+			for (int i = 0; i < segments.length; i++) {
+				for (Line l : segments[i]
+						.toLineStrip(ARC_LENGTH_SIMILARITY)) {
+					length += l.getLength();
+				}
+				lengths[i] = length;
+			}
+			arcLengths = lengths;
+		}
+		return Arrays.copyOf(arcLengths, arcLengths.length);
+	}
+
+	private BezierCurve[] getBeziers() {
+		if (beziers == null) {
+			beziers = SegmentIntersector.getSegments(geometry);
+		}
+		return beziers;
+	}
+
+	/**
+	 * Returns the bounds of the {@link IGeometry} of this
+	 * {@link GeometrySnapshot} (see {@link IGeometry#getBounds()}).
+	 *
+	 * @return a new {@link Rectangle} representing the bounds of the
+	 *         {@link IGeometry} of this {@link GeometrySnapshot}
+	 */
+	public Rectangle getBounds() {
+		if (bounds == null) {
+			bounds = geometry.getBounds();
+		}
+		return bounds.getCopy();
+	}
+
+	/**
+	 * Returns the derivative (see {@link BezierCurve#getDerivative()}) of the
+	 * Bézier segment with the given index (see {@link #toBezier()}).
+	 *
+	 * @param index
+	 *            the index of the Bézier segment
+	 * @return the (shared) derivative of the specified Bézier segment
+	 */
+	public BezierCurve getDerivative(int index) {
+		BezierCurve[] segments = getBeziers();
+		if (derivatives == null) {
+			derivatives = new BezierCurve[segments.length];
+		}
+		if (derivatives[index] == null) {
+			derivatives[index] = segments[index].getDerivative();
+		}
+		return derivatives[index];
+	}
+
+	/**
+	 * Returns a copy of the {@link IGeometry} of this {@link GeometrySnapshot}.
+	 *
+	 * @return a copy of the {@link IGeometry} of this {@link GeometrySnapshot}
+	 */
+	@SuppressWarnings("unchecked")
+	public T getGeometry() {
+		return (T) geometry.getCopy();
+	}
+
+	/**
+	 * Returns the total arc length of the Bézier segments of the
+	 * {@link IGeometry} of this {@link GeometrySnapshot} (see
+	 * {@link #getArcLengths()}).
+	 *
+	 * @return the total arc length of the Bézier segments
+	 */
+	public double getLength() {
+		getArcLengths();
+		return arcLengths.length == 0 ? 0 : arcLengths[arcLengths.length - 1];
+	}
+
+	/**
+	 * Returns the outline segments of the {@link IGeometry} of this
+	 * {@link GeometrySnapshot}, which has to be an {@link IShape} (see
+	 * {@link IShape#getOutlineSegments()}) or an {@link IMultiShape} (see
+	 * {@link IMultiShape#getOutlineSegments()}).
+	 *
+	 * @return the (shared) outline segments of the {@link IGeometry} of this
+	 *         {@link GeometrySnapshot}
+	 * @throws UnsupportedOperationException
+	 *             if the {@link IGeometry} of this {@link GeometrySnapshot} is
+	 *             neither an {@link IShape} nor an {@link IMultiShape}
+	 */
+	public ICurve[] getOutlineSegments() {
+		if (outlineSegments == null) {
+			if (geometry instanceof IShape) {
+				outlineSegments = ((IShape) geometry).getOutlineSegments();
+			} else if (geometry instanceof IMultiShape) {
+				outlineSegments = ((IMultiShape) geometry)
+						.getOutlineSegments();
+			} else {
+				throw new UnsupportedOperationException(
+						"Outline segments are only available for IShape and IMultiShape geometries: "
+								+ geometry);
+			}
+		}
+		return Arrays.copyOf(outlineSegments, outlineSegments.length);
+	}
+
+	/**
+	 * Returns the Bézier decomposition of the {@link IGeometry} of this
+	 * {@link GeometrySnapshot}, i.e. the Bézier segments of an {@link ICurve}
+	 * (see {@link ICurve#toBezier()}), or the Bézier segments of the outline
+	 * segments of an {@link IShape} or {@link IMultiShape}.
+	 *
+	 * @return the (shared) Bézier segments of the {@link IGeometry} of this
+	 *         {@link GeometrySnapshot}
+	 * @throws UnsupportedOperationException
+	 *             if the {@link IGeometry} of this {@link GeometrySnapshot} is
+	 *             neither an {@link ICurve}, nor an {@link IShape}, nor an
+	 *             {@link IMultiShape}
+	 */
+	public BezierCurve[] toBezier() {
+		BezierCurve[] segments = getBeziers();
+		return Arrays.copyOf(segments, segments.length);
+	}
+
+	@Override
+	public String toString() {
+		return "GeometrySnapshot(" + geometry + ")";
+	}
+
+}
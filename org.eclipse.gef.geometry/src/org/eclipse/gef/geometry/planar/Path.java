@@ -205,6 +205,16 @@ public class Path extends AbstractGeometry implements IGeometry {
 			return Point.getCopy(points);
 		}
 
+		/**
+		 * Returns the {@link Point}s associated with this {@link Segment}
+		 * without copying them, so that they may not be modified.
+		 *
+		 * @return the {@link Point}s associated with this {@link Segment}
+		 */
+		Point[] getPointsUnsafe() {
+			return points;
+		}
+
 		/**
 		 * Returns the type of this {@link Segment}.
 		 *
@@ -254,6 +264,9 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the sum of the areas
 	 */
 	public static Path add(Path pa, Path pb) {
+		if (isPolygonal(pa) && isPolygonal(pb)) {
+			return PathClipper.compute(pa, pb, PathClipper.UNION);
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.add(b);
@@ -271,6 +284,9 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the exclusive-or of the areas
 	 */
 	public static Path exclusiveOr(Path pa, Path pb) {
+		if (isPolygonal(pa) && isPolygonal(pb)) {
+			return PathClipper.compute(pa, pb, PathClipper.EXCLUSIVE_OR);
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.exclusiveOr(b);
@@ -288,6 +304,9 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 *         areas
 	 */
 	public static Path intersect(Path pa, Path pb) {
+		if (isPolygonal(pa) && isPolygonal(pb)) {
+			return PathClipper.compute(pa, pb, PathClipper.INTERSECTION);
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.intersect(b);
@@ -304,12 +323,31 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the area covered by the first but not the second given area
 	 */
 	public static Path subtract(Path pa, Path pb) {
+		if (isPolygonal(pa) && isPolygonal(pb)) {
+			return PathClipper.compute(pa, pb, PathClipper.DIFFERENCE);
+		}
 		Area a = new Area(Geometry2AWT.toAWTPath(pa));
 		Area b = new Area(Geometry2AWT.toAWTPath(pb));
 		a.subtract(b);
 		return AWT2Geometry.toPath(new Path2D.Double(a));
 	}
 
+	/**
+	 * Checks if the given {@link Path} consists of straight segments only.
+	 * Boolean operations on such paths are computed by the
+	 * {@link PathClipper}, while paths containing curved segments are
+	 * combined by {@link Area}, which preserves the curves.
+	 */
+	private static boolean isPolygonal(Path path) {
+		for (Segment s : path.segments) {
+			if (s.getType() == Segment.QUAD_TO
+					|| s.getType() == Segment.CUBIC_TO) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private int windingRule = WIND_NON_ZERO;
 
 	private List<Segment> segments = new ArrayList<>();
@@ -396,8 +434,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 
 	@Override
 	public boolean contains(Point p) {
-		return Geometry2AWT.toAWTPath(this)
-				.contains(Geometry2AWT.toAWTPoint(p));
+		return PathClipper.contains(this, p.x, p.y);
 	}
 
 	/**
@@ -412,8 +449,8 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 *         within this {@link IGeometry}
 	 */
 	public boolean contains(Rectangle r) {
-		return Geometry2AWT.toAWTPath(this)
-				.contains(Geometry2AWT.toAWTRectangle(r));
+		return PathClipper.contains(this, r.getX(), r.getY(), r.getWidth(),
+				r.getHeight());
 	}
 
 	/**
@@ -548,9 +585,22 @@ public class Path extends AbstractGeometry implements IGeometry {
 
 	@Override
 	public Path getTransformed(AffineTransform t) {
-		return AWT2Geometry
-				.toPath(new Path2D.Double(Geometry2AWT.toAWTPath(this),
-						Geometry2AWT.toAWTAffineTransform(t)));
+		List<Segment> transformed = new ArrayList<>(segments.size());
+		for (Segment s : segments) {
+			transformed.add(new Segment(s.getType(),
+					t.getTransformed(s.getPointsUnsafe())));
+		}
+		return new Path(getWindingRule()).add(transformed);
+	}
+
+	/**
+	 * Returns the segments of this path without copying them, so that they
+	 * may not be modified.
+	 *
+	 * @return The {@link List} of {@link Segment}s of this path.
+	 */
+	List<Segment> getSegmentsUnsafe() {
+		return segments;
 	}
 
 	/**
@@ -0,0 +1,1056 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.geometry.planar.Path.Segment;
+
+/**
+ * The {@link PathClipper} provides boolean operations (union, intersection,
+ * difference, and exclusive-or) on the areas that are described by
+ * {@link Path}s, as well as containment tests, without converting to AWT.
+ * <p>
+ * Boolean operations are computed in three steps:
+ * <ol>
+ * <li>The outlines of both paths are flattened into line segments (curved
+ * segments are approximated within a tolerance that is relative to the extent
+ * of the paths), and these segments are split at all mutual intersections, so
+ * that they only meet at their end points.</li>
+ * <li>A sweep line passes over the segments, maintaining the segments that
+ * intersect it in bottom-to-top order. The winding numbers (w.r.t. both paths)
+ * of the region below a segment are inherited from the segment directly below
+ * it (Vatti/Martinez-style), so that it can be decided (using the winding
+ * rules of both paths) whether a segment separates the interior of the result
+ * from its exterior.</li>
+ * <li>The resulting boundary segments are oriented (interior on the left) and
+ * chained into closed outlines.</li>
+ * </ol>
+ * As the results of boolean operations are polygonal, {@link Path} only uses
+ * the {@link PathClipper} for polygonal input and resorts to
+ * {@link java.awt.geom.Area} for curved input, which preserves the curves.
+ * Containment tests work directly on the segments of a {@link Path}
+ * (including curved segments) and follow the insideness definition of
+ * {@link java.awt.Shape}.
+ *
+ * @author agent
+ *
+ */
+final class PathClipper {
+
+	/**
+	 * A vertex of the planar subdivision that is formed by the (split)
+	 * segments. Vertices are interned by their (exact) coordinates.
+	 */
+	private static final class Vertex {
+		final double x;
+		final double y;
+		// edges that start (i.e. have their left end point) at this vertex
+		final List<Edge> starting = new ArrayList<>(2);
+		// edges that end (i.e. have their right end point) at this vertex
+		final List<Edge> ending = new ArrayList<>(2);
+		// resulting boundary edges that are leaving this vertex
+		List<Edge> outgoing;
+
+		Vertex(double x, double y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Vertex)) {
+				return false;
+			}
+			Vertex v = (Vertex) obj;
+			return x == v.x && y == v.y;
+		}
+
+		@Override
+		public int hashCode() {
+			long bits = Double.doubleToLongBits(x) * 31
+					+ Double.doubleToLongBits(y);
+			return (int) (bits ^ (bits >>> 32));
+		}
+	}
+
+	/**
+	 * An edge of the planar subdivision, directed from its left to its right
+	 * end point (lexicographic order).
+	 */
+	private static final class Edge {
+		final Vertex left;
+		final Vertex right;
+		// winding number contributions (w.r.t. the first and second path)
+		int windA;
+		int windB;
+		// winding numbers of the region below this edge
+		int belowA;
+		int belowB;
+		// whether the resulting boundary edge runs from right to left
+		boolean reversed;
+		boolean visited;
+
+		Edge(Vertex left, Vertex right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		Vertex getEnd() {
+			return reversed ? left : right;
+		}
+
+		Vertex getStart() {
+			return reversed ? right : left;
+		}
+
+		/**
+		 * Returns the y coordinate of this edge at the given x coordinate,
+		 * clamped to the y range of this edge for vertical edges.
+		 */
+		double yAt(double x, double y) {
+			if (right.x == left.x) {
+				return Math.max(left.y, Math.min(right.y, y));
+			}
+			if (x <= left.x) {
+				return left.y;
+			}
+			if (x >= right.x) {
+				return right.y;
+			}
+			return left.y + (x - left.x) * (right.y - left.y)
+					/ (right.x - left.x);
+		}
+	}
+
+	/**
+	 * A flattened (not yet split) line segment of one of the input paths,
+	 * stored with its end points in lexicographic order.
+	 */
+	private static final class RawEdge {
+		final double lx, ly, rx, ry;
+		// +1 if the segment runs from left to right, -1 otherwise
+		final int direction;
+		final boolean second;
+		// coordinates of split points (x0, y0, x1, y1, ...)
+		double[] splits;
+		int splitCount;
+
+		RawEdge(double x0, double y0, double x1, double y1, boolean second) {
+			if (x0 < x1 || x0 == x1 && y0 < y1) {
+				lx = x0;
+				ly = y0;
+				rx = x1;
+				ry = y1;
+				direction = 1;
+			} else {
+				lx = x1;
+				ly = y1;
+				rx = x0;
+				ry = y0;
+				direction = -1;
+			}
+			this.second = second;
+		}
+
+		void addSplit(double x, double y) {
+			if (splits == null) {
+				splits = new double[4];
+			} else if (2 * splitCount == splits.length) {
+				splits = Arrays.copyOf(splits, 2 * splits.length);
+			}
+			splits[2 * splitCount] = x;
+			splits[2 * splitCount + 1] = y;
+			splitCount++;
+		}
+
+		/**
+		 * Returns the parameter of the projection of the given point onto
+		 * this edge.
+		 */
+		double getParameter(double x, double y) {
+			double dx = rx - lx;
+			double dy = ry - ly;
+			return ((x - lx) * dx + (y - ly) * dy) / (dx * dx + dy * dy);
+		}
+
+		/**
+		 * Returns -1, 0, or 1, depending on the side of this edge's line on
+		 * which the given point lies, 0 indicating that its distance to the
+		 * line does not exceed the given tolerance.
+		 */
+		int getSide(double x, double y, double tolerance) {
+			double dx = rx - lx;
+			double dy = ry - ly;
+			double cross = dx * (y - ly) - dy * (x - lx);
+			if (Math.abs(cross) <= tolerance * Math.sqrt(dx * dx + dy * dy)) {
+				return 0;
+			}
+			return cross < 0 ? -1 : 1;
+		}
+
+		/**
+		 * Tests whether the given point (that is assumed to lie on this
+		 * edge's line) lies strictly between the end points of this edge
+		 * (w.r.t. the given tolerance).
+		 */
+		boolean isInterior(double x, double y, double tolerance) {
+			double t = getParameter(x, y);
+			double length = Math.sqrt((rx - lx) * (rx - lx)
+					+ (ry - ly) * (ry - ly));
+			return t * length > tolerance && (1 - t) * length > tolerance;
+		}
+	}
+
+	/**
+	 * The union operation.
+	 */
+	static final int UNION = 0;
+
+	/**
+	 * The intersection operation.
+	 */
+	static final int INTERSECTION = 1;
+
+	/**
+	 * The difference operation.
+	 */
+	static final int DIFFERENCE = 2;
+
+	/**
+	 * The exclusive-or operation.
+	 */
+	static final int EXCLUSIVE_OR = 3;
+
+	// flatness tolerance for curved segments (relative to the extent)
+	private static final double RELATIVE_FLATNESS = 1e-4;
+
+	// vertices are snapped to a grid, whose size is relative to the extent
+	// (as a binary exponent, so that snapping is exact for 'nice' values)
+	private static final int RELATIVE_GRID_EXPONENT = -36;
+
+	// maximum subdivision depth for curved segments
+	private static final int MAX_SUBDIVISION_DEPTH = 16;
+
+	// maximum subdivision depth for containment tests (cp. java.awt.geom)
+	private static final int MAX_CROSSINGS_DEPTH = 52;
+
+	private static final Comparator<Vertex> SWEEP_ORDER = new Comparator<Vertex>() {
+		@Override
+		public int compare(Vertex v1, Vertex v2) {
+			if (v1.x != v2.x) {
+				return v1.x < v2.x ? -1 : 1;
+			}
+			return Double.compare(v1.y, v2.y);
+		}
+	};
+
+	/**
+	 * Computes the result of the given boolean operation for the areas that
+	 * are described by the given {@link Path}s.
+	 *
+	 * @param pa
+	 *            The first {@link Path}.
+	 * @param pb
+	 *            The second {@link Path}.
+	 * @param operation
+	 *            One of {@link #UNION}, {@link #INTERSECTION},
+	 *            {@link #DIFFERENCE}, or {@link #EXCLUSIVE_OR}.
+	 * @return A new {@link Path} (using the {@link Path#WIND_NON_ZERO} winding
+	 *         rule) that describes the resulting area.
+	 */
+	static Path compute(Path pa, Path pb, int operation) {
+		// determine extent to derive tolerances
+		double[] extent = new double[] { Double.POSITIVE_INFINITY,
+				Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+				Double.NEGATIVE_INFINITY };
+		updateExtent(pa, extent);
+		updateExtent(pb, extent);
+		if (extent[0] > extent[2]) {
+			return new Path();
+		}
+		double size = Math.max(extent[2] - extent[0], extent[3] - extent[1]);
+		double magnitude = Math.max(
+				Math.max(Math.abs(extent[0]), Math.abs(extent[1])),
+				Math.max(Math.abs(extent[2]), Math.abs(extent[3])));
+		double grid = Math.scalb(1d,
+				Math.getExponent(Math.max(magnitude, Double.MIN_NORMAL))
+						+ RELATIVE_GRID_EXPONENT);
+		double flatness = Math.max(size * RELATIVE_FLATNESS, grid);
+
+		// flatten outlines
+		List<RawEdge> rawEdges = new ArrayList<>();
+		flatten(pa, false, flatness, rawEdges);
+		flatten(pb, true, flatness, rawEdges);
+
+		// split at mutual intersections and build planar subdivision
+		split(rawEdges, grid);
+		List<Vertex> vertices = buildSubdivision(rawEdges, grid);
+
+		// sweep to determine winding numbers and resulting boundary
+		Collections.sort(vertices, SWEEP_ORDER);
+		sweep(vertices);
+		int ruleA = pa.getWindingRule();
+		int ruleB = pb.getWindingRule();
+		List<Edge> boundary = new ArrayList<>();
+		for (Vertex v : vertices) {
+			for (Edge e : v.starting) {
+				boolean insideBelow = isInside(operation,
+						isInside(ruleA, e.belowA), isInside(ruleB, e.belowB));
+				boolean insideAbove = isInside(operation,
+						isInside(ruleA, e.belowA + e.windA),
+						isInside(ruleB, e.belowB + e.windB));
+				if (insideBelow != insideAbove) {
+					// interior is on the left
+					e.reversed = insideBelow;
+					Vertex start = e.getStart();
+					if (start.outgoing == null) {
+						start.outgoing = new ArrayList<>(2);
+					}
+					start.outgoing.add(e);
+					boundary.add(e);
+				}
+			}
+		}
+		return chain(boundary, grid);
+	}
+
+	/**
+	 * Tests whether the given point is contained within the area that is
+	 * described by the given {@link Path}.
+	 *
+	 * @param path
+	 *            The {@link Path} to test.
+	 * @param px
+	 *            The x coordinate of the point.
+	 * @param py
+	 *            The y coordinate of the point.
+	 * @return <code>true</code> if the point is contained, otherwise
+	 *         <code>false</code>.
+	 */
+	static boolean contains(Path path, double px, double py) {
+		int crossings = 0;
+		double moveX = 0, moveY = 0, curX = 0, curY = 0;
+		for (Segment s : path.getSegmentsUnsafe()) {
+			Point[] p = s.getPointsUnsafe();
+			switch (s.getType()) {
+			case Segment.MOVE_TO:
+				crossings += getLineCrossings(px, py, curX, curY, moveX,
+						moveY);
+				moveX = curX = p[0].x;
+				moveY = curY = p[0].y;
+				break;
+			case Segment.LINE_TO:
+				crossings += getLineCrossings(px, py, curX, curY, p[0].x,
+						p[0].y);
+				curX = p[0].x;
+				curY = p[0].y;
+				break;
+			case Segment.QUAD_TO:
+				// elevate to cubic
+				crossings += getCubicCrossings(px, py, curX, curY,
+						curX + 2 * (p[0].x - curX) / 3,
+						curY + 2 * (p[0].y - curY) / 3,
+						p[1].x + 2 * (p[0].x - p[1].x) / 3,
+						p[1].y + 2 * (p[0].y - p[1].y) / 3, p[1].x, p[1].y,
+						0);
+				curX = p[1].x;
+				curY = p[1].y;
+				break;
+			case Segment.CUBIC_TO:
+				crossings += getCubicCrossings(px, py, curX, curY, p[0].x,
+						p[0].y, p[1].x, p[1].y, p[2].x, p[2].y, 0);
+				curX = p[2].x;
+				curY = p[2].y;
+				break;
+			case Segment.CLOSE:
+				crossings += getLineCrossings(px, py, curX, curY, moveX,
+						moveY);
+				curX = moveX;
+				curY = moveY;
+				break;
+			}
+		}
+		crossings += getLineCrossings(px, py, curX, curY, moveX, moveY);
+		return isInside(path.getWindingRule(), crossings);
+	}
+
+	/**
+	 * Tests whether the given rectangle is fully contained within the area
+	 * that is described by the given {@link Path}, i.e. no part of the
+	 * outline of the {@link Path} passes through the interior of the
+	 * rectangle, and the interior of the rectangle is contained.
+	 *
+	 * @param path
+	 *            The {@link Path} to test.
+	 * @param x
+	 *            The x coordinate of the rectangle.
+	 * @param y
+	 *            The y coordinate of the rectangle.
+	 * @param w
+	 *            The width of the rectangle.
+	 * @param h
+	 *            The height of the rectangle.
+	 * @return <code>true</code> if the rectangle is contained, otherwise
+	 *         <code>false</code>.
+	 */
+	static boolean contains(Path path, double x, double y, double w,
+			double h) {
+		if (Double.isNaN(x + w) || Double.isNaN(y + h) || w <= 0
+				|| h <= 0) {
+			return false;
+		}
+		double x1 = x + w, y1 = y + h;
+		double moveX = 0, moveY = 0, curX = 0, curY = 0;
+		for (Segment s : path.getSegmentsUnsafe()) {
+			Point[] p = s.getPointsUnsafe();
+			boolean intersects = false;
+			switch (s.getType()) {
+			case Segment.MOVE_TO:
+				intersects = intersectsInterior(curX, curY, moveX, moveY, x,
+						y, x1, y1);
+				moveX = curX = p[0].x;
+				moveY = curY = p[0].y;
+				break;
+			case Segment.LINE_TO:
+				intersects = intersectsInterior(curX, curY, p[0].x, p[0].y,
+						x, y, x1, y1);
+				curX = p[0].x;
+				curY = p[0].y;
+				break;
+			case Segment.QUAD_TO:
+				intersects = intersectsInterior(new double[] { curX, curY,
+						p[0].x, p[0].y, p[1].x, p[1].y }, x, y, x1, y1, 0);
+				curX = p[1].x;
+				curY = p[1].y;
+				break;
+			case Segment.CUBIC_TO:
+				intersects = intersectsInterior(
+						new double[] { curX, curY, p[0].x, p[0].y, p[1].x,
+								p[1].y, p[2].x, p[2].y },
+						x, y, x1, y1, 0);
+				curX = p[2].x;
+				curY = p[2].y;
+				break;
+			case Segment.CLOSE:
+				intersects = intersectsInterior(curX, curY, moveX, moveY, x,
+						y, x1, y1);
+				curX = moveX;
+				curY = moveY;
+				break;
+			}
+			if (intersects) {
+				return false;
+			}
+		}
+		if (intersectsInterior(curX, curY, moveX, moveY, x, y, x1, y1)) {
+			return false;
+		}
+		// the outline does not pass through the rectangle, so that its
+		// interior is either fully contained or not at all
+		return contains(path, x + w / 2, y + h / 2);
+	}
+
+	/**
+	 * Builds the planar subdivision from the given (split) raw edges, i.e.
+	 * snaps all vertices to the given grid, interns them, and merges
+	 * coincident edges.
+	 */
+	private static List<Vertex> buildSubdivision(List<RawEdge> rawEdges,
+			double grid) {
+		Map<Vertex, Vertex> vertices = new HashMap<>();
+		for (RawEdge raw : rawEdges) {
+			// collect and sort split points along the edge
+			int n = raw.splitCount;
+			final double[] t = new double[n];
+			Integer[] order = new Integer[n];
+			for (int i = 0; i < n; i++) {
+				t[i] = raw.getParameter(raw.splits[2 * i],
+						raw.splits[2 * i + 1]);
+				order[i] = i;
+			}
+			if (n > 1) {
+				Arrays.sort(order, new Comparator<Integer>() {
+					@Override
+					public int compare(Integer i, Integer j) {
+						return Double.compare(t[i], t[j]);
+					}
+				});
+			}
+			Vertex previous = intern(vertices, raw.lx, raw.ly, grid);
+			for (int i = 0; i <= n; i++) {
+				Vertex next = i < n
+						? intern(vertices, raw.splits[2 * order[i]],
+								raw.splits[2 * order[i] + 1], grid)
+						: intern(vertices, raw.rx, raw.ry, grid);
+				if (next != previous) {
+					addEdge(previous, next, raw);
+					previous = next;
+				}
+			}
+		}
+		return new ArrayList<>(vertices.values());
+	}
+
+	/**
+	 * Adds an edge between the given vertices (or merges it with an existing
+	 * coincident one), contributing to the winding number w.r.t. the path of
+	 * the given raw edge.
+	 */
+	private static void addEdge(Vertex v0, Vertex v1, RawEdge raw) {
+		// snapping may have reversed the direction
+		int direction = raw.direction;
+		Vertex left = v0, right = v1;
+		if (SWEEP_ORDER.compare(v0, v1) > 0) {
+			left = v1;
+			right = v0;
+			direction = -direction;
+		}
+		Edge edge = null;
+		for (Edge e : left.starting) {
+			if (e.right == right) {
+				edge = e;
+				break;
+			}
+		}
+		if (edge == null) {
+			edge = new Edge(left, right);
+			left.starting.add(edge);
+			right.ending.add(edge);
+		}
+		if (raw.second) {
+			edge.windB += direction;
+		} else {
+			edge.windA += direction;
+		}
+	}
+
+	/**
+	 * Chains the given (oriented) boundary edges into closed outlines.
+	 */
+	private static Path chain(List<Edge> boundary, double grid) {
+		Path path = new Path(Path.WIND_NON_ZERO);
+		List<Vertex> outline = new ArrayList<>();
+		for (Edge first : boundary) {
+			if (first.visited) {
+				continue;
+			}
+			outline.clear();
+			Edge e = first;
+			while (e != null && !e.visited) {
+				e.visited = true;
+				outline.add(e.getStart());
+				Edge next = null;
+				for (Edge candidate : e.getEnd().outgoing) {
+					if (!candidate.visited) {
+						next = candidate;
+						break;
+					}
+				}
+				e = next;
+			}
+			appendOutline(path, outline, grid);
+		}
+		return path;
+	}
+
+	/**
+	 * Appends the given closed outline to the given {@link Path}, omitting
+	 * vertices at which the outline does not change its direction.
+	 */
+	private static void appendOutline(Path path, List<Vertex> outline,
+			double grid) {
+		int n = outline.size();
+		boolean first = true;
+		for (int i = 0; i < n; i++) {
+			Vertex previous = outline.get((i + n - 1) % n);
+			Vertex current = outline.get(i);
+			Vertex next = outline.get((i + 1) % n);
+			double ax = current.x - previous.x, ay = current.y - previous.y;
+			double bx = next.x - current.x, by = next.y - current.y;
+			double cross = ax * by - ay * bx;
+			if (Math.abs(cross) <= grid * Math.sqrt(ax * ax + ay * ay)
+					&& ax * bx + ay * by > 0) {
+				// collinear
+				continue;
+			}
+			if (first) {
+				path.moveTo(current.x, current.y);
+				first = false;
+			} else {
+				path.lineTo(current.x, current.y);
+			}
+		}
+		if (!first) {
+			path.close();
+		}
+	}
+
+	/**
+	 * Flattens the outline of the given {@link Path} into line segments
+	 * (closing all sub-paths), which are added to the given list.
+	 */
+	private static void flatten(Path path, boolean second, double flatness,
+			List<RawEdge> edges) {
+		double moveX = 0, moveY = 0, curX = 0, curY = 0;
+		for (Segment s : path.getSegmentsUnsafe()) {
+			Point[] p = s.getPointsUnsafe();
+			switch (s.getType()) {
+			case Segment.MOVE_TO:
+				flattenLine(curX, curY, moveX, moveY, second, edges);
+				moveX = curX = p[0].x;
+				moveY = curY = p[0].y;
+				break;
+			case Segment.LINE_TO:
+				flattenLine(curX, curY, p[0].x, p[0].y, second, edges);
+				curX = p[0].x;
+				curY = p[0].y;
+				break;
+			case Segment.QUAD_TO:
+				// elevate to cubic
+				flattenCubic(curX, curY, curX + 2 * (p[0].x - curX) / 3,
+						curY + 2 * (p[0].y - curY) / 3,
+						p[1].x + 2 * (p[0].x - p[1].x) / 3,
+						p[1].y + 2 * (p[0].y - p[1].y) / 3, p[1].x, p[1].y,
+						flatness, 0, second, edges);
+				curX = p[1].x;
+				curY = p[1].y;
+				break;
+			case Segment.CUBIC_TO:
+				flattenCubic(curX, curY, p[0].x, p[0].y, p[1].x, p[1].y,
+						p[2].x, p[2].y, flatness, 0, second, edges);
+				curX = p[2].x;
+				curY = p[2].y;
+				break;
+			case Segment.CLOSE:
+				flattenLine(curX, curY, moveX, moveY, second, edges);
+				curX = moveX;
+				curY = moveY;
+				break;
+			}
+		}
+		flattenLine(curX, curY, moveX, moveY, second, edges);
+	}
+
+	private static void flattenCubic(double x0, double y0, double x1,
+			double y1, double x2, double y2, double x3, double y3,
+			double flatness, int depth, boolean second, List<RawEdge> edges) {
+		if (depth >= MAX_SUBDIVISION_DEPTH
+				|| getDistance(x1, y1, x0, y0, x3, y3) <= flatness
+						&& getDistance(x2, y2, x0, y0, x3, y3) <= flatness) {
+			flattenLine(x0, y0, x3, y3, second, edges);
+			return;
+		}
+		// de Casteljau subdivision at 0.5
+		double x01 = (x0 + x1) / 2, y01 = (y0 + y1) / 2;
+		double x12 = (x1 + x2) / 2, y12 = (y1 + y2) / 2;
+		double x23 = (x2 + x3) / 2, y23 = (y2 + y3) / 2;
+		double x012 = (x01 + x12) / 2, y012 = (y01 + y12) / 2;
+		double x123 = (x12 + x23) / 2, y123 = (y12 + y23) / 2;
+		double xm = (x012 + x123) / 2, ym = (y012 + y123) / 2;
+		flattenCubic(x0, y0, x01, y01, x012, y012, xm, ym, flatness,
+				depth + 1, second, edges);
+		flattenCubic(xm, ym, x123, y123, x23, y23, x3, y3, flatness,
+				depth + 1, second, edges);
+	}
+
+	private static void flattenLine(double x0, double y0, double x1,
+			double y1, boolean second, List<RawEdge> edges) {
+		if (x0 != x1 || y0 != y1) {
+			edges.add(new RawEdge(x0, y0, x1, y1, second));
+		}
+	}
+
+	/**
+	 * Returns the winding number contribution of the given cubic curve for
+	 * a ray that starts at the given point and points into positive x
+	 * direction.
+	 */
+	private static int getCubicCrossings(double px, double py, double x0,
+			double y0, double x1, double y1, double x2, double y2, double x3,
+			double y3, int depth) {
+		if (py < y0 && py < y1 && py < y2 && py < y3
+				|| py >= y0 && py >= y1 && py >= y2 && py >= y3
+				|| px >= x0 && px >= x1 && px >= x2 && px >= x3) {
+			return 0;
+		}
+		if (px < x0 && px < x1 && px < x2 && px < x3) {
+			// curve is completely right of the point
+			if (py >= y0) {
+				return py < y3 ? 1 : 0;
+			}
+			return py >= y3 ? -1 : 0;
+		}
+		if (depth > MAX_CROSSINGS_DEPTH) {
+			return getLineCrossings(px, py, x0, y0, x3, y3);
+		}
+		double x01 = (x0 + x1) / 2, y01 = (y0 + y1) / 2;
+		double x12 = (x1 + x2) / 2, y12 = (y1 + y2) / 2;
+		double x23 = (x2 + x3) / 2, y23 = (y2 + y3) / 2;
+		double x012 = (x01 + x12) / 2, y012 = (y01 + y12) / 2;
+		double x123 = (x12 + x23) / 2, y123 = (y12 + y23) / 2;
+		double xm = (x012 + x123) / 2, ym = (y012 + y123) / 2;
+		if (Double.isNaN(xm) || Double.isNaN(ym)) {
+			return 0;
+		}
+		return getCubicCrossings(px, py, x0, y0, x01, y01, x012, y012, xm, ym,
+				depth + 1)
+				+ getCubicCrossings(px, py, xm, ym, x123, y123, x23, y23, x3,
+						y3, depth + 1);
+	}
+
+	/**
+	 * Returns the distance of the given point to the line through the given
+	 * end points (or to the start point if both end points coincide).
+	 */
+	private static double getDistance(double px, double py, double x0,
+			double y0, double x1, double y1) {
+		double dx = x1 - x0, dy = y1 - y0;
+		double length = Math.sqrt(dx * dx + dy * dy);
+		if (length == 0) {
+			return Math.sqrt((px - x0) * (px - x0) + (py - y0) * (py - y0));
+		}
+		return Math.abs(dx * (py - y0) - dy * (px - x0)) / length;
+	}
+
+	/**
+	 * Returns the winding number contribution of the given line for a ray
+	 * that starts at the given point and points into positive x direction.
+	 */
+	private static int getLineCrossings(double px, double py, double x0,
+			double y0, double x1, double y1) {
+		if (py < y0 && py < y1 || py >= y0 && py >= y1
+				|| px >= x0 && px >= x1) {
+			return 0;
+		}
+		if (px < x0 && px < x1) {
+			return y0 < y1 ? 1 : -1;
+		}
+		double intercept = x0 + (py - y0) * (x1 - x0) / (y1 - y0);
+		if (px >= intercept) {
+			return 0;
+		}
+		return y0 < y1 ? 1 : -1;
+	}
+
+	/**
+	 * Interns the vertex at the given coordinates (snapped to the given grid).
+	 */
+	private static Vertex intern(Map<Vertex, Vertex> vertices, double x,
+			double y, double grid) {
+		Vertex v = new Vertex(Math.rint(x / grid) * grid,
+				Math.rint(y / grid) * grid);
+		Vertex existing = vertices.get(v);
+		if (existing != null) {
+			return existing;
+		}
+		vertices.put(v, v);
+		return v;
+	}
+
+	/**
+	 * Computes the intersections of the given raw edges and records them as
+	 * split points on both edges.
+	 */
+	private static void intersect(RawEdge a, RawEdge b, double tolerance) {
+		int o1 = a.getSide(b.lx, b.ly, tolerance);
+		int o2 = a.getSide(b.rx, b.ry, tolerance);
+		int o3 = b.getSide(a.lx, a.ly, tolerance);
+		int o4 = b.getSide(a.rx, a.ry, tolerance);
+		if (o1 == 0 && o2 == 0 || o3 == 0 && o4 == 0) {
+			// collinear: split at end points that lie within the other edge
+			splitAtEndPoints(a, b, tolerance);
+			splitAtEndPoints(b, a, tolerance);
+			return;
+		}
+		// touching end points
+		if (o1 == 0 && a.isInterior(b.lx, b.ly, tolerance)) {
+			a.addSplit(b.lx, b.ly);
+		}
+		if (o2 == 0 && a.isInterior(b.rx, b.ry, tolerance)) {
+			a.addSplit(b.rx, b.ry);
+		}
+		if (o3 == 0 && b.isInterior(a.lx, a.ly, tolerance)) {
+			b.addSplit(a.lx, a.ly);
+		}
+		if (o4 == 0 && b.isInterior(a.rx, a.ry, tolerance)) {
+			b.addSplit(a.rx, a.ry);
+		}
+		// proper crossing
+		if (o1 * o2 < 0 && o3 * o4 < 0) {
+			double dax = a.rx - a.lx, day = a.ry - a.ly;
+			double dbx = b.rx - b.lx, dby = b.ry - b.ly;
+			double denominator = dax * dby - day * dbx;
+			double t = ((b.lx - a.lx) * dby - (b.ly - a.ly) * dbx)
+					/ denominator;
+			double x = a.lx + t * dax;
+			double y = a.ly + t * day;
+			a.addSplit(x, y);
+			b.addSplit(x, y);
+		}
+	}
+
+	/**
+	 * Evaluates the winding rule for the given winding number.
+	 */
+	private static boolean isInside(int windingRule, int winding) {
+		return windingRule == Path.WIND_EVEN_ODD ? (winding & 1) != 0
+				: winding != 0;
+	}
+
+	/**
+	 * Evaluates the boolean operation for the given insideness w.r.t. both
+	 * paths.
+	 */
+	private static boolean isInside(int operation, boolean insideA,
+			boolean insideB) {
+		switch (operation) {
+		case UNION:
+			return insideA || insideB;
+		case INTERSECTION:
+			return insideA && insideB;
+		case DIFFERENCE:
+			return insideA && !insideB;
+		case EXCLUSIVE_OR:
+			return insideA != insideB;
+		default:
+			throw new IllegalArgumentException(
+					"Unsupported operation: " + operation + ".");
+		}
+	}
+
+	/**
+	 * Tests whether the given line passes through the interior of the given
+	 * rectangle.
+	 */
+	private static boolean intersectsInterior(double x0, double y0, double x1,
+			double y1, double rx0, double ry0, double rx1, double ry1) {
+		// clip against closed rectangle (Liang-Barsky)
+		double t0 = 0, t1 = 1;
+		double dx = x1 - x0, dy = y1 - y0;
+		double[] p = { -dx, dx, -dy, dy };
+		double[] q = { x0 - rx0, rx1 - x0, y0 - ry0, ry1 - y0 };
+		for (int i = 0; i < 4; i++) {
+			if (p[i] == 0) {
+				if (q[i] < 0) {
+					return false;
+				}
+			} else {
+				double r = q[i] / p[i];
+				if (p[i] < 0) {
+					t0 = Math.max(t0, r);
+				} else {
+					t1 = Math.min(t1, r);
+				}
+			}
+		}
+		if (t0 > t1) {
+			return false;
+		}
+		// the clipped part passes through the interior iff its midpoint does
+		double t = (t0 + t1) / 2;
+		double mx = x0 + t * dx, my = y0 + t * dy;
+		return mx > rx0 && mx < rx1 && my > ry0 && my < ry1;
+	}
+
+	/**
+	 * Tests whether the given (quadratic or cubic) curve passes through the
+	 * interior of the given rectangle.
+	 */
+	private static boolean intersectsInterior(double[] c, double rx0,
+			double ry0, double rx1, double ry1, int depth) {
+		int n = c.length;
+		double minX = c[0], minY = c[1], maxX = c[0], maxY = c[1];
+		for (int i = 2; i < n; i += 2) {
+			minX = Math.min(minX, c[i]);
+			maxX = Math.max(maxX, c[i]);
+			minY = Math.min(minY, c[i + 1]);
+			maxY = Math.max(maxY, c[i + 1]);
+		}
+		if (maxX <= rx0 || minX >= rx1 || maxY <= ry0 || minY >= ry1) {
+			return false;
+		}
+		for (int i = 0; i < n; i += n - 2) {
+			if (c[i] > rx0 && c[i] < rx1 && c[i + 1] > ry0
+					&& c[i + 1] < ry1) {
+				return true;
+			}
+		}
+		if (depth > MAX_CROSSINGS_DEPTH) {
+			return intersectsInterior(c[0], c[1], c[n - 2], c[n - 1], rx0,
+					ry0, rx1, ry1);
+		}
+		// de Casteljau subdivision at 0.5
+		double[] left = new double[n];
+		double[] right = new double[n];
+		double[] work = c.clone();
+		int points = n / 2;
+		for (int k = 0; k < points; k++) {
+			left[2 * k] = work[0];
+			left[2 * k + 1] = work[1];
+			right[n - 2 - 2 * k] = work[n - 2 - 2 * k];
+			right[n - 1 - 2 * k] = work[n - 1 - 2 * k];
+			for (int i = 0; i < 2 * (points - k - 1); i++) {
+				work[i] = (work[i] + work[i + 2]) / 2;
+			}
+		}
+		return intersectsInterior(left, rx0, ry0, rx1, ry1, depth + 1)
+				|| intersectsInterior(right, rx0, ry0, rx1, ry1, depth + 1);
+	}
+
+	/**
+	 * Splits the given raw edges at their mutual intersections. Candidate
+	 * pairs are determined by sweeping over the edges in order of their
+	 * minimum x coordinate, testing only edges whose x ranges overlap.
+	 */
+	private static void split(List<RawEdge> edges, double tolerance) {
+		List<RawEdge> sorted = new ArrayList<>(edges);
+		Collections.sort(sorted, new Comparator<RawEdge>() {
+			@Override
+			public int compare(RawEdge e1, RawEdge e2) {
+				return Double.compare(e1.lx, e2.lx);
+			}
+		});
+		RawEdge[] active = new RawEdge[16];
+		int activeCount = 0;
+		for (RawEdge e : sorted) {
+			int kept = 0;
+			double minY = Math.min(e.ly, e.ry) - tolerance;
+			double maxY = Math.max(e.ly, e.ry) + tolerance;
+			for (int i = 0; i < activeCount; i++) {
+				RawEdge f = active[i];
+				if (f.rx < e.lx - tolerance) {
+					// no longer overlapping any remaining edge
+					continue;
+				}
+				active[kept++] = f;
+				if (Math.max(f.ly, f.ry) >= minY
+						&& Math.min(f.ly, f.ry) <= maxY) {
+					intersect(f, e, tolerance);
+				}
+			}
+			activeCount = kept;
+			if (activeCount == active.length) {
+				active = Arrays.copyOf(active, 2 * active.length);
+			}
+			active[activeCount++] = e;
+		}
+	}
+
+	private static void splitAtEndPoints(RawEdge a, RawEdge b,
+			double tolerance) {
+		if (a.isInterior(b.lx, b.ly, tolerance)) {
+			a.addSplit(b.lx, b.ly);
+		}
+		if (a.isInterior(b.rx, b.ry, tolerance)) {
+			a.addSplit(b.rx, b.ry);
+		}
+	}
+
+	/**
+	 * Sweeps over the given (sorted) vertices, maintaining the edges that
+	 * intersect the sweep line in bottom-to-top order, and determines the
+	 * winding numbers below each edge.
+	 */
+	private static void sweep(List<Vertex> vertices) {
+		List<Edge> status = new ArrayList<>();
+		int[] indices = new int[4];
+		for (Vertex v : vertices) {
+			for (Edge e : v.ending) {
+				// search from the back (edges are likely to be close)
+				for (int i = status.size() - 1; i >= 0; i--) {
+					if (status.get(i) == e) {
+						status.remove(i);
+						break;
+					}
+				}
+			}
+			if (v.starting.isEmpty()) {
+				continue;
+			}
+			for (Edge e : v.starting) {
+				int low = 0, high = status.size();
+				while (low < high) {
+					int middle = (low + high) >>> 1;
+					if (compare(status.get(middle), e, v) < 0) {
+						low = middle + 1;
+					} else {
+						high = middle;
+					}
+				}
+				status.add(low, e);
+			}
+			// determine winding numbers bottom-up
+			int n = v.starting.size();
+			if (indices.length < n) {
+				indices = new int[n];
+			}
+			for (int i = 0; i < n; i++) {
+				indices[i] = status.indexOf(v.starting.get(i));
+			}
+			Arrays.sort(indices, 0, n);
+			for (int i = 0; i < n; i++) {
+				Edge e = status.get(indices[i]);
+				if (indices[i] > 0) {
+					Edge below = status.get(indices[i] - 1);
+					e.belowA = below.belowA + below.windA;
+					e.belowB = below.belowB + below.windB;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compares the given active edge to the given edge that starts at the
+	 * given vertex, returning a negative value if the active edge lies below
+	 * the starting edge.
+	 */
+	private static int compare(Edge active, Edge starting, Vertex v) {
+		if (active.left != v) {
+			double y = active.yAt(v.x, v.y);
+			if (y < v.y) {
+				return -1;
+			} else if (y > v.y) {
+				return 1;
+			}
+		}
+		// compare directions, steeper edges are above
+		double ax = active.right.x - active.left.x;
+		double ay = active.right.y - active.left.y;
+		double sx = starting.right.x - v.x;
+		double sy = starting.right.y - v.y;
+		return ax * sy - ay * sx >= 0 ? -1 : 1;
+	}
+
+	private static void updateExtent(Path path, double[] extent) {
+		for (Segment s : path.getSegmentsUnsafe()) {
+			for (Point p : s.getPointsUnsafe()) {
+				extent[0] = Math.min(extent[0], p.x);
+				extent[1] = Math.min(extent[1], p.y);
+				extent[2] = Math.max(extent[2], p.x);
+				extent[3] = Math.max(extent[3], p.y);
+			}
+		}
+	}
+
+	private PathClipper() {
+		// not intended to be instantiated
+	}
+
+}
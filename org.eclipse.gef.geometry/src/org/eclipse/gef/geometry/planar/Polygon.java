@@ -74,91 +74,6 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 		}
 	}
 
-	private static Polygon clipEar(Polygon p, int[] ear,
-			ArrayList<Polygon> ears) {
-		Point[] points = p.getPoints();
-		ears.add(new Polygon(points[ear[0]], points[ear[1]], points[ear[2]]));
-		return new Polygon(getPointsWithout(points, ear[1]));
-	}
-
-	/**
-	 * Searches the given list of {@link Point}s for a vertex that starts an
-	 * ear. An ear is a list of 3 vertices which build up a triangle that lies
-	 * inside the {@link Polygon} respective to the list of {@link Point}s and
-	 * can be clipped out of it so that the remaining {@link Polygon} remains
-	 * simple.
-	 *
-	 * @param points
-	 * @return
-	 */
-	private static int[] findEarVertex(Polygon p) {
-		Point[] points = p.getPoints();
-
-		for (int start = 0; start < points.length; start++) {
-			int mid = start == points.length - 1 ? 0 : start + 1;
-			int end = start == points.length - 2 ? 0
-					: start == points.length - 1 ? 1 : start + 2;
-
-			if (p.contains(new Line(points[start], points[end]))) {
-				return new int[] { start, mid, end };
-			}
-		}
-
-		// this should never happen (for simple polygons)
-		return null;
-	}
-
-	private static Point[] getPointsWithout(Point[] points,
-			int... indicesToRemove) {
-		Point[] rest = new Point[points.length - indicesToRemove.length];
-		Arrays.sort(indicesToRemove);
-		for (int i = 0, j = 0; i < indicesToRemove.length; i++) {
-			for (int r = j; r < indicesToRemove[i]; r++) {
-				rest[r - i] = points[r];
-			}
-			j = indicesToRemove[i] + 1;
-		}
-		for (int i = indicesToRemove[indicesToRemove.length - 1]
-				+ 1; i < points.length; i++) {
-			rest[i - indicesToRemove.length] = points[i];
-		}
-		return rest;
-	}
-
-	/**
-	 * Clips exactly one ear off of the given {@link Polygon} and adds it to the
-	 * list of ears. If the resulting {@link Polygon} is a triangle, this is
-	 * added to the list of ears, too. Otherwise, the method recurses.
-	 *
-	 * @param p
-	 * @param ears
-	 */
-	private static void triangulate(Polygon p, ArrayList<Polygon> ears) {
-		if (p == null) {
-			throw new IllegalArgumentException(
-					"The given Polygon may not be null.");
-		}
-		if (ears == null) {
-			throw new IllegalArgumentException(
-					"The given ear-list may not be null.");
-		}
-		if (p.points.length < 3) {
-			throw new IllegalArgumentException(
-					"The given Polygon may not have less than three vertices.");
-		}
-
-		if (p.points.length == 3) {
-			ears.add(p.getCopy());
-			return;
-		}
-
-		int[] ear = findEarVertex(p);
-		Polygon rest = clipEar(p, ear, ears);
-
-		// recurse
-		triangulate(rest, ears);
-	}
-
 	private static final long serialVersionUID = 1L;
 
 	/**
@@ -197,7 +112,8 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 * If the {@link Polygon} does not have at least three vertices, a
 	 * {@link IllegalStateException} is thrown.
 	 *
-	 * The edges are added to the {@link Polygon} one after the other. If a
+	 * The edges are tested using a sweep line, so that only edges that are
+	 * adjacent w.r.t. the sweep line have to be tested for intersection. If a
 	 * self-intersection is found an {@link IllegalStateException} is thrown.
 	 */
 	private void assureSimplicity() {
@@ -206,18 +122,9 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 					"A polygon can only be constructed of at least 3 vertices.");
 		}
 
-		for (Line e1 : getOutlineSegments()) {
-			for (Line e2 : getOutlineSegments()) {
-				if (!e1.getP1().equals(e2.getP1())
-						&& !e1.getP2().equals(e2.getP1())
-						&& !e1.getP1().equals(e2.getP2())
-						&& !e1.getP2().equals(e2.getP2())) {
-					if (e1.touches(e2)) {
-						throw new IllegalStateException(
-								"Only simple polygons allowed. A polygon without any self-intersections is considered to be simple. This polygon is not simple.");
-					}
-				}
-			}
+		if (!PolygonTriangulator.isSimple(getCoordinates())) {
+			throw new IllegalStateException(
+					"Only simple polygons allowed. A polygon without any self-intersections is considered to be simple. This polygon is not simple.");
 		}
 	}
 
@@ -584,16 +491,24 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	}
 
 	/**
-	 * Naive, recursive ear-clipping algorithm to triangulate this simple,
-	 * planar {@link Polygon}.
+	 * Triangulates this simple, planar {@link Polygon}. The {@link Polygon} is
+	 * decomposed into y-monotone pieces, which are triangulated separately, so
+	 * that the triangulation is computed in <code>O(n log(n))</code>.
 	 *
 	 * @return triangulation {@link Polygon}s (triangles)
 	 */
 	public Polygon[] getTriangulation() {
 		assureSimplicity();
-		ArrayList<Polygon> ears = new ArrayList<>(points.length - 2);
-		triangulate(this, ears);
-		return ears.toArray(new Polygon[] {});
+		if (points.length == 3) {
+			return new Polygon[] { getCopy() };
+		}
+		int[] indices = PolygonTriangulator.triangulate(getCoordinates());
+		Polygon[] triangles = new Polygon[indices.length / 3];
+		for (int i = 0; i < triangles.length; i++) {
+			triangles[i] = new Polygon(points[indices[3 * i]],
+					points[indices[3 * i + 1]], points[indices[3 * i + 2]]);
+		}
+		return triangles;
 	}
 
 	/**
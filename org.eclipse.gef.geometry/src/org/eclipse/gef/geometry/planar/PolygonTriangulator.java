@@ -0,0 +1,795 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeSet;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+
+/**
+ * The {@link PolygonTriangulator} provides a simplicity test and a
+ * triangulation for simple polygons, which are given as (x, y) coordinate
+ * arrays. Both run in <code>O(n log(n))</code> and are implemented
+ * iteratively, so that polygons with many vertices can be processed:
+ * <ul>
+ * <li>The simplicity test is a Shamos-Hoey sweep, i.e. the outline segments
+ * are kept in bottom-to-top order while sweeping from left to right, and only
+ * segments that become neighbors within this order are tested for
+ * intersection.</li>
+ * <li>The triangulation first decomposes the polygon into y-monotone pieces by
+ * inserting diagonals at split and merge vertices (top-to-bottom sweep), and
+ * afterwards triangulates each monotone piece in linear time.</li>
+ * </ul>
+ * Consecutive vertices that are (imprecisely) equal are treated as a single
+ * vertex. As for {@link Polygon#getTriangulation()}, outline segments that
+ * share an end point are not regarded as intersecting.
+ *
+ * @author agent
+ *
+ */
+final class PolygonTriangulator {
+
+	/**
+	 * Compares two (vertex or edge) indices.
+	 */
+	static abstract class IndexComparator {
+		abstract int compare(int a, int b);
+	}
+
+	// vertex types of the monotone decomposition
+	private static final int START = 0;
+	private static final int END = 1;
+	private static final int SPLIT = 2;
+	private static final int MERGE = 3;
+	private static final int REGULAR = 4;
+
+	// pseudo edge index that represents the query point in the sweep status
+	private static final int QUERY = -1;
+
+	private static final double EPSILON = PrecisionUtils.calculateFraction(0);
+
+	private static double area2(double[] xs, double[] ys, int a, int b,
+			int c) {
+		return (xs[b] - xs[a]) * (ys[c] - ys[a])
+				- (ys[b] - ys[a]) * (xs[c] - xs[a]);
+	}
+
+	/**
+	 * Returns the indices of the vertices of the polygon that is specified by
+	 * the given coordinates, omitting vertices that are (imprecisely) equal to
+	 * their predecessor.
+	 */
+	private static int[] getDistinctVertices(double[] coordinates) {
+		int n = coordinates.length / 2;
+		int[] vertices = new int[n];
+		int m = 0;
+		for (int i = 0; i < n; i++) {
+			if (m == 0 || !isEqual(coordinates, vertices[m - 1], i)) {
+				vertices[m++] = i;
+			}
+		}
+		while (m > 1 && isEqual(coordinates, vertices[m - 1], vertices[0])) {
+			m--;
+		}
+		return Arrays.copyOf(vertices, m);
+	}
+
+	private static boolean isAbove(double[] xs, double[] ys, int a, int b) {
+		return ys[a] > ys[b] || ys[a] == ys[b]
+				&& (xs[a] < xs[b] || xs[a] == xs[b] && a < b);
+	}
+
+	private static boolean isEqual(double[] coordinates, int i, int j) {
+		return PrecisionUtils.equal(coordinates[2 * i], coordinates[2 * j])
+				&& PrecisionUtils.equal(coordinates[2 * i + 1],
+						coordinates[2 * j + 1]);
+	}
+
+	private static boolean isEqual(double x1, double y1, double x2,
+			double y2) {
+		return PrecisionUtils.equal(x1, x2) && PrecisionUtils.equal(y1, y2);
+	}
+
+	private static boolean isLexicographicallySmaller(double x1, double y1,
+			double x2, double y2) {
+		return x1 < x2 || x1 == x2 && y1 < y2;
+	}
+
+	/**
+	 * Tests if the polygon that is specified by the given coordinates is
+	 * simple, i.e. if none of its outline segments intersect, except for
+	 * segments that share an end point.
+	 *
+	 * @param coordinates
+	 *            The alternating x and y coordinates of the polygon.
+	 * @return <code>true</code> if the polygon is simple, otherwise
+	 *         <code>false</code>.
+	 */
+	static boolean isSimple(double[] coordinates) {
+		int[] vertices = getDistinctVertices(coordinates);
+		final int n = vertices.length;
+		if (n < 3) {
+			return true;
+		}
+
+		// end points of the outline segments; segment i connects vertex i and
+		// vertex i + 1, its first end point is its left (lexicographically
+		// smaller) one
+		final double[] x1 = new double[n];
+		final double[] y1 = new double[n];
+		final double[] x2 = new double[n];
+		final double[] y2 = new double[n];
+		for (int i = 0; i < n; i++) {
+			int v = vertices[i];
+			int w = vertices[i + 1 == n ? 0 : i + 1];
+			double vx = coordinates[2 * v];
+			double vy = coordinates[2 * v + 1];
+			double wx = coordinates[2 * w];
+			double wy = coordinates[2 * w + 1];
+			if (isLexicographicallySmaller(wx, wy, vx, vy)) {
+				x1[i] = wx;
+				y1[i] = wy;
+				x2[i] = vx;
+				y2[i] = vy;
+			} else {
+				x1[i] = vx;
+				y1[i] = vy;
+				x2[i] = wx;
+				y2[i] = wy;
+			}
+		}
+
+		// if the outline folds back onto itself (spike), adjacent segments
+		// overlap, so that the bottom-to-top order of the sweep status is not
+		// well-defined; such degenerate outlines are tested pairwise instead
+		for (int i = 0; i < n; i++) {
+			if (isSpike(coordinates, vertices[i], vertices[(i + 1) % n],
+					vertices[(i + 2) % n])) {
+				for (int a = 0; a < n; a++) {
+					for (int b = a + 2; b < n; b++) {
+						if (touches(n, x1, y1, x2, y2, a, b)) {
+							return false;
+						}
+					}
+				}
+				return true;
+			}
+		}
+
+		// events (2 * segment for left, 2 * segment + 1 for right end points)
+		// in sweep order; at the same position, left end points come first
+		int[] events = new int[2 * n];
+		for (int i = 0; i < events.length; i++) {
+			events[i] = i;
+		}
+		sort(events, 0, events.length, new int[events.length],
+				new IndexComparator() {
+					@Override
+					int compare(int a, int b) {
+						int sa = a >> 1;
+						int sb = b >> 1;
+						double ax = (a & 1) == 0 ? x1[sa] : x2[sa];
+						double ay = (a & 1) == 0 ? y1[sa] : y2[sa];
+						double bx = (b & 1) == 0 ? x1[sb] : x2[sb];
+						double by = (b & 1) == 0 ? y1[sb] : y2[sb];
+						if (ax != bx) {
+							return ax < bx ? -1 : 1;
+						}
+						if (ay != by) {
+							return ay < by ? -1 : 1;
+						}
+						if ((a & 1) != (b & 1)) {
+							return (a & 1) - (b & 1);
+						}
+						return sa - sb;
+					}
+				});
+
+		// sweep status (segments in bottom-to-top order)
+		TreeSet<Integer> status = new TreeSet<>(new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				int sa = a;
+				int sb = b;
+				if (sa == sb) {
+					return 0;
+				}
+				// compare w.r.t. the segment that started earlier
+				if (isLexicographicallySmaller(x1[sa], y1[sa], x1[sb],
+						y1[sb])) {
+					return -compareLater(sb, sa);
+				}
+				return compareLater(sa, sb);
+			}
+
+			private int compareLater(int later, int earlier) {
+				int side = side(earlier, x1[later], y1[later]);
+				if (side == 0) {
+					side = side(earlier, x2[later], y2[later]);
+				}
+				return side != 0 ? side : Integer.compare(later, earlier);
+			}
+
+			private int side(int s, double px, double py) {
+				double cross = (x2[s] - x1[s]) * (py - y1[s])
+						- (y2[s] - y1[s]) * (px - x1[s]);
+				return cross > 0 ? 1 : cross < 0 ? -1 : 0;
+			}
+		});
+
+		for (int event : events) {
+			Integer segment = event >> 1;
+			if ((event & 1) == 0) {
+				status.add(segment);
+				Integer below = status.lower(segment);
+				Integer above = status.higher(segment);
+				if (below != null && touches(n, x1, y1, x2, y2, segment, below)
+						|| above != null && touches(n, x1, y1, x2, y2, segment,
+								above)) {
+					return false;
+				}
+			} else {
+				Integer below = status.lower(segment);
+				Integer above = status.higher(segment);
+				status.remove(segment);
+				if (below != null && above != null
+						&& touches(n, x1, y1, x2, y2, below, above)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSpike(double[] coordinates, int u, int v, int w) {
+		double ux = coordinates[2 * v] - coordinates[2 * u];
+		double uy = coordinates[2 * v + 1] - coordinates[2 * u + 1];
+		double wx = coordinates[2 * w] - coordinates[2 * v];
+		double wy = coordinates[2 * w + 1] - coordinates[2 * v + 1];
+		return PrecisionUtils.equal(ux * wy - uy * wx, 0)
+				&& ux * wx + uy * wy < 0;
+	}
+
+	private static boolean isOnSegment(double x1, double y1, double x2,
+			double y2, double px, double py) {
+		if (isEqual(x1, y1, px, py) || isEqual(x2, y2, px, py)) {
+			return true;
+		}
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		double length = Math.sqrt(dx * dx + dy * dy);
+		if (length == 0) {
+			return false;
+		}
+		double distance = Math.abs(dx * (py - y1) - dy * (px - x1)) / length;
+		return PrecisionUtils.equal(distance, 0)
+				&& px >= Math.min(x1, x2) - EPSILON
+				&& px <= Math.max(x1, x2) + EPSILON
+				&& py >= Math.min(y1, y2) - EPSILON
+				&& py <= Math.max(y1, y2) + EPSILON;
+	}
+
+	/**
+	 * Sorts the given range of indices using the given comparator (bottom-up
+	 * merge sort).
+	 */
+	static void sort(int[] indices, int from, int to, int[] buffer,
+			IndexComparator comparator) {
+		int length = to - from;
+		if (length < 2) {
+			return;
+		}
+		int[] src = indices;
+		int[] dst = buffer;
+		for (int width = 1; width < length; width *= 2) {
+			for (int lo = from; lo < to; lo += 2 * width) {
+				int mid = Math.min(lo + width, to);
+				int hi = Math.min(lo + 2 * width, to);
+				int i = lo;
+				int j = mid;
+				int k = lo;
+				while (i < mid && j < hi) {
+					dst[k++] = comparator.compare(src[j], src[i]) < 0 ? src[j++]
+							: src[i++];
+				}
+				while (i < mid) {
+					dst[k++] = src[i++];
+				}
+				while (j < hi) {
+					dst[k++] = src[j++];
+				}
+			}
+			int[] tmp = src;
+			src = dst;
+			dst = tmp;
+		}
+		if (src != indices) {
+			System.arraycopy(src, from, indices, from, length);
+		}
+	}
+
+	/**
+	 * Tests if the given segments touch. Adjacent segments and segments that
+	 * share an end point are not regarded to touch.
+	 */
+	private static boolean touches(int n, double[] x1, double[] y1,
+			double[] x2, double[] y2, int a, int b) {
+		int d = Math.abs(a - b);
+		if (d == 1 || d == n - 1) {
+			return false;
+		}
+		if (isEqual(x1[a], y1[a], x1[b], y1[b])
+				|| isEqual(x1[a], y1[a], x2[b], y2[b])
+				|| isEqual(x2[a], y2[a], x1[b], y1[b])
+				|| isEqual(x2[a], y2[a], x2[b], y2[b])) {
+			return false;
+		}
+		if (isOnSegment(x1[b], y1[b], x2[b], y2[b], x1[a], y1[a])
+				|| isOnSegment(x1[b], y1[b], x2[b], y2[b], x2[a], y2[a])
+				|| isOnSegment(x1[a], y1[a], x2[a], y2[a], x1[b], y1[b])
+				|| isOnSegment(x1[a], y1[a], x2[a], y2[a], x2[b], y2[b])) {
+			return true;
+		}
+		double d1 = (x2[a] - x1[a]) * (y1[b] - y1[a])
+				- (y2[a] - y1[a]) * (x1[b] - x1[a]);
+		double d2 = (x2[a] - x1[a]) * (y2[b] - y1[a])
+				- (y2[a] - y1[a]) * (x2[b] - x1[a]);
+		double d3 = (x2[b] - x1[b]) * (y1[a] - y1[b])
+				- (y2[b] - y1[b]) * (x1[a] - x1[b]);
+		double d4 = (x2[b] - x1[b]) * (y2[a] - y1[b])
+				- (y2[b] - y1[b]) * (x2[a] - x1[b]);
+		return (d1 > 0 && d2 < 0 || d1 < 0 && d2 > 0)
+				&& (d3 > 0 && d4 < 0 || d3 < 0 && d4 > 0);
+	}
+
+	/**
+	 * Triangulates the simple polygon that is specified by the given
+	 * coordinates.
+	 *
+	 * @param coordinates
+	 *            The alternating x and y coordinates of the polygon.
+	 * @return The vertex indices of the resulting triangles (three per
+	 *         triangle), which are oriented like the polygon.
+	 */
+	static int[] triangulate(double[] coordinates) {
+		int[] vertices = getDistinctVertices(coordinates);
+		int n = vertices.length;
+		if (n < 3) {
+			return new int[0];
+		}
+
+		// work on counter-clockwise (w.r.t. a y-up coordinate system) order
+		double signedArea2 = 0;
+		for (int i = 0, j = n - 1; i < n; j = i++) {
+			signedArea2 += coordinates[2 * vertices[j]]
+					* coordinates[2 * vertices[i] + 1]
+					- coordinates[2 * vertices[i]]
+							* coordinates[2 * vertices[j] + 1];
+		}
+		if (signedArea2 == 0) {
+			return new int[0];
+		}
+		boolean reversed = signedArea2 < 0;
+		if (reversed) {
+			for (int i = 0, j = n - 1; i < j; i++, j--) {
+				int tmp = vertices[i];
+				vertices[i] = vertices[j];
+				vertices[j] = tmp;
+			}
+		}
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = coordinates[2 * vertices[i]];
+			ys[i] = coordinates[2 * vertices[i] + 1];
+		}
+
+		// decompose into monotone pieces and triangulate these
+		int[] diagonals = new int[2 * n];
+		int diagonalCount = makeMonotone(xs, ys, diagonals);
+		int[] triangles = triangulateMonotonePieces(xs, ys, diagonals,
+				diagonalCount);
+
+		// map to original indices and restore the original orientation
+		for (int t = 0; t < triangles.length; t += 3) {
+			triangles[t] = vertices[triangles[t]];
+			triangles[t + 1] = vertices[triangles[t + 1]];
+			triangles[t + 2] = vertices[triangles[t + 2]];
+			if (reversed) {
+				int tmp = triangles[t + 1];
+				triangles[t + 1] = triangles[t + 2];
+				triangles[t + 2] = tmp;
+			}
+		}
+		return triangles;
+	}
+
+	/**
+	 * Computes the diagonals that decompose the given counter-clockwise
+	 * polygon into y-monotone pieces, and stores their end points in the
+	 * given array. Returns the number of diagonals.
+	 */
+	private static int makeMonotone(final double[] xs, final double[] ys,
+			int[] diagonals) {
+		final int n = xs.length;
+
+		// classify vertices
+		int[] types = new int[n];
+		for (int v = 0; v < n; v++) {
+			int prev = v == 0 ? n - 1 : v - 1;
+			int next = v == n - 1 ? 0 : v + 1;
+			boolean convex = area2(xs, ys, prev, v, next) >= 0;
+			boolean prevBelow = isAbove(xs, ys, v, prev);
+			boolean nextBelow = isAbove(xs, ys, v, next);
+			if (prevBelow && nextBelow) {
+				types[v] = convex ? START : SPLIT;
+			} else if (!prevBelow && !nextBelow) {
+				types[v] = convex ? END : MERGE;
+			} else {
+				types[v] = REGULAR;
+			}
+		}
+
+		// sort vertices from top to bottom
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		sort(order, 0, n, new int[n], new IndexComparator() {
+			@Override
+			int compare(int a, int b) {
+				return a == b ? 0 : isAbove(xs, ys, a, b) ? -1 : 1;
+			}
+		});
+
+		// sweep status: the edges (edge i connects vertex i and vertex i + 1)
+		// that have the interior of the polygon to their right, in
+		// left-to-right order
+		final double[] query = new double[2];
+		TreeSet<Integer> status = new TreeSet<>(new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				int ea = a;
+				int eb = b;
+				if (ea == eb) {
+					return 0;
+				}
+				if (ea == QUERY) {
+					return side(eb, query[0], query[1]) >= 0 ? 1 : -1;
+				}
+				if (eb == QUERY) {
+					return side(ea, query[0], query[1]) >= 0 ? -1 : 1;
+				}
+				// compare w.r.t. the edge that started earlier
+				if (isAbove(xs, ys, ea, eb)) {
+					return -compareLater(eb, ea);
+				}
+				return compareLater(ea, eb);
+			}
+
+			private int compareLater(int later, int earlier) {
+				int side = side(earlier, xs[later], ys[later]);
+				if (side == 0) {
+					int lower = later == n - 1 ? 0 : later + 1;
+					side = side(earlier, xs[lower], ys[lower]);
+				}
+				return side != 0 ? side : Integer.compare(later, earlier);
+			}
+
+			// 1 if the point is right of the edge, -1 if left, 0 if on it
+			private int side(int e, double px, double py) {
+				int lower = e == n - 1 ? 0 : e + 1;
+				double cross = (xs[lower] - xs[e]) * (py - ys[e])
+						- (ys[lower] - ys[e]) * (px - xs[e]);
+				return cross > 0 ? 1 : cross < 0 ? -1 : 0;
+			}
+		});
+
+		int[] helper = new int[n];
+		int diagonalCount = 0;
+		for (int v : order) {
+			int prev = v == 0 ? n - 1 : v - 1;
+			query[0] = xs[v];
+			query[1] = ys[v];
+			switch (types[v]) {
+			case START:
+				status.add(v);
+				helper[v] = v;
+				break;
+			case END:
+				if (types[helper[prev]] == MERGE) {
+					diagonalCount = addDiagonal(diagonals, diagonalCount, v,
+							helper[prev]);
+				}
+				status.remove(prev);
+				break;
+			case SPLIT: {
+				Integer left = status.lower(QUERY);
+				if (left != null) {
+					diagonalCount = addDiagonal(diagonals, diagonalCount, v,
+							helper[left]);
+					helper[left] = v;
+				}
+				status.add(v);
+				helper[v] = v;
+				break;
+			}
+			case MERGE: {
+				if (types[helper[prev]] == MERGE) {
+					diagonalCount = addDiagonal(diagonals, diagonalCount, v,
+							helper[prev]);
+				}
+				status.remove(prev);
+				Integer left = status.lower(QUERY);
+				if (left != null) {
+					if (types[helper[left]] == MERGE) {
+						diagonalCount = addDiagonal(diagonals, diagonalCount,
+								v, helper[left]);
+					}
+					helper[left] = v;
+				}
+				break;
+			}
+			default:
+				if (isAbove(xs, ys, prev, v)) {
+					// the interior of the polygon lies to the right
+					if (types[helper[prev]] == MERGE) {
+						diagonalCount = addDiagonal(diagonals, diagonalCount,
+								v, helper[prev]);
+					}
+					status.remove(prev);
+					status.add(v);
+					helper[v] = v;
+				} else {
+					Integer left = status.lower(QUERY);
+					if (left != null) {
+						if (types[helper[left]] == MERGE) {
+							diagonalCount = addDiagonal(diagonals,
+									diagonalCount, v, helper[left]);
+						}
+						helper[left] = v;
+					}
+				}
+			}
+		}
+		return diagonalCount;
+	}
+
+	private static int addDiagonal(int[] diagonals, int count, int v, int w) {
+		int n = diagonals.length / 2;
+		int d = Math.abs(v - w);
+		// ignore degenerated diagonals (which may result from rounding)
+		if (d == 0 || d == 1 || d == n - 1 || count == n) {
+			return count;
+		}
+		diagonals[2 * count] = v;
+		diagonals[2 * count + 1] = w;
+		return count + 1;
+	}
+
+	/**
+	 * Splits the given counter-clockwise polygon at the given diagonals, and
+	 * triangulates the resulting y-monotone pieces.
+	 */
+	private static int[] triangulateMonotonePieces(final double[] xs,
+			final double[] ys, int[] diagonals, int diagonalCount) {
+		int n = xs.length;
+
+		// half-edges: 2 * i connects vertex i and vertex i + 1, 2 * (n + d)
+		// connects the end points of diagonal d; the twin of half-edge h is
+		// h ^ 1
+		int halfEdgeCount = 2 * (n + diagonalCount);
+		final int[] from = new int[halfEdgeCount];
+		final int[] to = new int[halfEdgeCount];
+		for (int i = 0; i < n; i++) {
+			from[2 * i] = to[2 * i + 1] = i;
+			to[2 * i] = from[2 * i + 1] = i == n - 1 ? 0 : i + 1;
+		}
+		for (int d = 0; d < diagonalCount; d++) {
+			int h = 2 * (n + d);
+			from[h] = to[h + 1] = diagonals[2 * d];
+			to[h] = from[h + 1] = diagonals[2 * d + 1];
+		}
+
+		// outgoing half-edges per vertex, in counter-clockwise order
+		int[] offsets = new int[n + 1];
+		for (int h = 0; h < halfEdgeCount; h++) {
+			offsets[from[h] + 1]++;
+		}
+		for (int v = 0; v < n; v++) {
+			offsets[v + 1] += offsets[v];
+		}
+		int[] outgoing = new int[halfEdgeCount];
+		int[] fill = Arrays.copyOf(offsets, n);
+		for (int h = 0; h < halfEdgeCount; h++) {
+			outgoing[fill[from[h]]++] = h;
+		}
+		final double[] angles = new double[halfEdgeCount];
+		for (int h = 0; h < halfEdgeCount; h++) {
+			angles[h] = Math.atan2(ys[to[h]] - ys[from[h]],
+					xs[to[h]] - xs[from[h]]);
+		}
+		IndexComparator byAngle = new IndexComparator() {
+			@Override
+			int compare(int a, int b) {
+				return Double.compare(angles[a], angles[b]);
+			}
+		};
+		int[] buffer = new int[halfEdgeCount];
+		int[] positions = new int[halfEdgeCount];
+		for (int v = 0; v < n; v++) {
+			sort(outgoing, offsets[v], offsets[v + 1], buffer, byAngle);
+			for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+				positions[outgoing[i]] = i - offsets[v];
+			}
+		}
+
+		// traverse the faces; the bounded ones are counter-clockwise
+		int[] triangles = new int[3 * (n - 2)];
+		int triangleCount = 0;
+		boolean[] visited = new boolean[halfEdgeCount];
+		int[] face = new int[n];
+		int[] scratch = new int[3 * n];
+		for (int start = 0; start < halfEdgeCount; start++) {
+			if (visited[start]) {
+				continue;
+			}
+			int size = 0;
+			double faceArea2 = 0;
+			int h = start;
+			do {
+				visited[h] = true;
+				if (size < n) {
+					face[size] = from[h];
+				}
+				size++;
+				faceArea2 += xs[from[h]] * ys[to[h]] - xs[to[h]] * ys[from[h]];
+				// continue with the outgoing half-edge that precedes the twin
+				// (in counter-clockwise order)
+				int v = to[h];
+				int degree = offsets[v + 1] - offsets[v];
+				int position = positions[h ^ 1];
+				h = outgoing[offsets[v]
+						+ (position == 0 ? degree - 1 : position - 1)];
+			} while (h != start && !visited[h]);
+			if (faceArea2 <= 0 || size < 3 || size > n) {
+				continue;
+			}
+			if (triangles.length < 3 * (triangleCount + size - 2)) {
+				triangles = Arrays.copyOf(triangles,
+						3 * (triangleCount + size - 2));
+			}
+			triangleCount = triangulateMonotone(xs, ys, face, size, scratch,
+					triangles, triangleCount);
+		}
+		return triangleCount * 3 == triangles.length ? triangles
+				: Arrays.copyOf(triangles, triangleCount * 3);
+	}
+
+	/**
+	 * Triangulates the given counter-clockwise, y-monotone polygon and stores
+	 * the (counter-clockwise) triangles in the given array, starting at the
+	 * given triangle index. Returns the new number of triangles.
+	 */
+	private static int triangulateMonotone(double[] xs, double[] ys,
+			int[] face, int size, int[] scratch, int[] triangles,
+			int triangleCount) {
+		if (size == 3) {
+			return addTriangle(xs, ys, triangles, triangleCount, face[0],
+					face[1], face[2]);
+		}
+
+		// determine top and bottom vertices
+		int top = 0;
+		int bottom = 0;
+		for (int i = 1; i < size; i++) {
+			if (isAbove(xs, ys, face[i], face[top])) {
+				top = i;
+			}
+			if (isAbove(xs, ys, face[bottom], face[i])) {
+				bottom = i;
+			}
+		}
+
+		// merge left chain (following the counter-clockwise order from top to
+		// bottom) and right chain (following the clockwise order) into a
+		// top-to-bottom order, assigning the bottom vertex to the left chain
+		int[] sorted = scratch;
+		boolean[] leftChain = new boolean[size];
+		int l = top == size - 1 ? 0 : top + 1;
+		int r = top == 0 ? size - 1 : top - 1;
+		sorted[0] = face[top];
+		leftChain[0] = true;
+		for (int k = 1; k < size; k++) {
+			boolean takeLeft = r == bottom
+					|| l != bottom && isAbove(xs, ys, face[l], face[r]);
+			if (takeLeft) {
+				sorted[k] = face[l];
+				leftChain[k] = true;
+				if (l != bottom) {
+					l = l == size - 1 ? 0 : l + 1;
+				}
+			} else {
+				sorted[k] = face[r];
+				leftChain[k] = false;
+				r = r == 0 ? size - 1 : r - 1;
+			}
+		}
+
+		// stack of (positions in the sorted order of) pending vertices
+		int[] stack = new int[size];
+		int stackSize = 0;
+		stack[stackSize++] = 0;
+		stack[stackSize++] = 1;
+		for (int j = 2; j < size - 1; j++) {
+			int u = sorted[j];
+			if (leftChain[j] != leftChain[stack[stackSize - 1]]) {
+				// connect to all pending vertices
+				while (stackSize > 1) {
+					int w = stack[--stackSize];
+					triangleCount = addTriangle(xs, ys, triangles,
+							triangleCount, u, sorted[w],
+							sorted[stack[stackSize - 1]]);
+				}
+				stackSize = 0;
+				stack[stackSize++] = j - 1;
+				stack[stackSize++] = j;
+			} else {
+				int last = stack[--stackSize];
+				while (stackSize > 0) {
+					int p = sorted[last];
+					int t = sorted[stack[stackSize - 1]];
+					double area2 = leftChain[j] ? area2(xs, ys, t, p, u)
+							: area2(xs, ys, u, p, t);
+					if (area2 <= 0) {
+						break;
+					}
+					triangleCount = addTriangle(xs, ys, triangles,
+							triangleCount, u, p, t);
+					last = stack[--stackSize];
+				}
+				stack[stackSize++] = last;
+				stack[stackSize++] = j;
+			}
+		}
+		// connect the bottom vertex to all pending vertices
+		int u = sorted[size - 1];
+		while (stackSize > 1) {
+			int w = stack[--stackSize];
+			triangleCount = addTriangle(xs, ys, triangles, triangleCount, u,
+					sorted[w], sorted[stack[stackSize - 1]]);
+		}
+		return triangleCount;
+	}
+
+	private static int addTriangle(double[] xs, double[] ys, int[] triangles,
+			int triangleCount, int a, int b, int c) {
+		int t = 3 * triangleCount;
+		triangles[t] = a;
+		if (area2(xs, ys, a, b, c) >= 0) {
+			triangles[t + 1] = b;
+			triangles[t + 2] = c;
+		} else {
+			triangles[t + 1] = c;
+			triangles[t + 2] = b;
+		}
+		return triangleCount + 1;
+	}
+
+	private PolygonTriangulator() {
+		// utility class
+	}
+
+}
@@ -15,13 +15,11 @@ package org.eclipse.gef.geometry.planar;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.Stack;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 
 /**
  * A combination of {@link Rectangle}s. The {@link Rectangle}s that build up a
@@ -36,6 +34,15 @@ import org.eclipse.gef.geometry.euclidean.Angle;
  * They are defined to not share any area, so that only their borders can be
  * overlapping.
  *
+ * Internally, a {@link Region} is stored as a sequence of horizontal bands
+ * (sorted by y coordinate), each of which holds a sequence of disjoint spans
+ * (sorted by x coordinate). Consecutive bands with the same spans are
+ * combined, so that every area is represented canonically. This allows to
+ * {@link #add(Region) unite}, {@link #intersect(Region) intersect}, and
+ * {@link #subtract(Region) subtract} {@link Region}s by a single pass over
+ * their bands, and to test for {@link #contains(Point) containment} by binary
+ * search.
+ *
  * @author anyssen
  * @author mwienand
  *
@@ -44,58 +51,211 @@ public class Region extends AbstractMultiShape
 		implements ITranslatable<Region>, IScalable<Region>, IRotatable<Ring> {
 
 	/**
-	 * Cuts the given {@link Rectangle}s along the given parallel to the x-axis.
-	 *
-	 * @param y
-	 *            the distance of the cut-line to the x-axis
-	 * @param parts
-	 *            the {@link Rectangle}s to cut along that line
+	 * Collects the bands and spans that result from a combination of two
+	 * {@link Region}s, combining consecutive bands with equal spans.
 	 */
-	private static void cutH(double y, ArrayList<Rectangle> parts) {
-		for (Rectangle r : new ArrayList<>(parts)) {
-			if (r.y < y && y < r.y + r.height) {
-				parts.remove(r);
-				parts.add(new Rectangle(r.x, r.y, r.width, y - r.y));
-				parts.add(new Rectangle(r.x, y, r.width, r.y + r.height - y));
+	private static final class BandBuilder {
+
+		private double[] bands = new double[8];
+		private int[] spanOffsets = new int[5];
+		private double[] spans = new double[16];
+		private int bandCount = 0;
+		private int spanLength = 0;
+
+		/**
+		 * Appends the given bands of the given {@link Region} unchanged. Only
+		 * the first band may be combined with the previous band, the others
+		 * are copied in bulk.
+		 */
+		void addBands(Region source, int from, int to) {
+			if (from >= to) {
+				return;
+			}
+			for (int s = source.spanOffsets[from]; s < source.spanOffsets[from
+					+ 1]; s += 2) {
+				addSpan(source.spans[s], source.spans[s + 1]);
+			}
+			endBand(source.bands[2 * from], source.bands[2 * from + 1]);
+			from++;
+			int count = to - from;
+			if (count <= 0) {
+				return;
+			}
+			int spanStart = source.spanOffsets[from];
+			int spanCount = source.spanOffsets[to] - spanStart;
+			ensureBandCapacity(bandCount + count);
+			ensureSpanCapacity(spanLength + spanCount);
+			System.arraycopy(source.bands, 2 * from, bands, 2 * bandCount,
+					2 * count);
+			System.arraycopy(source.spans, spanStart, spans, spanLength,
+					spanCount);
+			for (int i = 1; i <= count; i++) {
+				spanOffsets[bandCount + i] = source.spanOffsets[from + i]
+						- spanStart + spanLength;
+			}
+			bandCount += count;
+			spanLength += spanCount;
+		}
+
+		/**
+		 * Appends a span to the current band, merging it with the previous
+		 * span if they touch.
+		 */
+		void addSpan(double x1, double x2) {
+			if (x2 <= x1) {
+				return;
+			}
+			if (spanLength > spanOffsets[bandCount]
+					&& spans[spanLength - 1] == x1) {
+				spans[spanLength - 1] = x2;
+				return;
+			}
+			ensureSpanCapacity(spanLength + 2);
+			spans[spanLength++] = x1;
+			spans[spanLength++] = x2;
+		}
+
+		/**
+		 * Completes the current band, which is dropped if it does not contain
+		 * any spans, and which is combined with the previous band if both
+		 * touch and contain equal spans.
+		 */
+		void endBand(double top, double bottom) {
+			int start = spanOffsets[bandCount];
+			if (spanLength == start || bottom <= top) {
+				spanLength = start;
+				return;
+			}
+			if (bandCount > 0 && bands[2 * bandCount - 1] == top) {
+				int previousStart = spanOffsets[bandCount - 1];
+				if (start - previousStart == spanLength - start) {
+					boolean equal = true;
+					for (int i = 0; equal && i < start - previousStart; i++) {
+						equal = spans[previousStart + i] == spans[start + i];
+					}
+					if (equal) {
+						bands[2 * bandCount - 1] = bottom;
+						spanLength = start;
+						return;
+					}
+				}
+			}
+			ensureBandCapacity(bandCount + 1);
+			bands[2 * bandCount] = top;
+			bands[2 * bandCount + 1] = bottom;
+			spanOffsets[++bandCount] = spanLength;
+		}
+
+		private void ensureBandCapacity(int capacity) {
+			if (2 * capacity > bands.length) {
+				int length = Math.max(2 * capacity, 2 * bands.length);
+				bands = Arrays.copyOf(bands, length);
+				spanOffsets = Arrays.copyOf(spanOffsets, length / 2 + 1);
 			}
 		}
+
+		private void ensureSpanCapacity(int capacity) {
+			if (capacity > spans.length) {
+				spans = Arrays.copyOf(spans,
+						Math.max(capacity, 2 * spans.length));
+			}
+		}
+
+		/**
+		 * Replaces the bands and spans of the given {@link Region} by the
+		 * collected ones.
+		 */
+		void setTo(Region region) {
+			region.bands = Arrays.copyOf(bands, 2 * bandCount);
+			region.spanOffsets = Arrays.copyOf(spanOffsets, bandCount + 1);
+			region.spans = Arrays.copyOf(spans, spanLength);
+		}
 	}
 
+	private static final long serialVersionUID = 1L;
+
+	// boolean operations that can be applied to the spans of two regions
+	private static final int UNION = 0;
+	private static final int INTERSECTION = 1;
+	private static final int DIFFERENCE = 2;
+
+	private static final double EPSILON = PrecisionUtils.calculateFraction(0);
+
 	/**
-	 * Cuts the given {@link Rectangle}s along the given parallel to the y-axis.
-	 *
-	 * @param x
-	 *            the distance of the cut-line to the y-axis
-	 * @param parts
-	 *            the {@link Rectangle}s to cut along that line
+	 * Combines the spans of the given bands of the given {@link Region}s using
+	 * the given operation, and appends the resulting spans to the given
+	 * {@link BandBuilder}. A <code>null</code> {@link Region} does not
+	 * contribute any spans.
 	 */
-	private static void cutV(double x, ArrayList<Rectangle> parts) {
-		for (Rectangle r : new ArrayList<>(parts)) {
-			if (r.x < x && x < r.x + r.width) {
-				parts.remove(r);
-				parts.add(new Rectangle(r.x, r.y, x - r.x, r.height));
-				parts.add(new Rectangle(x, r.y, r.x + r.width - x, r.height));
+	private static void combineSpans(Region a, int bandA, Region b, int bandB,
+			int operation, BandBuilder result) {
+		int pa = a == null ? 0 : a.spanOffsets[bandA];
+		int ea = a == null ? 0 : a.spanOffsets[bandA + 1];
+		int pb = b == null ? 0 : b.spanOffsets[bandB];
+		int eb = b == null ? 0 : b.spanOffsets[bandB + 1];
+		boolean inA = false;
+		boolean inB = false;
+		boolean inside = false;
+		double start = 0;
+		while (pa < ea || pb < eb) {
+			double xa = pa < ea ? a.spans[pa] : Double.POSITIVE_INFINITY;
+			double xb = pb < eb ? b.spans[pb] : Double.POSITIVE_INFINITY;
+			double x = Math.min(xa, xb);
+			// span boundaries alternate between start and end
+			if (xa == x) {
+				inA = !inA;
+				pa++;
+			}
+			if (xb == x) {
+				inB = !inB;
+				pb++;
+			}
+			boolean covered = operation == UNION ? inA || inB
+					: operation == INTERSECTION ? inA && inB : inA && !inB;
+			if (covered != inside) {
+				if (covered) {
+					start = x;
+				} else {
+					result.addSpan(start, x);
+				}
+				inside = covered;
 			}
 		}
 	}
 
-	private static final long serialVersionUID = 1L;
+	/**
+	 * Returns the smaller top of the given bands of the given {@link Region}s.
+	 */
+	private static double getNextTop(Region a, int bandA, Region b,
+			int bandB) {
+		return Math.min(
+				bandA < a.getBandCount() ? a.bands[2 * bandA]
+						: Double.POSITIVE_INFINITY,
+				bandB < b.getBandCount() ? b.bands[2 * bandB]
+						: Double.POSITIVE_INFINITY);
+	}
 
-	private ArrayList<Rectangle> rects;
+	private double[] bands;
+	private int[] spanOffsets;
+	private double[] spans;
 
 	/**
 	 * Constructs a new {@link Region} not covering any area.
 	 */
 	public Region() {
-		rects = new ArrayList<>();
+		bands = new double[0];
+		spanOffsets = new int[] { 0 };
+		spans = new double[0];
 	}
 
 	/**
 	 * Constructs a new {@link Region} from the given list of {@link Rectangle}
 	 * s.
 	 *
-	 * The given {@link Rectangle}s are {@link #add(Rectangle)}ed to the
-	 * {@link Region} one after the other.
+	 * The given {@link Rectangle}s are united pairwise (in a balanced manner),
+	 * so that a {@link Region} of <code>n</code> {@link Rectangle}s is
+	 * constructed in <code>log(n)</code> rounds. {@link Rectangle}s that do
+	 * not cover any area are ignored.
 	 *
 	 * @param rectangles
 	 *            The array of {@link Rectangle}s from which this {@link Region}
@@ -103,11 +263,23 @@ public class Region extends AbstractMultiShape
 	 */
 	public Region(Rectangle... rectangles) {
 		this();
-		rects.add(rectangles[0].getCopy());
-
-		for (int i = 1; i < rectangles.length; i++) {
-			add(rectangles[i].getCopy());
+		int n = rectangles.length;
+		if (n == 0) {
+			return;
+		}
+		Region[] regions = new Region[n];
+		for (int i = 0; i < n; i++) {
+			regions[i] = new Region();
+			regions[i].set(rectangles[i]);
 		}
+		for (int width = 1; width < n; width *= 2) {
+			for (int i = 0; i + width < n; i += 2 * width) {
+				regions[i].combine(regions[i + width], UNION);
+			}
+		}
+		bands = regions[0].bands;
+		spanOffsets = regions[0].spanOffsets;
+		spans = regions[0].spans;
 	}
 
 	/**
@@ -119,75 +291,206 @@ public class Region extends AbstractMultiShape
 	 *            constructed.
 	 */
 	public Region(Region other) {
-		rects = new ArrayList<>(other.rects.size());
-
-		for (Rectangle or : other.rects) {
-			rects.add(or.getCopy());
-		}
+		bands = other.bands.clone();
+		spanOffsets = other.spanOffsets.clone();
+		spans = other.spans.clone();
 	}
 
 	/**
 	 * Adds the given {@link Rectangle} to this {@link Region}.
 	 *
-	 * To assure the required conditions for internal {@link Rectangle}s, the
-	 * given {@link Rectangle} is cut into several sub-{@link Rectangle}s so
-	 * that no internal {@link Rectangle}s share any area.
+	 * The bands of this {@link Region} are split at the top and bottom of the
+	 * given {@link Rectangle}, and its horizontal extent is merged into the
+	 * spans of the affected bands, so that no internal {@link Rectangle}s share
+	 * any area.
 	 *
 	 * @param rectangle
 	 *            the {@link Rectangle} to add to this {@link Region}
 	 * @return <code>this</code> for convenience
 	 */
 	public Region add(Rectangle rectangle) {
-		ArrayList<Rectangle> toAdd = new ArrayList<>(1);
-
-		toAdd.add(rectangle.getCopy());
+		return add(new Region(rectangle));
+	}
 
-		for (Rectangle retain : rects) {
-			for (Rectangle addend : new ArrayList<>(toAdd)) {
-				ArrayList<Rectangle> parts = new ArrayList<>(8);
-				parts.add(addend);
+	/**
+	 * Adds the area of the given other {@link Region} to this {@link Region},
+	 * i.e. this {@link Region} is set to the union of both {@link Region}s.
+	 *
+	 * @param region
+	 *            the {@link Region} to add to this {@link Region}
+	 * @return <code>this</code> for convenience
+	 */
+	public Region add(Region region) {
+		combine(region, UNION);
+		return this;
+	}
 
-				if (addend.x <= retain.x && retain.x <= addend.x + addend.width
-						|| retain.x <= addend.x
-								&& addend.x <= retain.x + retain.width) {
-					cutH(retain.y, parts);
-					cutH(retain.y + retain.height, parts);
+	/**
+	 * Replaces the bands of this {@link Region} by the combination of the
+	 * bands of this {@link Region} and the given other {@link Region}, using
+	 * the given operation. The bands of both {@link Region}s are traversed
+	 * simultaneously, so that the combination is linear in the number of
+	 * bands and spans.
+	 */
+	private void combine(Region other, int operation) {
+		BandBuilder result = new BandBuilder();
+		int na = getBandCount();
+		int nb = other.getBandCount();
+		int ia = 0;
+		int ib = 0;
+		double y = getNextTop(this, 0, other, 0);
+		while (ia < na || ib < nb) {
+			// bands of one region that do not overlap any bands of the other
+			// region are dropped (intersection) or copied (union/difference)
+			if (ia < na && bands[2 * ia] >= y
+					&& (ib == nb || bands[2 * ia + 1] <= other.bands[2 * ib])) {
+				int to = ia + 1;
+				while (to < na && (ib == nb
+						|| bands[2 * to + 1] <= other.bands[2 * ib])) {
+					to++;
 				}
-
-				if (addend.y <= retain.y && retain.y <= addend.y + addend.height
-						|| retain.y <= addend.y
-								&& addend.y <= retain.y + retain.height) {
-					cutV(retain.x, parts);
-					cutV(retain.x + retain.width, parts);
+				if (operation != INTERSECTION) {
+					result.addBands(this, ia, to);
 				}
-
-				// filter inner parts:
-				for (Iterator<Rectangle> p = parts.iterator(); p.hasNext();) {
-					if (retain.contains(p.next())) {
-						p.remove();
-					}
+				ia = to;
+				y = getNextTop(this, ia, other, ib);
+				continue;
+			}
+			if (ib < nb && other.bands[2 * ib] >= y
+					&& (ia == na || other.bands[2 * ib + 1] <= bands[2 * ia])) {
+				int to = ib + 1;
+				while (to < nb && (ia == na
+						|| other.bands[2 * to + 1] <= bands[2 * ia])) {
+					to++;
 				}
-
-				toAdd.remove(addend);
-				toAdd.addAll(parts);
+				if (operation == UNION) {
+					result.addBands(other, ib, to);
+				}
+				ib = to;
+				y = getNextTop(this, ia, other, ib);
+				continue;
+			}
+			boolean inA = ia < na && bands[2 * ia] <= y;
+			boolean inB = ib < nb && other.bands[2 * ib] <= y;
+			// the next y coordinate at which a band starts or ends
+			double next = Double.POSITIVE_INFINITY;
+			if (ia < na) {
+				next = Math.min(next, bands[inA ? 2 * ia + 1 : 2 * ia]);
+			}
+			if (ib < nb) {
+				next = Math.min(next,
+						other.bands[inB ? 2 * ib + 1 : 2 * ib]);
+			}
+			if (inA || inB) {
+				combineSpans(inA ? this : null, ia, inB ? other : null, ib,
+						operation, result);
+				result.endBand(y, next);
+			}
+			y = next;
+			if (ia < na && bands[2 * ia + 1] <= y) {
+				ia++;
+			}
+			if (ib < nb && other.bands[2 * ib + 1] <= y) {
+				ib++;
 			}
 		}
+		result.setTo(this);
+	}
 
-		rects.addAll(toAdd);
-
-		return this;
+	/**
+	 * Tests if the rectangular area from (x1, y1) to (x2, y2) is covered by
+	 * this {@link Region} (imprecisely).
+	 */
+	private boolean contains(double x1, double y1, double x2, double y2) {
+		int n = getBandCount();
+		if (y2 - y1 <= EPSILON) {
+			// degenerated to a horizontal line, which may be contained by any
+			// of the bands touching it
+			for (int b = getFirstBand(y1 - EPSILON); b < n
+					&& bands[2 * b] - EPSILON <= y1; b++) {
+				if (y2 <= bands[2 * b + 1] + EPSILON
+						&& containsSpan(b, x1, x2)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		// the bands have to cover [y1;y2] without gaps
+		double y = y1;
+		for (int b = getFirstBand(y1 + EPSILON); b < n; b++) {
+			if (bands[2 * b] - EPSILON > y || !containsSpan(b, x1, x2)) {
+				return false;
+			}
+			y = bands[2 * b + 1];
+			if (y + EPSILON >= y2) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
 	public boolean contains(IGeometry g) {
+		if (g instanceof Rectangle) {
+			Rectangle r = (Rectangle) g;
+			return contains(r.getX(), r.getY(), r.getX() + r.getWidth(),
+					r.getY() + r.getHeight());
+		} else if (g instanceof Region) {
+			Region o = (Region) g;
+			for (int b = 0; b < o.getBandCount(); b++) {
+				for (int s = o.spanOffsets[b]; s < o.spanOffsets[b + 1]; s += 2) {
+					if (!contains(o.spans[s], o.bands[2 * b], o.spans[s + 1],
+							o.bands[2 * b + 1])) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
 		return ShapeUtils.contains(this, g);
 	}
 
+	/**
+	 * Tests if the given {@link Point} is contained by this {@link Region}.
+	 * The band and span containing the {@link Point} are determined by binary
+	 * search.
+	 *
+	 * @param p
+	 *            the {@link Point} to test for containment
+	 * @return <code>true</code> if the {@link Point} is contained by this
+	 *         {@link Region}, otherwise <code>false</code>
+	 */
+	@Override
+	public boolean contains(Point p) {
+		return contains(p.x, p.y, p.x, p.y);
+	}
+
+	/**
+	 * Tests if the given band contains a span that covers [x1;x2]
+	 * (imprecisely).
+	 */
+	private boolean containsSpan(int band, double x1, double x2) {
+		// binary search for the first span that ends at or after x1
+		int lo = spanOffsets[band] / 2;
+		int hi = spanOffsets[band + 1] / 2;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (spans[2 * mid + 1] + EPSILON < x1) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo < spanOffsets[band + 1] / 2
+				&& spans[2 * lo] - EPSILON <= x1
+				&& x2 <= spans[2 * lo + 1] + EPSILON;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof Region) {
 			Region o = (Region) obj;
-			// TODO: Invent a better algorithm.
+			// the bands are canonical, but equality has to be imprecise
 			return contains(o) && o.contains(this);
 		}
 		return false;
@@ -202,7 +505,7 @@ public class Region extends AbstractMultiShape
 	protected Line[] getAllEdges() {
 		Stack<Line> edges = new Stack<>();
 
-		for (Rectangle r : rects) {
+		for (Rectangle r : getShapes()) {
 			for (Line e : r.getOutlineSegments()) {
 				edges.push(e);
 			}
@@ -210,18 +513,25 @@ public class Region extends AbstractMultiShape
 		return edges.toArray(new Line[] {});
 	}
 
+	private int getBandCount() {
+		return bands.length / 2;
+	}
+
 	@Override
 	public Rectangle getBounds() {
-		if (rects.size() == 0) {
+		int n = getBandCount();
+		if (n == 0) {
 			return null;
 		}
 
-		Rectangle bounds = rects.get(0).getBounds();
-		for (int i = 1; i < rects.size(); i++) {
-			bounds.union(rects.get(i).getBounds());
+		double minX = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		for (int b = 0; b < n; b++) {
+			minX = Math.min(minX, spans[spanOffsets[b]]);
+			maxX = Math.max(maxX, spans[spanOffsets[b + 1] - 1]);
 		}
-
-		return bounds;
+		return new Rectangle(minX, bands[0], maxX - minX,
+				bands[2 * n - 1] - bands[0]);
 	}
 
 	@Override
@@ -229,6 +539,24 @@ public class Region extends AbstractMultiShape
 		return new Region(this);
 	}
 
+	/**
+	 * Returns the index of the first band whose bottom is at or below the
+	 * given y coordinate (binary search).
+	 */
+	private int getFirstBand(double y) {
+		int lo = 0;
+		int hi = getBandCount();
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (bands[2 * mid + 1] < y) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
 	/**
 	 * Computes the {@link Point}s of intersection of this {@link Region} with
 	 * the given {@link ICurve}.
@@ -239,13 +567,8 @@ public class Region extends AbstractMultiShape
 	 * @return the intersection {@link Point}s
 	 */
 	public Point[] getOutlineIntersections(ICurve c) {
-		Set<Point> intersections = new HashSet<>(0);
-
-		for (Line seg : getOutlineSegments()) {
-			intersections.addAll(Arrays.asList(seg.getIntersections(c)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return SegmentIntersector.getIntersections(getOutlineSegments(),
+				c.toBezier());
 	}
 
 	@Override
@@ -256,9 +579,10 @@ public class Region extends AbstractMultiShape
 
 	@Override
 	public Ring getRotatedCCW(Angle angle, double cx, double cy) {
-		Polygon[] polys = new Polygon[rects.size()];
+		Rectangle[] shapes = getShapes();
+		Polygon[] polys = new Polygon[shapes.length];
 		for (int i = 0; i < polys.length; i++) {
-			polys[i] = rects.get(i).getRotatedCCW(angle, cx, cy);
+			polys[i] = shapes[i].getRotatedCCW(angle, cx, cy);
 		}
 		return new Ring(polys);
 	}
@@ -276,9 +600,10 @@ public class Region extends AbstractMultiShape
 
 	@Override
 	public Ring getRotatedCW(Angle angle, double cx, double cy) {
-		Polygon[] polys = new Polygon[rects.size()];
+		Rectangle[] shapes = getShapes();
+		Polygon[] polys = new Polygon[shapes.length];
 		for (int i = 0; i < polys.length; i++) {
-			polys[i] = rects.get(i).getRotatedCW(angle, cx, cy);
+			polys[i] = shapes[i].getRotatedCW(angle, cx, cy);
 		}
 		return new Ring(polys);
 	}
@@ -318,15 +643,30 @@ public class Region extends AbstractMultiShape
 		return getCopy().scale(factor, center);
 	}
 
+	/**
+	 * Returns the internal {@link Rectangle}s of this {@link Region}, i.e. one
+	 * {@link Rectangle} per span of each band. The returned
+	 * {@link Rectangle}s are newly created, so that changing them does not
+	 * affect this {@link Region}.
+	 */
 	@Override
 	public Rectangle[] getShapes() {
-		return rects.toArray(new Rectangle[] {});
+		Rectangle[] shapes = new Rectangle[spans.length / 2];
+		for (int b = 0; b < getBandCount(); b++) {
+			double top = bands[2 * b];
+			double height = bands[2 * b + 1] - top;
+			for (int s = spanOffsets[b]; s < spanOffsets[b + 1]; s += 2) {
+				shapes[s / 2] = new Rectangle(spans[s], top,
+						spans[s + 1] - spans[s], height);
+			}
+		}
+		return shapes;
 	}
 
 	@Override
 	public Ring getTransformed(AffineTransform t) {
 		List<Polygon> transformedRectangles = new ArrayList<>();
-		for (Rectangle r : rects) {
+		for (Rectangle r : getShapes()) {
 			transformedRectangles.add(r.getTransformed(t));
 		}
 		return new Ring(transformedRectangles.toArray(new Polygon[] {}));
@@ -342,6 +682,42 @@ public class Region extends AbstractMultiShape
 		return getCopy().translate(d.x, d.y);
 	}
 
+	/**
+	 * Intersects this {@link Region} with the given {@link Rectangle}, i.e.
+	 * only the area of this {@link Region} that is covered by the given
+	 * {@link Rectangle} is retained.
+	 *
+	 * @param rectangle
+	 *            the {@link Rectangle} to intersect this {@link Region} with
+	 * @return <code>this</code> for convenience
+	 */
+	public Region intersect(Rectangle rectangle) {
+		return intersect(new Region(rectangle));
+	}
+
+	/**
+	 * Intersects this {@link Region} with the given other {@link Region}, i.e.
+	 * only the area that is covered by both {@link Region}s is retained.
+	 *
+	 * @param region
+	 *            the {@link Region} to intersect this {@link Region} with
+	 * @return <code>this</code> for convenience
+	 */
+	public Region intersect(Region region) {
+		combine(region, INTERSECTION);
+		return this;
+	}
+
+	/**
+	 * Tests if this {@link Region} does not cover any area.
+	 *
+	 * @return <code>true</code> if this {@link Region} does not cover any
+	 *         area, otherwise <code>false</code>
+	 */
+	public boolean isEmpty() {
+		return bands.length == 0;
+	}
+
 	@Override
 	public Region scale(double factor) {
 		return scale(factor, factor);
@@ -360,8 +736,26 @@ public class Region extends AbstractMultiShape
 
 	@Override
 	public Region scale(double fx, double fy, double cx, double cy) {
-		for (Rectangle r : rects) {
-			r.scale(fx, fy, cx, cy);
+		for (int i = 0; i < bands.length; i++) {
+			bands[i] = cy + (bands[i] - cy) * fy;
+		}
+		for (int i = 0; i < spans.length; i++) {
+			spans[i] = cx + (spans[i] - cx) * fx;
+		}
+		if (fx < 0 || fy < 0) {
+			// mirroring reverses the order of the bands or spans
+			Rectangle[] shapes = new Rectangle[spans.length / 2];
+			for (int b = 0; b < getBandCount(); b++) {
+				for (int s = spanOffsets[b]; s < spanOffsets[b + 1]; s += 2) {
+					shapes[s / 2] = new Rectangle(
+							new Point(spans[s], bands[2 * b]),
+							new Point(spans[s + 1], bands[2 * b + 1]));
+				}
+			}
+			Region mirrored = new Region(shapes);
+			bands = mirrored.bands;
+			spanOffsets = mirrored.spanOffsets;
+			spans = mirrored.spans;
 		}
 		return this;
 	}
@@ -376,6 +770,46 @@ public class Region extends AbstractMultiShape
 		return scale(factor, factor, center.x, center.y);
 	}
 
+	/**
+	 * Sets this {@link Region} to the area of the given {@link Rectangle}.
+	 */
+	private void set(Rectangle rectangle) {
+		if (rectangle.getWidth() > 0 && rectangle.getHeight() > 0) {
+			bands = new double[] { rectangle.getY(),
+					rectangle.getY() + rectangle.getHeight() };
+			spanOffsets = new int[] { 0, 2 };
+			spans = new double[] { rectangle.getX(),
+					rectangle.getX() + rectangle.getWidth() };
+		}
+	}
+
+	/**
+	 * Subtracts the given {@link Rectangle} from this {@link Region}, i.e.
+	 * the area of this {@link Region} that is covered by the given
+	 * {@link Rectangle} is removed.
+	 *
+	 * @param rectangle
+	 *            the {@link Rectangle} to subtract from this {@link Region}
+	 * @return <code>this</code> for convenience
+	 */
+	public Region subtract(Rectangle rectangle) {
+		return subtract(new Region(rectangle));
+	}
+
+	/**
+	 * Subtracts the given other {@link Region} from this {@link Region}, i.e.
+	 * the area of this {@link Region} that is covered by the given other
+	 * {@link Region} is removed.
+	 *
+	 * @param region
+	 *            the {@link Region} to subtract from this {@link Region}
+	 * @return <code>this</code> for convenience
+	 */
+	public Region subtract(Region region) {
+		combine(region, DIFFERENCE);
+		return this;
+	}
+
 	/**
 	 * Constructs a new {@link Ring} that covers the same area as this
 	 * {@link Region}.
@@ -384,18 +818,21 @@ public class Region extends AbstractMultiShape
 	 *         {@link Region}
 	 */
 	public Ring toRing() {
-		Polygon[] polys = new Polygon[rects.size()];
-		Iterator<Rectangle> i = rects.iterator();
-		for (int j = 0; j < rects.size(); j++) {
-			polys[j] = i.next().toPolygon();
+		Rectangle[] shapes = getShapes();
+		Polygon[] polys = new Polygon[shapes.length];
+		for (int i = 0; i < shapes.length; i++) {
+			polys[i] = shapes[i].toPolygon();
 		}
 		return new Ring(polys);
 	}
 
 	@Override
 	public Region translate(double dx, double dy) {
-		for (Rectangle r : rects) {
-			r.translate(dx, dy);
+		for (int i = 0; i < bands.length; i++) {
+			bands[i] += dy;
+		}
+		for (int i = 0; i < spans.length; i++) {
+			spans[i] += dx;
 		}
 		return this;
 	}
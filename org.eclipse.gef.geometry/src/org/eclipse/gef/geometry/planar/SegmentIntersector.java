@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+import org.eclipse.gef.geometry.planar.PolygonTriangulator.IndexComparator;
+
+/**
+ * The {@link SegmentIntersector} computes all intersections between two sets
+ * of {@link BezierCurve} segments at once. Instead of intersecting every
+ * segment of the first set with every segment of the second set, the control
+ * bounds of all segments are swept from left to right, so that only pairs of
+ * segments with overlapping control bounds are intersected. Sorting the
+ * segments takes <code>O((n+m) log(n+m))</code>, and the sweep is linear in
+ * the number of segments plus the number of segments that are active at the
+ * same time. The intersection {@link Point}s are collected without relying on
+ * {@link Point#hashCode()}, which cannot discriminate imprecisely equal
+ * {@link Point}s.
+ *
+ * @author agent
+ *
+ */
+final class SegmentIntersector {
+
+	private static final double EPSILON = PrecisionUtils.calculateFraction(0);
+
+	/**
+	 * Adds the given {@link Point} to the given list of (sorted by x
+	 * coordinate) distinct {@link Point}s, unless an (imprecisely) equal
+	 * {@link Point} is already contained.
+	 */
+	private static void addDistinct(List<Point> points, Point p) {
+		// find the insertion index w.r.t. the x coordinate
+		int lo = 0;
+		int hi = points.size();
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (points.get(mid).x < p.x) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		// only points within the imprecision range can be equal
+		for (int i = lo - 1; i >= 0 && points.get(i).x >= p.x - EPSILON; i--) {
+			if (points.get(i).equals(p)) {
+				return;
+			}
+		}
+		for (int i = lo; i < points.size()
+				&& points.get(i).x <= p.x + EPSILON; i++) {
+			if (points.get(i).equals(p)) {
+				return;
+			}
+		}
+		points.add(lo, p);
+	}
+
+	/**
+	 * Computes the intersection {@link Point}s between the given two sets of
+	 * {@link BezierCurve} segments. Overlapping segments do not contribute
+	 * intersection {@link Point}s, as for
+	 * {@link BezierCurve#getIntersections(BezierCurve)}.
+	 *
+	 * @param segments1
+	 *            the first set of {@link BezierCurve} segments
+	 * @param segments2
+	 *            the second set of {@link BezierCurve} segments
+	 * @return the (imprecisely) distinct intersection {@link Point}s
+	 */
+	static Point[] getIntersections(BezierCurve[] segments1,
+			BezierCurve[] segments2) {
+		final int n = segments1.length;
+		final int count = n + segments2.length;
+		if (n == 0 || count == n) {
+			return new Point[] {};
+		}
+
+		// control bounds (min x, min y, max x, max y) of all segments; the
+		// segments of the second set are stored after those of the first set
+		final double[] bounds = new double[4 * count];
+		for (int i = 0; i < count; i++) {
+			(i < n ? segments1[i] : segments2[i - n]).getControlBounds(bounds,
+					4 * i);
+		}
+
+		// sweep order (ascending min x)
+		int[] order = new int[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		PolygonTriangulator.sort(order, 0, count, new int[count],
+				new IndexComparator() {
+					@Override
+					int compare(int a, int b) {
+						return Double.compare(bounds[4 * a], bounds[4 * b]);
+					}
+				});
+
+		// segments of either set whose control bounds reach into the sweep
+		// position
+		int[][] active = new int[][] { new int[count], new int[count] };
+		int[] activeCount = new int[2];
+
+		List<Point> intersections = new ArrayList<>();
+		for (int segment : order) {
+			int set = segment < n ? 0 : 1;
+			int other = 1 - set;
+			double minX = bounds[4 * segment] - EPSILON;
+			double minY = bounds[4 * segment + 1] - EPSILON;
+			double maxY = bounds[4 * segment + 3] + EPSILON;
+
+			// remove segments that end before the sweep position, and
+			// intersect with those that overlap in y direction
+			int[] candidates = active[other];
+			int size = 0;
+			for (int i = 0; i < activeCount[other]; i++) {
+				int candidate = candidates[i];
+				if (bounds[4 * candidate + 2] < minX) {
+					continue;
+				}
+				candidates[size++] = candidate;
+				if (bounds[4 * candidate + 1] <= maxY
+						&& bounds[4 * candidate + 3] >= minY) {
+					BezierCurve s1 = segment < n ? segments1[segment]
+							: segments1[candidate];
+					BezierCurve s2 = segment < n ? segments2[candidate - n]
+							: segments2[segment - n];
+					for (Point p : s1.getIntersections(s2)) {
+						addDistinct(intersections, p);
+					}
+				}
+			}
+			activeCount[other] = size;
+			active[set][activeCount[set]++] = segment;
+		}
+		return intersections.toArray(new Point[] {});
+	}
+
+	/**
+	 * Returns the {@link BezierCurve} segments of the given {@link IGeometry},
+	 * i.e. the segments of an {@link ICurve}, or the segments of the outlines
+	 * of an {@link IShape}, or the segments of the outlines of the
+	 * {@link IShape}s of an {@link IMultiShape}.
+	 *
+	 * @param geometry
+	 *            the {@link IGeometry} for which to return the segments
+	 * @return the {@link BezierCurve} segments of the given {@link IGeometry}
+	 */
+	static BezierCurve[] getSegments(IGeometry geometry) {
+		if (geometry instanceof ICurve) {
+			return ((ICurve) geometry).toBezier();
+		}
+		List<BezierCurve> segments = new ArrayList<>();
+		if (geometry instanceof IShape) {
+			addSegments((IShape) geometry, segments);
+		} else if (geometry instanceof IMultiShape) {
+			for (IShape shape : ((IMultiShape) geometry).getShapes()) {
+				addSegments(shape, segments);
+			}
+		} else {
+			throw new UnsupportedOperationException("Not yet implemented.");
+		}
+		return segments.toArray(new BezierCurve[] {});
+	}
+
+	private static void addSegments(IShape shape, List<BezierCurve> segments) {
+		for (ICurve curve : shape.getOutlineSegments()) {
+			for (BezierCurve segment : curve.toBezier()) {
+				segments.add(segment);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.graph.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.junit.Test;
+
+import javafx.collections.MapChangeListener;
+
+public class NodeTests {
+
+	@Test
+	public void adjacencyFollowsEdgeChanges() {
+		Node n1 = new Node();
+		Node n2 = new Node();
+		Node n3 = new Node();
+		Edge e12 = new Edge(n1, n2);
+		Edge e12b = new Edge(n1, n2);
+		Graph graph = new Graph(Arrays.asList(n1, n2, n3), Arrays.asList(e12, e12b));
+
+		assertEquals(2, n1.getOutgoingEdges().size());
+		assertEquals(2, n2.getIncomingEdges().size());
+		assertEquals(Collections.singleton(n2), n1.getSuccessorNodes());
+		assertEquals(Collections.singleton(n1), n2.getPredecessorNodes());
+		assertEquals(Collections.singleton(n1), n2.getNeighbors());
+		assertTrue(n3.getNeighbors().isEmpty());
+
+		// removing one of the parallel edges keeps the adjacency
+		graph.getEdges().remove(e12b);
+		assertEquals(1, n1.getOutgoingEdges().size());
+		assertEquals(Collections.singleton(n2), n1.getSuccessorNodes());
+
+		// re-targeting an edge updates the adjacency
+		e12.setTarget(n3);
+		assertTrue(n2.getIncomingEdges().isEmpty());
+		assertTrue(n2.getNeighbors().isEmpty());
+		assertEquals(Collections.singleton(e12), n3.getIncomingEdges());
+		assertEquals(Collections.singleton(n3), n1.getSuccessorNodes());
+
+		// re-sourcing an edge updates the adjacency
+		e12.setSource(n2);
+		assertTrue(n1.getOutgoingEdges().isEmpty());
+		assertEquals(Collections.singleton(n2), n3.getPredecessorNodes());
+
+		// clearing the edges clears the adjacency
+		graph.getEdges().clear();
+		assertTrue(n2.getSuccessorNodes().isEmpty());
+		assertTrue(n3.getIncomingEdges().isEmpty());
+	}
+
+	@Test
+	public void adjacencyOfNestedNodes() {
+		Node n = new Node();
+		Node m = new Node();
+		Node ma = new Node();
+		Node mb = new Node();
+		Graph nested = new Graph(Arrays.asList(ma, mb), Arrays.asList(new Edge(ma, mb)));
+		m.setNestedGraph(nested);
+		new Graph(Arrays.asList(n, m), Arrays.asList(new Edge(n, m)));
+
+		assertEquals(Collections.singleton(ma), mb.getPredecessorNodes());
+		assertEquals(2, mb.getAllPredecessorNodes().size());
+		assertTrue(mb.getAllPredecessorNodes().contains(n));
+		assertTrue(mb.getAllNeighbors().contains(ma));
+		assertEquals(2, mb.getAllIncomingEdges().size());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void adjacencyIsUnmodifiable() {
+		Node n1 = new Node();
+		Node n2 = new Node();
+		new Graph(Arrays.asList(n1, n2), Arrays.asList(new Edge(n1, n2)));
+		n1.getSuccessorNodes().clear();
+	}
+
+	@Test
+	public void attributeChangesAreBatchedPerGraph() {
+		final Node n = new Node();
+		final Node m = new Node();
+		final Node ma = new Node();
+		m.setNestedGraph(new Graph(Arrays.asList(ma), Collections.<Edge> emptyList()));
+		final Edge e = new Edge(n, m);
+		final Graph graph = new Graph(Arrays.asList(n, m), Arrays.asList(e));
+
+		final List<String> changes = new ArrayList<>();
+		MapChangeListener<String, Object> listener = new MapChangeListener<String, Object>() {
+			@Override
+			public void onChanged(MapChangeListener.Change<? extends String, ? extends Object> change) {
+				changes.add(change.getKey() + "=" + change.getValueAdded());
+			}
+		};
+		n.attributesProperty().addListener(listener);
+		ma.attributesProperty().addListener(listener);
+		e.attributesProperty().addListener(listener);
+
+		graph.batchUpdate(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = 0; i < 10; i++) {
+					n.getAttributes().put("x", i);
+					ma.getAttributes().put("y", i);
+					e.getAttributes().put("z", i);
+				}
+				assertTrue(changes.isEmpty());
+			}
+		});
+		assertEquals(Arrays.asList("x=9", "z=9", "y=9"), changes);
+
+		// batch of a single node
+		changes.clear();
+		n.batchUpdate(new Runnable() {
+			@Override
+			public void run() {
+				n.getAttributes().put("x", 10);
+				n.getAttributes().put("x", 11);
+				// not affected by the batch
+				e.getAttributes().put("z", 10);
+			}
+		});
+		assertEquals(Arrays.asList("z=10", "x=11"), changes);
+	}
+
+}
@@ -27,7 +27,6 @@ import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
 import org.eclipse.gef.graph.Graph.Builder.Context;
 
 import javafx.beans.property.ReadOnlyMapProperty;
-import javafx.beans.property.ReadOnlyMapWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableMap;
 
@@ -211,7 +210,7 @@ public class Edge implements IAttributeStore {
 		}
 	}
 
-	private final ReadOnlyMapWrapper<String, Object> attributesProperty = new ReadOnlyMapWrapperEx<>(this,
+	private final ReadOnlyMapWrapperEx<String, Object> attributesProperty = new ReadOnlyMapWrapperEx<>(this,
 			ATTRIBUTES_PROPERTY, FXCollections.<String, Object>observableHashMap());
 	private Node source;
 	private Node target;
@@ -257,6 +256,26 @@ public class Edge implements IAttributeStore {
 		return attributesProperty.getReadOnlyProperty();
 	}
 
+	@Override
+	public void batchUpdate(Runnable runnable) {
+		attributesProperty.beginBatch();
+		try {
+			runnable.run();
+		} finally {
+			attributesProperty.endBatch();
+		}
+	}
+
+	/**
+	 * Returns the (writable) attributes property of this {@link Edge}, so that
+	 * the containing {@link Graph} can batch its change notifications.
+	 *
+	 * @return The attributes property of this {@link Edge}.
+	 */
+	ReadOnlyMapWrapperEx<String, Object> getAttributesWrapper() {
+		return attributesProperty;
+	}
+
 	@Override
 	public ObservableMap<String, Object> getAttributes() {
 		return attributesProperty.get();
@@ -310,7 +329,11 @@ public class Edge implements IAttributeStore {
 	 *            The new source {@link Node} for this {@link Edge}.
 	 */
 	public void setSource(Node source) {
+		Node oldSource = this.source;
 		this.source = source;
+		if (graph != null && oldSource != source) {
+			graph.reindexEdge(this, oldSource, target);
+		}
 	}
 
 	/**
@@ -320,7 +343,11 @@ public class Edge implements IAttributeStore {
 	 *            The new target {@link Node} for this {@link Edge}.
 	 */
 	public void setTarget(Node target) {
+		Node oldTarget = this.target;
 		this.target = target;
+		if (graph != null && oldTarget != target) {
+			graph.reindexEdge(this, source, oldTarget);
+		}
 	}
 
 	@Override
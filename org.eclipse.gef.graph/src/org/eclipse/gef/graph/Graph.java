@@ -17,10 +17,15 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -33,7 +38,6 @@ import org.eclipse.gef.common.collections.CollectionUtils;
 import javafx.beans.property.ReadOnlyListProperty;
 import javafx.beans.property.ReadOnlyListWrapper;
 import javafx.beans.property.ReadOnlyMapProperty;
-import javafx.beans.property.ReadOnlyMapWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -49,6 +53,49 @@ import javafx.collections.ObservableMap;
  */
 public final class Graph implements IAttributeStore {
 
+	/**
+	 * Stores the local incoming and outgoing {@link Edge}s, as well as the
+	 * resulting predecessor, successor, and neighbor {@link Node}s, of a single
+	 * {@link Node}. As multiple {@link Edge}s may connect the same pair of
+	 * {@link Node}s, the adjacent {@link Node}s are reference counted.
+	 */
+	private static final class Adjacency {
+
+		private static void decrement(Map<Node, Integer> counts, Node node) {
+			Integer count = counts.get(node);
+			if (count == null) {
+				return;
+			}
+			if (count.intValue() <= 1) {
+				counts.remove(node);
+			} else {
+				counts.put(node, count - 1);
+			}
+		}
+
+		private static void increment(Map<Node, Integer> counts, Node node) {
+			Integer count = counts.get(node);
+			counts.put(node, count == null ? 1 : count + 1);
+		}
+
+		private final Set<Edge> incoming = new LinkedHashSet<>();
+		private final Set<Edge> outgoing = new LinkedHashSet<>();
+		private final Map<Node, Integer> predecessors = new LinkedHashMap<>();
+		private final Map<Node, Integer> successors = new LinkedHashMap<>();
+		private final Map<Node, Integer> neighbors = new LinkedHashMap<>();
+
+		// unmodifiable views are created once and handed out to clients
+		private final Set<Edge> incomingView = Collections.unmodifiableSet(incoming);
+		private final Set<Edge> outgoingView = Collections.unmodifiableSet(outgoing);
+		private final Set<Node> predecessorsView = Collections.unmodifiableSet(predecessors.keySet());
+		private final Set<Node> successorsView = Collections.unmodifiableSet(successors.keySet());
+		private final Set<Node> neighborsView = Collections.unmodifiableSet(neighbors.keySet());
+
+		private boolean isEmpty() {
+			return incoming.isEmpty() && outgoing.isEmpty();
+		}
+	}
+
 	/**
 	 * The {@link Builder} can be used to construct a new {@link Graph} little
 	 * by little.
@@ -323,7 +370,7 @@ public final class Graph implements IAttributeStore {
 	/**
 	 * Attributes of this {@link Graph}.
 	 */
-	private final ReadOnlyMapWrapper<String, Object> attributesProperty = new ReadOnlyMapWrapperEx<>(this,
+	private final ReadOnlyMapWrapperEx<String, Object> attributesProperty = new ReadOnlyMapWrapperEx<>(this,
 			ATTRIBUTES_PROPERTY, FXCollections.<String, Object>observableHashMap());
 
 	/**
@@ -332,6 +379,16 @@ public final class Graph implements IAttributeStore {
 	 */
 	private Node nestingNode; // when contained as a nested graph within a node
 
+	/**
+	 * Index of the local {@link Adjacency} of the {@link Node}s that are
+	 * referenced as {@link Edge#getSource() source} or {@link Edge#getTarget()
+	 * target} by the {@link Edge}s of this {@link Graph}. It is kept in sync
+	 * with the {@link #edgesProperty()} and with source/target changes of the
+	 * contained {@link Edge}s, so that neighborhood queries do not have to
+	 * scan all {@link Edge}s.
+	 */
+	private final Map<Node, Adjacency> adjacencies = new IdentityHashMap<>();
+
 	/**
 	 * Default constructor, using empty collections for attributes, nodes, and
 	 * edges.
@@ -385,11 +442,13 @@ public final class Graph implements IAttributeStore {
 			@Override
 			public void onChanged(ListChangeListener.Change<? extends Edge> c) {
 				while (c.next()) {
-					for (Edge e : c.getAddedSubList()) {
-						e.setGraph(Graph.this);
-					}
 					for (Edge e : c.getRemoved()) {
 						e.setGraph(null);
+						unindexEdge(e, e.getSource(), e.getTarget());
+					}
+					for (Edge e : c.getAddedSubList()) {
+						e.setGraph(Graph.this);
+						indexEdge(e, e.getSource(), e.getTarget());
 					}
 				}
 			}
@@ -403,6 +462,48 @@ public final class Graph implements IAttributeStore {
 		return attributesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Executes the given {@link Runnable} while the dispatch of change
+	 * notifications is suspended for the attributes of this {@link Graph}, as
+	 * well as for the attributes of all {@link Node}s and {@link Edge}s that
+	 * are (transitively) contained in this {@link Graph} when the batch is
+	 * started. When the {@link Runnable} finished, the listeners of each of
+	 * these attribute stores receive a single, coalesced notification per
+	 * changed attribute.
+	 *
+	 * @param runnable
+	 *            The {@link Runnable} that updates attributes.
+	 */
+	@Override
+	public void batchUpdate(Runnable runnable) {
+		List<ReadOnlyMapWrapperEx<String, Object>> stores = new ArrayList<>();
+		List<Graph> graphs = new ArrayList<>();
+		graphs.add(this);
+		for (int i = 0; i < graphs.size(); i++) {
+			Graph graph = graphs.get(i);
+			stores.add(graph.attributesProperty);
+			for (Node node : graph.getNodes()) {
+				stores.add(node.getAttributesWrapper());
+				if (node.getNestedGraph() != null) {
+					graphs.add(node.getNestedGraph());
+				}
+			}
+			for (Edge edge : graph.getEdges()) {
+				stores.add(edge.getAttributesWrapper());
+			}
+		}
+		for (ReadOnlyMapWrapperEx<String, Object> store : stores) {
+			store.beginBatch();
+		}
+		try {
+			runnable.run();
+		} finally {
+			for (ReadOnlyMapWrapperEx<String, Object> store : stores) {
+				store.endBatch();
+			}
+		}
+	}
+
 	/**
 	 * Returns a read-only list property containing the {@link Edge}s of this
 	 * {@link Graph}.
@@ -427,6 +528,21 @@ public final class Graph implements IAttributeStore {
 		return edgesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Returns an unmodifiable view on the {@link Edge}s of this {@link Graph}
+	 * that have the given {@link Node} as their {@link Edge#getTarget()
+	 * target}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the incoming edges.
+	 * @return An unmodifiable {@link Set} containing the local incoming
+	 *         {@link Edge}s of the given {@link Node}.
+	 */
+	Set<Edge> getIncomingEdges(Node node) {
+		Adjacency adjacency = adjacencies.get(node);
+		return adjacency == null ? Collections.<Edge>emptySet() : adjacency.incomingView;
+	}
+
 	/**
 	 * Returns the {@link Node} in which this {@link Graph} is nested. Returns
 	 * <code>null</code> when this {@link Graph} is not nested.
@@ -438,6 +554,20 @@ public final class Graph implements IAttributeStore {
 		return nestingNode;
 	}
 
+	/**
+	 * Returns an unmodifiable view on the {@link Node}s that are connected to
+	 * the given {@link Node} by an {@link Edge} of this {@link Graph}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the neighbors.
+	 * @return An unmodifiable {@link Set} containing the local neighbors of
+	 *         the given {@link Node}.
+	 */
+	Set<Node> getNeighbors(Node node) {
+		Adjacency adjacency = adjacencies.get(node);
+		return adjacency == null ? Collections.<Node>emptySet() : adjacency.neighborsView;
+	}
+
 	/**
 	 * Returns the nodes of this Graph.
 	 *
@@ -447,6 +577,36 @@ public final class Graph implements IAttributeStore {
 		return nodesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Returns an unmodifiable view on the {@link Edge}s of this {@link Graph}
+	 * that have the given {@link Node} as their {@link Edge#getSource()
+	 * source}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the outgoing edges.
+	 * @return An unmodifiable {@link Set} containing the local outgoing
+	 *         {@link Edge}s of the given {@link Node}.
+	 */
+	Set<Edge> getOutgoingEdges(Node node) {
+		Adjacency adjacency = adjacencies.get(node);
+		return adjacency == null ? Collections.<Edge>emptySet() : adjacency.outgoingView;
+	}
+
+	/**
+	 * Returns an unmodifiable view on the {@link Edge#getSource() source}
+	 * {@link Node}s of the local incoming {@link Edge}s of the given
+	 * {@link Node}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the predecessors.
+	 * @return An unmodifiable {@link Set} containing the local predecessors of
+	 *         the given {@link Node}.
+	 */
+	Set<Node> getPredecessorNodes(Node node) {
+		Adjacency adjacency = adjacencies.get(node);
+		return adjacency == null ? Collections.<Node>emptySet() : adjacency.predecessorsView;
+	}
+
 	/**
 	 * Returns the root graph of this Graph.
 	 *
@@ -470,6 +630,112 @@ public final class Graph implements IAttributeStore {
 		return nodesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Returns an unmodifiable view on the {@link Edge#getTarget() target}
+	 * {@link Node}s of the local outgoing {@link Edge}s of the given
+	 * {@link Node}.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the successors.
+	 * @return An unmodifiable {@link Set} containing the local successors of
+	 *         the given {@link Node}.
+	 */
+	Set<Node> getSuccessorNodes(Node node) {
+		Adjacency adjacency = adjacencies.get(node);
+		return adjacency == null ? Collections.<Node>emptySet() : adjacency.successorsView;
+	}
+
+	private Adjacency getOrCreateAdjacency(Node node) {
+		Adjacency adjacency = adjacencies.get(node);
+		if (adjacency == null) {
+			adjacency = new Adjacency();
+			adjacencies.put(node, adjacency);
+		}
+		return adjacency;
+	}
+
+	/**
+	 * Records the given {@link Edge} within the adjacency index, using the
+	 * given source and target {@link Node}s.
+	 *
+	 * @param edge
+	 *            The {@link Edge} to index.
+	 * @param source
+	 *            The source {@link Node} of the {@link Edge}.
+	 * @param target
+	 *            The target {@link Node} of the {@link Edge}.
+	 */
+	private void indexEdge(Edge edge, Node source, Node target) {
+		if (source != null) {
+			Adjacency sourceAdjacency = getOrCreateAdjacency(source);
+			if (sourceAdjacency.outgoing.add(edge) && target != null) {
+				Adjacency.increment(sourceAdjacency.successors, target);
+				Adjacency.increment(sourceAdjacency.neighbors, target);
+			}
+		}
+		if (target != null) {
+			Adjacency targetAdjacency = getOrCreateAdjacency(target);
+			if (targetAdjacency.incoming.add(edge) && source != null) {
+				Adjacency.increment(targetAdjacency.predecessors, source);
+				Adjacency.increment(targetAdjacency.neighbors, source);
+			}
+		}
+	}
+
+	/**
+	 * Updates the adjacency index after the source or target {@link Node} of
+	 * the given {@link Edge} was changed.
+	 *
+	 * @param edge
+	 *            The {@link Edge} that was changed.
+	 * @param oldSource
+	 *            The previous source {@link Node} of the {@link Edge}.
+	 * @param oldTarget
+	 *            The previous target {@link Node} of the {@link Edge}.
+	 */
+	void reindexEdge(Edge edge, Node oldSource, Node oldTarget) {
+		unindexEdge(edge, oldSource, oldTarget);
+		indexEdge(edge, edge.getSource(), edge.getTarget());
+	}
+
+	/**
+	 * Removes the given {@link Edge} from the adjacency index, using the given
+	 * source and target {@link Node}s.
+	 *
+	 * @param edge
+	 *            The {@link Edge} to remove from the index.
+	 * @param source
+	 *            The source {@link Node} of the {@link Edge}.
+	 * @param target
+	 *            The target {@link Node} of the {@link Edge}.
+	 */
+	private void unindexEdge(Edge edge, Node source, Node target) {
+		if (source != null) {
+			Adjacency sourceAdjacency = adjacencies.get(source);
+			if (sourceAdjacency != null && sourceAdjacency.outgoing.remove(edge)) {
+				if (target != null) {
+					Adjacency.decrement(sourceAdjacency.successors, target);
+					Adjacency.decrement(sourceAdjacency.neighbors, target);
+				}
+				if (sourceAdjacency.isEmpty()) {
+					adjacencies.remove(source);
+				}
+			}
+		}
+		if (target != null) {
+			Adjacency targetAdjacency = adjacencies.get(target);
+			if (targetAdjacency != null && targetAdjacency.incoming.remove(edge)) {
+				if (source != null) {
+					Adjacency.decrement(targetAdjacency.predecessors, source);
+					Adjacency.decrement(targetAdjacency.neighbors, source);
+				}
+				if (targetAdjacency.isEmpty()) {
+					adjacencies.remove(target);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Sets the nesting {@link Node} of this {@link Graph}.
 	 *
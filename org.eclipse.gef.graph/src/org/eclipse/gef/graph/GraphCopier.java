@@ -50,11 +50,20 @@ public class GraphCopier {
 	 *            The Graph to copy.
 	 * @return A new graph that is the result of the copy operation.
 	 */
-	public Graph copy(Graph graph) {
+	public Graph copy(final Graph graph) {
 		// clear input to output maps
 		inputToOutputNodes.clear();
 		inputToOutputEdges.clear();
-		return copyGraph(graph);
+		// attributes may be transferred (i.e. removed from the input), so
+		// that notifications for the input graph are batched as well
+		final Graph[] outputGraph = new Graph[1];
+		graph.batchUpdate(new Runnable() {
+			@Override
+			public void run() {
+				outputGraph[0] = copyGraph(graph);
+			}
+		});
+		return outputGraph[0];
 	}
 
 	/**
@@ -77,6 +86,21 @@ public class GraphCopier {
 		attributeCopier.copy(inputStore, outputStore);
 	}
 
+	/**
+	 * Transfers the attributes from the given input store to the given output
+	 * store (see {@link #copyAttributes(IAttributeStore, IAttributeStore)})
+	 * within a {@link IAttributeStore#batchUpdate(Runnable) batch update} of
+	 * the output store.
+	 */
+	private void batchCopyAttributes(final IAttributeStore inputStore, final IAttributeStore outputStore) {
+		outputStore.batchUpdate(new Runnable() {
+			@Override
+			public void run() {
+				copyAttributes(inputStore, outputStore);
+			}
+		});
+	}
+
 	/**
 	 * Creates a copy of the given edge.
 	 *
@@ -91,7 +115,7 @@ public class GraphCopier {
 		Node outputTarget = inputToOutputNodes.get(edge.getTarget());
 		// create edge
 		Edge outputEdge = new Edge(outputSource, outputTarget);
-		copyAttributes(edge, outputEdge);
+		batchCopyAttributes(edge, outputEdge);
 		return outputEdge;
 	}
 
@@ -108,7 +132,7 @@ public class GraphCopier {
 	protected Graph copyGraph(Graph graph) {
 		// create new graph to hold the copy
 		Graph outputGraph = new Graph();
-		copyAttributes(graph, outputGraph);
+		batchCopyAttributes(graph, outputGraph);
 		// copy nodes, keeping track of copied nodes (so we can relocate them to
 		// link edges)
 		for (Node inputNode : graph.getNodes()) {
@@ -138,7 +162,7 @@ public class GraphCopier {
 	 */
 	protected Node copyNode(Node node) {
 		Node outputNode = new Node();
-		copyAttributes(node, outputNode);
+		batchCopyAttributes(node, outputNode);
 		// convert nested graph
 		if (node.getNestedGraph() != null) {
 			Graph nested = copyGraph(node.getNestedGraph());
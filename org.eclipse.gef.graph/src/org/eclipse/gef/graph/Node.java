@@ -25,13 +25,13 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.eclipse.gef.common.attributes.IAttributeStore;
 import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
 import org.eclipse.gef.graph.Graph.Builder.Context;
 
 import javafx.beans.property.ReadOnlyMapProperty;
-import javafx.beans.property.ReadOnlyMapWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableMap;
 
@@ -209,7 +209,7 @@ public class Node implements IAttributeStore {
 
 	}
 
-	private final ReadOnlyMapWrapper<String, Object> attributesProperty = new ReadOnlyMapWrapperEx<>(this,
+	private final ReadOnlyMapWrapperEx<String, Object> attributesProperty = new ReadOnlyMapWrapperEx<>(this,
 			ATTRIBUTES_PROPERTY, FXCollections.<String, Object>observableHashMap());
 
 	/**
@@ -247,6 +247,36 @@ public class Node implements IAttributeStore {
 		return attributesProperty.getReadOnlyProperty();
 	}
 
+	@Override
+	public void batchUpdate(Runnable runnable) {
+		attributesProperty.beginBatch();
+		try {
+			runnable.run();
+		} finally {
+			attributesProperty.endBatch();
+		}
+	}
+
+	/**
+	 * Collects the local elements provided by the given {@link Function} for
+	 * this {@link Node} and for all (transitively) nesting {@link Node}s,
+	 * walking up the graph hierarchy iteratively.
+	 *
+	 * @param localElements
+	 *            The {@link Function} that provides the local elements for a
+	 *            {@link Node}.
+	 * @return A {@link Set} containing the collected elements.
+	 */
+	private <T> Set<T> collectAll(Function<Node, Set<T>> localElements) {
+		Set<T> elements = Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+		Node node = this;
+		while (node != null && node.graph != null) {
+			elements.addAll(localElements.apply(node));
+			node = node.graph.getNestingNode();
+		}
+		return elements;
+	}
+
 	/**
 	 * Returns all incoming {@link Edge}s of this {@link Node}. The full graph
 	 * hierarchy is scanned for incoming edges, and not just the
@@ -258,12 +288,7 @@ public class Node implements IAttributeStore {
 		if (graph == null) {
 			return Collections.emptySet();
 		}
-		Set<Edge> incoming = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
-		incoming.addAll(getIncomingEdges());
-		if (graph.getNestingNode() != null) {
-			incoming.addAll(graph.getNestingNode().getAllIncomingEdges());
-		}
-		return incoming;
+		return collectAll(Node::getIncomingEdges);
 	}
 
 	/**
@@ -274,10 +299,7 @@ public class Node implements IAttributeStore {
 	 * @return All neighbors.
 	 */
 	public Set<Node> getAllNeighbors() {
-		Set<Node> neighbors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		neighbors.addAll(getAllPredecessorNodes());
-		neighbors.addAll(getAllSuccessorNodes());
-		return neighbors;
+		return collectAll(Node::getNeighbors);
 	}
 
 	/**
@@ -291,12 +313,7 @@ public class Node implements IAttributeStore {
 		if (graph == null) {
 			return Collections.emptySet();
 		}
-		Set<Edge> outgoing = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
-		outgoing.addAll(getOutgoingEdges());
-		if (graph.getNestingNode() != null) {
-			outgoing.addAll(graph.getNestingNode().getAllOutgoingEdges());
-		}
-		return outgoing;
+		return collectAll(Node::getOutgoingEdges);
 	}
 
 	/**
@@ -310,12 +327,7 @@ public class Node implements IAttributeStore {
 		if (graph == null) {
 			return Collections.emptySet();
 		}
-		Set<Node> predecessors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		predecessors.addAll(getPredecessorNodes());
-		if (graph.getNestingNode() != null) {
-			predecessors.addAll(graph.getNestingNode().getAllPredecessorNodes());
-		}
-		return predecessors;
+		return collectAll(Node::getPredecessorNodes);
 	}
 
 	/**
@@ -329,12 +341,17 @@ public class Node implements IAttributeStore {
 		if (graph == null) {
 			return Collections.emptySet();
 		}
-		Set<Node> successors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		successors.addAll(getSuccessorNodes());
-		if (graph.getNestingNode() != null) {
-			successors.addAll(graph.getNestingNode().getAllSuccessorNodes());
-		}
-		return successors;
+		return collectAll(Node::getSuccessorNodes);
+	}
+
+	/**
+	 * Returns the (writable) attributes property of this {@link Node}, so that
+	 * the containing {@link Graph} can batch its change notifications.
+	 *
+	 * @return The attributes property of this {@link Node}.
+	 */
+	ReadOnlyMapWrapperEx<String, Object> getAttributesWrapper() {
+		return attributesProperty;
 	}
 
 	@Override
@@ -354,7 +371,10 @@ public class Node implements IAttributeStore {
 	/**
 	 * Returns the local incoming {@link Edge}s of this {@link Node}. Only the
 	 * {@link #getGraph() associated graph} is scanned for incoming edges, and
-	 * not the whole graph hierarchy.
+	 * not the whole graph hierarchy. The returned {@link Set} is an
+	 * unmodifiable view, which is backed by an adjacency index of the
+	 * {@link #getGraph() associated graph}, so it has to be copied if it is to
+	 * be retained across modifications of the graph.
 	 *
 	 * @return The local incoming {@link Edge}s.
 	 */
@@ -362,26 +382,22 @@ public class Node implements IAttributeStore {
 		if (graph == null) {
 			return Collections.emptySet();
 		}
-		Set<Edge> incoming = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
-		for (Edge e : graph.getEdges()) {
-			if (e.getTarget() == this) {
-				incoming.add(e);
-			}
-		}
-		return incoming;
+		return graph.getIncomingEdges(this);
 	}
 
 	/**
 	 * Returns all (local) neighbors of this {@link Node}, i.e. the union of the
-	 * {@link #getPredecessorNodes()} and {@link #getSuccessorNodes()} .
+	 * {@link #getPredecessorNodes()} and {@link #getSuccessorNodes()} . The
+	 * returned {@link Set} is an unmodifiable view (see
+	 * {@link #getIncomingEdges()}).
 	 *
 	 * @return All (local) neighbors of this {@link Node}.
 	 */
 	public Set<Node> getNeighbors() {
-		Set<Node> neighbors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		neighbors.addAll(getPredecessorNodes());
-		neighbors.addAll(getSuccessorNodes());
-		return neighbors;
+		if (graph == null) {
+			return Collections.emptySet();
+		}
+		return graph.getNeighbors(this);
 	}
 
 	/**
@@ -398,7 +414,10 @@ public class Node implements IAttributeStore {
 	/**
 	 * Returns the local outgoing {@link Edge}s of this {@link Node}. Only the
 	 * {@link #getGraph() associated graph} is scanned for outgoing edges, and
-	 * not the whole graph hierarchy.
+	 * not the whole graph hierarchy. The returned {@link Set} is an
+	 * unmodifiable view, which is backed by an adjacency index of the
+	 * {@link #getGraph() associated graph}, so it has to be copied if it is to
+	 * be retained across modifications of the graph.
 	 *
 	 * @return The local outgoing {@link Edge}s.
 	 */
@@ -406,43 +425,37 @@ public class Node implements IAttributeStore {
 		if (graph == null) {
 			return Collections.emptySet();
 		}
-		Set<Edge> outgoing = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
-		for (Edge e : graph.getEdges()) {
-			if (e.getSource() == this) {
-				outgoing.add(e);
-			}
-		}
-		return outgoing;
+		return graph.getOutgoingEdges(this);
 	}
 
 	/**
 	 * Returns the local predecessor {@link Node}s of this {@link Node}. Only
 	 * the {@link #getGraph() associated graph} is scanned for predecessor
-	 * nodes, and not the whole graph hierarchy.
+	 * nodes, and not the whole graph hierarchy. The returned {@link Set} is an
+	 * unmodifiable view (see {@link #getIncomingEdges()}).
 	 *
 	 * @return The local predecessor {@link Node}s.
 	 */
 	public Set<Node> getPredecessorNodes() {
-		Set<Node> predecessors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		for (Edge incoming : getIncomingEdges()) {
-			predecessors.add(incoming.getSource());
+		if (graph == null) {
+			return Collections.emptySet();
 		}
-		return predecessors;
+		return graph.getPredecessorNodes(this);
 	}
 
 	/**
 	 * Returns the local successor {@link Node}s of this {@link Node}. Only the
 	 * {@link #getGraph() associated graph} is scanned for successor nodes, and
-	 * not the whole graph hierarchy.
+	 * not the whole graph hierarchy. The returned {@link Set} is an
+	 * unmodifiable view (see {@link #getOutgoingEdges()}).
 	 *
 	 * @return The local successor {@link Node}s.
 	 */
 	public Set<Node> getSuccessorNodes() {
-		Set<Node> successors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		for (Edge outgoing : getOutgoingEdges()) {
-			successors.add(outgoing.getTarget());
+		if (graph == null) {
+			return Collections.emptySet();
 		}
-		return successors;
+		return graph.getSuccessorNodes(this);
 	}
 
 	/**
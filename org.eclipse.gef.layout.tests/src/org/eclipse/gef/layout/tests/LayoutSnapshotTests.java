@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutFilter;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutSnapshot;
+import org.junit.Test;
+
+import javafx.collections.MapChangeListener;
+
+public class LayoutSnapshotTests {
+
+	private static Node createNode(double x, double y) {
+		Node node = new Node();
+		LayoutProperties.setLocation(node, new Point(x, y));
+		LayoutProperties.setSize(node, new Dimension(20, 10));
+		return node;
+	}
+
+	@Test
+	public void captureLayoutRelevantData() {
+		Node n0 = createNode(1, 2);
+		Node n1 = createNode(3, 4);
+		Node n2 = createNode(5, 6);
+		final Node irrelevant = createNode(7, 8);
+		n1.getAttributes().put(LayoutProperties.MOVABLE_PROPERTY, false);
+		Edge e01 = new Edge(n0, n1);
+		Edge e10 = new Edge(n1, n0);
+		Edge e12 = new Edge(n1, n2);
+		Edge loop = new Edge(n2, n2);
+		Edge e2i = new Edge(n2, irrelevant);
+		LayoutProperties.setWeight(e12, 2);
+		Graph graph = new Graph(Arrays.asList(n0, n1, n2, irrelevant),
+				Arrays.asList(e01, e10, e12, loop, e2i));
+
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.addLayoutFilter(new ILayoutFilter() {
+			@Override
+			public boolean isLayoutIrrelevant(Edge edge) {
+				return false;
+			}
+
+			@Override
+			public boolean isLayoutIrrelevant(Node node) {
+				return node == irrelevant;
+			}
+		});
+		LayoutSnapshot snapshot = context.createSnapshot();
+
+		assertEquals(3, snapshot.getNodeCount());
+		assertEquals(1, snapshot.getId(n1));
+		assertEquals(-1, snapshot.getId(irrelevant));
+		assertEquals(n2, snapshot.getNode(2));
+		assertArrayEquals(new double[] { 1, 3, 5 }, snapshot.getX(), 0);
+		assertArrayEquals(new double[] { 2, 4, 6 }, snapshot.getY(), 0);
+		assertArrayEquals(new double[] { 20, 20, 20 }, snapshot.getWidth(),
+				0);
+		assertTrue(snapshot.isMovable(0));
+		assertFalse(snapshot.isMovable(1));
+
+		// the edge to the irrelevant node is dropped
+		assertEquals(4, snapshot.getEdgeCount());
+		assertEquals(e12, snapshot.getEdge(2));
+		assertArrayEquals(new int[] { 0, 1, 1, 2 }, snapshot.getEdgeSources());
+		assertArrayEquals(new int[] { 1, 0, 2, 2 }, snapshot.getEdgeTargets());
+		assertEquals(2, snapshot.getEdgeWeights()[2], 0);
+
+		// symmetric adjacency without self-loops
+		assertArrayEquals(new int[] { 0, 2, 5, 6 },
+				snapshot.getAdjacencyOffsets());
+		assertArrayEquals(new int[] { 1, 1, 0, 0, 2, 1 },
+				snapshot.getAdjacentNodes());
+		assertArrayEquals(new int[] { 0, 1, 0, 1, 2, 2 },
+				snapshot.getAdjacentEdges());
+	}
+
+	@Test
+	public void applyOnlyChangedLocations() {
+		Node n0 = createNode(1, 2);
+		Node n1 = createNode(3, 4);
+		final int[] changes = new int[1];
+		MapChangeListener<String, Object> listener = new MapChangeListener<String, Object>() {
+			@Override
+			public void onChanged(
+					MapChangeListener.Change<? extends String, ? extends Object> change) {
+				changes[0]++;
+			}
+		};
+		n0.getAttributes().addListener(listener);
+		n1.getAttributes().addListener(listener);
+		LayoutSnapshot snapshot = new LayoutSnapshot(new Node[] { n0, n1 },
+				new Edge[] {});
+
+		assertEquals(0, snapshot.applyLocations());
+		snapshot.getX()[1] = 10;
+		assertEquals(1, snapshot.applyLocations());
+		assertEquals(1, changes[0]);
+		assertEquals(new Point(10, 4), LayoutProperties.getLocation(n1));
+		assertEquals(new Point(1, 2), LayoutProperties.getLocation(n0));
+		assertEquals(0, snapshot.applyLocations());
+		assertEquals(1, changes[0]);
+	}
+
+}
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.junit.Test;
+
+public class SpringLayoutAlgorithmTests {
+
+	/**
+	 * Creates a {@link Graph} with the given number of nodes, which are placed
+	 * at pseudo-random locations, and which are connected by a spanning tree
+	 * plus the given number of additional (pseudo-random) edges.
+	 */
+	static Graph createGraph(int nodeCount, int extraEdgeCount, long seed) {
+		Random random = new Random(seed);
+		List<Node> nodes = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = new Node();
+			LayoutProperties.setLocation(node, new Point(
+					random.nextDouble() * 1000, random.nextDouble() * 1000));
+			LayoutProperties.setSize(node, new Dimension(20, 10));
+			nodes.add(node);
+		}
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 1; i < nodeCount; i++) {
+			edges.add(new Edge(nodes.get(random.nextInt(i)), nodes.get(i)));
+		}
+		for (int i = 0; i < extraEdgeCount; i++) {
+			edges.add(new Edge(nodes.get(random.nextInt(nodeCount)),
+					nodes.get(random.nextInt(nodeCount))));
+		}
+		Graph graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 1000, 1000));
+		return graph;
+	}
+
+	private static double[] layout(Graph graph,
+			SpringLayoutAlgorithm algorithm) {
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+		return getCoordinates(graph);
+	}
+
+	private static double[] getCoordinates(Graph graph) {
+		double[] coordinates = new double[2 * graph.getNodes().size()];
+		for (int i = 0; i < graph.getNodes().size(); i++) {
+			Point location = LayoutProperties
+					.getLocation(graph.getNodes().get(i));
+			coordinates[2 * i] = location.x;
+			coordinates[2 * i + 1] = location.y;
+		}
+		return coordinates;
+	}
+
+	private static SpringLayoutAlgorithm createAlgorithm(boolean barnesHut,
+			double theta) {
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setRandom(false);
+		algorithm.setSpringTimeout(0);
+		algorithm.setIterations(10);
+		algorithm.setBarnesHutApproximation(barnesHut);
+		algorithm.setBarnesHutTheta(theta);
+		return algorithm;
+	}
+
+	@Test
+	public void approximationIsExactForZeroTheta() {
+		double[] exact = layout(createGraph(60, 20, 42),
+				createAlgorithm(false, 0));
+		double[] approximated = layout(createGraph(60, 20, 42),
+				createAlgorithm(true, 0));
+		for (int i = 0; i < exact.length; i++) {
+			assertEquals(exact[i], approximated[i], 1e-3);
+		}
+	}
+
+	/**
+	 * Only computes forces and positions, so that the displacement of a node
+	 * reflects the force that acts on it.
+	 */
+	private static class ForceSpringLayoutAlgorithm
+			extends SpringLayoutAlgorithm {
+		@Override
+		protected void computeOneIteration() {
+			computeForces();
+			computePositions();
+		}
+	}
+
+	private static Point computeDisplacement(boolean barnesHut) {
+		// a single movable node far away from a cluster of fixed nodes
+		List<Node> nodes = new ArrayList<>();
+		Node node = new Node();
+		LayoutProperties.setLocation(node, new Point(0, 0));
+		LayoutProperties.setSize(node, new Dimension(1, 1));
+		nodes.add(node);
+		for (int i = 0; i < 15; i++) {
+			Node clustered = new Node();
+			LayoutProperties.setLocation(clustered,
+					new Point(200 + 0.5 * (i % 4), 200 + 0.5 * (i / 4)));
+			LayoutProperties.setSize(clustered, new Dimension(1, 1));
+			clustered.getAttributes().put(LayoutProperties.MOVABLE_PROPERTY,
+					false);
+			nodes.add(clustered);
+		}
+		Graph graph = new Graph(nodes, new ArrayList<Edge>());
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 100, 100));
+
+		SpringLayoutAlgorithm algorithm = new ForceSpringLayoutAlgorithm();
+		algorithm.setRandom(false);
+		algorithm.setBarnesHutApproximation(barnesHut);
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(algorithm);
+		// initialize without performing iterations
+		context.applyLayout(false);
+		algorithm.performOneIteration();
+		return LayoutProperties.getLocation(node);
+	}
+
+	@Test
+	public void approximationExcludesSelfRepulsion() {
+		// with the default theta, the root cell (which contains the node
+		// itself) is small enough relative to the distance to the cluster
+		Point exact = computeDisplacement(false);
+		Point approximated = computeDisplacement(true);
+		assertTrue(exact.x < 0 && exact.y < 0);
+		assertEquals(exact.x, approximated.x, Math.abs(exact.x) * 0.01);
+		assertEquals(exact.y, approximated.y, Math.abs(exact.y) * 0.01);
+	}
+
+	@Test
+	public void approximationProducesFiniteLocations() {
+		double[] approximated = layout(createGraph(200, 50, 7),
+				createAlgorithm(true, 1));
+		for (int i = 0; i < approximated.length; i++) {
+			assertFalse(Double.isNaN(approximated[i])
+					|| Double.isInfinite(approximated[i]));
+		}
+	}
+
+	@Test
+	public void iterationsStopOnConvergence() {
+		// nodes move by at most 0.2 (normalized) per iteration
+		SpringLayoutAlgorithm algorithm = createAlgorithm(false, 0);
+		algorithm.setConvergenceThreshold(0.5);
+		Graph graph = createGraph(30, 10, 5);
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(algorithm);
+
+		// initialize without performing iterations
+		context.applyLayout(false);
+		assertFalse(algorithm.isConverged());
+		assertFalse(algorithm.performIterations(1000));
+		assertTrue(algorithm.isConverged());
+		assertTrue(algorithm.getMaxDisplacement() <= 0.2);
+	}
+
+	@Test
+	public void parallelComputationIsReproducible() {
+		for (boolean barnesHut : new boolean[] { false, true }) {
+			SpringLayoutAlgorithm sequential = createAlgorithm(barnesHut, 0);
+			double[] expected = layout(createGraph(100, 30, 13), sequential);
+			double[] first = layout(createGraph(100, 30, 13),
+					createParallelAlgorithm(barnesHut));
+			double[] second = layout(createGraph(100, 30, 13),
+					createParallelAlgorithm(barnesHut));
+			for (int i = 0; i < expected.length; i++) {
+				assertEquals(expected[i], first[i], 1e-3);
+				assertEquals(first[i], second[i], 0);
+			}
+		}
+	}
+
+	@Test
+	public void progressiveLayoutIsEqualToLayout() {
+		double[] expected = layout(createGraph(30, 10, 3),
+				createAlgorithm(false, 0));
+
+		SpringLayoutAlgorithm algorithm = createAlgorithm(false, 0);
+		Graph graph = createGraph(30, 10, 3);
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(algorithm);
+		// initialize without performing iterations
+		context.applyLayout(false);
+		while (algorithm.performIterations(0)) {
+		}
+		algorithm.finishIterations();
+
+		double[] progressive = getCoordinates(graph);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], progressive[i], 1e-9);
+		}
+		// nodes are fitted within the layout bounds
+		Rectangle bounds = LayoutProperties.getBounds(graph);
+		for (Node node : graph.getNodes()) {
+			// the location refers to the center of the node
+			Point location = LayoutProperties.getLocation(node);
+			Dimension size = LayoutProperties.getSize(node);
+			assertTrue(bounds.contains(new Rectangle(
+					location.x - size.width / 2, location.y - size.height / 2,
+					size.width, size.height)));
+		}
+	}
+
+	private static SpringLayoutAlgorithm createParallelAlgorithm(
+			boolean barnesHut) {
+		SpringLayoutAlgorithm algorithm = createAlgorithm(barnesHut, 0);
+		algorithm.setParallel(true);
+		algorithm.setParallelThreshold(0);
+		return algorithm;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeThetaIsRejected() {
+		new SpringLayoutAlgorithm().setBarnesHutTheta(-1);
+	}
+
+}
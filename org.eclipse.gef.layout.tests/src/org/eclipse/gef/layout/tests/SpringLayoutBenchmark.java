@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+
+/**
+ * A simple micro benchmark that compares the exact and the Barnes-Hut
+ * approximated (sequential and parallel) force computation of the {@link SpringLayoutAlgorithm} for
+ * (pseudo-random) graphs of increasing size. It is not part of the test suite
+ * and has to be started manually, passing the graph sizes (number of nodes) as
+ * arguments (defaults to 1000, 10000, and 50000 nodes).
+ *
+ * @author agent
+ *
+ */
+public class SpringLayoutBenchmark {
+
+	private static final int WARMUP_RUNS = 2;
+	private static final int MEASURED_RUNS = 3;
+	private static final int ITERATIONS = 5;
+
+	// the exact computation is skipped for larger graphs
+	private static final int MAX_EXACT_NODES = 10000;
+
+	public static void main(String[] args) {
+		int[] sizes = { 1000, 10000, 50000 };
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				sizes[i] = Integer.parseInt(args[i]);
+			}
+		}
+		for (int n : sizes) {
+			if (n <= MAX_EXACT_NODES) {
+				report("exact", n, measure(n, false, 0, false));
+				report("parallel exact", n, measure(n, false, 0, true));
+			}
+			report("barnes-hut (0.5)", n, measure(n, true, 0.5, false));
+			report("barnes-hut (1.0)", n, measure(n, true, 1.0, false));
+			report("parallel bh (1.0)", n, measure(n, true, 1.0, true));
+		}
+	}
+
+	private static double measure(int n, boolean barnesHut, double theta,
+			boolean parallel) {
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			run(n, barnesHut, theta, parallel);
+		}
+		long total = 0;
+		for (int i = 0; i < MEASURED_RUNS; i++) {
+			total += run(n, barnesHut, theta, parallel);
+		}
+		return total / 1e6 / MEASURED_RUNS / ITERATIONS;
+	}
+
+	private static void report(String mode, int n, double millis) {
+		System.out.println(String.format("%-18s %7d nodes: %10.2f ms/iteration",
+				mode, n, millis));
+	}
+
+	private static long run(int n, boolean barnesHut, double theta,
+			boolean parallel) {
+		Graph graph = SpringLayoutAlgorithmTests.createGraph(n, n / 2, n);
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setRandom(false);
+		algorithm.setSpringTimeout(0);
+		algorithm.setIterations(ITERATIONS);
+		algorithm.setBarnesHutApproximation(barnesHut);
+		algorithm.setBarnesHutTheta(theta);
+		algorithm.setParallel(parallel);
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(algorithm);
+		long start = System.nanoTime();
+		context.applyLayout(true);
+		return System.nanoTime() - start;
+	}
+
+}
@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.BarycentricCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.BrandesKoepfCoordinateAssigner;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.CoordinateAssigner;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.CrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.DFSLayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.Direction;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.LayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.LayerSweepCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.LongestPathLayerProvider;
+import org.junit.Test;
+
+public class SugiyamaLayoutAlgorithmTests {
+
+	/**
+	 * Creates a directed acyclic {@link Graph} with the given number of nodes,
+	 * which are connected by a (pseudo-random) spanning tree plus the given
+	 * number of additional (pseudo-random) edges, which are directed from the
+	 * lower to the higher node index.
+	 */
+	static Graph createGraph(int nodeCount, int extraEdgeCount, long seed) {
+		Random random = new Random(seed);
+		List<Node> nodes = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = new Node();
+			LayoutProperties.setSize(node, new Dimension(
+					10 + random.nextInt(40), 10 + random.nextInt(20)));
+			nodes.add(node);
+		}
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 1; i < nodeCount; i++) {
+			edges.add(new Edge(nodes.get(random.nextInt(i)), nodes.get(i)));
+		}
+		for (int i = 0; i < extraEdgeCount; i++) {
+			int a = random.nextInt(nodeCount);
+			int b = random.nextInt(nodeCount);
+			if (a != b) {
+				edges.add(new Edge(nodes.get(Math.min(a, b)),
+						nodes.get(Math.max(a, b))));
+			}
+		}
+		Graph graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 1000, 1000));
+		return graph;
+	}
+
+	/**
+	 * Counts the crossings between those edges (of a vertical layout) whose
+	 * end points are located on the same pair of layers, based on the node
+	 * locations that were computed by the layout.
+	 */
+	static int countCrossings(Graph graph) {
+		List<double[]> segments = new ArrayList<>();
+		for (Edge edge : graph.getEdges()) {
+			Point s = LayoutProperties.getLocation(edge.getSource());
+			Point t = LayoutProperties.getLocation(edge.getTarget());
+			if (s.y < t.y) {
+				segments.add(new double[] { s.x, s.y, t.x, t.y });
+			} else if (t.y < s.y) {
+				segments.add(new double[] { t.x, t.y, s.x, s.y });
+			}
+		}
+		int crossings = 0;
+		for (int i = 0; i < segments.size(); i++) {
+			double[] a = segments.get(i);
+			for (int j = i + 1; j < segments.size(); j++) {
+				double[] b = segments.get(j);
+				if (a[1] == b[1] && a[3] == b[3]
+						&& (a[0] - b[0]) * (a[2] - b[2]) < 0) {
+					crossings++;
+				}
+			}
+		}
+		return crossings;
+	}
+
+	static void layout(Graph graph, CrossingReducer crossingReducer) {
+		layout(graph, crossingReducer, null);
+	}
+
+	static void layout(Graph graph, CrossingReducer crossingReducer,
+			CoordinateAssigner coordinateAssigner) {
+		layout(graph, new DFSLayerProvider(), crossingReducer,
+				coordinateAssigner);
+	}
+
+	static void layout(Graph graph, LayerProvider layerProvider,
+			CrossingReducer crossingReducer,
+			CoordinateAssigner coordinateAssigner) {
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(
+				new SugiyamaLayoutAlgorithm(Direction.VERTICAL, null,
+						layerProvider, crossingReducer, coordinateAssigner));
+		context.applyLayout(true);
+	}
+
+	/**
+	 * Returns the layer of the given {@link Node}, assuming that it was laid
+	 * out by a {@link BrandesKoepfCoordinateAssigner} with a layer spacing of
+	 * <code>10</code>, and that all nodes have a height of <code>10</code>.
+	 */
+	private static int getLayer(Node node) {
+		return (int) Math.round(
+				(LayoutProperties.getLocation(node).y - 5) / 20);
+	}
+
+	private static Graph createChain(int nodeCount) {
+		List<Node> nodes = new ArrayList<>();
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = new Node();
+			LayoutProperties.setSize(node, new Dimension(10, 10));
+			nodes.add(node);
+			if (i > 0) {
+				edges.add(new Edge(nodes.get(i - 1), node));
+			}
+		}
+		Graph graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 1000, 1000));
+		return graph;
+	}
+
+	@Test
+	public void crossedBipartiteGraphIsUntangled() {
+		Node a1 = new Node();
+		Node a2 = new Node();
+		Node b1 = new Node();
+		Node b2 = new Node();
+		List<Node> nodes = new ArrayList<>();
+		for (Node node : new Node[] { a1, a2, b1, b2 }) {
+			LayoutProperties.setSize(node, new Dimension(20, 10));
+			nodes.add(node);
+		}
+		List<Edge> edges = new ArrayList<>();
+		edges.add(new Edge(a1, b2));
+		edges.add(new Edge(a2, b1));
+		Graph graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 1000, 1000));
+
+		layout(graph, new LayerSweepCrossingReducer());
+		assertEquals(0, countCrossings(graph));
+	}
+
+	@Test
+	public void treesAreLaidOutWithoutCrossings() {
+		for (long seed = 0; seed < 5; seed++) {
+			Graph graph = createGraph(100, 0, seed);
+			layout(graph, new LayerSweepCrossingReducer());
+			assertEquals(0, countCrossings(graph));
+		}
+	}
+
+	@Test
+	public void fewerCrossingsThanBarycentricReducer() {
+		Graph sweep = createGraph(200, 100, 3);
+		layout(sweep, new LayerSweepCrossingReducer());
+		Graph barycentric = createGraph(200, 100, 3);
+		layout(barycentric, new BarycentricCrossingReducer());
+		assertTrue(countCrossings(sweep) <= countCrossings(barycentric));
+	}
+
+	@Test
+	public void compactCoordinatesRespectNodeSizes() {
+		Graph graph = createGraph(100, 50, 11);
+		layout(graph, new LayerSweepCrossingReducer(),
+				new BrandesKoepfCoordinateAssigner(5, 10));
+		List<Node> nodes = graph.getNodes();
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < nodes.size(); i++) {
+			Point p = LayoutProperties.getLocation(nodes.get(i));
+			Dimension ps = LayoutProperties.getSize(nodes.get(i));
+			minX = Math.min(minX, p.x - ps.width / 2);
+			minY = Math.min(minY, p.y - ps.height / 2);
+			for (int j = i + 1; j < nodes.size(); j++) {
+				Point q = LayoutProperties.getLocation(nodes.get(j));
+				Dimension qs = LayoutProperties.getSize(nodes.get(j));
+				if (p.y == q.y) {
+					// same layer: node spacing is kept
+					assertTrue(Math.abs(p.x - q.x) >= (ps.width + qs.width) / 2
+							+ 5 - 1e-9);
+				} else {
+					// different layers do not overlap
+					assertFalse(Math.abs(p.y - q.y) < (ps.height + qs.height)
+							/ 2);
+				}
+			}
+		}
+		// placed at the origin of the layout area
+		assertEquals(0, minX, 1e-9);
+		assertEquals(0, minY, 1e-9);
+	}
+
+	@Test
+	public void compactCoordinatesAlignChains() {
+		// a chain of nodes is laid out straight
+		List<Node> nodes = new ArrayList<>();
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Node node = new Node();
+			LayoutProperties.setSize(node, new Dimension(10 + 10 * i, 10));
+			nodes.add(node);
+			if (i > 0) {
+				edges.add(new Edge(nodes.get(i - 1), node));
+			}
+		}
+		Graph graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 1000, 1000));
+		layout(graph, new LayerSweepCrossingReducer(),
+				new BrandesKoepfCoordinateAssigner());
+		for (Node node : nodes) {
+			assertEquals(25, LayoutProperties.getLocation(node).x, 1e-9);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeSpacingIsRejected() {
+		new BrandesKoepfCoordinateAssigner(-1, 0);
+	}
+
+	@Test
+	public void longestPathLayeringHandlesDeepGraphs() {
+		// a recursive implementation would overflow the stack
+		Graph graph = createChain(50000);
+		layout(graph, new LongestPathLayerProvider(),
+				new LayerSweepCrossingReducer(),
+				new BrandesKoepfCoordinateAssigner(10, 10));
+		List<Node> nodes = graph.getNodes();
+		for (int i = 0; i < nodes.size(); i++) {
+			assertEquals(i, getLayer(nodes.get(i)));
+		}
+	}
+
+	@Test
+	public void longestPathLayeringBreaksCycles() {
+		Graph graph = createGraph(200, 200, 17);
+		// close some cycles
+		List<Node> nodes = graph.getNodes();
+		List<Edge> edges = new ArrayList<>(graph.getEdges());
+		for (int i = 0; i < 20; i++) {
+			edges.add(new Edge(nodes.get(199 - i), nodes.get(i)));
+		}
+		graph = new Graph(new ArrayList<>(nodes), edges);
+		for (Node node : graph.getNodes()) {
+			LayoutProperties.setSize(node, new Dimension(10, 10));
+		}
+		layout(graph, new LongestPathLayerProvider(),
+				new LayerSweepCrossingReducer(),
+				new BrandesKoepfCoordinateAssigner(10, 10));
+		for (Edge edge : graph.getEdges()) {
+			assertTrue(getLayer(edge.getSource()) != getLayer(edge.getTarget()));
+		}
+	}
+
+	@Test
+	public void networkSimplexShortensEdges() {
+		// a -> b -> c -> d and e -> d
+		Graph graph = createChain(4);
+		List<Node> nodes = new ArrayList<>(graph.getNodes());
+		List<Edge> edges = new ArrayList<>(graph.getEdges());
+		Node e = new Node();
+		LayoutProperties.setSize(e, new Dimension(10, 10));
+		nodes.add(e);
+		edges.add(new Edge(e, nodes.get(3)));
+		graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 1000, 1000));
+
+		// longest-path layering places all sources on the first layer
+		layout(graph, new LongestPathLayerProvider(),
+				new LayerSweepCrossingReducer(),
+				new BrandesKoepfCoordinateAssigner(10, 10));
+		assertEquals(0, getLayer(e));
+
+		// network simplex minimizes the total edge length
+		layout(graph, new LongestPathLayerProvider(100),
+				new LayerSweepCrossingReducer(),
+				new BrandesKoepfCoordinateAssigner(10, 10));
+		assertEquals(2, getLayer(e));
+		for (int i = 0; i < 4; i++) {
+			assertEquals(i, getLayer(nodes.get(i)));
+		}
+	}
+
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.BarycentricCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.CrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.GreedyCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.LayerSweepCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.SplitCrossingReducer;
+
+/**
+ * A simple micro benchmark that compares the run time and the resulting number
+ * of crossings of the {@link CrossingReducer}s of the
+ * {@link SugiyamaLayoutAlgorithm} for (pseudo-random) directed acyclic graphs
+ * of increasing size. It is not part of the test suite and has to be started
+ * manually, passing the graph sizes (number of nodes) as arguments (defaults
+ * to 100, 1000, and 5000 nodes).
+ *
+ * @author agent
+ *
+ */
+public class SugiyamaLayoutBenchmark {
+
+	private static final int WARMUP_RUNS = 2;
+	private static final int MEASURED_RUNS = 3;
+
+	// the split and greedy reducers are skipped for larger graphs
+	private static final int MAX_QUADRATIC_NODES = 500;
+
+	public static void main(String[] args) {
+		int[] sizes = { 100, 1000, 5000 };
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				sizes[i] = Integer.parseInt(args[i]);
+			}
+		}
+		for (int n : sizes) {
+			if (n <= MAX_QUADRATIC_NODES) {
+				measure("split", n, new SplitCrossingReducer());
+				measure("greedy", n, new GreedyCrossingReducer());
+			}
+			measure("barycentric", n, new BarycentricCrossingReducer());
+			measure("layer sweep", n, new LayerSweepCrossingReducer());
+		}
+	}
+
+	private static void measure(String mode, int n,
+			CrossingReducer crossingReducer) {
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			SugiyamaLayoutAlgorithmTests.layout(
+					SugiyamaLayoutAlgorithmTests.createGraph(n, n / 2, n),
+					crossingReducer);
+		}
+		long total = 0;
+		Graph graph = null;
+		for (int i = 0; i < MEASURED_RUNS; i++) {
+			graph = SugiyamaLayoutAlgorithmTests.createGraph(n, n / 2, n);
+			long start = System.nanoTime();
+			SugiyamaLayoutAlgorithmTests.layout(graph, crossingReducer);
+			total += System.nanoTime() - start;
+		}
+		System.out.println(String.format(
+				"%-12s %6d nodes: %10.2f ms, %8d crossings", mode, n,
+				total / 1e6 / MEASURED_RUNS,
+				SugiyamaLayoutAlgorithmTests.countCrossings(graph)));
+	}
+
+}
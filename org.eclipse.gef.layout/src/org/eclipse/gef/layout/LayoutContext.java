@@ -63,19 +63,49 @@ public class LayoutContext {
 	 * passed-in to the layout algorithm to indicate whether the context changed
 	 * significantly since the last layout pass.
 	 * 
+	 * <p>
+	 * The layout algorithm is executed within a
+	 * {@link Graph#batchUpdate(Runnable) batch update} of the {@link Graph},
+	 * so that listeners are notified about the changed layout attributes
+	 * (once per changed attribute) after the algorithm finished, and before
+	 * the post-layout pass is performed.
+	 * 
 	 * @param clear
 	 *            <code>true</code> to indicate that the algorithm has to fully
 	 *            re-compute the layout, otherwise <code>false</code>.
 	 */
-	public void applyLayout(boolean clear) {
-		ILayoutAlgorithm layoutAlgorithm = layoutAlgorithmProperty.get();
+	public void applyLayout(final boolean clear) {
+		final ILayoutAlgorithm layoutAlgorithm = layoutAlgorithmProperty.get();
 		if (layoutAlgorithm != null) {
 			preLayout();
-			layoutAlgorithm.applyLayout(this, clear);
+			Runnable layout = new Runnable() {
+				@Override
+				public void run() {
+					layoutAlgorithm.applyLayout(LayoutContext.this, clear);
+				}
+			};
+			if (graph != null) {
+				graph.batchUpdate(layout);
+			} else {
+				layout.run();
+			}
 			postLayout();
 		}
 	}
 
+	/**
+	 * Creates a {@link LayoutSnapshot} of the layout-relevant {@link Node}s
+	 * and {@link Edge}s (see {@link #getNodes()} and {@link #getEdges()}),
+	 * which provides primitive access to the layout data, and allows to write
+	 * back the computed locations in a single pass.
+	 * 
+	 * @return A new {@link LayoutSnapshot} of the layout-relevant nodes and
+	 *         edges.
+	 */
+	public LayoutSnapshot createSnapshot() {
+		return new LayoutSnapshot(getNodes(), getEdges());
+	}
+
 	/**
 	 * Initiated by the context or by an {@link ILayoutAlgorithm} to perform
 	 * steps that are scheduled to be run after the layout pass. Should not be
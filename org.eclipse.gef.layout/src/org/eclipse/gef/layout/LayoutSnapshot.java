@@ -0,0 +1,368 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Node;
+
+/**
+ * A {@link LayoutSnapshot} is a compact copy of the layout-relevant data of
+ * the {@link Node}s and {@link Edge}s of a {@link LayoutContext} (see
+ * {@link LayoutContext#createSnapshot()}). The nodes are identified by
+ * <code>int</code> ids (their index within {@link #getNodes()}), and their
+ * locations, sizes, and movability are stored in primitive arrays (and a
+ * {@link BitSet}, respectively). The edges are stored as arrays of source and
+ * target ids and weights, and the (symmetric) adjacency is provided in
+ * compressed sparse row format.
+ * <p>
+ * This allows layout algorithms to access the layout data without
+ * {@link LayoutProperties} lookups (which are performed on the observable
+ * attribute maps of the nodes). The computed locations can be written back in
+ * a single pass via {@link #applyLocations()}, which only updates the nodes
+ * whose locations actually changed, so that only a minimal number of change
+ * notifications is fired.
+ * <p>
+ * The snapshot is not updated when the graph changes, i.e. a new snapshot has
+ * to be created in that case.
+ *
+ * @author agent
+ *
+ */
+public class LayoutSnapshot {
+
+	private final Node[] nodes;
+	private final Map<Node, Integer> ids = new IdentityHashMap<>();
+	private final double[] x;
+	private final double[] y;
+	private final double[] width;
+	private final double[] height;
+	private final BitSet movable;
+	// the locations that are currently stored within the nodes
+	private final double[] appliedX;
+	private final double[] appliedY;
+
+	private final Edge[] edges;
+	private final int[] edgeSources;
+	private final int[] edgeTargets;
+	private final double[] edgeWeights;
+
+	private final int[] adjacencyOffsets;
+	private final int[] adjacentNodes;
+	private final int[] adjacentEdges;
+
+	/**
+	 * Creates a new {@link LayoutSnapshot} for the given {@link Node}s and
+	 * {@link Edge}s. Edges that are not connecting two of the given nodes are
+	 * ignored.
+	 *
+	 * @param nodes
+	 *            The {@link Node}s to capture.
+	 * @param edges
+	 *            The {@link Edge}s to capture.
+	 */
+	public LayoutSnapshot(Node[] nodes, Edge[] edges) {
+		int n = nodes.length;
+		this.nodes = nodes.clone();
+		x = new double[n];
+		y = new double[n];
+		width = new double[n];
+		height = new double[n];
+		movable = new BitSet(n);
+		for (int i = 0; i < n; i++) {
+			Node node = nodes[i];
+			ids.put(node, i);
+			Point location = LayoutProperties.getLocation(node);
+			if (location != null) {
+				x[i] = location.x;
+				y[i] = location.y;
+			}
+			Dimension size = LayoutProperties.getSize(node);
+			if (size != null) {
+				width[i] = size.width;
+				height[i] = size.height;
+			}
+			if (LayoutProperties.isMovable(node)) {
+				movable.set(i);
+			}
+		}
+		appliedX = x.clone();
+		appliedY = y.clone();
+
+		// edges between captured nodes
+		Edge[] capturedEdges = new Edge[edges.length];
+		int[] sources = new int[edges.length];
+		int[] targets = new int[edges.length];
+		int[] degrees = new int[n];
+		int edgeCount = 0;
+		for (Edge edge : edges) {
+			Integer source = ids.get(edge.getSource());
+			Integer target = ids.get(edge.getTarget());
+			if (source == null || target == null) {
+				continue;
+			}
+			capturedEdges[edgeCount] = edge;
+			sources[edgeCount] = source;
+			targets[edgeCount] = target;
+			if (source.intValue() != target.intValue()) {
+				degrees[source]++;
+				degrees[target]++;
+			}
+			edgeCount++;
+		}
+		this.edges = new Edge[edgeCount];
+		System.arraycopy(capturedEdges, 0, this.edges, 0, edgeCount);
+		edgeSources = new int[edgeCount];
+		System.arraycopy(sources, 0, edgeSources, 0, edgeCount);
+		edgeTargets = new int[edgeCount];
+		System.arraycopy(targets, 0, edgeTargets, 0, edgeCount);
+		edgeWeights = new double[edgeCount];
+		for (int e = 0; e < edgeCount; e++) {
+			edgeWeights[e] = LayoutProperties.getWeight(this.edges[e]);
+		}
+
+		// symmetric adjacency (without self-loops)
+		adjacencyOffsets = new int[n + 1];
+		for (int i = 0; i < n; i++) {
+			adjacencyOffsets[i + 1] = adjacencyOffsets[i] + degrees[i];
+		}
+		adjacentNodes = new int[adjacencyOffsets[n]];
+		adjacentEdges = new int[adjacencyOffsets[n]];
+		int[] fill = new int[n];
+		System.arraycopy(adjacencyOffsets, 0, fill, 0, n);
+		for (int e = 0; e < edgeCount; e++) {
+			int source = edgeSources[e];
+			int target = edgeTargets[e];
+			if (source == target) {
+				continue;
+			}
+			adjacentNodes[fill[source]] = target;
+			adjacentEdges[fill[source]++] = e;
+			adjacentNodes[fill[target]] = source;
+			adjacentEdges[fill[target]++] = e;
+		}
+	}
+
+	/**
+	 * Writes the locations of this {@link LayoutSnapshot} (see
+	 * {@link #getX()} and {@link #getY()}) to the captured {@link Node}s,
+	 * using {@link LayoutProperties#setLocation(Node, Point)}. Only those
+	 * nodes are updated whose location changed since the snapshot was created
+	 * or since the locations were last applied.
+	 *
+	 * @return The number of nodes that were updated.
+	 */
+	public int applyLocations() {
+		int updated = 0;
+		for (int i = 0; i < nodes.length; i++) {
+			if (x[i] != appliedX[i] || y[i] != appliedY[i]) {
+				LayoutProperties.setLocation(nodes[i], new Point(x[i], y[i]));
+				appliedX[i] = x[i];
+				appliedY[i] = y[i];
+				updated++;
+			}
+		}
+		return updated;
+	}
+
+	/**
+	 * Returns the offsets of the rows of the adjacency, i.e. the neighbors of
+	 * node <code>i</code> are stored at the indices
+	 * <code>[offsets[i], offsets[i + 1])</code> of
+	 * {@link #getAdjacentNodes()} and {@link #getAdjacentEdges()}. The
+	 * returned array has a length of {@link #getNodeCount()} + 1 and may not
+	 * be modified.
+	 *
+	 * @return The offsets of the rows of the adjacency.
+	 */
+	public int[] getAdjacencyOffsets() {
+		return adjacencyOffsets;
+	}
+
+	/**
+	 * Returns the edge ids of the adjacency (see
+	 * {@link #getAdjacencyOffsets()}). The returned array may not be
+	 * modified.
+	 *
+	 * @return The edge ids of the adjacency.
+	 */
+	public int[] getAdjacentEdges() {
+		return adjacentEdges;
+	}
+
+	/**
+	 * Returns the node ids of the adjacency (see
+	 * {@link #getAdjacencyOffsets()}). Each edge (except self-loops) is
+	 * contained in the rows of both its source and its target. The returned
+	 * array may not be modified.
+	 *
+	 * @return The node ids of the adjacency.
+	 */
+	public int[] getAdjacentNodes() {
+		return adjacentNodes;
+	}
+
+	/**
+	 * Returns the {@link Edge} with the given id.
+	 *
+	 * @param edge
+	 *            The id of the {@link Edge} to return.
+	 * @return The {@link Edge} with the given id.
+	 */
+	public Edge getEdge(int edge) {
+		return edges[edge];
+	}
+
+	/**
+	 * Returns the number of captured {@link Edge}s.
+	 *
+	 * @return The number of captured {@link Edge}s.
+	 */
+	public int getEdgeCount() {
+		return edges.length;
+	}
+
+	/**
+	 * Returns the source node ids of the edges. The returned array may not be
+	 * modified.
+	 *
+	 * @return The source node ids of the edges.
+	 */
+	public int[] getEdgeSources() {
+		return edgeSources;
+	}
+
+	/**
+	 * Returns the target node ids of the edges. The returned array may not be
+	 * modified.
+	 *
+	 * @return The target node ids of the edges.
+	 */
+	public int[] getEdgeTargets() {
+		return edgeTargets;
+	}
+
+	/**
+	 * Returns the weights of the edges (see
+	 * {@link LayoutProperties#getWeight(Edge)}). The returned array may not be
+	 * modified.
+	 *
+	 * @return The weights of the edges.
+	 */
+	public double[] getEdgeWeights() {
+		return edgeWeights;
+	}
+
+	/**
+	 * Returns the heights of the nodes. The returned array may not be
+	 * modified.
+	 *
+	 * @return The heights of the nodes.
+	 */
+	public double[] getHeight() {
+		return height;
+	}
+
+	/**
+	 * Returns the id of the given {@link Node}, or <code>-1</code> if the
+	 * given {@link Node} was not captured.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the id.
+	 * @return The id of the given {@link Node}, or <code>-1</code>.
+	 */
+	public int getId(Node node) {
+		Integer id = ids.get(node);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Returns the {@link Node} with the given id.
+	 *
+	 * @param node
+	 *            The id of the {@link Node} to return.
+	 * @return The {@link Node} with the given id.
+	 */
+	public Node getNode(int node) {
+		return nodes[node];
+	}
+
+	/**
+	 * Returns the number of captured {@link Node}s.
+	 *
+	 * @return The number of captured {@link Node}s.
+	 */
+	public int getNodeCount() {
+		return nodes.length;
+	}
+
+	/**
+	 * Returns a copy of the captured {@link Node}s, ordered by their ids.
+	 *
+	 * @return A copy of the captured {@link Node}s.
+	 */
+	public Node[] getNodes() {
+		return nodes.clone();
+	}
+
+	/**
+	 * Returns the widths of the nodes. The returned array may not be
+	 * modified.
+	 *
+	 * @return The widths of the nodes.
+	 */
+	public double[] getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the x-coordinates of the locations of the nodes. The returned
+	 * array is to be modified by layout algorithms, and the changes are
+	 * written to the nodes by {@link #applyLocations()}.
+	 *
+	 * @return The x-coordinates of the locations of the nodes.
+	 */
+	public double[] getX() {
+		return x;
+	}
+
+	/**
+	 * Returns the y-coordinates of the locations of the nodes. The returned
+	 * array is to be modified by layout algorithms, and the changes are
+	 * written to the nodes by {@link #applyLocations()}.
+	 *
+	 * @return The y-coordinates of the locations of the nodes.
+	 */
+	public double[] getY() {
+		return y;
+	}
+
+	/**
+	 * Returns <code>true</code> if the node with the given id is movable (see
+	 * {@link LayoutProperties#isMovable(Node)}), otherwise <code>false</code>.
+	 *
+	 * @param node
+	 *            The id of the node.
+	 * @return <code>true</code> if the node is movable, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isMovable(int node) {
+		return movable.get(node);
+	}
+
+}
@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * The {@link BarnesHutQuadTree} is a region quad tree over a set of (unit
+ * mass) bodies, which is used to approximate the accumulated repulsive forces
+ * that act on each body in O(log(n)) (instead of O(n)), following the
+ * Barnes-Hut approach. All data is stored in primitive arrays, which are
+ * re-used when the tree is {@link #build(double[], double[], int) rebuilt}.
+ * <p>
+ * Once built, the tree is not modified by
+ * {@link #accumulateRepulsion(int, double, double, double, double[], int[])}, so
+ * that repulsive forces for different bodies may be computed concurrently.
+ *
+ * @author agent
+ *
+ */
+class BarnesHutQuadTree {
+
+	// marker for cells that do not contain a body
+	private static final int EMPTY = -1;
+	// marker for cells that are subdivided
+	private static final int INTERNAL = -2;
+
+	// maximum depth up to which cells are subdivided; coincident bodies are
+	// aggregated within a single leaf at this depth
+	private static final int MAX_DEPTH = 48;
+
+	private int cellCount;
+	private double[] minX = new double[0];
+	private double[] minY = new double[0];
+	private double[] size = new double[0];
+	private double[] mass = new double[0];
+	private double[] sumX = new double[0];
+	private double[] sumY = new double[0];
+	private int[] body = new int[0];
+	private int[] parent = new int[0];
+	private int[] children = new int[0];
+	// the leaf cell of each body
+	private int[] leaf = new int[0];
+
+	// bodies the tree was built for
+	private double[] x;
+	private double[] y;
+
+	/**
+	 * Accumulates the (approximated) repulsive force that is exerted on the
+	 * given body by all other bodies, given that two bodies with distance
+	 * <i>d</i> repel each other with force <code>gravitation / d^2</code>.
+	 * Cells whose size to distance ratio falls below the given <i>theta</i>
+	 * are treated as a single body located at their center of mass. Cells
+	 * that contain the given body itself are never treated as a single body,
+	 * so that the body does not repel itself.
+	 *
+	 * @param b
+	 *            The index of the body for which to compute the repulsion.
+	 * @param theta
+	 *            The accuracy parameter, <code>0</code> resulting in exact
+	 *            computation.
+	 * @param gravitation
+	 *            The gravitation constant.
+	 * @param minDistance
+	 *            The minimum distance to consider between bodies.
+	 * @param force
+	 *            An array of length 2 to which the x and y components of the
+	 *            force are added.
+	 * @param stack
+	 *            A scratch buffer for the tree traversal, as returned by
+	 *            {@link #createTraversalStack()}.
+	 */
+	void accumulateRepulsion(int b, double theta, double gravitation,
+			double minDistance, double[] force, int[] stack) {
+		if (cellCount == 0) {
+			return;
+		}
+		double bx = x[b];
+		double by = y[b];
+		double thetaSq = theta * theta;
+		double minDistanceSq = minDistance * minDistance;
+
+		// (nearly) coincident bodies aggregated within the leaf of the body
+		int cell = leaf[b];
+		if (mass[cell] > 1) {
+			double otherMass = mass[cell] - 1;
+			addRepulsion(bx - (sumX[cell] - bx) / otherMass,
+					by - (sumY[cell] - by) / otherMass, otherMass,
+					gravitation, minDistanceSq, force);
+		}
+
+		// the cells containing the body are the ancestors of its leaf, of
+		// which only the other children are traversed
+		while (parent[cell] != EMPTY) {
+			int p = parent[cell];
+			for (int q = 0; q < 4; q++) {
+				int sibling = children[4 * p + q];
+				if (sibling != EMPTY && sibling != cell) {
+					accumulateRepulsion(sibling, bx, by, thetaSq, gravitation,
+							minDistanceSq, force, stack);
+				}
+			}
+			cell = p;
+		}
+	}
+
+	/**
+	 * Accumulates the repulsive force that is exerted by the bodies within
+	 * the given cell (which may not contain the body located at the given
+	 * coordinates) onto the body located at the given coordinates.
+	 */
+	private void accumulateRepulsion(int root, double bx, double by,
+			double thetaSq, double gravitation, double minDistanceSq,
+			double[] force, int[] stack) {
+		int top = 0;
+		stack[top++] = root;
+		while (top > 0) {
+			int cell = stack[--top];
+			if (mass[cell] == 0) {
+				continue;
+			}
+			double dx = bx - sumX[cell] / mass[cell];
+			double dy = by - sumY[cell] / mass[cell];
+			if (body[cell] != INTERNAL || size[cell]
+					* size[cell] < thetaSq * (dx * dx + dy * dy)) {
+				// treat cell as a single body
+				addRepulsion(dx, dy, mass[cell], gravitation, minDistanceSq,
+						force);
+			} else {
+				for (int q = 0; q < 4; q++) {
+					int child = children[4 * cell + q];
+					if (child != EMPTY) {
+						stack[top++] = child;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the repulsive force that is exerted by a body of the given mass at
+	 * the given offset.
+	 */
+	private static void addRepulsion(double dx, double dy, double mass,
+			double gravitation, double minDistanceSq, double[] force) {
+		double distanceSq = Math.max(minDistanceSq, dx * dx + dy * dy);
+		double distance = Math.sqrt(distanceSq);
+		double f = gravitation * mass / distanceSq;
+		force[0] += f * dx / distance;
+		force[1] += f * dy / distance;
+	}
+
+	/**
+	 * Adds the given body to the given cell's mass and center of mass.
+	 */
+	private void addMass(int cell, int b) {
+		mass[cell] += 1;
+		sumX[cell] += x[b];
+		sumY[cell] += y[b];
+	}
+
+	/**
+	 * (Re-)builds this {@link BarnesHutQuadTree} for the given bodies.
+	 *
+	 * @param x
+	 *            The x coordinates of the bodies.
+	 * @param y
+	 *            The y coordinates of the bodies.
+	 * @param n
+	 *            The number of bodies.
+	 */
+	void build(double[] x, double[] y, int n) {
+		this.x = x;
+		this.y = y;
+		cellCount = 0;
+		if (n == 0) {
+			return;
+		}
+
+		// determine bounding square
+		double x0 = Double.POSITIVE_INFINITY, y0 = Double.POSITIVE_INFINITY;
+		double x1 = Double.NEGATIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			x0 = Math.min(x0, x[i]);
+			y0 = Math.min(y0, y[i]);
+			x1 = Math.max(x1, x[i]);
+			y1 = Math.max(y1, y[i]);
+		}
+		double s = Math.max(Math.max(x1 - x0, y1 - y0), Double.MIN_NORMAL);
+
+		ensureCapacity(4 * n + 1);
+		if (leaf.length < n) {
+			leaf = new int[n];
+		}
+		createCell(EMPTY, x0, y0, s);
+		for (int i = 0; i < n; i++) {
+			insert(i);
+		}
+	}
+
+	/**
+	 * Creates a scratch buffer that is large enough to be used for a
+	 * traversal of this tree within
+	 * {@link #accumulateRepulsion(int, double, double, double, double[], int[])}
+	 * . Each thread that concurrently computes forces needs its own buffer.
+	 *
+	 * @return A new traversal stack.
+	 */
+	static int[] createTraversalStack() {
+		// the traversal stack never holds more than 3 * depth + 1 cells
+		return new int[3 * (MAX_DEPTH + 1) + 1];
+	}
+
+	private int createCell(int parentCell, double cellMinX, double cellMinY,
+			double cellSize) {
+		if (cellCount == body.length) {
+			ensureCapacity(2 * body.length);
+		}
+		int cell = cellCount++;
+		parent[cell] = parentCell;
+		minX[cell] = cellMinX;
+		minY[cell] = cellMinY;
+		size[cell] = cellSize;
+		mass[cell] = 0;
+		sumX[cell] = 0;
+		sumY[cell] = 0;
+		body[cell] = EMPTY;
+		Arrays.fill(children, 4 * cell, 4 * cell + 4, EMPTY);
+		return cell;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (body.length >= capacity) {
+			return;
+		}
+		minX = Arrays.copyOf(minX, capacity);
+		minY = Arrays.copyOf(minY, capacity);
+		size = Arrays.copyOf(size, capacity);
+		mass = Arrays.copyOf(mass, capacity);
+		sumX = Arrays.copyOf(sumX, capacity);
+		sumY = Arrays.copyOf(sumY, capacity);
+		body = Arrays.copyOf(body, capacity);
+		parent = Arrays.copyOf(parent, capacity);
+		children = Arrays.copyOf(children, 4 * capacity);
+	}
+
+	/**
+	 * Returns the child of the given cell that covers the location of the
+	 * given body, creating it if necessary.
+	 */
+	private int getOrCreateChild(int cell, int b) {
+		double half = size[cell] / 2;
+		int qx = x[b] >= minX[cell] + half ? 1 : 0;
+		int qy = y[b] >= minY[cell] + half ? 1 : 0;
+		int index = 4 * cell + qx + 2 * qy;
+		int child = children[index];
+		if (child == EMPTY) {
+			child = createCell(cell, minX[cell] + qx * half,
+					minY[cell] + qy * half, half);
+			// arrays may have been re-allocated
+			children[index] = child;
+		}
+		return child;
+	}
+
+	private void insert(int b) {
+		int cell = 0;
+		int depth = 0;
+		while (true) {
+			if (body[cell] == EMPTY) {
+				body[cell] = b;
+				leaf[b] = cell;
+				addMass(cell, b);
+				return;
+			}
+			if (body[cell] >= 0) {
+				if (depth >= MAX_DEPTH) {
+					// aggregate (nearly) coincident bodies
+					leaf[b] = cell;
+					addMass(cell, b);
+					return;
+				}
+				// push existing body down into a child
+				int existing = body[cell];
+				body[cell] = INTERNAL;
+				int child = getOrCreateChild(cell, existing);
+				body[child] = existing;
+				leaf[existing] = child;
+				addMass(child, existing);
+			}
+			addMass(cell, b);
+			cell = getOrCreateChild(cell, b);
+			depth++;
+		}
+	}
+
+}
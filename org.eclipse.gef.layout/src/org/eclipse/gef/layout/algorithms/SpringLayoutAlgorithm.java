@@ -14,16 +14,17 @@
  ******************************************************************************/
 package org.eclipse.gef.layout.algorithms;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 
-import org.eclipse.gef.geometry.planar.Dimension;
-import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
-import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutSnapshot;
 
 /**
  * The SpringLayoutAlgorithm has its own data repository and relation
@@ -79,6 +80,55 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	private static final double MIN_DISTANCE = 1.0d;
 
+	/**
+	 * The default value for the accuracy parameter of the Barnes-Hut
+	 * approximation.
+	 */
+	private static final double DEFAULT_BARNES_HUT_THETA = 0.8d;
+
+	/**
+	 * The default minimum number of nodes for which forces are computed in
+	 * parallel (if parallel execution is enabled).
+	 */
+	private static final int DEFAULT_PARALLEL_THRESHOLD = 1000;
+
+	/**
+	 * The number of chunks into which the nodes are partitioned for parallel
+	 * force computation. It is independent of the number of available
+	 * processors, so that the (chunk-wise) reduction of forces, and hence the
+	 * layout result, does not depend on the executing machine.
+	 */
+	private static final int PARALLEL_CHUNKS = 32;
+
+	/**
+	 * A {@link RecursiveAction} that processes a range of chunks, splitting
+	 * the range until single chunks are left.
+	 */
+	private static class ChunkAction extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+		private final IntConsumer chunk;
+
+		ChunkAction(int from, int to, IntConsumer chunk) {
+			this.from = from;
+			this.to = to;
+			this.chunk = chunk;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				chunk.accept(from);
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new ChunkAction(from, middle, chunk),
+						new ChunkAction(middle, to, chunk));
+			}
+		}
+	}
+
 	/**
 	 * The variable can be customized to set the number of iterations used.
 	 */
@@ -122,9 +172,52 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	private boolean resize = false;
 
+	/**
+	 * Variable indicating whether repulsive forces are approximated using a
+	 * Barnes-Hut quad tree.
+	 */
+	private boolean barnesHut = false;
+
+	/**
+	 * The accuracy parameter of the Barnes-Hut approximation.
+	 */
+	private double barnesHutTheta = DEFAULT_BARNES_HUT_THETA;
+
+	/**
+	 * Variable indicating whether forces are computed in parallel.
+	 */
+	private boolean parallel = false;
+
+	/**
+	 * The minimum number of nodes for which forces are computed in parallel.
+	 */
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+	/**
+	 * The {@link ForkJoinPool} that is used for parallel force computation.
+	 */
+	private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+	/**
+	 * The maximum (normalized) node displacement below which the layout is
+	 * considered to be converged. A value of <code>0</code> disables the
+	 * convergence check.
+	 */
+	private double convergenceThreshold = 0;
+
+	/**
+	 * The maximum (normalized) node displacement of the last iteration.
+	 */
+	private double maxDisplacement = Double.POSITIVE_INFINITY;
+
 	private int iteration;
-	private double[][] srcDestToSumOfWeights;
+	// symmetric adjacency (compressed sparse rows) with summed edge weights
+	private LayoutSnapshot snapshot;
+	private int[] adjacencyOffsets;
+	private int[] adjacentIndices;
+	private double[] adjacentWeights;
 	private Node[] entities;
+	private boolean[] movable;
 	private double[] forcesX, forcesY;
 	private double[] locationsX, locationsY;
 	private double[] sizeW, sizeH;
@@ -132,6 +225,12 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	private double boundsScaleX = 0.2;
 	private double boundsScaleY = 0.2;
 
+	// scratch buffers used during force computation
+	private double[] rowWeights;
+	private BarnesHutQuadTree quadTree;
+	// per-chunk scratch buffers used during parallel force computation
+	private double[][] chunkForcesX, chunkForcesY, chunkRowWeights;
+
 	// XXX: Needed by performNIteration(int), see below.
 	private LayoutContext layoutContext;
 
@@ -150,6 +249,14 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 
 		saveLocations();
+		finish();
+	}
+
+	/**
+	 * Maximizes the node sizes (if {@link #isResizing() resizing}) and fits
+	 * the nodes within the layout bounds.
+	 */
+	private void finish() {
 		if (resize)
 			AlgorithmHelper.maximizeSizes(entities);
 
@@ -164,6 +271,21 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 	}
 
+	/**
+	 * Performs the steps that {@link #applyLayout(LayoutContext, boolean)}
+	 * performs after the last iteration, i.e. maximizes the node sizes (if
+	 * {@link #isResizing() resizing}) and fits the nodes within the layout
+	 * bounds. Has to be called once after the last iteration when computing a
+	 * layout progressively (see {@link #performIterations(long)}), so that the
+	 * result is equal to the one of a non-progressive layout pass.
+	 */
+	public void finishIterations() {
+		layoutContext.preLayout();
+		bounds = LayoutProperties.getBounds(layoutContext.getGraph());
+		finish();
+		layoutContext.postLayout();
+	}
+
 	/**
 	 * Performs the given number of iterations.
 	 * 
@@ -173,8 +295,6 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	public void performNIteration(int n) {
 		layoutContext.preLayout();
 		if (iteration == 0) {
-			entities = layoutContext.getNodes();
-			loadLocations();
 			initLayout(layoutContext);
 		}
 		bounds = LayoutProperties.getBounds(layoutContext.getGraph());
@@ -185,6 +305,38 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		layoutContext.postLayout();
 	}
 
+	/**
+	 * Performs iterations until the given time budget is exhausted, the layout
+	 * is {@link #isConverged() converged}, or the maximum number of
+	 * {@link #getIterations() iterations} is reached. Locations are only saved
+	 * once, after the last iteration. This allows to compute a layout
+	 * progressively in time-boxed slices (e.g. one slice per frame), showing
+	 * intermediate results. The {@link #getSpringTimeout() timeout} is not
+	 * considered. After the last iteration, {@link #finishIterations()} has
+	 * to be called.
+	 * 
+	 * @param timeBudget
+	 *            The time budget in milliseconds. At least one iteration is
+	 *            performed, regardless of the budget.
+	 * @return <code>true</code> if further iterations are needed, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean performIterations(long timeBudget) {
+		layoutContext.preLayout();
+		if (iteration == 0) {
+			initLayout(layoutContext);
+		}
+		bounds = LayoutProperties.getBounds(layoutContext.getGraph());
+		long deadline = System.nanoTime() + timeBudget * 1000000L;
+		do {
+			computeOneIteration();
+		} while (!isConverged() && iteration <= sprIterations
+				&& System.nanoTime() < deadline);
+		saveLocations();
+		layoutContext.postLayout();
+		return !isConverged() && iteration <= sprIterations;
+	}
+
 	/**
 	 * Performs one single iteration.
 	 * 
@@ -192,8 +344,6 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	public void performOneIteration() {
 		layoutContext.preLayout();
 		if (iteration == 0) {
-			entities = layoutContext.getNodes();
-			loadLocations();
 			initLayout(layoutContext);
 		}
 		bounds = LayoutProperties.getBounds(layoutContext.getGraph());
@@ -220,6 +370,188 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		resize = resizing;
 	}
 
+	/**
+	 * Returns whether the repulsive forces between nodes are approximated
+	 * using a Barnes-Hut quad tree.
+	 * 
+	 * @return <code>true</code> if the Barnes-Hut approximation is used,
+	 *         <code>false</code> if all forces are computed exactly.
+	 */
+	public boolean isBarnesHutApproximation() {
+		return barnesHut;
+	}
+
+	/**
+	 * Sets whether the repulsive forces between nodes are approximated using a
+	 * Barnes-Hut quad tree (which takes O(n log(n)) per iteration), or
+	 * computed exactly for each pair of nodes (which takes O(n^2) per
+	 * iteration). The attractive forces between connected nodes are computed
+	 * exactly in both cases. The exact computation is used by default.
+	 * 
+	 * @param barnesHut
+	 *            <code>true</code> to use the Barnes-Hut approximation,
+	 *            <code>false</code> to compute all forces exactly.
+	 */
+	public void setBarnesHutApproximation(boolean barnesHut) {
+		this.barnesHut = barnesHut;
+	}
+
+	/**
+	 * Returns the accuracy parameter (theta) of the Barnes-Hut approximation.
+	 * 
+	 * @return The accuracy parameter of the Barnes-Hut approximation.
+	 */
+	public double getBarnesHutTheta() {
+		return barnesHutTheta;
+	}
+
+	/**
+	 * Sets the accuracy parameter (theta) of the Barnes-Hut approximation. A
+	 * group of nodes is approximated by its center of mass if the ratio of the
+	 * group's extent to its distance falls below theta. Hence, <code>0</code>
+	 * results in an exact computation, while larger values trade accuracy for
+	 * speed. The default value is <code>0.8</code>.
+	 * 
+	 * @param theta
+	 *            The new accuracy parameter, which has to be non-negative.
+	 */
+	public void setBarnesHutTheta(double theta) {
+		if (theta < 0) {
+			throw new IllegalArgumentException(
+					"Theta may not be negative, but is " + theta + ".");
+		}
+		barnesHutTheta = theta;
+	}
+
+	/**
+	 * Returns whether forces are computed in parallel (for graphs that contain
+	 * at least {@link #getParallelThreshold() threshold} nodes).
+	 * 
+	 * @return <code>true</code> if forces are computed in parallel,
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Sets whether forces are computed in parallel, using the
+	 * {@link #setForkJoinPool(ForkJoinPool) fork/join pool} of this algorithm.
+	 * Parallel computation is only used for graphs that contain at least
+	 * {@link #getParallelThreshold() threshold} nodes, smaller graphs are
+	 * always processed sequentially. The nodes are partitioned into a fixed
+	 * number of chunks, whose forces are reduced in a fixed order, so that
+	 * parallel computation is reproducible, too (however, it may slightly
+	 * differ from the sequential computation due to rounding).
+	 * 
+	 * @param parallel
+	 *            <code>true</code> to compute forces in parallel,
+	 *            <code>false</code> to compute them sequentially.
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Returns the minimum number of nodes for which forces are computed in
+	 * parallel.
+	 * 
+	 * @return The minimum number of nodes for parallel computation.
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Sets the minimum number of nodes for which forces are computed in
+	 * parallel (if {@link #setParallel(boolean) enabled}). The default value
+	 * is <code>1000</code>.
+	 * 
+	 * @param threshold
+	 *            The new minimum number of nodes for parallel computation.
+	 */
+	public void setParallelThreshold(int threshold) {
+		parallelThreshold = threshold;
+	}
+
+	/**
+	 * Returns the {@link ForkJoinPool} that is used for parallel force
+	 * computation.
+	 * 
+	 * @return The {@link ForkJoinPool} that is used for parallel computation.
+	 */
+	public ForkJoinPool getForkJoinPool() {
+		return forkJoinPool;
+	}
+
+	/**
+	 * Sets the {@link ForkJoinPool} that is used for parallel force
+	 * computation. By default, the {@link ForkJoinPool#commonPool() common
+	 * pool} is used.
+	 * 
+	 * @param forkJoinPool
+	 *            The {@link ForkJoinPool} to use for parallel computation.
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		if (forkJoinPool == null) {
+			throw new IllegalArgumentException(
+					"The given ForkJoinPool may not be null.");
+		}
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Returns the convergence threshold, i.e. the maximum (normalized) node
+	 * displacement below which the layout is considered to be converged.
+	 * 
+	 * @return The convergence threshold.
+	 */
+	public double getConvergenceThreshold() {
+		return convergenceThreshold;
+	}
+
+	/**
+	 * Sets the convergence threshold, i.e. the maximum (normalized) node
+	 * displacement below which the layout is considered to be converged, so
+	 * that no further iterations are performed. The displacement is measured
+	 * relative to the layout bounds, so that a node may at most move by
+	 * <code>0.2 * springMove</code> within a single iteration. The default
+	 * value is <code>0</code>, i.e. iterations are only limited by the number
+	 * of {@link #setIterations(int) iterations} and the
+	 * {@link #setSpringTimeout(long) timeout}.
+	 * 
+	 * @param threshold
+	 *            The new convergence threshold.
+	 */
+	public void setConvergenceThreshold(double threshold) {
+		convergenceThreshold = threshold;
+	}
+
+	/**
+	 * Returns the maximum (normalized) node displacement of the last
+	 * iteration.
+	 * 
+	 * @return The maximum node displacement of the last iteration, or
+	 *         {@link Double#POSITIVE_INFINITY} if no iteration was performed
+	 *         yet.
+	 */
+	public double getMaxDisplacement() {
+		return maxDisplacement;
+	}
+
+	/**
+	 * Returns whether the layout is converged, i.e. the
+	 * {@link #getMaxDisplacement() maximum node displacement} of the last
+	 * iteration fell below the {@link #getConvergenceThreshold() convergence
+	 * threshold}.
+	 * 
+	 * @return <code>true</code> if the layout is converged, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isConverged() {
+		return maxDisplacement < convergenceThreshold;
+	}
+
 	/**
 	 * Sets the spring layout move-control.
 	 * 
@@ -363,56 +695,71 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	private long startTime = 0;
 
 	private void initLayout(LayoutContext context) {
-		entities = context.getNodes();
+		snapshot = context.createSnapshot();
+		entities = snapshot.getNodes();
 		bounds = LayoutProperties.getBounds(context.getGraph());
 		loadLocations();
 
-		srcDestToSumOfWeights = new double[entities.length][entities.length];
-		HashMap<Node, Integer> entityToPosition = new HashMap<>();
-		for (int i = 0; i < entities.length; i++) {
-			entityToPosition.put(entities[i], new Integer(i));
-		}
-
-		Edge[] connections = context.getEdges();
-		for (int i = 0; i < connections.length; i++) {
-			Edge connection = connections[i];
-			Integer source = entityToPosition.get(connection.getSource());
-			Integer target = entityToPosition.get(connection.getTarget());
-			if (source == null || target == null)
-				continue;
-			double weight = LayoutProperties.getWeight(connection);
-			weight = (weight <= 0 ? 0.1 : weight);
-			srcDestToSumOfWeights[source.intValue()][target
-					.intValue()] += weight;
-			srcDestToSumOfWeights[target.intValue()][source
-					.intValue()] += weight;
-		}
+		initAdjacency();
 
 		if (sprRandom)
 			placeRandomly(); // put vertices in random places
 
 		iteration = 1;
+		maxDisplacement = Double.POSITIVE_INFINITY;
 
 		startTime = System.currentTimeMillis();
 	}
 
+	/**
+	 * Builds the (symmetric) adjacency of the entities in compressed sparse
+	 * row format from the adjacency of the snapshot, summing up the weights
+	 * of parallel edges.
+	 */
+	private void initAdjacency() {
+		int n = entities.length;
+		int[] offsets = snapshot.getAdjacencyOffsets();
+		int[] indices = snapshot.getAdjacentNodes();
+		int[] edges = snapshot.getAdjacentEdges();
+		double[] weights = snapshot.getEdgeWeights();
+
+		// merge parallel edges within each row
+		adjacencyOffsets = new int[n + 1];
+		adjacentIndices = new int[offsets[n]];
+		adjacentWeights = new double[offsets[n]];
+		rowWeights = new double[n];
+		int size = 0;
+		for (int i = 0; i < n; i++) {
+			adjacencyOffsets[i] = size;
+			for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+				int j = indices[k];
+				if (rowWeights[j] == 0) {
+					adjacentIndices[size++] = j;
+				}
+				double weight = weights[edges[k]];
+				rowWeights[j] += (weight <= 0 ? 0.1 : weight);
+			}
+			for (int k = adjacencyOffsets[i]; k < size; k++) {
+				adjacentWeights[k] = rowWeights[adjacentIndices[k]];
+				rowWeights[adjacentIndices[k]] = 0;
+			}
+		}
+		adjacencyOffsets[n] = size;
+	}
+
 	private void loadLocations() {
-		if (locationsX == null || locationsX.length != entities.length) {
-			int length = entities.length;
-			locationsX = new double[length];
-			locationsY = new double[length];
-			sizeW = new double[length];
-			sizeH = new double[length];
+		int length = entities.length;
+		locationsX = snapshot.getX();
+		locationsY = snapshot.getY();
+		sizeW = snapshot.getWidth();
+		sizeH = snapshot.getHeight();
+		if (forcesX == null || forcesX.length != length) {
 			forcesX = new double[length];
 			forcesY = new double[length];
+			movable = new boolean[length];
 		}
-		for (int i = 0; i < entities.length; i++) {
-			Point location = LayoutProperties.getLocation(entities[i]);
-			locationsX[i] = location.x;
-			locationsY[i] = location.y;
-			Dimension size = LayoutProperties.getSize(entities[i]);
-			sizeW[i] = size.width;
-			sizeH[i] = size.height;
+		for (int i = 0; i < length; i++) {
+			movable[i] = snapshot.isMovable(i);
 		}
 	}
 
@@ -420,16 +767,14 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		if (entities == null)
 			return;
 		for (int i = 0; i < entities.length; i++) {
-			// TODO ensure no dynamic layout passes are triggered as a result of
-			// storing the positions
 			// TODO: check where NaN values originate from
 			if (Double.isNaN(locationsX[i]) || Double.isNaN(locationsY[i])) {
 				locationsX[i] = 0;
 				locationsY[i] = 0;
 			}
-			LayoutProperties.setLocation(entities[i],
-					new Point(locationsX[i], locationsY[i]));
 		}
+		// only changed locations are written back
+		snapshot.applyLocations();
 	}
 
 	/**
@@ -454,11 +799,12 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 * Performs one iteration based on time.
 	 * 
 	 * @return <code>true</code> if the maximum number of iterations was not
-	 *         reached yet, otherwise <code>false</code>.
+	 *         reached yet and the layout is not {@link #isConverged()
+	 *         converged}, otherwise <code>false</code>.
 	 */
 	protected boolean performAnotherNonContinuousIteration() {
 		setSprIterationsBasedOnTime();
-		return (iteration <= sprIterations);
+		return iteration <= sprIterations && !isConverged();
 	}
 
 	/**
@@ -528,63 +874,28 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 
 		double forcesX[][] = new double[2][this.forcesX.length];
 		double forcesY[][] = new double[2][this.forcesX.length];
-		double locationsX[] = new double[this.forcesX.length];
-		double locationsY[] = new double[this.forcesX.length];
-
-		// // initialize all forces to zero
-		for (int j = 0; j < 2; j++) {
-			for (int i = 0; i < this.forcesX.length; i++) {
-				forcesX[j][i] = 0;
-				forcesY[j][i] = 0;
-				locationsX[i] = this.locationsX[i];
-				locationsY[i] = this.locationsY[i];
-			}
-		}
-		// TODO: Again really really slow!
-
+		double locationsX[] = Arrays.copyOf(this.locationsX,
+				this.forcesX.length);
+		double locationsY[] = Arrays.copyOf(this.locationsY,
+				this.forcesX.length);
+
+		boolean computeInParallel = parallel
+				&& entities.length >= Math.max(parallelThreshold,
+						PARALLEL_CHUNKS);
 		for (int k = 0; k < 2; k++) {
-			for (int i = 0; i < this.locationsX.length; i++) {
-
-				for (int j = i + 1; j < locationsX.length; j++) {
-					double dx = (locationsX[i] - locationsX[j])
-							/ bounds.getWidth() / boundsScaleX;
-					double dy = (locationsY[i] - locationsY[j])
-							/ bounds.getHeight() / boundsScaleY;
-					double distance_sq = dx * dx + dy * dy;
-					// make sure distance and distance squared not too small
-					distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE,
-							distance_sq);
-					double distance = Math.sqrt(distance_sq);
-
-					// If there are relationships between srcObj and destObj
-					// then decrease force on srcObj (a pull) in direction of
-					// destObj
-					// If no relation between srcObj and destObj then increase
-					// force on srcObj (a push) from direction of destObj.
-					double sumOfWeights = srcDestToSumOfWeights[i][j];
-
-					double f;
-					if (sumOfWeights > 0) {
-						// nodes are pulled towards each other
-						f = -sprStrain * Math.log(distance / sprLength)
-								* sumOfWeights;
-					} else {
-						// nodes are repelled from each other
-						f = sprGravitation / (distance_sq);
-					}
-					double dfx = f * dx / distance;
-					double dfy = f * dy / distance;
-
-					forcesX[k][i] += dfx;
-					forcesY[k][i] += dfy;
-
-					forcesX[k][j] -= dfx;
-					forcesY[k][j] -= dfy;
-				}
+			if (barnesHut) {
+				accumulateApproximatedForces(locationsX, locationsY,
+						forcesX[k], forcesY[k], computeInParallel);
+			} else if (computeInParallel) {
+				accumulateExactForcesInParallel(locationsX, locationsY,
+						forcesX[k], forcesY[k]);
+			} else {
+				accumulateExactForces(locationsX, locationsY, 0,
+						locationsX.length, forcesX[k], forcesY[k], rowWeights);
 			}
 
 			for (int i = 0; i < entities.length; i++) {
-				if (LayoutProperties.isMovable(entities[i])) {
+				if (movable[i]) {
 					double deltaX = sprMove * forcesX[k][i];
 					double deltaY = sprMove * forcesY[k][i];
 
@@ -622,14 +933,249 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 
 	}
 
+	/**
+	 * Accumulates the forces acting on each node, approximating the repulsive
+	 * forces between all pairs of nodes using a {@link BarnesHutQuadTree}, and
+	 * replacing them by the (exactly computed) attractive forces for pairs of
+	 * connected nodes.
+	 * 
+	 * @param locationsX
+	 *            The x coordinates of the nodes.
+	 * @param locationsY
+	 *            The y coordinates of the nodes.
+	 * @param forcesX
+	 *            The array to which the x components of the forces are added.
+	 * @param forcesY
+	 *            The array to which the y components of the forces are added.
+	 * @param computeInParallel
+	 *            <code>true</code> if the repulsive forces should be computed
+	 *            in parallel, otherwise <code>false</code>.
+	 */
+	private void accumulateApproximatedForces(double[] locationsX,
+			double[] locationsY, double[] forcesX, double[] forcesY,
+			boolean computeInParallel) {
+		int n = locationsX.length;
+		double scaleX = bounds.getWidth() * boundsScaleX;
+		double scaleY = bounds.getHeight() * boundsScaleY;
+
+		// normalize coordinates
+		double[] normalizedX = new double[n];
+		double[] normalizedY = new double[n];
+		for (int i = 0; i < n; i++) {
+			normalizedX[i] = locationsX[i] / scaleX;
+			normalizedY[i] = locationsY[i] / scaleY;
+		}
+
+		// approximate repulsion between all pairs of nodes
+		if (quadTree == null) {
+			quadTree = new BarnesHutQuadTree();
+		}
+		quadTree.build(normalizedX, normalizedY, n);
+		if (computeInParallel) {
+			// each node's repulsion is computed independently
+			invokeChunks(chunk -> accumulateRepulsion(chunkStart(chunk, n),
+					chunkStart(chunk + 1, n), forcesX, forcesY));
+		} else {
+			accumulateRepulsion(0, n, forcesX, forcesY);
+		}
+
+		// connected nodes are pulled towards each other instead
+		for (int i = 0; i < n; i++) {
+			for (int a = adjacencyOffsets[i]; a < adjacencyOffsets[i
+					+ 1]; a++) {
+				int j = adjacentIndices[a];
+				if (j <= i) {
+					continue;
+				}
+				double dx = (locationsX[i] - locationsX[j]) / scaleX;
+				double dy = (locationsY[i] - locationsY[j]) / scaleY;
+				double distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE,
+						dx * dx + dy * dy);
+				double distance = Math.sqrt(distance_sq);
+				double f = -sprStrain * Math.log(distance / sprLength)
+						* adjacentWeights[a] - sprGravitation / distance_sq;
+				double dfx = f * dx / distance;
+				double dfy = f * dy / distance;
+				forcesX[i] += dfx;
+				forcesY[i] += dfy;
+				forcesX[j] -= dfx;
+				forcesY[j] -= dfy;
+			}
+		}
+	}
+
+	/**
+	 * Accumulates the forces acting on each node in parallel, computing the
+	 * force between each pair of nodes exactly. The rows of the (triangular)
+	 * force matrix are partitioned into chunks of similar effort, which
+	 * accumulate forces within separate buffers, that are reduced in a fixed
+	 * order afterwards.
+	 * 
+	 * @param locationsX
+	 *            The x coordinates of the nodes.
+	 * @param locationsY
+	 *            The y coordinates of the nodes.
+	 * @param forcesX
+	 *            The array to which the x components of the forces are added.
+	 * @param forcesY
+	 *            The array to which the y components of the forces are added.
+	 */
+	private void accumulateExactForcesInParallel(double[] locationsX,
+			double[] locationsY, double[] forcesX, double[] forcesY) {
+		int n = locationsX.length;
+		if (chunkForcesX == null || chunkForcesX[0].length != n) {
+			chunkForcesX = new double[PARALLEL_CHUNKS][n];
+			chunkForcesY = new double[PARALLEL_CHUNKS][n];
+			chunkRowWeights = new double[PARALLEL_CHUNKS][n];
+		}
+
+		// row i involves n - i - 1 pairs, so that chunk boundaries are chosen
+		// to cover equal areas of the triangular matrix
+		int[] rowStarts = new int[PARALLEL_CHUNKS + 1];
+		for (int c = 0; c <= PARALLEL_CHUNKS; c++) {
+			rowStarts[c] = (int) Math.round(n
+					* (1 - Math.sqrt(1 - (double) c / PARALLEL_CHUNKS)));
+		}
+
+		invokeChunks(chunk -> {
+			Arrays.fill(chunkForcesX[chunk], 0);
+			Arrays.fill(chunkForcesY[chunk], 0);
+			accumulateExactForces(locationsX, locationsY, rowStarts[chunk],
+					rowStarts[chunk + 1], chunkForcesX[chunk],
+					chunkForcesY[chunk], chunkRowWeights[chunk]);
+		});
+
+		// reduce chunk buffers (in chunk order)
+		invokeChunks(chunk -> {
+			for (int i = chunkStart(chunk, n); i < chunkStart(chunk + 1,
+					n); i++) {
+				for (int c = 0; c < PARALLEL_CHUNKS; c++) {
+					forcesX[i] += chunkForcesX[c][i];
+					forcesY[i] += chunkForcesY[c][i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Accumulates the (approximated) repulsive forces acting on the nodes
+	 * within the given index range, using the previously built quad tree.
+	 */
+	private void accumulateRepulsion(int from, int to, double[] forcesX,
+			double[] forcesY) {
+		double[] force = new double[2];
+		int[] stack = BarnesHutQuadTree.createTraversalStack();
+		for (int i = from; i < to; i++) {
+			force[0] = force[1] = 0;
+			quadTree.accumulateRepulsion(i, barnesHutTheta, sprGravitation,
+					MIN_DISTANCE, force, stack);
+			forcesX[i] += force[0];
+			forcesY[i] += force[1];
+		}
+	}
+
+	/**
+	 * Returns the first node index of the given chunk when partitioning the
+	 * given number of nodes into equally sized chunks.
+	 */
+	private static int chunkStart(int chunk, int n) {
+		return (int) ((long) chunk * n / PARALLEL_CHUNKS);
+	}
+
+	/**
+	 * Processes all chunks (in parallel) using the
+	 * {@link #getForkJoinPool() fork/join pool}, and waits for their
+	 * completion.
+	 */
+	private void invokeChunks(IntConsumer chunk) {
+		forkJoinPool.invoke(new ChunkAction(0, PARALLEL_CHUNKS, chunk));
+	}
+
+	/**
+	 * Accumulates the forces acting on each node, computing the force between
+	 * each pair of nodes exactly. Only the forces between the nodes within the
+	 * given index range and their successors (w.r.t. index) are considered.
+	 * 
+	 * @param locationsX
+	 *            The x coordinates of the nodes.
+	 * @param locationsY
+	 *            The y coordinates of the nodes.
+	 * @param from
+	 *            The index of the first node to process.
+	 * @param to
+	 *            The index after the last node to process.
+	 * @param forcesX
+	 *            The array to which the x components of the forces are added.
+	 * @param forcesY
+	 *            The array to which the y components of the forces are added.
+	 * @param rowWeights
+	 *            A scratch buffer (filled with zeros) to expand the adjacency
+	 *            of a node into.
+	 */
+	private void accumulateExactForces(double[] locationsX,
+			double[] locationsY, int from, int to, double[] forcesX,
+			double[] forcesY, double[] rowWeights) {
+		for (int i = from; i < to; i++) {
+			// expand the sparse adjacency of the current node
+			for (int a = adjacencyOffsets[i]; a < adjacencyOffsets[i
+					+ 1]; a++) {
+				rowWeights[adjacentIndices[a]] = adjacentWeights[a];
+			}
+
+			for (int j = i + 1; j < locationsX.length; j++) {
+				double dx = (locationsX[i] - locationsX[j]) / bounds.getWidth()
+						/ boundsScaleX;
+				double dy = (locationsY[i] - locationsY[j])
+						/ bounds.getHeight() / boundsScaleY;
+				double distance_sq = dx * dx + dy * dy;
+				// make sure distance and distance squared not too small
+				distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE,
+						distance_sq);
+				double distance = Math.sqrt(distance_sq);
+
+				// If there are relationships between srcObj and destObj
+				// then decrease force on srcObj (a pull) in direction of
+				// destObj
+				// If no relation between srcObj and destObj then increase
+				// force on srcObj (a push) from direction of destObj.
+				double sumOfWeights = rowWeights[j];
+
+				double f;
+				if (sumOfWeights > 0) {
+					// nodes are pulled towards each other
+					f = -sprStrain * Math.log(distance / sprLength)
+							* sumOfWeights;
+				} else {
+					// nodes are repelled from each other
+					f = sprGravitation / (distance_sq);
+				}
+				double dfx = f * dx / distance;
+				double dfy = f * dy / distance;
+
+				forcesX[i] += dfx;
+				forcesY[i] += dfy;
+
+				forcesX[j] -= dfx;
+				forcesY[j] -= dfy;
+			}
+
+			// reset the expanded adjacency
+			for (int a = adjacencyOffsets[i]; a < adjacencyOffsets[i
+					+ 1]; a++) {
+				rowWeights[adjacentIndices[a]] = 0;
+			}
+		}
+	}
+
 	/**
 	 * Computes the position for each node in this SpringLayoutAlgorithm. The
 	 * computed position will be stored in the data repository. position =
 	 * position + sprMove * force
 	 */
 	protected void computePositions() {
+		maxDisplacement = 0;
 		for (int i = 0; i < entities.length; i++) {
-			if (LayoutProperties.isMovable(entities[i])) {
+			if (movable[i]) {
 				double deltaX = sprMove * forcesX[i];
 				double deltaY = sprMove * forcesY[i];
 
@@ -640,7 +1186,9 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 				if (dist > maxMovement) {
 					deltaX *= maxMovement / dist;
 					deltaY *= maxMovement / dist;
+					dist = maxMovement;
 				}
+				maxDisplacement = Math.max(maxDisplacement, dist);
 
 				locationsX[i] += deltaX * bounds.getWidth() * boundsScaleX;
 				locationsY[i] += deltaY * bounds.getHeight() * boundsScaleY;
@@ -18,6 +18,7 @@
 package org.eclipse.gef.layout.algorithms;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -634,6 +635,898 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 	}
 
+	/**
+	 * Implements the CrossingReducer interface. This algorithm performs
+	 * alternating down and up sweeps over the layers, ordering the nodes of
+	 * each layer by the barycenters of their neighbors in the previously
+	 * processed layer, and keeps the ordering with the fewest crossings.
+	 * Afterwards, adjacent nodes are exchanged as long as this reduces the
+	 * number of crossings.
+	 * <p>
+	 * The crossings between two adjacent layers are counted using the
+	 * accumulator tree of Barth, Jünger, and Mutzel ("Simple and Efficient
+	 * Bilayer Cross Counting", http://dx.doi.org/10.7155/jgaa.00088) in
+	 * <code>O(E log V)</code>. The adjacency between adjacent layers is
+	 * computed once, and all computations are performed on primitive position
+	 * arrays, so that large layered graphs can be processed efficiently.
+	 * <p>
+	 * If the layers were created with dummy nodes (as done by the
+	 * {@link SimpleLayerProvider}), the predecessor/successor relation of the
+	 * {@link NodeWrapper}s is used. Otherwise, all edges between nodes on
+	 * adjacent layers are considered.
+	 *
+	 * @author mwienand
+	 *
+	 */
+	public static class LayerSweepCrossingReducer implements CrossingReducer {
+
+		private static final int MAX_SWEEPS = 24;
+		private static final int MAX_UNIMPROVED_SWEEPS = 4;
+		private static final int MAX_EXCHANGE_ROUNDS = 16;
+
+		// node ids per layer, in the current order
+		private int[][] order;
+		// position of each node within its layer
+		private int[] position;
+		// neighbors of each node on the previous/next layer
+		private int[][] upper;
+		private int[][] lower;
+		// buffers
+		private int[] sequence;
+		private int[] tree;
+		private double[] keys;
+		private int[] sortBuffer;
+		private int[] neighborsA;
+		private int[] neighborsB;
+
+		/**
+		 * Counts the crossings between the given layer and the next layer
+		 * using an accumulator tree.
+		 */
+		private long countCrossings(int layer) {
+			int southSize = order[layer + 1].length;
+			if (southSize < 2 || order[layer].length < 2) {
+				return 0;
+			}
+			// sequence of south positions, sorted lexicographically by
+			// (north position, south position)
+			int length = 0;
+			for (int id : order[layer]) {
+				int start = length;
+				for (int neighbor : lower[id]) {
+					sequence[length++] = position[neighbor];
+				}
+				Arrays.sort(sequence, start, length);
+			}
+			// build accumulator tree
+			int firstIndex = 1;
+			while (firstIndex < southSize) {
+				firstIndex <<= 1;
+			}
+			int treeSize = 2 * firstIndex - 1;
+			firstIndex--;
+			if (tree == null || tree.length < treeSize) {
+				tree = new int[treeSize];
+			} else {
+				Arrays.fill(tree, 0, treeSize, 0);
+			}
+			// count crossings
+			long crossings = 0;
+			for (int k = 0; k < length; k++) {
+				int index = sequence[k] + firstIndex;
+				tree[index]++;
+				while (index > 0) {
+					if ((index & 1) == 1) {
+						crossings += tree[index + 1];
+					}
+					index = (index - 1) >> 1;
+					tree[index]++;
+				}
+			}
+			return crossings;
+		}
+
+		/**
+		 * Counts the crossings between the edges of node u and node v to the
+		 * given neighbors, assuming that u is placed left of v.
+		 */
+		private long countCrossings(int u, int v, int[][] neighbors) {
+			int[] nu = neighbors[u];
+			int[] nv = neighbors[v];
+			if (nu.length == 0 || nv.length == 0) {
+				return 0;
+			}
+			for (int i = 0; i < nu.length; i++) {
+				neighborsA[i] = position[nu[i]];
+			}
+			for (int i = 0; i < nv.length; i++) {
+				neighborsB[i] = position[nv[i]];
+			}
+			Arrays.sort(neighborsA, 0, nu.length);
+			Arrays.sort(neighborsB, 0, nv.length);
+			// count pairs (a, b) where the neighbor of u is right of the
+			// neighbor of v
+			long crossings = 0;
+			int j = 0;
+			for (int i = 0; i < nu.length; i++) {
+				while (j < nv.length && neighborsB[j] < neighborsA[i]) {
+					j++;
+				}
+				crossings += j;
+			}
+			return crossings;
+		}
+
+		private long countCrossings() {
+			long crossings = 0;
+			for (int l = 0; l < order.length - 1; l++) {
+				crossings += countCrossings(l);
+			}
+			return crossings;
+		}
+
+		public void crossReduction(List<List<NodeWrapper>> nodes) {
+			if (nodes.isEmpty()) {
+				return;
+			}
+			NodeWrapper[] wrappers = initialize(nodes);
+
+			// layer sweeps
+			long bestCrossings = countCrossings();
+			int[][] bestOrder = copyOrder();
+			int unimproved = 0;
+			for (int sweep = 0; sweep < MAX_SWEEPS && bestCrossings > 0
+					&& unimproved < MAX_UNIMPROVED_SWEEPS; sweep++) {
+				if ((sweep & 1) == 0) {
+					for (int l = 1; l < order.length; l++) {
+						orderByBarycenter(l, upper);
+					}
+				} else {
+					for (int l = order.length - 2; l >= 0; l--) {
+						orderByBarycenter(l, lower);
+					}
+				}
+				long crossings = countCrossings();
+				if (crossings < bestCrossings) {
+					bestCrossings = crossings;
+					bestOrder = copyOrder();
+					unimproved = 0;
+				} else {
+					unimproved++;
+				}
+			}
+			order = bestOrder;
+			updatePositions();
+
+			// exchange adjacent nodes
+			if (bestCrossings > 0) {
+				exchangeAdjacent();
+			}
+
+			// apply order
+			for (int l = 0; l < order.length; l++) {
+				List<NodeWrapper> layer = nodes.get(l);
+				for (int i = 0; i < order[l].length; i++) {
+					NodeWrapper nw = wrappers[order[l][i]];
+					nw.index = i;
+					layer.set(i, nw);
+				}
+			}
+		}
+
+		private int[][] copyOrder() {
+			int[][] copy = new int[order.length][];
+			for (int l = 0; l < order.length; l++) {
+				copy[l] = order[l].clone();
+			}
+			return copy;
+		}
+
+		/**
+		 * Exchanges adjacent nodes within each layer, as long as this reduces
+		 * the number of crossings to the previous and next layer.
+		 */
+		private void exchangeAdjacent() {
+			boolean improved = true;
+			for (int round = 0; round < MAX_EXCHANGE_ROUNDS
+					&& improved; round++) {
+				improved = false;
+				for (int l = 0; l < order.length; l++) {
+					int[] layer = order[l];
+					for (int i = 0; i < layer.length - 1; i++) {
+						int u = layer[i];
+						int v = layer[i + 1];
+						long uv = countCrossings(u, v, upper)
+								+ countCrossings(u, v, lower);
+						long vu = countCrossings(v, u, upper)
+								+ countCrossings(v, u, lower);
+						if (vu < uv) {
+							layer[i] = v;
+							layer[i + 1] = u;
+							position[v] = i;
+							position[u] = i + 1;
+							improved = true;
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * Assigns ids to the given {@link NodeWrapper}s, computes the adjacency
+		 * between adjacent layers, and allocates the buffers.
+		 */
+		private NodeWrapper[] initialize(List<List<NodeWrapper>> nodes) {
+			LayeredGraph graph = new LayeredGraph(nodes);
+			order = graph.order;
+			position = graph.position;
+			upper = graph.upper;
+			lower = graph.lower;
+			int nodeCount = graph.wrappers.length;
+			int edgeCount = graph.edgeCount;
+			int maxDegree = graph.maxDegree;
+
+			sequence = new int[Math.max(1, edgeCount)];
+			tree = null;
+			keys = new double[nodeCount];
+			sortBuffer = new int[nodeCount];
+			neighborsA = new int[maxDegree];
+			neighborsB = new int[maxDegree];
+			return graph.wrappers;
+		}
+
+		/**
+		 * Orders the given layer by the barycenters of the positions of the
+		 * given neighbors. Nodes without neighbors keep their position.
+		 */
+		private void orderByBarycenter(int layer, int[][] neighbors) {
+			int[] ids = order[layer];
+			for (int i = 0; i < ids.length; i++) {
+				int[] n = neighbors[ids[i]];
+				if (n.length == 0) {
+					keys[ids[i]] = i;
+				} else {
+					double sum = 0;
+					for (int neighbor : n) {
+						sum += position[neighbor];
+					}
+					keys[ids[i]] = sum / n.length;
+				}
+			}
+			sortByKeys(ids, 0, ids.length);
+			for (int i = 0; i < ids.length; i++) {
+				position[ids[i]] = i;
+			}
+		}
+
+		/**
+		 * Stable merge sort of the given range of ids by their keys.
+		 */
+		private void sortByKeys(int[] ids, int from, int to) {
+			if (to - from < 2) {
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			sortByKeys(ids, from, mid);
+			sortByKeys(ids, mid, to);
+			if (keys[ids[mid - 1]] <= keys[ids[mid]]) {
+				return;
+			}
+			System.arraycopy(ids, from, sortBuffer, from, to - from);
+			int i = from, j = mid, k = from;
+			while (i < mid && j < to) {
+				if (keys[sortBuffer[j]] < keys[sortBuffer[i]]) {
+					ids[k++] = sortBuffer[j++];
+				} else {
+					ids[k++] = sortBuffer[i++];
+				}
+			}
+			while (i < mid) {
+				ids[k++] = sortBuffer[i++];
+			}
+			while (j < to) {
+				ids[k++] = sortBuffer[j++];
+			}
+		}
+
+		private void updatePositions() {
+			for (int[] ids : order) {
+				for (int i = 0; i < ids.length; i++) {
+					position[ids[i]] = i;
+				}
+			}
+		}
+	}
+
+	/**
+	 * An interface for heuristics that assign coordinates to the nodes, after
+	 * the layers were created by a {@link LayerProvider} and ordered by a
+	 * {@link CrossingReducer}.
+	 * 
+	 * @author mwienand
+	 */
+	public static interface CoordinateAssigner {
+		/**
+		 * Assigns locations to the (non-dummy) nodes of the given layers using
+		 * {@link LayoutProperties#setLocation(Node, Point)}.
+		 * 
+		 * @param layers
+		 *            The ordered layers of {@link NodeWrapper}s.
+		 * @param direction
+		 *            The {@link Direction} of the layout.
+		 * @param bounds
+		 *            The layout area.
+		 */
+		void assignCoordinates(List<List<NodeWrapper>> layers,
+				Direction direction, Rectangle bounds);
+	}
+
+	/**
+	 * Implements the CoordinateAssigner interface. This algorithm places the
+	 * nodes on a uniform grid that spans the layout area, disregarding the
+	 * node sizes.
+	 * 
+	 * @author mwienand
+	 */
+	public static class GridCoordinateAssigner implements CoordinateAssigner {
+
+		public void assignCoordinates(List<List<NodeWrapper>> layers,
+				Direction direction, Rectangle bounds) {
+			int maxLayerSize = 0;
+			for (List<NodeWrapper> layer : layers) {
+				if (layer.size() > maxLayerSize)
+					maxLayerSize = layer.size();
+			}
+			double dx = bounds.getWidth() / layers.size();
+			double dy = bounds.getHeight() / (maxLayerSize + 1);
+			for (List<NodeWrapper> layer : layers) {
+				for (NodeWrapper nw : layer) {
+					if (nw.node == null)
+						continue;
+					if (direction == Direction.HORIZONTAL)
+						LayoutProperties.setLocation(nw.node, new Point(
+								(nw.layer + 0.5d) * dx, (nw.index + 0.5d) * dy));
+					else
+						LayoutProperties.setLocation(nw.node, new Point(
+								(nw.index + 0.5d) * dx, (nw.layer + 0.5d) * dy));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Implements the CoordinateAssigner interface. This algorithm computes a
+	 * compact placement that respects the node sizes (see
+	 * {@link LayoutProperties#getSize(Node)}), using the linear-time heuristic
+	 * of Brandes and Köpf ("Fast and Simple Horizontal Coordinate Assignment",
+	 * http://dx.doi.org/10.1007/3-540-45848-4_3).
+	 * <p>
+	 * Nodes are aligned with the median of their neighbors on the previous
+	 * (or next) layer, preferring the alignment of inner segments (i.e. edges
+	 * between dummy nodes). The resulting blocks are compacted in the
+	 * direction of the layers, keeping the node spacing between adjacent
+	 * nodes. This is done for all four combinations of vertical and
+	 * horizontal alignment directions, and the final coordinate of each node
+	 * is the average median of its four candidate coordinates. The layers are
+	 * placed consecutively, separated by the layer spacing.
+	 * <p>
+	 * The layout is placed at the origin of the layout area, but it is not
+	 * scaled to the size of the layout area.
+	 * 
+	 * @author mwienand
+	 */
+	public static class BrandesKoepfCoordinateAssigner
+			implements CoordinateAssigner {
+
+		private static final double DEFAULT_NODE_SPACING = 20;
+		private static final double DEFAULT_LAYER_SPACING = 40;
+
+		private final double nodeSpacing;
+		private final double layerSpacing;
+
+		private LayeredGraph graph;
+		// extent of each node within its layer
+		private double[] breadth;
+		// edges (encoded as ids) that should not be aligned
+		private Set<Long> conflicts = new HashSet<>();
+
+		/**
+		 * Constructs a new {@link BrandesKoepfCoordinateAssigner} with a node
+		 * spacing of <code>20</code> and a layer spacing of <code>40</code>.
+		 */
+		public BrandesKoepfCoordinateAssigner() {
+			this(DEFAULT_NODE_SPACING, DEFAULT_LAYER_SPACING);
+		}
+
+		/**
+		 * Constructs a new {@link BrandesKoepfCoordinateAssigner} with the
+		 * given node spacing and layer spacing.
+		 * 
+		 * @param nodeSpacing
+		 *            The minimum distance between adjacent nodes of a layer.
+		 * @param layerSpacing
+		 *            The distance between adjacent layers.
+		 */
+		public BrandesKoepfCoordinateAssigner(double nodeSpacing,
+				double layerSpacing) {
+			if (nodeSpacing < 0 || layerSpacing < 0) {
+				throw new IllegalArgumentException(
+						"Spacing may not be negative.");
+			}
+			this.nodeSpacing = nodeSpacing;
+			this.layerSpacing = layerSpacing;
+		}
+
+		private void addConflict(int u, int v) {
+			conflicts.add(getEdgeKey(u, v));
+		}
+
+		/**
+		 * Aligns each node with the median of its given neighbors, processing
+		 * the given layering from the first to the last layer.
+		 */
+		private void alignVertically(int[][] layering, int[] pos,
+				int[][] neighbors, int[] root, int[] align) {
+			for (int v = 0; v < root.length; v++) {
+				root[v] = v;
+				align[v] = v;
+			}
+			int[] medians = new int[graph.maxDegree];
+			for (int l = 1; l < layering.length; l++) {
+				int[] previous = layering[l - 1];
+				int r = -1;
+				for (int v : layering[l]) {
+					int[] ws = neighbors[v];
+					int d = ws.length;
+					if (d == 0) {
+						continue;
+					}
+					for (int i = 0; i < d; i++) {
+						medians[i] = pos[ws[i]];
+					}
+					Arrays.sort(medians, 0, d);
+					for (int m = (d - 1) / 2; m <= d / 2; m++) {
+						if (align[v] == v) {
+							int p = medians[m];
+							int w = previous[p];
+							if (r < p && !hasConflict(w, v)) {
+								align[w] = v;
+								root[v] = root[w];
+								align[v] = root[v];
+								r = p;
+							}
+						}
+					}
+				}
+			}
+		}
+
+		public void assignCoordinates(List<List<NodeWrapper>> layers,
+				Direction direction, Rectangle bounds) {
+			if (layers.isEmpty()) {
+				return;
+			}
+			graph = new LayeredGraph(layers);
+			int nodeCount = graph.wrappers.length;
+			breadth = new double[nodeCount];
+			double[] depth = new double[nodeCount];
+			for (int v = 0; v < nodeCount; v++) {
+				Node node = graph.wrappers[v].node;
+				Dimension size = node == null ? null
+						: LayoutProperties.getSize(node);
+				if (size != null) {
+					boolean horizontal = direction == Direction.HORIZONTAL;
+					breadth[v] = horizontal ? size.getHeight()
+							: size.getWidth();
+					depth[v] = horizontal ? size.getWidth()
+							: size.getHeight();
+				}
+			}
+			conflicts.clear();
+			markType1Conflicts();
+
+			// compute candidate coordinates for all four alignments (0: up
+			// left, 1: up right, 2: down left, 3: down right)
+			double[][] xs = new double[4][];
+			double[] mins = new double[4];
+			double[] maxs = new double[4];
+			int smallest = 0;
+			for (int a = 0; a < 4; a++) {
+				boolean down = a >= 2;
+				boolean right = (a & 1) == 1;
+				int[][] layering = new int[graph.order.length][];
+				int[] pos = new int[nodeCount];
+				for (int l = 0; l < layering.length; l++) {
+					int[] layer = graph.order[down ? layering.length - 1 - l
+							: l];
+					layering[l] = new int[layer.length];
+					for (int i = 0; i < layer.length; i++) {
+						int v = layer[right ? layer.length - 1 - i : i];
+						layering[l][i] = v;
+						pos[v] = i;
+					}
+				}
+				int[] root = new int[nodeCount];
+				int[] align = new int[nodeCount];
+				alignVertically(layering, pos,
+						down ? graph.lower : graph.upper, root, align);
+				xs[a] = compact(layering, root);
+				mins[a] = Double.POSITIVE_INFINITY;
+				maxs[a] = Double.NEGATIVE_INFINITY;
+				for (int v = 0; v < nodeCount; v++) {
+					if (right) {
+						xs[a][v] = -xs[a][v];
+					}
+					mins[a] = Math.min(mins[a], xs[a][v] - breadth[v] / 2);
+					maxs[a] = Math.max(maxs[a], xs[a][v] + breadth[v] / 2);
+				}
+				if (maxs[a] - mins[a] < maxs[smallest] - mins[smallest]) {
+					smallest = a;
+				}
+			}
+
+			// align to the alignment with the smallest width and balance
+			double[] candidates = new double[4];
+			double[] x = new double[nodeCount];
+			double min = Double.POSITIVE_INFINITY;
+			for (int v = 0; v < nodeCount; v++) {
+				for (int a = 0; a < 4; a++) {
+					double shift = (a & 1) == 0 ? mins[smallest] - mins[a]
+							: maxs[smallest] - maxs[a];
+					candidates[a] = xs[a][v] + shift;
+				}
+				Arrays.sort(candidates);
+				x[v] = (candidates[1] + candidates[2]) / 2;
+				min = Math.min(min, x[v] - breadth[v] / 2);
+			}
+
+			// place layers and apply locations
+			double offset = bounds.getY();
+			if (direction == Direction.HORIZONTAL) {
+				offset = bounds.getX();
+			}
+			double shift = (direction == Direction.HORIZONTAL ? bounds.getY()
+					: bounds.getX()) - min;
+			for (int[] layer : graph.order) {
+				double layerDepth = 0;
+				for (int v : layer) {
+					layerDepth = Math.max(layerDepth, depth[v]);
+				}
+				double y = offset + layerDepth / 2;
+				for (int v : layer) {
+					Node node = graph.wrappers[v].node;
+					if (node != null) {
+						LayoutProperties.setLocation(node,
+								direction == Direction.HORIZONTAL
+										? new Point(y, x[v] + shift)
+										: new Point(x[v] + shift, y));
+					}
+				}
+				offset += layerDepth + layerSpacing;
+			}
+			graph = null;
+			breadth = null;
+			conflicts.clear();
+		}
+
+		/**
+		 * Computes the coordinates of the blocks (identified by their roots)
+		 * within the given layering, so that adjacent nodes keep their
+		 * separation, and each block is placed as close as possible to its
+		 * predecessors. Afterwards, blocks are moved towards their successors
+		 * where possible.
+		 */
+		private double[] compact(int[][] layering, int[] root) {
+			int nodeCount = root.length;
+			// block graph (between roots), stored as arrays of edges
+			int[] sources = new int[nodeCount];
+			int[] targets = new int[nodeCount];
+			double[] separations = new double[nodeCount];
+			int edgeCount = 0;
+			for (int[] layer : layering) {
+				for (int i = 1; i < layer.length; i++) {
+					int u = layer[i - 1];
+					int v = layer[i];
+					sources[edgeCount] = root[u];
+					targets[edgeCount] = root[v];
+					separations[edgeCount] = (breadth[u] + breadth[v]) / 2
+							+ nodeSpacing;
+					edgeCount++;
+				}
+			}
+			int[] inStart = new int[nodeCount + 1];
+			int[] outStart = new int[nodeCount + 1];
+			for (int e = 0; e < edgeCount; e++) {
+				inStart[targets[e] + 1]++;
+				outStart[sources[e] + 1]++;
+			}
+			for (int v = 0; v < nodeCount; v++) {
+				inStart[v + 1] += inStart[v];
+				outStart[v + 1] += outStart[v];
+			}
+			int[] inEdges = new int[edgeCount];
+			int[] outEdges = new int[edgeCount];
+			int[] inFill = Arrays.copyOf(inStart, nodeCount);
+			int[] outFill = Arrays.copyOf(outStart, nodeCount);
+			for (int e = 0; e < edgeCount; e++) {
+				inEdges[inFill[targets[e]]++] = e;
+				outEdges[outFill[sources[e]]++] = e;
+			}
+
+			// topological order of the roots (the block graph is acyclic,
+			// because aligned nodes keep their relative order)
+			int[] sorted = new int[nodeCount];
+			int sortedCount = 0;
+			int[] inDegree = new int[nodeCount];
+			for (int v = 0; v < nodeCount; v++) {
+				if (root[v] == v) {
+					inDegree[v] = inStart[v + 1] - inStart[v];
+					if (inDegree[v] == 0) {
+						sorted[sortedCount++] = v;
+					}
+				}
+			}
+			for (int k = 0; k < sortedCount; k++) {
+				int v = sorted[k];
+				for (int i = outStart[v]; i < outStart[v + 1]; i++) {
+					int w = targets[outEdges[i]];
+					if (--inDegree[w] == 0) {
+						sorted[sortedCount++] = w;
+					}
+				}
+			}
+
+			// place blocks as close as possible to their predecessors
+			double[] xs = new double[nodeCount];
+			for (int k = 0; k < sortedCount; k++) {
+				int v = sorted[k];
+				for (int i = inStart[v]; i < inStart[v + 1]; i++) {
+					int e = inEdges[i];
+					xs[v] = Math.max(xs[v], xs[sources[e]] + separations[e]);
+				}
+			}
+			// move blocks towards their successors
+			for (int k = sortedCount - 1; k >= 0; k--) {
+				int v = sorted[k];
+				if (outStart[v] == outStart[v + 1]) {
+					continue;
+				}
+				double max = Double.POSITIVE_INFINITY;
+				for (int i = outStart[v]; i < outStart[v + 1]; i++) {
+					int e = outEdges[i];
+					max = Math.min(max, xs[targets[e]] - separations[e]);
+				}
+				xs[v] = Math.max(xs[v], max);
+			}
+			for (int v = 0; v < nodeCount; v++) {
+				xs[v] = xs[root[v]];
+			}
+			return xs;
+		}
+
+		private long getEdgeKey(int u, int v) {
+			return (long) Math.min(u, v) * graph.wrappers.length
+					+ Math.max(u, v);
+		}
+
+		private boolean hasConflict(int u, int v) {
+			return !conflicts.isEmpty() && conflicts.contains(getEdgeKey(u, v));
+		}
+
+		private boolean isDummy(int v) {
+			return graph.wrappers[v].node == null;
+		}
+
+		/**
+		 * Marks the edges that cross an inner segment (i.e. an edge between
+		 * two dummy nodes) as conflicts, so that inner segments are preferably
+		 * aligned (and drawn straight).
+		 */
+		private void markType1Conflicts() {
+			int[][] order = graph.order;
+			for (int l = 1; l < order.length; l++) {
+				int[] layer = order[l];
+				int k0 = 0;
+				int scan = 0;
+				for (int i = 0; i < layer.length; i++) {
+					int v = layer[i];
+					int w = -1;
+					if (isDummy(v)) {
+						for (int u : graph.upper[v]) {
+							if (isDummy(u)) {
+								w = u;
+								break;
+							}
+						}
+					}
+					if (w >= 0 || i == layer.length - 1) {
+						int k1 = w >= 0 ? graph.position[w]
+								: order[l - 1].length;
+						for (; scan <= i; scan++) {
+							int s = layer[scan];
+							for (int u : graph.upper[s]) {
+								int p = graph.position[u];
+								if ((p < k0 || k1 < p)
+										&& !(isDummy(u) && isDummy(s))) {
+									addConflict(u, s);
+								}
+							}
+						}
+						k0 = k1;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * A primitive (array based) representation of layered
+	 * {@link NodeWrapper}s and the edges between adjacent layers, which is
+	 * shared by the {@link LayerSweepCrossingReducer} and the
+	 * {@link BrandesKoepfCoordinateAssigner}. The edges are determined as
+	 * described for the {@link LayerSweepCrossingReducer}.
+	 */
+	static class LayeredGraph {
+
+		/**
+		 * The {@link NodeWrapper}s indexed by their ids.
+		 */
+		final NodeWrapper[] wrappers;
+		/**
+		 * The layer of each node.
+		 */
+		final int[] layerOf;
+		/**
+		 * The node ids per layer, in the order of the layers.
+		 */
+		final int[][] order;
+		/**
+		 * The position of each node within its layer.
+		 */
+		final int[] position;
+		/**
+		 * The neighbors of each node on the previous layer.
+		 */
+		final int[][] upper;
+		/**
+		 * The neighbors of each node on the next layer.
+		 */
+		final int[][] lower;
+		/**
+		 * The number of edges between adjacent layers.
+		 */
+		final int edgeCount;
+		/**
+		 * The maximum number of neighbors of a node on the previous or next
+		 * layer.
+		 */
+		final int maxDegree;
+
+		/**
+		 * Constructs a new {@link LayeredGraph} for the given layers.
+		 *
+		 * @param layers
+		 *            The layers of {@link NodeWrapper}s.
+		 */
+		LayeredGraph(List<List<NodeWrapper>> layers) {
+			int nodeCount = 0;
+			boolean linked = false;
+			for (List<NodeWrapper> layer : layers) {
+				nodeCount += layer.size();
+				for (NodeWrapper nw : layer) {
+					if (!nw.pred.isEmpty() || !nw.succ.isEmpty()) {
+						linked = true;
+					}
+				}
+			}
+
+			wrappers = new NodeWrapper[nodeCount];
+			Map<NodeWrapper, Integer> ids = new IdentityHashMap<>();
+			Map<Node, Integer> idsByNode = new IdentityHashMap<>();
+			layerOf = new int[nodeCount];
+			order = new int[layers.size()][];
+			position = new int[nodeCount];
+			int id = 0;
+			for (int l = 0; l < layers.size(); l++) {
+				List<NodeWrapper> layer = layers.get(l);
+				order[l] = new int[layer.size()];
+				for (int i = 0; i < layer.size(); i++) {
+					NodeWrapper nw = layer.get(i);
+					wrappers[id] = nw;
+					ids.put(nw, id);
+					if (nw.node != null) {
+						idsByNode.put(nw.node, id);
+					}
+					layerOf[id] = l;
+					order[l][i] = id;
+					position[id] = i;
+					id++;
+				}
+			}
+
+			// collect edges (from a layer to the next layer)
+			int[] sources = new int[16];
+			int[] targets = new int[16];
+			int edgeCount = 0;
+			int[] candidates = new int[16];
+			int[] visited = new int[nodeCount];
+			Arrays.fill(visited, -1);
+			for (int u = 0; u < nodeCount; u++) {
+				NodeWrapper nw = wrappers[u];
+				int candidateCount = 0;
+				if (linked) {
+					for (NodeWrapper successor : nw.succ) {
+						Integer v = ids.get(successor);
+						if (v != null) {
+							if (candidateCount == candidates.length) {
+								candidates = Arrays.copyOf(candidates,
+										2 * candidateCount);
+							}
+							candidates[candidateCount++] = v;
+						}
+					}
+				} else if (nw.node != null) {
+					// filter nodes connected with bidirectional edges
+					for (int k = 0; k < 2; k++) {
+						for (Node n : k == 0 ? nw.node.getSuccessorNodes()
+								: nw.node.getPredecessorNodes()) {
+							Integer v = idsByNode.get(n);
+							if (v != null && visited[v] != u) {
+								visited[v] = u;
+								if (candidateCount == candidates.length) {
+									candidates = Arrays.copyOf(candidates,
+											2 * candidateCount);
+								}
+								candidates[candidateCount++] = v;
+							}
+						}
+					}
+				}
+				for (int c = 0; c < candidateCount; c++) {
+					int v = candidates[c];
+					if (layerOf[v] != layerOf[u] + 1) {
+						continue;
+					}
+					if (edgeCount == sources.length) {
+						sources = Arrays.copyOf(sources, 2 * edgeCount);
+						targets = Arrays.copyOf(targets, 2 * edgeCount);
+					}
+					sources[edgeCount] = u;
+					targets[edgeCount] = v;
+					edgeCount++;
+				}
+			}
+
+			// build adjacency arrays
+			int[] upperDegree = new int[nodeCount];
+			int[] lowerDegree = new int[nodeCount];
+			for (int e = 0; e < edgeCount; e++) {
+				lowerDegree[sources[e]]++;
+				upperDegree[targets[e]]++;
+			}
+			upper = new int[nodeCount][];
+			lower = new int[nodeCount][];
+			int maxDegree = 0;
+			for (int u = 0; u < nodeCount; u++) {
+				upper[u] = new int[upperDegree[u]];
+				lower[u] = new int[lowerDegree[u]];
+				maxDegree = Math.max(maxDegree,
+						Math.max(upperDegree[u], lowerDegree[u]));
+				upperDegree[u] = 0;
+				lowerDegree[u] = 0;
+			}
+			for (int e = 0; e < edgeCount; e++) {
+				int u = sources[e];
+				int v = targets[e];
+				lower[u][lowerDegree[u]++] = v;
+				upper[v][upperDegree[v]++] = u;
+			}
+
+			this.edgeCount = edgeCount;
+			this.maxDegree = maxDegree;
+		}
+	}
+
 	/**
 	 * Structure to store nodes and their positions in the layers. Furthermore
 	 * predecessors and successors can be assigned to the nodes.
@@ -1107,6 +2000,713 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 	}
 
+	/**
+	 * Implements the LayerProvider interface. This algorithm first removes
+	 * cycles by reversing those edges that point backwards within a node
+	 * sequence that is computed by the greedy heuristic of Eades, Lin, and
+	 * Smyth ("A fast and effective heuristic for the feedback arc set
+	 * problem", http://dx.doi.org/10.1016/0020-0190(93)90079-O). Afterwards,
+	 * the nodes are assigned to layers using longest-path layering, i.e. each
+	 * node is placed one layer below its lowest predecessor. Optionally, the
+	 * layering is refined by the network simplex algorithm of Gansner et al.
+	 * ("A Technique for Drawing Directed Graphs",
+	 * http://dx.doi.org/10.1109/32.221135), which minimizes the total edge
+	 * length. Finally, dummy nodes are inserted for edges that span multiple
+	 * layers, and all nodes are linked with their predecessors and successors
+	 * on the adjacent layers.
+	 * <p>
+	 * All phases operate iteratively on a primitive (array based) snapshot of
+	 * the adjacency, so that large and deep graphs can be processed without
+	 * recursion. Cycle removal and longest-path layering take linear time.
+	 * Each network simplex iteration takes linear time, too, which is why the
+	 * number of iterations is limited.
+	 * 
+	 * @author mwienand
+	 */
+	public static class LongestPathLayerProvider implements LayerProvider {
+
+		/**
+		 * A binary min-heap of edges, keyed by <code>int</code> values.
+		 */
+		private static class EdgeHeap {
+			private long[] entries = new long[16];
+			private int size;
+
+			boolean isEmpty() {
+				return size == 0;
+			}
+
+			int peekEdge() {
+				return (int) entries[0];
+			}
+
+			int peekKey() {
+				return (int) (entries[0] >> 32);
+			}
+
+			void pop() {
+				long last = entries[--size];
+				int i = 0;
+				while (2 * i + 1 < size) {
+					int child = 2 * i + 1;
+					if (child + 1 < size && entries[child + 1] < entries[child]) {
+						child++;
+					}
+					if (last <= entries[child]) {
+						break;
+					}
+					entries[i] = entries[child];
+					i = child;
+				}
+				entries[i] = last;
+			}
+
+			void push(int key, int edge) {
+				if (size == entries.length) {
+					entries = Arrays.copyOf(entries, 2 * size);
+				}
+				long entry = ((long) key << 32) | edge;
+				int i = size++;
+				while (i > 0 && entry < entries[(i - 1) >> 1]) {
+					entries[i] = entries[(i - 1) >> 1];
+					i = (i - 1) >> 1;
+				}
+				entries[i] = entry;
+			}
+		}
+
+		private static final int SINKS = 0;
+		private static final int SOURCES = 1;
+
+		private final int maxSimplexIterations;
+
+		// simple (acyclic after cycle removal) edges, sorted by source
+		private int nodeCount;
+		private int edgeCount;
+		private int[] sources;
+		private int[] targets;
+		private int[] weights;
+		private int[] rank;
+
+		// network simplex: incident edges and spanning tree
+		private int[] incidentStart;
+		private int[] incident;
+		private boolean[] treeEdge;
+		private int[] componentRoot;
+		private int[] parent;
+		private int[] parentEdge;
+		private int[] low;
+		private int[] lim;
+		private int[] postorder;
+		private long[] cutValue;
+
+		/**
+		 * Constructs a new {@link LongestPathLayerProvider} that does not
+		 * refine the longest-path layering.
+		 */
+		public LongestPathLayerProvider() {
+			this(0);
+		}
+
+		/**
+		 * Constructs a new {@link LongestPathLayerProvider} that refines the
+		 * longest-path layering by performing at most the given number of
+		 * network simplex iterations.
+		 * 
+		 * @param maxSimplexIterations
+		 *            The maximum number of network simplex iterations, or
+		 *            <code>0</code> to disable the refinement.
+		 */
+		public LongestPathLayerProvider(int maxSimplexIterations) {
+			if (maxSimplexIterations < 0) {
+				throw new IllegalArgumentException(
+						"The number of iterations may not be negative.");
+			}
+			this.maxSimplexIterations = maxSimplexIterations;
+		}
+
+		/**
+		 * Returns an array containing the start index of each key within the
+		 * compressed representation of the given keys (and the total count as
+		 * the last element).
+		 */
+		private static int[] createStart(int[] keys, int count, int n) {
+			int[] start = new int[n + 1];
+			for (int i = 0; i < count; i++) {
+				start[keys[i] + 1]++;
+			}
+			for (int v = 0; v < n; v++) {
+				start[v + 1] += start[v];
+			}
+			return start;
+		}
+
+		/**
+		 * Returns the indices of the given keys, grouped by key (see
+		 * {@link #createStart(int[], int, int)}).
+		 */
+		private static int[] groupByKey(int[] start, int[] keys, int count) {
+			int[] grouped = new int[count];
+			int[] next = Arrays.copyOf(start, start.length - 1);
+			for (int i = 0; i < count; i++) {
+				grouped[next[keys[i]]++] = i;
+			}
+			return grouped;
+		}
+
+		/**
+		 * Assigns the rank of each node to be one more than the maximum rank of
+		 * its predecessors (processing the nodes in topological order).
+		 */
+		private void assignLongestPathRanks() {
+			rank = new int[nodeCount];
+			int[] outStart = createStart(sources, edgeCount, nodeCount);
+			int[] outEdges = groupByKey(outStart, sources, edgeCount);
+			int[] inDegree = new int[nodeCount];
+			for (int e = 0; e < edgeCount; e++) {
+				inDegree[targets[e]]++;
+			}
+			int[] sorted = new int[nodeCount];
+			int sortedCount = 0;
+			for (int v = 0; v < nodeCount; v++) {
+				if (inDegree[v] == 0) {
+					sorted[sortedCount++] = v;
+				}
+			}
+			for (int k = 0; k < sortedCount; k++) {
+				int v = sorted[k];
+				for (int i = outStart[v]; i < outStart[v + 1]; i++) {
+					int w = targets[outEdges[i]];
+					rank[w] = Math.max(rank[w], rank[v] + 1);
+					if (--inDegree[w] == 0) {
+						sorted[sortedCount++] = w;
+					}
+				}
+			}
+		}
+
+		public List<List<NodeWrapper>> calculateLayers(List<Node> nodes) {
+			nodeCount = nodes.size();
+			Map<Node, Integer> ids = new IdentityHashMap<>();
+			for (int i = 0; i < nodeCount; i++) {
+				ids.put(nodes.get(i), i);
+			}
+
+			// snapshot of the adjacency
+			int[] edgeSources = new int[16];
+			int[] edgeTargets = new int[16];
+			int count = 0;
+			for (int u = 0; u < nodeCount; u++) {
+				for (Edge edge : nodes.get(u).getOutgoingEdges()) {
+					Integer v = ids.get(edge.getTarget());
+					if (v != null && v != u) {
+						if (count == edgeSources.length) {
+							edgeSources = Arrays.copyOf(edgeSources, 2 * count);
+							edgeTargets = Arrays.copyOf(edgeTargets, 2 * count);
+						}
+						edgeSources[count] = u;
+						edgeTargets[count] = v;
+						count++;
+					}
+				}
+			}
+			mergeParallelEdges(edgeSources, edgeTargets, count);
+
+			// remove cycles by reversing the edges that point backwards in the
+			// node sequence
+			int[] position = computeSequencePositions();
+			for (int e = 0; e < edgeCount; e++) {
+				if (position[sources[e]] > position[targets[e]]) {
+					int tmp = sources[e];
+					sources[e] = targets[e];
+					targets[e] = tmp;
+				}
+			}
+			mergeParallelEdges(sources, targets, edgeCount);
+
+			assignLongestPathRanks();
+			if (maxSimplexIterations > 0 && edgeCount > 0) {
+				refineRanks();
+			}
+			List<List<NodeWrapper>> layers = createLayers(nodes);
+
+			sources = null;
+			targets = null;
+			weights = null;
+			rank = null;
+			return layers;
+		}
+
+		/**
+		 * Computes the cut value of the tree edge that connects the given node
+		 * with its parent, based on the cut values of the tree edges to its
+		 * children.
+		 */
+		private void computeCutValue(int v) {
+			int p = parent[v];
+			int pe = parentEdge[v];
+			boolean childIsTail = sources[pe] == v;
+			long value = weights[pe];
+			for (int i = incidentStart[v]; i < incidentStart[v + 1]; i++) {
+				int e = incident[i];
+				if (e == pe) {
+					continue;
+				}
+				boolean isOutEdge = sources[e] == v;
+				int other = isOutEdge ? targets[e] : sources[e];
+				if (other == p) {
+					continue;
+				}
+				boolean pointsToHead = isOutEdge == childIsTail;
+				value += pointsToHead ? weights[e] : -weights[e];
+				if (treeEdge[e]) {
+					// other is a child of v
+					value += pointsToHead ? -cutValue[other] : cutValue[other];
+				}
+			}
+			cutValue[v] = value;
+		}
+
+		/**
+		 * Computes the cut values for the tree edges of the component with
+		 * the given root.
+		 */
+		private void computeCutValues(int root) {
+			for (int k = low[root]; k < lim[root]; k++) {
+				computeCutValue(postorder[k]);
+			}
+		}
+
+		/**
+		 * Creates the layers of {@link NodeWrapper}s according to the computed
+		 * ranks, inserting dummy nodes for edges that span multiple layers.
+		 */
+		private List<List<NodeWrapper>> createLayers(List<Node> nodes) {
+			int layerCount = 0;
+			for (int v = 0; v < nodeCount; v++) {
+				layerCount = Math.max(layerCount, rank[v] + 1);
+			}
+			List<List<NodeWrapper>> layers = new ArrayList<>(layerCount);
+			for (int l = 0; l < layerCount; l++) {
+				layers.add(new ArrayList<NodeWrapper>());
+			}
+			NodeWrapper[] wrappers = new NodeWrapper[nodeCount];
+			for (int v = 0; v < nodeCount; v++) {
+				wrappers[v] = new NodeWrapper(nodes.get(v), rank[v]);
+				layers.get(rank[v]).add(wrappers[v]);
+			}
+			for (int e = 0; e < edgeCount; e++) {
+				NodeWrapper predecessor = wrappers[sources[e]];
+				for (int l = rank[sources[e]] + 1; l < rank[targets[e]]; l++) {
+					NodeWrapper dummy = new NodeWrapper(l);
+					dummy.addPredecessor(predecessor);
+					predecessor.addSuccessor(dummy);
+					layers.get(l).add(dummy);
+					predecessor = dummy;
+				}
+				wrappers[targets[e]].addPredecessor(predecessor);
+				predecessor.addSuccessor(wrappers[targets[e]]);
+			}
+			for (List<NodeWrapper> layer : layers) {
+				for (int i = 0; i < layer.size(); i++) {
+					layer.get(i).index = i;
+				}
+			}
+			return layers;
+		}
+
+		/**
+		 * Computes a node sequence with few backward edges using the greedy
+		 * heuristic of Eades, Lin, and Smyth, and returns the position of each
+		 * node within that sequence. Sinks are moved to the end of the
+		 * sequence, sources to the start, and otherwise, the node with the
+		 * maximum difference between out-degree and in-degree is moved to the
+		 * start. The nodes are managed in buckets, so that this takes linear
+		 * time.
+		 */
+		private int[] computeSequencePositions() {
+			int n = nodeCount;
+			int[] outStart = createStart(sources, edgeCount, n);
+			int[] outEdges = groupByKey(outStart, sources, edgeCount);
+			int[] inStart = createStart(targets, edgeCount, n);
+			int[] inEdges = groupByKey(inStart, targets, edgeCount);
+			int[] outDegree = new int[n];
+			int[] inDegree = new int[n];
+
+			// buckets (doubly linked lists): sinks, sources, and delta buckets
+			// for the out-degree minus in-degree (shifted by n + 1)
+			int bucketCount = 2 * n + 1;
+			int[] head = new int[bucketCount];
+			Arrays.fill(head, -1);
+			int[] next = new int[n];
+			int[] previous = new int[n];
+			int[] bucket = new int[n];
+			boolean[] removed = new boolean[n];
+			int maxBucket = SOURCES;
+			for (int v = 0; v < n; v++) {
+				outDegree[v] = outStart[v + 1] - outStart[v];
+				inDegree[v] = inStart[v + 1] - inStart[v];
+			}
+			for (int v = n - 1; v >= 0; v--) {
+				maxBucket = Math.max(maxBucket, link(v,
+						getBucket(outDegree[v], inDegree[v], n), head, next,
+						previous, bucket));
+			}
+
+			int[] position = new int[n];
+			int left = 0;
+			int right = n - 1;
+			for (int k = 0; k < n; k++) {
+				int v;
+				if (head[SINKS] >= 0) {
+					v = head[SINKS];
+					position[v] = right--;
+				} else if (head[SOURCES] >= 0) {
+					v = head[SOURCES];
+					position[v] = left++;
+				} else {
+					while (head[maxBucket] < 0) {
+						maxBucket--;
+					}
+					v = head[maxBucket];
+					position[v] = left++;
+				}
+				unlink(v, head, next, previous, bucket);
+				removed[v] = true;
+				for (int i = outStart[v]; i < outStart[v + 1]; i++) {
+					int w = targets[outEdges[i]];
+					if (!removed[w]) {
+						unlink(w, head, next, previous, bucket);
+						inDegree[w]--;
+						maxBucket = Math.max(maxBucket,
+								link(w, getBucket(outDegree[w], inDegree[w], n),
+										head, next, previous, bucket));
+					}
+				}
+				for (int i = inStart[v]; i < inStart[v + 1]; i++) {
+					int u = sources[inEdges[i]];
+					if (!removed[u]) {
+						unlink(u, head, next, previous, bucket);
+						outDegree[u]--;
+						link(u, getBucket(outDegree[u], inDegree[u], n), head,
+								next, previous, bucket);
+					}
+				}
+			}
+			return position;
+		}
+
+		/**
+		 * Returns the edge that enters the spanning tree when the given tree
+		 * edge leaves it, i.e. the non-tree edge with minimum slack that
+		 * reconnects the two components of the tree.
+		 */
+		private int enterEdge(int f) {
+			int tail = sources[f];
+			boolean flip = false;
+			if (lim[sources[f]] > lim[targets[f]]) {
+				tail = targets[f];
+				flip = true;
+			}
+			int best = -1;
+			int bestSlack = Integer.MAX_VALUE;
+			for (int e = 0; e < edgeCount; e++) {
+				if (flip == isDescendant(sources[e], tail)
+						&& flip != isDescendant(targets[e], tail)) {
+					int slack = rank[targets[e]] - rank[sources[e]] - 1;
+					if (slack < bestSlack) {
+						best = e;
+						bestSlack = slack;
+					}
+				}
+			}
+			return best;
+		}
+
+		/**
+		 * Constructs a spanning tree of tight edges (i.e. edges of length 1)
+		 * for each connected component. The tree is grown from a start node by
+		 * repeatedly adding the incident non-tree edge with minimum slack,
+		 * moving the tree ranks so that this edge becomes tight. The ranks of
+		 * the tree nodes are stored relative to an offset, so that they can be
+		 * moved in constant time.
+		 */
+		private void createFeasibleTree() {
+			boolean[] inTree = new boolean[nodeCount];
+			int[] base = new int[nodeCount];
+			int[] members = new int[nodeCount];
+			// incident edges whose source/target is in the tree
+			EdgeHeap outgoing = new EdgeHeap();
+			EdgeHeap incoming = new EdgeHeap();
+			for (int start = 0; start < nodeCount; start++) {
+				if (inTree[start]) {
+					continue;
+				}
+				int offset = 0;
+				int memberCount = 0;
+				int v = start;
+				while (v >= 0) {
+					// add v to the tree
+					inTree[v] = true;
+					base[v] = rank[v] - offset;
+					componentRoot[v] = start;
+					members[memberCount++] = v;
+					for (int i = incidentStart[v]; i < incidentStart[v + 1]; i++) {
+						int e = incident[i];
+						if (sources[e] == v && !inTree[targets[e]]) {
+							outgoing.push(rank[targets[e]] - base[v] - 1, e);
+						} else if (targets[e] == v && !inTree[sources[e]]) {
+							incoming.push(base[v] - rank[sources[e]] - 1, e);
+						}
+					}
+					// discard edges that are completely within the tree
+					while (!outgoing.isEmpty()
+							&& inTree[targets[outgoing.peekEdge()]]) {
+						outgoing.pop();
+					}
+					while (!incoming.isEmpty()
+							&& inTree[sources[incoming.peekEdge()]]) {
+						incoming.pop();
+					}
+					// find the edge with minimum slack and make it tight
+					v = -1;
+					if (!outgoing.isEmpty() && (incoming.isEmpty()
+							|| outgoing.peekKey() - offset <= incoming.peekKey()
+									+ offset)) {
+						int e = outgoing.peekEdge();
+						offset += outgoing.peekKey() - offset;
+						outgoing.pop();
+						treeEdge[e] = true;
+						v = targets[e];
+					} else if (!incoming.isEmpty()) {
+						int e = incoming.peekEdge();
+						offset -= incoming.peekKey() + offset;
+						incoming.pop();
+						treeEdge[e] = true;
+						v = sources[e];
+					}
+				}
+				for (int i = 0; i < memberCount; i++) {
+					rank[members[i]] = base[members[i]] + offset;
+				}
+			}
+		}
+
+		private static int getBucket(int outDegree, int inDegree, int n) {
+			if (outDegree == 0) {
+				return SINKS;
+			}
+			if (inDegree == 0) {
+				return SOURCES;
+			}
+			return outDegree - inDegree + n;
+		}
+
+		/**
+		 * Computes the parent relation as well as the low and lim values of
+		 * the spanning tree of the component with the given root, in an
+		 * iterative depth-first traversal. The lim values correspond to the
+		 * post-order of the nodes, starting at the given counter value.
+		 */
+		private int initLowLim(int root, int counter) {
+			int[] stack = new int[nodeCount];
+			int[] cursor = new int[nodeCount];
+			int top = 0;
+			stack[top++] = root;
+			parent[root] = -1;
+			parentEdge[root] = -1;
+			low[root] = counter;
+			cursor[root] = incidentStart[root];
+			while (top > 0) {
+				int v = stack[top - 1];
+				if (cursor[v] < incidentStart[v + 1]) {
+					int e = incident[cursor[v]++];
+					if (treeEdge[e] && e != parentEdge[v]) {
+						int w = sources[e] == v ? targets[e] : sources[e];
+						parent[w] = v;
+						parentEdge[w] = e;
+						low[w] = counter;
+						cursor[w] = incidentStart[w];
+						stack[top++] = w;
+					}
+				} else {
+					lim[v] = counter;
+					postorder[counter] = v;
+					counter++;
+					top--;
+				}
+			}
+			return counter;
+		}
+
+		private boolean isDescendant(int v, int root) {
+			return low[root] <= lim[v] && lim[v] <= lim[root];
+		}
+
+		private static int link(int v, int b, int[] head, int[] next,
+				int[] previous, int[] bucket) {
+			bucket[v] = b;
+			previous[v] = -1;
+			next[v] = head[b];
+			if (head[b] >= 0) {
+				previous[head[b]] = v;
+			}
+			head[b] = v;
+			return b;
+		}
+
+		/**
+		 * Replaces the current edges with the given edges, dropping parallel
+		 * edges, which are accumulated within the edge weights instead. The
+		 * resulting edges are sorted by source.
+		 */
+		private void mergeParallelEdges(int[] edgeSources, int[] edgeTargets,
+				int count) {
+			int[] oldWeights = weights;
+			int[] start = createStart(edgeSources, count, nodeCount);
+			int[] grouped = groupByKey(start, edgeSources, count);
+			int[] mergedSources = new int[count];
+			int[] mergedTargets = new int[count];
+			int[] mergedWeights = new int[count];
+			int[] lastSource = new int[nodeCount];
+			int[] mergedIndex = new int[nodeCount];
+			Arrays.fill(lastSource, -1);
+			int merged = 0;
+			for (int u = 0; u < nodeCount; u++) {
+				for (int i = start[u]; i < start[u + 1]; i++) {
+					int e = grouped[i];
+					int v = edgeTargets[e];
+					int weight = oldWeights == null ? 1 : oldWeights[e];
+					if (lastSource[v] == u) {
+						mergedWeights[mergedIndex[v]] += weight;
+					} else {
+						lastSource[v] = u;
+						mergedIndex[v] = merged;
+						mergedSources[merged] = u;
+						mergedTargets[merged] = v;
+						mergedWeights[merged] = weight;
+						merged++;
+					}
+				}
+			}
+			sources = mergedSources;
+			targets = mergedTargets;
+			weights = mergedWeights;
+			edgeCount = merged;
+		}
+
+		/**
+		 * Refines the ranks using the network simplex algorithm, which
+		 * exchanges tree edges with negative cut values until the layering is
+		 * optimal (or the maximum number of iterations is reached).
+		 */
+		private void refineRanks() {
+			incidentStart = new int[nodeCount + 1];
+			for (int e = 0; e < edgeCount; e++) {
+				incidentStart[sources[e] + 1]++;
+				incidentStart[targets[e] + 1]++;
+			}
+			for (int v = 0; v < nodeCount; v++) {
+				incidentStart[v + 1] += incidentStart[v];
+			}
+			incident = new int[2 * edgeCount];
+			int[] next = Arrays.copyOf(incidentStart, nodeCount);
+			for (int e = 0; e < edgeCount; e++) {
+				incident[next[sources[e]]++] = e;
+				incident[next[targets[e]]++] = e;
+			}
+			treeEdge = new boolean[edgeCount];
+			componentRoot = new int[nodeCount];
+			parent = new int[nodeCount];
+			parentEdge = new int[nodeCount];
+			low = new int[nodeCount];
+			lim = new int[nodeCount];
+			postorder = new int[nodeCount];
+			cutValue = new long[nodeCount];
+
+			createFeasibleTree();
+			int counter = 0;
+			for (int v = 0; v < nodeCount; v++) {
+				if (componentRoot[v] == v) {
+					counter = initLowLim(v, counter);
+					computeCutValues(v);
+				}
+			}
+
+			for (int iteration = 0; iteration < maxSimplexIterations; iteration++) {
+				int leave = -1;
+				for (int v = 0; v < nodeCount && leave < 0; v++) {
+					if (parentEdge[v] >= 0 && cutValue[v] < 0) {
+						leave = parentEdge[v];
+					}
+				}
+				if (leave < 0) {
+					break;
+				}
+				int enter = enterEdge(leave);
+				if (enter < 0) {
+					break;
+				}
+				treeEdge[leave] = false;
+				treeEdge[enter] = true;
+				int root = componentRoot[sources[leave]];
+				initLowLim(root, low[root]);
+				computeCutValues(root);
+				updateRanks(root);
+			}
+
+			// normalize the ranks of each component
+			for (int v = 0; v < nodeCount; v++) {
+				if (componentRoot[v] == v) {
+					int min = Integer.MAX_VALUE;
+					for (int k = low[v]; k <= lim[v]; k++) {
+						min = Math.min(min, rank[postorder[k]]);
+					}
+					for (int k = low[v]; k <= lim[v]; k++) {
+						rank[postorder[k]] -= min;
+					}
+				}
+			}
+
+			incidentStart = null;
+			incident = null;
+			treeEdge = null;
+			componentRoot = null;
+			parent = null;
+			parentEdge = null;
+			low = null;
+			lim = null;
+			postorder = null;
+			cutValue = null;
+		}
+
+		private static void unlink(int v, int[] head, int[] next,
+				int[] previous, int[] bucket) {
+			if (previous[v] >= 0) {
+				next[previous[v]] = next[v];
+			} else {
+				head[bucket[v]] = next[v];
+			}
+			if (next[v] >= 0) {
+				previous[next[v]] = previous[v];
+			}
+		}
+
+		/**
+		 * Updates the ranks of the component with the given root, so that all
+		 * tree edges are tight.
+		 */
+		private void updateRanks(int root) {
+			// reverse post-order visits parents before children
+			for (int k = lim[root] - 1; k >= low[root]; k--) {
+				int v = postorder[k];
+				int p = parent[v];
+				rank[v] = sources[parentEdge[v]] == p ? rank[p] + 1
+						: rank[p] - 1;
+			}
+		}
+	}
+
 	/**
 	 * 
 	 * @author Rene Kuhlemann
@@ -1211,15 +2811,12 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 	}
 
 	private List<List<NodeWrapper>> layers = new ArrayList<>();
-	private Map<Node, NodeWrapper> map = new IdentityHashMap<>();
 	private final Direction direction;
 	private final Dimension dimension;
 
-	// index of the last element in a layer after padding process
-	private int last;
-
 	private LayerProvider layerProvider;
 	private CrossingReducer crossingReducer;
+	private CoordinateAssigner coordinateAssigner;
 
 	/**
 	 * Constructs a tree-like, layered layout of a directed graph.
@@ -1237,9 +2834,13 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 	 * 
 	 * @param crossing
 	 *            - implementation of CrossingReducer interface
+	 * 
+	 * @param coordinates
+	 *            - implementation of CoordinateAssigner interface
 	 */
 	public SugiyamaLayoutAlgorithm(Direction dir, Dimension dim,
-			LayerProvider layering, CrossingReducer crossing) {
+			LayerProvider layering, CrossingReducer crossing,
+			CoordinateAssigner coordinates) {
 		direction = dir;
 		dimension = dim;
 
@@ -1247,6 +2848,31 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 				: layering;
 		crossingReducer = (crossing == null) ? new BarycentricCrossingReducer()
 				: crossing;
+		coordinateAssigner = (coordinates == null)
+				? new GridCoordinateAssigner() : coordinates;
+	}
+
+	/**
+	 * Constructs a tree-like, layered layout of a directed graph, using a
+	 * {@link GridCoordinateAssigner}.
+	 * 
+	 * @param dir
+	 *            {@link Direction#HORIZONTAL}: left to right -
+	 *            {@link Direction#VERTICAL} : top to bottom
+	 * 
+	 * @param dim
+	 *            - desired size of the layout area. Uses the BOUNDS_PROPERTY of
+	 *            the LayoutContext if not set
+	 * 
+	 * @param layering
+	 *            - implementation of LayerProvider interface
+	 * 
+	 * @param crossing
+	 *            - implementation of CrossingReducer interface
+	 */
+	public SugiyamaLayoutAlgorithm(Direction dir, Dimension dim,
+			LayerProvider layering, CrossingReducer crossing) {
+		this(dir, dim, layering, crossing, null);
 	}
 
 	/**
@@ -1334,24 +2960,13 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		if (!clean)
 			return;
 		layers.clear();
-		map.clear();
 
 		ArrayList<Node> nodes = new ArrayList<>();
-		ArrayList<Node> nodes2 = new ArrayList<>();
 		for (Node node : layoutContext.getNodes()) {
 			nodes.add(node);
-			nodes2.add(node);
 		}
 		layers = layerProvider.calculateLayers(nodes);
 		crossingReducer.crossReduction(layers);
-
-		for (List<NodeWrapper> layer : layers) {
-			if (layer.size() > last)
-				last = layer.size();
-			for (NodeWrapper nw : layer) {
-				map.put(nw.node, nw);
-			}
-		}
 		calculatePositions(layoutContext);
 	}
 
@@ -1360,20 +2975,7 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		if (dimension != null)
 			boundary = new Rectangle(0, 0, dimension.getWidth(),
 					dimension.getHeight());
-		double dx = boundary.getWidth() / layers.size();
-		double dy = boundary.getHeight() / (last + 1);
-		if (direction == Direction.HORIZONTAL)
-			for (Node node : context.getNodes()) {
-				NodeWrapper nw = map.get(node);
-				LayoutProperties.setLocation(node, new Point(
-						(nw.layer + 0.5d) * dx, (nw.index + 0.5d) * dy));
-			}
-		else
-			for (Node node : context.getNodes()) {
-				NodeWrapper nw = map.get(node);
-				LayoutProperties.setLocation(node, new Point(
-						(nw.index + 0.5d) * dx, (nw.layer + 0.5d) * dy));
-			}
+		coordinateAssigner.assignCoordinates(layers, direction, boundary);
 	}
 
 }
\ No newline at end of file
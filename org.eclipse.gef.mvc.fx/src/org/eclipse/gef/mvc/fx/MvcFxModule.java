@@ -27,6 +27,7 @@ import org.eclipse.gef.mvc.fx.behaviors.FocusBehavior;
 import org.eclipse.gef.mvc.fx.behaviors.GridBehavior;
 import org.eclipse.gef.mvc.fx.behaviors.HoverBehavior;
 import org.eclipse.gef.mvc.fx.behaviors.HoverIntentBehavior;
+import org.eclipse.gef.mvc.fx.behaviors.LevelOfDetailBehavior;
 import org.eclipse.gef.mvc.fx.behaviors.RevealPrimarySelectionBehavior;
 import org.eclipse.gef.mvc.fx.behaviors.SelectionBehavior;
 import org.eclipse.gef.mvc.fx.behaviors.SnappingBehavior;
@@ -53,6 +54,7 @@ import org.eclipse.gef.mvc.fx.handlers.ZoomOnPinchSpreadHandler;
 import org.eclipse.gef.mvc.fx.models.FocusModel;
 import org.eclipse.gef.mvc.fx.models.GridModel;
 import org.eclipse.gef.mvc.fx.models.HoverModel;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel;
 import org.eclipse.gef.mvc.fx.models.SelectionModel;
 import org.eclipse.gef.mvc.fx.models.SnappingModel;
 import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
@@ -79,6 +81,7 @@ import org.eclipse.gef.mvc.fx.policies.ViewportPolicy;
 import org.eclipse.gef.mvc.fx.providers.TransformProvider;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.mvc.fx.viewer.SpatialIndex;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Binder;
@@ -775,6 +778,7 @@ public class MvcFxModule extends AbstractModule {
 		bindHoverModelAsContentViewerAdapter(adapterMapBinder);
 		bindSelectionModelAsContentViewerAdapter(adapterMapBinder);
 		bindSnappingModelAsContentViewerAdapter(adapterMapBinder);
+		bindSpatialIndexAsContentViewerAdapter(adapterMapBinder);
 
 		bindRootPartAsContentViewerAdapter(adapterMapBinder);
 
@@ -792,6 +796,54 @@ public class MvcFxModule extends AbstractModule {
 		bindConnectedSupportAsContentViewerAdapter(adapterMapBinder);
 	}
 
+	/**
+	 * Adds a binding for {@link LevelOfDetailBehavior} to the adapter map
+	 * binder for {@link IRootPart}.
+	 * <p>
+	 * Level of detail rendering is not enabled by default, i.e. this method is
+	 * not called by {@link #bindIRootPartAdaptersForContentViewer(MapBinder)}.
+	 * In order to enable it, it has to be called from an overridden
+	 * {@link #bindIRootPartAdaptersForContentViewer(MapBinder)}, together with
+	 * {@link #bindLevelOfDetailModelAsContentViewerAdapter(MapBinder)}.
+	 *
+	 * @param adapterMapBinder
+	 *            The {@link MapBinder} to be used for the binding registration.
+	 *            In this case, will be obtained from
+	 *            {@link AdapterMaps#getAdapterMapBinder(Binder, Class)} using
+	 *            {@link IRootPart} as a key.
+	 *
+	 * @see AdapterMaps#getAdapterMapBinder(Binder, Class)
+	 */
+	protected void bindLevelOfDetailBehaviorAsIRootPartAdapter(
+			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole())
+				.to(LevelOfDetailBehavior.class);
+	}
+
+	/**
+	 * Adds a binding for {@link LevelOfDetailModel} to the adapter map binder
+	 * for {@link IViewer}.
+	 * <p>
+	 * Level of detail rendering is not enabled by default, i.e. this method is
+	 * not called by {@link #bindIViewerAdaptersForContentViewer(MapBinder)}.
+	 * In order to enable it, it has to be called from an overridden
+	 * {@link #bindIViewerAdaptersForContentViewer(MapBinder)}, together with
+	 * {@link #bindLevelOfDetailBehaviorAsIRootPartAdapter(MapBinder)}.
+	 *
+	 * @param adapterMapBinder
+	 *            The {@link MapBinder} to be used for the binding registration.
+	 *            In this case, will be obtained from
+	 *            {@link AdapterMaps#getAdapterMapBinder(Binder, Class)} using
+	 *            {@link IViewer} as a key.
+	 *
+	 * @see AdapterMaps#getAdapterMapBinder(Binder, Class)
+	 */
+	protected void bindLevelOfDetailModelAsContentViewerAdapter(
+			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole())
+				.to(LevelOfDetailModel.class);
+	}
+
 	/**
 	 * Adds a binding for {@link MarqueeOnDragHandler} to the adapter map binder
 	 * for {@link IRootPart}.
@@ -1099,6 +1151,24 @@ public class MvcFxModule extends AbstractModule {
 				.to(SnapToSupport.class);
 	}
 
+	/**
+	 * Adds a binding for {@link SpatialIndex} to the adapter map binder for
+	 * {@link IViewer}.
+	 *
+	 * @param adapterMapBinder
+	 *            The {@link MapBinder} to be used for the binding registration.
+	 *            In this case, will be obtained from
+	 *            {@link AdapterMaps#getAdapterMapBinder(Binder, Class)} using
+	 *            {@link IViewer} as a key.
+	 *
+	 * @see AdapterMaps#getAdapterMapBinder(Binder, Class)
+	 */
+	protected void bindSpatialIndexAsContentViewerAdapter(
+			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole())
+				.to(SpatialIndex.class);
+	}
+
 	/**
 	 * Adds a binding for {@link TransformProvider} to the adapter map binder
 	 * for {@link AbstractContentPart}, using the
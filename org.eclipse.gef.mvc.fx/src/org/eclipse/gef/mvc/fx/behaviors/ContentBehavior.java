@@ -16,6 +16,7 @@ package org.eclipse.gef.mvc.fx.behaviors;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -29,12 +30,15 @@ import org.eclipse.gef.mvc.fx.parts.IRootPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.parts.PartUtils;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.ViewportVirtualizer;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
 
 import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
 import javafx.collections.MapChangeListener;
 import javafx.scene.Node;
@@ -44,6 +48,11 @@ import javafx.scene.Node;
  * {@link IContentPart} to synchronize the list of {@link IContentPart} children
  * and (only in case of an {@link IContentPart}) anchorages with the list of
  * content children and anchored.
+ * <p>
+ * If a {@link ViewportVirtualizer} is bound to the viewer, only those content
+ * children are synchronized that are materialized according to the
+ * {@link ViewportVirtualizer}, and the content part children of its dirty
+ * parents are synchronized whenever the expanded viewport changes.
  *
  * @author anyssen
  *
@@ -149,6 +158,19 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		}
 	};
 
+	private ChangeListener<Boolean> virtualizerObserver = new ChangeListener<Boolean>() {
+		@Override
+		public void changed(ObservableValue<? extends Boolean> observable,
+				Boolean oldValue, Boolean newValue) {
+			// dirty parents are synchronized after an ongoing synchronization
+			if (newValue && synchronizationDepth == 0) {
+				synchronizeDirtyParents();
+			}
+		}
+	};
+
+	private int synchronizationDepth = 0;
+
 	@SuppressWarnings("unchecked")
 	private List<IContentPart<? extends Node>> addAll(
 			IVisualPart<? extends Node> parent,
@@ -201,8 +223,9 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				}
 				parent.addChild(contentPart, i);
 				added.add(contentPart);
-				added.addAll(addAll(contentPart,
-						contentPart.getContentChildrenUnmodifiable()));
+				added.addAll(addAll(contentPart, getMaterializedContents(
+						contentPart,
+						contentPart.getContentChildrenUnmodifiable())));
 			}
 		}
 		return added;
@@ -213,6 +236,7 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			IVisualPart<? extends Node> parent,
 			final List<? extends Object> contentChildren) {
 		List<IContentPart<? extends Node>> toRemove = new ArrayList<>();
+		Set<Object> contents = new HashSet<>(contentChildren);
 		// only synchronize IContentPart children
 		// find all content parts for which no content element exists in
 		// contentChildren, and therefore have to be removed
@@ -220,7 +244,7 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				.filterParts(parent.getChildrenUnmodifiable(),
 						IContentPart.class)) {
 			// mark for removal
-			if (!contentChildren.contains(contentPart.getContent())) {
+			if (!contents.contains(contentPart.getContent())) {
 				toRemove.addAll(
 						detachAll(contentPart, Collections.emptyList()));
 				toRemove.add(contentPart);
@@ -238,12 +262,13 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		contentObserver = null;
 		contentChildrenObserver = null;
 		contentAnchoragesObserver = null;
+		virtualizerObserver = null;
 	}
 
 	/**
 	 * If the given {@link IContentPart} does neither have a parent nor any
 	 * anchoreds, then it's content is set to <code>null</code> and the part is
-	 * added to the {@link ContentPartPool}.
+	 * added to the {@link ContentPartPool} (under its former content).
 	 *
 	 * @param contentPart
 	 *            The {@link IContentPart} that is eventually disposed.
@@ -252,8 +277,11 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		if (contentPart.getParent() == null
 				&& contentPart.getAnchoredsUnmodifiable().isEmpty()) {
 			// System.out.println("DISPOSE " + contentPart.getContent());
-			getContentPartPool().add(contentPart);
+			// reset the content before pooling the part, as the pool may
+			// dispose it right away in case its capacity is exceeded
+			Object content = contentPart.getContent();
 			contentPart.setContent(null);
+			getContentPartPool().add(content, contentPart);
 		} // else {
 			// System.out.println("CANNOT DISPOSE " + contentPart.getContent());
 			// }
@@ -267,6 +295,10 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		}
 		IViewer viewer = host.getRoot().getViewer();
 		viewer.contentPartMapProperty().addListener(contentPartMapObserver);
+		ViewportVirtualizer virtualizer = getViewportVirtualizer();
+		if (virtualizer != null) {
+			virtualizer.dirtyProperty().addListener(virtualizerObserver);
+		}
 		synchronizeContentPartChildren(getHost(), viewer.getContents());
 		viewer.getContents().addListener(contentObserver);
 	}
@@ -277,6 +309,10 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		IViewer viewer = host.getRoot().getViewer();
 		viewer.getContents().removeListener(contentObserver);
 		synchronizeContentPartChildren(getHost(), Collections.emptyList());
+		ViewportVirtualizer virtualizer = getViewportVirtualizer();
+		if (virtualizer != null) {
+			virtualizer.dirtyProperty().removeListener(virtualizerObserver);
+		}
 		viewer.contentPartMapProperty().removeListener(contentPartMapObserver);
 	}
 
@@ -349,6 +385,88 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				.getAdapter(ContentPartPool.class);
 	}
 
+	/**
+	 * Returns the content children of the given parent {@link IVisualPart},
+	 * i.e. the viewer's contents in case of the {@link IRootPart}.
+	 */
+	private List<? extends Object> getContentChildren(
+			IVisualPart<? extends Node> parent) {
+		if (parent instanceof IContentPart) {
+			return ((IContentPart<? extends Node>) parent)
+					.getContentChildrenUnmodifiable();
+		}
+		return getHost().getRoot().getViewer().getContents();
+	}
+
+	/**
+	 * Returns those of the given content children of the given parent for
+	 * which {@link IContentPart}s are to be created, i.e. all content children
+	 * unless a {@link ViewportVirtualizer} is bound to the viewer.
+	 */
+	private List<? extends Object> getMaterializedContents(
+			IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren) {
+		ViewportVirtualizer virtualizer = getViewportVirtualizer();
+		return virtualizer == null ? contentChildren
+				: virtualizer.updateContents(parent, contentChildren);
+	}
+
+	/**
+	 * Returns the {@link ViewportVirtualizer} of the current viewer, or
+	 * <code>null</code> if viewport virtualization is not enabled.
+	 *
+	 * @return The {@link ViewportVirtualizer} of the current viewer, or
+	 *         <code>null</code>.
+	 */
+	protected ViewportVirtualizer getViewportVirtualizer() {
+		return getHost().getRoot().getViewer()
+				.getAdapter(ViewportVirtualizer.class);
+	}
+
+	/**
+	 * Ensures that an {@link IContentPart} is created for the given content
+	 * anchorage, in case it is a content child that was not materialized by
+	 * the {@link ViewportVirtualizer}. The content anchorage is pinned, so
+	 * that it stays materialized until the anchorage is removed.
+	 */
+	private void materializeAnchorage(Object contentAnchorage) {
+		ViewportVirtualizer virtualizer = getViewportVirtualizer();
+		if (virtualizer == null || !virtualizer.pin(contentAnchorage)) {
+			return;
+		}
+		// append the part, the order is restored upon the next
+		// synchronization of the parent
+		IVisualPart<? extends Node> parent = virtualizer
+				.getParent(contentAnchorage);
+		IContentPart<? extends Node> contentPart = findOrCreatePartFor(
+				contentAnchorage);
+		parent.addChild(contentPart);
+		List<IContentPart<? extends Node>> added = new ArrayList<>();
+		added.add(contentPart);
+		added.addAll(addAll(contentPart, getMaterializedContents(contentPart,
+				contentPart.getContentChildrenUnmodifiable())));
+		for (IContentPart<? extends Node> cp : added) {
+			synchronizeContentPartAnchorages(cp,
+					cp.getContentAnchoragesUnmodifiable());
+		}
+	}
+
+	/**
+	 * Synchronizes the content part children of all parents that were marked
+	 * dirty by the {@link ViewportVirtualizer}.
+	 */
+	private void synchronizeDirtyParents() {
+		ViewportVirtualizer virtualizer = getViewportVirtualizer();
+		if (virtualizer == null) {
+			return;
+		}
+		IVisualPart<? extends Node> parent = virtualizer.pollDirtyParent();
+		while (parent != null) {
+			synchronizeContentPartChildren(parent, getContentChildren(parent));
+			parent = virtualizer.pollDirtyParent();
+		}
+	}
+
 	/**
 	 * Updates the host {@link IVisualPart}'s {@link IContentPart} anchorages
 	 * (see {@link IVisualPart#getAnchoragesUnmodifiable()}) so that it is in
@@ -373,6 +491,21 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			throw new IllegalArgumentException(
 					"contentAnchorages may not be null");
 		}
+		synchronizationDepth++;
+		try {
+			doSynchronizeContentPartAnchorages(anchored, contentAnchorages);
+		} finally {
+			synchronizationDepth--;
+		}
+		if (synchronizationDepth == 0) {
+			synchronizeDirtyParents();
+		}
+	}
+
+	private void doSynchronizeContentPartAnchorages(
+			IVisualPart<? extends Node> anchored,
+			SetMultimap<? extends Object, ? extends String> contentAnchorages) {
+		ViewportVirtualizer virtualizer = getViewportVirtualizer();
 		SetMultimap<IVisualPart<? extends Node>, String> anchorages = anchored
 				.getAnchoragesUnmodifiable();
 
@@ -396,14 +529,27 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		for (Entry<IVisualPart<? extends Node>, String> contentPart : toRemove) {
 			anchored.detachFromAnchorage(contentPart.getKey(),
 					contentPart.getValue());
+			if (virtualizer != null) {
+				virtualizer.unpin(((IContentPart<? extends Node>) contentPart
+						.getKey()).getContent());
+			}
 			disposeIfObsolete(
 					(IContentPart<? extends Node>) contentPart.getKey());
 		}
 
 		// find content for which no anchorages exist
 		List<Entry<IVisualPart<? extends Node>, String>> toAdd = new ArrayList<>();
+		Map<Object, IContentPart<? extends Node>> contentPartMap = getHost()
+				.getRoot().getViewer().getContentPartMap();
 		for (Entry<? extends Object, ? extends String> e : contentAnchorages
 				.entries()) {
+			IContentPart<? extends Node> existing = contentPartMap
+					.get(e.getKey());
+			if (existing != null
+					&& anchorages.containsEntry(existing, e.getValue())) {
+				continue;
+			}
+			materializeAnchorage(e.getKey());
 			IContentPart<? extends Node> anchorage = findOrCreatePartFor(
 					e.getKey());
 			if (!anchorages.containsEntry(anchorage, e.getValue())) {
@@ -444,16 +590,36 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			throw new IllegalArgumentException(
 					"contentChildren may not be null");
 		}
+		synchronizationDepth++;
+		try {
+			doSynchronizeContentPartChildren(parent, contentChildren);
+		} finally {
+			synchronizationDepth--;
+		}
+		if (synchronizationDepth == 0) {
+			synchronizeDirtyParents();
+		}
+	}
 
-		List<IContentPart<? extends Node>> toRemove = detachAll(parent,
+	private void doSynchronizeContentPartChildren(
+			IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren) {
+		ViewportVirtualizer virtualizer = getViewportVirtualizer();
+		List<? extends Object> materialized = getMaterializedContents(parent,
 				contentChildren);
+
+		List<IContentPart<? extends Node>> toRemove = detachAll(parent,
+				materialized);
 		for (IContentPart<? extends Node> contentPart : toRemove) {
+			if (virtualizer != null) {
+				virtualizer.removeContents(contentPart);
+			}
 			contentPart.getParent().removeChild(contentPart);
 			disposeIfObsolete(contentPart);
 		}
 
 		List<IContentPart<? extends Node>> added = addAll(parent,
-				contentChildren);
+				materialized);
 		for (IContentPart<? extends Node> cp : added) {
 			synchronizeContentPartAnchorages(cp,
 					cp.getContentAnchoragesUnmodifiable());
@@ -13,7 +13,8 @@ package org.eclipse.gef.mvc.fx.behaviors;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.gef.common.dispose.IDisposable;
@@ -31,6 +32,12 @@ import javafx.scene.Node;
  * motivation behind recycling {@link IContentPart}s is that after an undo the
  * viewer is in the exact same state as before the execution of an operation
  * (which may be important for feedback or handles).
+ * <p>
+ * The number of pooled {@link IContentPart}s can be limited (see
+ * {@link #setCapacity(int)}), which is recommended when parts are frequently
+ * removed and revived, e.g. when using viewport virtualization. In this case,
+ * the least recently pooled {@link IContentPart}s are disposed when the
+ * capacity is exceeded.
  *
  * @author mwienand
  * @author anyssen
@@ -38,7 +45,8 @@ import javafx.scene.Node;
  */
 public class ContentPartPool implements IDisposable {
 
-	private Map<Object, IContentPart<? extends Node>> pool = new HashMap<>();
+	private Map<Object, IContentPart<? extends Node>> pool = new LinkedHashMap<>();
+	private int capacity = Integer.MAX_VALUE;
 
 	/**
 	 * Adds an {@link IContentPart} to this pool. The {@link IContentPart} will
@@ -50,11 +58,33 @@ public class ContentPartPool implements IDisposable {
 	 *            The {@link IContentPart} to add to the pool.
 	 */
 	public void add(IContentPart<? extends Node> part) {
+		add(part.getContent(), part);
+	}
+
+	/**
+	 * Adds an {@link IContentPart} to this pool, stored under the given
+	 * content element, so that it may later be retrieved back via this
+	 * content element (see {@link #remove(Object)}. In contrast to
+	 * {@link #add(IContentPart)}, the content of the {@link IContentPart} may
+	 * already be reset, so that it can safely be disposed in case the
+	 * capacity of this pool is exceeded.
+	 *
+	 * @param content
+	 *            The content element under which to store the
+	 *            {@link IContentPart}.
+	 * @param part
+	 *            The {@link IContentPart} to add to the pool.
+	 */
+	public void add(Object content, IContentPart<? extends Node> part) {
 		// TODO: We need to handle the case that a content part was already
 		// registered for the same content element in case we will enable this
 		// in the viewer (e.g. by adding context information to the content part
 		// map).
-		pool.put(part.getContent(), part);
+		// remove before putting, so that the part becomes the most recently
+		// pooled one
+		pool.remove(content);
+		pool.put(content, part);
+		evict();
 	}
 
 	/**
@@ -64,6 +94,20 @@ public class ContentPartPool implements IDisposable {
 		pool.clear();
 	}
 
+	/**
+	 * Disposes the least recently pooled {@link IContentPart}s until the
+	 * capacity is no longer exceeded.
+	 */
+	private void evict() {
+		Iterator<IContentPart<? extends Node>> iterator = pool.values()
+				.iterator();
+		while (pool.size() > capacity) {
+			IContentPart<? extends Node> evicted = iterator.next();
+			iterator.remove();
+			evicted.dispose();
+		}
+	}
+
 	@Override
 	public void dispose() {
 		for (IContentPart<? extends Node> cp : getPooled()) {
@@ -72,6 +116,16 @@ public class ContentPartPool implements IDisposable {
 		clear();
 	}
 
+	/**
+	 * Returns the maximum number of {@link IContentPart}s that are kept in
+	 * this pool.
+	 *
+	 * @return The capacity of this pool.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
 	/**
 	 * Returns the {@link IContentPart}'s that are contained in this pool.
 	 *
@@ -97,4 +151,22 @@ public class ContentPartPool implements IDisposable {
 		return pool.remove(content);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Sets the maximum number of {@link IContentPart}s that are kept in this
+	 * pool. If the capacity is exceeded, the least recently pooled
+	 * {@link IContentPart}s are disposed. By default, the capacity is not
+	 * limited.
+	 *
+	 * @param capacity
+	 *            The new capacity, which may not be negative.
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException(
+					"The capacity may not be negative, but is " + capacity
+							+ ".");
+		}
+		this.capacity = capacity;
+		evict();
+	}
+}
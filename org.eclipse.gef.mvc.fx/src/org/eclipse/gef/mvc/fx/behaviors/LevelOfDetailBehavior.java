@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.behaviors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel.LevelOfDetail;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IRootPart;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+
+/**
+ * The {@link LevelOfDetailBehavior} can be registered on an {@link IRootPart}
+ * to report the zoom factor of the {@link InfiniteCanvas} to the
+ * {@link LevelOfDetailModel}. When the {@link LevelOfDetail} changes, the
+ * visuals of all content parts are refreshed, so that they can adjust their
+ * visualization to the new {@link LevelOfDetail}. A single listener is
+ * registered for the whole viewer, and the content parts are only refreshed
+ * when a threshold is crossed, i.e. zooming within a {@link LevelOfDetail}
+ * does not cause any refreshes.
+ * <p>
+ * The {@link LevelOfDetailBehavior} does not have any effect if no
+ * {@link LevelOfDetailModel} is bound to the viewer.
+ *
+ * @author agent
+ *
+ */
+public class LevelOfDetailBehavior extends AbstractBehavior {
+
+	// the model that is observed while this behavior is active
+	private LevelOfDetailModel levelOfDetailModel;
+
+	private ChangeListener<Number> zoomObserver = new ChangeListener<Number>() {
+		@Override
+		public void changed(ObservableValue<? extends Number> observable,
+				Number oldValue, Number newValue) {
+			levelOfDetailModel.update(newValue.doubleValue());
+		}
+	};
+
+	private ChangeListener<LevelOfDetail> levelOfDetailObserver = new ChangeListener<LevelOfDetail>() {
+		@Override
+		public void changed(ObservableValue<? extends LevelOfDetail> observable,
+				LevelOfDetail oldValue, LevelOfDetail newValue) {
+			onLevelOfDetailChanged(oldValue, newValue);
+		}
+	};
+
+	@Override
+	protected void doActivate() {
+		levelOfDetailModel = getLevelOfDetailModel();
+		if (levelOfDetailModel == null) {
+			// level of detail rendering is not enabled for the viewer
+			return;
+		}
+		InfiniteCanvas canvas = getCanvas();
+		levelOfDetailModel.update(canvas.getContentTransform().getMxx());
+		levelOfDetailModel.levelOfDetailProperty()
+				.addListener(levelOfDetailObserver);
+		canvas.getContentTransform().mxxProperty().addListener(zoomObserver);
+	}
+
+	@Override
+	protected void doDeactivate() {
+		if (levelOfDetailModel == null) {
+			return;
+		}
+		getCanvas().getContentTransform().mxxProperty()
+				.removeListener(zoomObserver);
+		levelOfDetailModel.levelOfDetailProperty()
+				.removeListener(levelOfDetailObserver);
+		levelOfDetailModel = null;
+	}
+
+	/**
+	 * Returns the {@link InfiniteCanvas} of the {@link #getHost() host's}
+	 * {@link InfiniteCanvasViewer}.
+	 *
+	 * @return The {@link InfiniteCanvas} of the {@link #getHost() host's}
+	 *         {@link InfiniteCanvasViewer}.
+	 */
+	protected InfiniteCanvas getCanvas() {
+		return ((InfiniteCanvasViewer) getHost().getRoot().getViewer())
+				.getCanvas();
+	}
+
+	/**
+	 * Returns the {@link LevelOfDetailModel} that is installed on the viewer
+	 * of the {@link #getHost() host}, or <code>null</code> if no
+	 * {@link LevelOfDetailModel} is installed.
+	 *
+	 * @return The {@link LevelOfDetailModel} that is installed on the viewer
+	 *         of the {@link #getHost() host}, or <code>null</code>.
+	 */
+	protected LevelOfDetailModel getLevelOfDetailModel() {
+		return getHost().getRoot().getViewer()
+				.getAdapter(LevelOfDetailModel.class);
+	}
+
+	/**
+	 * Called when the {@link LevelOfDetail} changes. Refreshes the visuals of
+	 * all content parts of the viewer.
+	 *
+	 * @param oldLevelOfDetail
+	 *            The previous {@link LevelOfDetail}.
+	 * @param newLevelOfDetail
+	 *            The new {@link LevelOfDetail}.
+	 */
+	protected void onLevelOfDetailChanged(LevelOfDetail oldLevelOfDetail,
+			LevelOfDetail newLevelOfDetail) {
+		List<IContentPart<? extends Node>> contentParts = new ArrayList<>(
+				getHost().getRoot().getViewer().getContentPartMap().values());
+		for (IContentPart<? extends Node> contentPart : contentParts) {
+			contentPart.refreshVisual();
+		}
+	}
+
+}
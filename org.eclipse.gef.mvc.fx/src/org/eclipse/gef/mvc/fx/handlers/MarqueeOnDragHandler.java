@@ -13,10 +13,12 @@
 package org.eclipse.gef.mvc.fx.handlers;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -31,10 +33,12 @@ import org.eclipse.gef.mvc.fx.parts.IRootPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.parts.PartUtils;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.SpatialIndex;
 
 import com.google.common.reflect.TypeToken;
 import com.google.inject.Provider;
 
+import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
@@ -219,8 +223,23 @@ public class MarqueeOnDragHandler extends AbstractHandler
 		double[] bbox = bbox(start, end);
 
 		// find nodes contained in bbox
-		List<Node> nodes = findContainedNodes(rootVisual.getScene().getRoot(),
-				bbox[0], bbox[1], bbox[2], bbox[3]);
+		List<Node> nodes;
+		SpatialIndex spatialIndex = root.getViewer()
+				.getAdapter(SpatialIndex.class);
+		if (spatialIndex != null) {
+			// only search the visuals of the parts that intersect the bbox
+			nodes = new ArrayList<>();
+			for (Node visual : getTopmostVisuals(
+					spatialIndex.getContentParts(new BoundingBox(bbox[0],
+							bbox[1], bbox[2] - bbox[0], bbox[3] - bbox[1]),
+							false))) {
+				nodes.addAll(findContainedNodes(visual, bbox[0], bbox[1],
+						bbox[2], bbox[3]));
+			}
+		} else {
+			nodes = findContainedNodes(rootVisual.getScene().getRoot(),
+					bbox[0], bbox[1], bbox[2], bbox[3]);
+		}
 
 		// find content parts for contained nodes
 		List<IContentPart<? extends Node>> parts = getParts(nodes);
@@ -283,6 +302,31 @@ public class MarqueeOnDragHandler extends AbstractHandler
 				: connectedColorProvider.get();
 	}
 
+	/**
+	 * Returns the visuals of the given {@link IContentPart}s, omitting those
+	 * visuals that are descendants of another visual, so that every
+	 * {@link Node} is searched only once.
+	 */
+	private List<Node> getTopmostVisuals(
+			List<IContentPart<? extends Node>> parts) {
+		Set<Node> visuals = new HashSet<>();
+		for (IContentPart<? extends Node> part : parts) {
+			visuals.add(part.getVisual());
+		}
+		List<Node> topmost = new ArrayList<>();
+		for (IContentPart<? extends Node> part : parts) {
+			Node visual = part.getVisual();
+			Node ancestor = visual.getParent();
+			while (ancestor != null && !visuals.contains(ancestor)) {
+				ancestor = ancestor.getParent();
+			}
+			if (ancestor == null) {
+				topmost.add(visual);
+			}
+		}
+		return topmost;
+	}
+
 	@Override
 	public void hideIndicationCursor() {
 	}
@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.models;
+
+import org.eclipse.gef.mvc.fx.behaviors.LevelOfDetailBehavior;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * The {@link LevelOfDetailModel} determines the {@link LevelOfDetail} at which
+ * content parts should render their visuals, dependent on the zoom factor that
+ * is {@link #update(double) reported} by the {@link LevelOfDetailBehavior}. The
+ * detail is reduced as soon as the zoom factor falls below the
+ * {@link #reducedDetailThresholdProperty() reduced detail threshold} or the
+ * {@link #minimalDetailThresholdProperty() minimal detail threshold},
+ * respectively. In order to prevent flickering when zooming around a
+ * threshold, the detail is only increased again when the zoom factor exceeds
+ * the respective threshold by the relative {@link #hysteresisProperty()
+ * hysteresis}.
+ * <p>
+ * The {@link LevelOfDetailModel} and the {@link LevelOfDetailBehavior} are not
+ * bound by default, i.e. content parts are rendered at
+ * {@link LevelOfDetail#FULL full} detail (see
+ * {@link #getLevelOfDetail(IViewer)}) unless level of detail rendering is
+ * enabled by binding both.
+ *
+ * @author agent
+ *
+ */
+public class LevelOfDetailModel {
+
+	/**
+	 * The levels of detail at which content parts can render their visuals.
+	 */
+	public enum LevelOfDetail {
+		/**
+		 * All visual details are rendered.
+		 */
+		FULL,
+
+		/**
+		 * Details that cannot be perceived anyway, such as labels, icons, and
+		 * decorations, are omitted.
+		 */
+		REDUCED,
+
+		/**
+		 * Only simplified visuals, such as filled rectangles and straight
+		 * polylines, are rendered.
+		 */
+		MINIMAL
+	}
+
+	/**
+	 * The default value for {@link #getReducedDetailThreshold()}.
+	 */
+	public static final double REDUCED_DETAIL_THRESHOLD_DEFAULT = 0.5;
+
+	/**
+	 * The default value for {@link #getMinimalDetailThreshold()}.
+	 */
+	public static final double MINIMAL_DETAIL_THRESHOLD_DEFAULT = 0.3;
+
+	/**
+	 * The default value for {@link #getHysteresis()}.
+	 */
+	public static final double HYSTERESIS_DEFAULT = 0.2;
+
+	/**
+	 * Name of the "level of detail" property.
+	 */
+	public static final String LEVEL_OF_DETAIL_PROPERTY = "levelOfDetail";
+
+	/**
+	 * Name of the "reduced detail threshold" property.
+	 */
+	public static final String REDUCED_DETAIL_THRESHOLD_PROPERTY = "reducedDetailThreshold";
+
+	/**
+	 * Name of the "minimal detail threshold" property.
+	 */
+	public static final String MINIMAL_DETAIL_THRESHOLD_PROPERTY = "minimalDetailThreshold";
+
+	/**
+	 * Name of the "hysteresis" property.
+	 */
+	public static final String HYSTERESIS_PROPERTY = "hysteresis";
+
+	private ReadOnlyObjectWrapper<LevelOfDetail> levelOfDetailProperty = new ReadOnlyObjectWrapper<>(
+			this, LEVEL_OF_DETAIL_PROPERTY, LevelOfDetail.FULL);
+	private DoubleProperty reducedDetailThresholdProperty = new SimpleDoubleProperty(
+			this, REDUCED_DETAIL_THRESHOLD_PROPERTY,
+			REDUCED_DETAIL_THRESHOLD_DEFAULT);
+	private DoubleProperty minimalDetailThresholdProperty = new SimpleDoubleProperty(
+			this, MINIMAL_DETAIL_THRESHOLD_PROPERTY,
+			MINIMAL_DETAIL_THRESHOLD_DEFAULT);
+	private DoubleProperty hysteresisProperty = new SimpleDoubleProperty(this,
+			HYSTERESIS_PROPERTY, HYSTERESIS_DEFAULT);
+
+	private double zoomFactor = 1;
+
+	private ChangeListener<Number> configurationObserver = new ChangeListener<Number>() {
+		@Override
+		public void changed(ObservableValue<? extends Number> observable,
+				Number oldValue, Number newValue) {
+			// re-evaluate the current zoom factor using the new configuration
+			update(zoomFactor);
+		}
+	};
+
+	/**
+	 * Returns the {@link LevelOfDetail} at which the content parts of the
+	 * given {@link IViewer} should render their visuals, as determined by the
+	 * {@link LevelOfDetailModel} of the {@link IViewer}. Returns
+	 * {@link LevelOfDetail#FULL} if the given {@link IViewer} is
+	 * <code>null</code> or if no {@link LevelOfDetailModel} is bound.
+	 *
+	 * @param viewer
+	 *            The {@link IViewer} for which to determine the
+	 *            {@link LevelOfDetail}, may be <code>null</code>.
+	 * @return The {@link LevelOfDetail} for the given {@link IViewer}.
+	 */
+	public static LevelOfDetail getLevelOfDetail(IViewer viewer) {
+		LevelOfDetailModel levelOfDetailModel = viewer == null ? null
+				: viewer.getAdapter(LevelOfDetailModel.class);
+		return levelOfDetailModel == null ? LevelOfDetail.FULL
+				: levelOfDetailModel.getLevelOfDetail();
+	}
+
+	/**
+	 * Constructs a new {@link LevelOfDetailModel}.
+	 */
+	public LevelOfDetailModel() {
+		reducedDetailThresholdProperty.addListener(configurationObserver);
+		minimalDetailThresholdProperty.addListener(configurationObserver);
+		hysteresisProperty.addListener(configurationObserver);
+	}
+
+	/**
+	 * Computes the {@link LevelOfDetail} for the given zoom factor, starting
+	 * at the given current {@link LevelOfDetail}. The detail is reduced when
+	 * the zoom factor falls below a threshold, and it is only increased when
+	 * the zoom factor exceeds a threshold by the relative
+	 * {@link #getHysteresis() hysteresis}.
+	 *
+	 * @param zoomFactor
+	 *            The zoom factor for which to compute the
+	 *            {@link LevelOfDetail}.
+	 * @param current
+	 *            The current {@link LevelOfDetail}.
+	 * @return The {@link LevelOfDetail} for the given zoom factor.
+	 */
+	protected LevelOfDetail computeLevelOfDetail(double zoomFactor,
+			LevelOfDetail current) {
+		LevelOfDetail[] levels = LevelOfDetail.values();
+		int level = current.ordinal();
+		// reduce detail while the zoom factor is below the next threshold
+		while (level < levels.length - 1
+				&& zoomFactor < getThreshold(levels[level + 1])) {
+			level++;
+		}
+		// increase detail while the zoom factor is clearly above the threshold
+		double factor = 1 + Math.max(0, getHysteresis());
+		while (level > 0
+				&& zoomFactor >= getThreshold(levels[level]) * factor) {
+			level--;
+		}
+		return levels[level];
+	}
+
+	/**
+	 * Returns the relative amount by which the zoom factor has to exceed a
+	 * threshold before the detail is increased again.
+	 *
+	 * @return The hysteresis.
+	 */
+	public double getHysteresis() {
+		return hysteresisProperty.get();
+	}
+
+	/**
+	 * Returns the current {@link LevelOfDetail}.
+	 *
+	 * @return The current {@link LevelOfDetail}.
+	 */
+	public LevelOfDetail getLevelOfDetail() {
+		return levelOfDetailProperty.get();
+	}
+
+	/**
+	 * Returns the zoom factor below which the detail is reduced to
+	 * {@link LevelOfDetail#MINIMAL}.
+	 *
+	 * @return The minimal detail threshold.
+	 */
+	public double getMinimalDetailThreshold() {
+		return minimalDetailThresholdProperty.get();
+	}
+
+	/**
+	 * Returns the zoom factor below which the detail is reduced to
+	 * {@link LevelOfDetail#REDUCED}.
+	 *
+	 * @return The reduced detail threshold.
+	 */
+	public double getReducedDetailThreshold() {
+		return reducedDetailThresholdProperty.get();
+	}
+
+	private double getThreshold(LevelOfDetail level) {
+		switch (level) {
+		case MINIMAL:
+			return getMinimalDetailThreshold();
+		case REDUCED:
+			return getReducedDetailThreshold();
+		default:
+			return Double.POSITIVE_INFINITY;
+		}
+	}
+
+	/**
+	 * Returns a double property representing the hysteresis.
+	 *
+	 * @return A double property named {@link #HYSTERESIS_PROPERTY}.
+	 */
+	public DoubleProperty hysteresisProperty() {
+		return hysteresisProperty;
+	}
+
+	/**
+	 * Returns a read-only property representing the current
+	 * {@link LevelOfDetail}.
+	 *
+	 * @return A read-only property named {@link #LEVEL_OF_DETAIL_PROPERTY}.
+	 */
+	public ReadOnlyObjectProperty<LevelOfDetail> levelOfDetailProperty() {
+		return levelOfDetailProperty.getReadOnlyProperty();
+	}
+
+	/**
+	 * Returns a double property representing the minimal detail threshold.
+	 *
+	 * @return A double property named
+	 *         {@link #MINIMAL_DETAIL_THRESHOLD_PROPERTY}.
+	 */
+	public DoubleProperty minimalDetailThresholdProperty() {
+		return minimalDetailThresholdProperty;
+	}
+
+	/**
+	 * Returns a double property representing the reduced detail threshold.
+	 *
+	 * @return A double property named
+	 *         {@link #REDUCED_DETAIL_THRESHOLD_PROPERTY}.
+	 */
+	public DoubleProperty reducedDetailThresholdProperty() {
+		return reducedDetailThresholdProperty;
+	}
+
+	/**
+	 * Sets the hysteresis to the given value.
+	 *
+	 * @param hysteresis
+	 *            The new hysteresis.
+	 */
+	public void setHysteresis(double hysteresis) {
+		hysteresisProperty.set(hysteresis);
+	}
+
+	/**
+	 * Sets the minimal detail threshold to the given value.
+	 *
+	 * @param minimalDetailThreshold
+	 *            The new minimal detail threshold.
+	 */
+	public void setMinimalDetailThreshold(double minimalDetailThreshold) {
+		minimalDetailThresholdProperty.set(minimalDetailThreshold);
+	}
+
+	/**
+	 * Sets the reduced detail threshold to the given value.
+	 *
+	 * @param reducedDetailThreshold
+	 *            The new reduced detail threshold.
+	 */
+	public void setReducedDetailThreshold(double reducedDetailThreshold) {
+		reducedDetailThresholdProperty.set(reducedDetailThreshold);
+	}
+
+	/**
+	 * Updates the {@link #getLevelOfDetail() level of detail} for the given
+	 * zoom factor. The {@link #levelOfDetailProperty() level of detail
+	 * property} is only changed when a threshold is crossed, so that zooming
+	 * within a level does not cause any notifications.
+	 *
+	 * @param zoomFactor
+	 *            The current zoom factor.
+	 */
+	public void update(double zoomFactor) {
+		this.zoomFactor = zoomFactor;
+		levelOfDetailProperty
+				.set(computeLevelOfDetail(zoomFactor, getLevelOfDetail()));
+	}
+
+}
@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.viewer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.common.adapt.IAdaptable;
+import org.eclipse.gef.common.dispose.IDisposable;
+import org.eclipse.gef.geometry.internal.utils.UniformGrid;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IRootPart;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.MapChangeListener;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+
+/**
+ * The {@link SpatialIndex} is an {@link IViewer} adapter that maintains a
+ * uniform grid over the bounds of the {@link IContentPart}s of its viewer, so
+ * that the parts within a certain area (or near a certain point) can be
+ * determined without traversing the scene graph or the complete
+ * {@link IViewer#getContentPartMap() content-part-map}.
+ * <p>
+ * The bounds of the parts are kept in the coordinate system of the
+ * {@link IRootPart}'s visual, so that viewport changes (i.e. scrolling and
+ * zooming) do not invalidate the index. Parts are re-indexed lazily (upon the
+ * next query) when the bounds-in-parent of their visual (or of the visual of
+ * one of their ancestor parts) change. All queries expect and return scene
+ * coordinates.
+ *
+ * @author agent
+ *
+ */
+public class SpatialIndex extends IAdaptable.Bound.Impl<IViewer>
+		implements IDisposable {
+
+	/**
+	 * The default size of the grid cells (in the coordinate system of the
+	 * {@link IRootPart}'s visual).
+	 */
+	public static final double DEFAULT_CELL_SIZE = 256;
+
+	// indexed parts and their bounds (minX, minY, maxX, maxY)
+	private UniformGrid<IContentPart<? extends Node>> grid = new UniformGrid<>(
+			DEFAULT_CELL_SIZE);
+	private Set<IContentPart<? extends Node>> dirtyParts = new LinkedHashSet<>();
+	private Map<IContentPart<? extends Node>, ChangeListener<Bounds>> boundsListeners = new IdentityHashMap<>();
+
+	private MapChangeListener<Object, IContentPart<? extends Node>> contentPartMapListener = new MapChangeListener<Object, IContentPart<? extends Node>>() {
+		@Override
+		public void onChanged(
+				MapChangeListener.Change<? extends Object, ? extends IContentPart<? extends Node>> change) {
+			if (change.wasRemoved()) {
+				unregister(change.getValueRemoved());
+			}
+			if (change.wasAdded()) {
+				register(change.getValueAdded());
+			}
+		}
+	};
+
+	private static boolean contains(Bounds outer, Bounds inner) {
+		return inner.getMinX() >= outer.getMinX()
+				&& inner.getMaxX() <= outer.getMaxX()
+				&& inner.getMinY() >= outer.getMinY()
+				&& inner.getMaxY() <= outer.getMaxY();
+	}
+
+	private static double distance(Bounds b, Point2D p) {
+		double dx = Math.max(0,
+				Math.max(b.getMinX() - p.getX(), p.getX() - b.getMaxX()));
+		double dy = Math.max(0,
+				Math.max(b.getMinY() - p.getY(), p.getY() - b.getMaxY()));
+		return Math.sqrt(dx * dx + dy * dy);
+	}
+
+	@Override
+	public void dispose() {
+		// setAdaptable() already clears the index
+	}
+
+	/**
+	 * Returns the size of the grid cells.
+	 *
+	 * @return The size of the grid cells.
+	 */
+	public double getCellSize() {
+		return grid.getCellSize();
+	}
+
+	/**
+	 * Returns all {@link IContentPart}s whose visual's bounds intersect the
+	 * given bounds, or are fully contained within them if
+	 * <i>containedOnly</i> is <code>true</code>.
+	 *
+	 * @param sceneBounds
+	 *            The query {@link Bounds} in scene coordinates.
+	 * @param containedOnly
+	 *            <code>true</code> if only those parts should be returned that
+	 *            are fully contained within the given bounds,
+	 *            <code>false</code> if all intersecting parts should be
+	 *            returned.
+	 * @return A {@link List} of the matching {@link IContentPart}s.
+	 */
+	public List<IContentPart<? extends Node>> getContentParts(
+			Bounds sceneBounds, boolean containedOnly) {
+		Node reference = getReference();
+		if (reference == null) {
+			return Collections.emptyList();
+		}
+		update(reference);
+		Bounds queryBounds = reference.sceneToLocal(sceneBounds);
+		List<IContentPart<? extends Node>> parts = new ArrayList<>();
+		for (IContentPart<? extends Node> part : grid.getCandidates(
+				queryBounds.getMinX(), queryBounds.getMinY(),
+				queryBounds.getMaxX(), queryBounds.getMaxY())) {
+			Bounds partBounds = getSceneBounds(reference, part);
+			if (containedOnly ? contains(sceneBounds, partBounds)
+					: sceneBounds.intersects(partBounds)) {
+				parts.add(part);
+			}
+		}
+		return parts;
+	}
+
+	/**
+	 * Returns all {@link IContentPart}s whose visual's bounds contain the
+	 * given point.
+	 *
+	 * @param scenePoint
+	 *            The query point in scene coordinates.
+	 * @return A {@link List} of the {@link IContentPart}s at the given point.
+	 */
+	public List<IContentPart<? extends Node>> getContentPartsAt(
+			Point2D scenePoint) {
+		return getContentParts(new BoundingBox(scenePoint.getX(),
+				scenePoint.getY(), 0, 0), false);
+	}
+
+	/**
+	 * Returns the {@link IContentPart} whose visual's bounds are nearest to the
+	 * given point, or <code>null</code> if no part is within the given
+	 * maximum distance.
+	 *
+	 * @param scenePoint
+	 *            The query point in scene coordinates.
+	 * @param maxDistance
+	 *            The maximum distance (in scene coordinates) to consider.
+	 * @return The nearest {@link IContentPart}, or <code>null</code>.
+	 */
+	public IContentPart<? extends Node> getNearestContentPart(
+			Point2D scenePoint, double maxDistance) {
+		Node reference = getReference();
+		IContentPart<? extends Node> nearest = null;
+		double nearestDistance = maxDistance;
+		for (IContentPart<? extends Node> part : getContentParts(
+				new BoundingBox(scenePoint.getX() - maxDistance,
+						scenePoint.getY() - maxDistance, 2 * maxDistance,
+						2 * maxDistance),
+				false)) {
+			double d = distance(getSceneBounds(reference, part), scenePoint);
+			if (d <= nearestDistance) {
+				nearest = part;
+				nearestDistance = d;
+			}
+		}
+		return nearest;
+	}
+
+	/**
+	 * Returns the visual of the viewer's {@link IRootPart}, which defines the
+	 * coordinate system of this index, or <code>null</code> if it is not
+	 * available yet.
+	 */
+	private Node getReference() {
+		IViewer viewer = getAdaptable();
+		if (viewer == null || viewer.getRootPart() == null) {
+			return null;
+		}
+		Node reference = viewer.getRootPart().getVisual();
+		return reference.getScene() == null ? null : reference;
+	}
+
+	private Bounds getSceneBounds(Node reference,
+			IContentPart<? extends Node> part) {
+		double[] b = grid.get(part);
+		return reference.localToScene(
+				new BoundingBox(b[0], b[1], b[2] - b[0], b[3] - b[1]));
+	}
+
+	/**
+	 * Marks the given part and all its descendant {@link IContentPart}s for
+	 * re-indexing.
+	 */
+	private void invalidate(IVisualPart<? extends Node> part) {
+		if (part instanceof IContentPart
+				&& boundsListeners.containsKey(part)) {
+			dirtyParts.add((IContentPart<? extends Node>) part);
+		}
+		for (IVisualPart<? extends Node> child : part
+				.getChildrenUnmodifiable()) {
+			invalidate(child);
+		}
+	}
+
+	private void register(final IContentPart<? extends Node> part) {
+		if (boundsListeners.containsKey(part)) {
+			return;
+		}
+		ChangeListener<Bounds> boundsListener = new ChangeListener<Bounds>() {
+			@Override
+			public void changed(ObservableValue<? extends Bounds> observable,
+					Bounds oldValue, Bounds newValue) {
+				invalidate(part);
+			}
+		};
+		boundsListeners.put(part, boundsListener);
+		part.getVisual().boundsInParentProperty().addListener(boundsListener);
+		dirtyParts.add(part);
+	}
+
+	@Override
+	public void setAdaptable(IViewer adaptable) {
+		if (getAdaptable() != null) {
+			getAdaptable().contentPartMapProperty()
+					.removeListener(contentPartMapListener);
+			for (IContentPart<? extends Node> part : new ArrayList<>(
+					boundsListeners.keySet())) {
+				unregister(part);
+			}
+		}
+		super.setAdaptable(adaptable);
+		if (adaptable != null) {
+			adaptable.contentPartMapProperty()
+					.addListener(contentPartMapListener);
+			for (IContentPart<? extends Node> part : adaptable
+					.getContentPartMap().values()) {
+				register(part);
+			}
+		}
+	}
+
+	/**
+	 * Sets the size of the grid cells (in the coordinate system of the
+	 * {@link IRootPart}'s visual). Larger cells result in less cells per
+	 * part, smaller cells result in less candidates per query. Changing the
+	 * cell size re-indexes all parts.
+	 *
+	 * @param cellSize
+	 *            The new cell size, which has to be positive.
+	 */
+	public void setCellSize(double cellSize) {
+		grid = new UniformGrid<>(cellSize);
+		dirtyParts.addAll(boundsListeners.keySet());
+	}
+
+	private void unregister(IContentPart<? extends Node> part) {
+		ChangeListener<Bounds> boundsListener = boundsListeners.remove(part);
+		if (boundsListener != null) {
+			part.getVisual().boundsInParentProperty()
+					.removeListener(boundsListener);
+		}
+		grid.remove(part);
+		dirtyParts.remove(part);
+	}
+
+	/**
+	 * Re-indexes all parts that were marked dirty. Parts whose visuals are not
+	 * (yet) part of the scene remain dirty.
+	 */
+	private void update(Node reference) {
+		if (dirtyParts.isEmpty()) {
+			return;
+		}
+		List<IContentPart<? extends Node>> detached = new ArrayList<>();
+		for (IContentPart<? extends Node> part : dirtyParts) {
+			grid.remove(part);
+			Node visual = part.getVisual();
+			if (visual.getScene() != reference.getScene()) {
+				detached.add(part);
+				continue;
+			}
+			Bounds b = reference.sceneToLocal(
+					visual.localToScene(visual.getBoundsInLocal()));
+			grid.put(part, new double[] { b.getMinX(), b.getMinY(),
+					b.getMaxX(), b.getMaxY() });
+		}
+		dirtyParts.clear();
+		dirtyParts.addAll(detached);
+	}
+
+}
@@ -0,0 +1,508 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.viewer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.common.adapt.IAdaptable;
+import org.eclipse.gef.common.dispose.IDisposable;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.geometry.internal.utils.UniformGrid;
+import org.eclipse.gef.mvc.fx.behaviors.ContentBehavior;
+import org.eclipse.gef.mvc.fx.behaviors.ContentPartPool;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IRootPart;
+import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+/**
+ * The {@link ViewportVirtualizer} is an {@link InfiniteCanvasViewer} adapter
+ * that enables viewport virtualization: {@link IContentPart}s (and their
+ * visuals) are only created for those content elements whose (model) bounds
+ * intersect the viewport of the {@link InfiniteCanvas}, expanded by a margin.
+ * The {@link ContentBehavior} consults the {@link ViewportVirtualizer} when
+ * synchronizing content part children, so that content elements outside of
+ * the expanded viewport remain plain model objects. Parts that leave the
+ * expanded viewport are removed from the viewer and put into the
+ * {@link ContentPartPool}, from which they are revived when their content
+ * elements enter the expanded viewport again (the capacity of the pool can be
+ * limited, see {@link ContentPartPool#setCapacity(int)}).
+ * <p>
+ * The (model) bounds of the content elements are provided by
+ * {@link #getContentBounds(Object)}, in the coordinate system of the
+ * {@link IRootPart}'s visual, and are kept in a uniform grid, so that the
+ * content elements that enter or leave the expanded viewport can be determined
+ * without iterating all content elements. The expanded viewport is only
+ * re-computed when the viewport leaves it (or when zooming in significantly),
+ * so that small viewport changes do not lead to any synchronization. Content
+ * elements without bounds, as well as content elements that serve as
+ * anchorages for materialized parts (see {@link #pin(Object)}), are always
+ * materialized. When the bounds of content elements change (e.g. because of a
+ * layout), {@link #refresh()} has to be called.
+ * <p>
+ * The {@link ViewportVirtualizer} is not bound by default. To enable viewport
+ * virtualization, a concrete subclass has to be bound as an adapter of the
+ * content viewer.
+ *
+ * @author agent
+ *
+ */
+public abstract class ViewportVirtualizer
+		extends IAdaptable.Bound.Impl<IViewer> implements IDisposable {
+
+	/**
+	 * The default margin by which the viewport is expanded on each side,
+	 * relative to the viewport size.
+	 */
+	public static final double DEFAULT_MARGIN = 0.5;
+
+	/**
+	 * The size of the grid cells (in the coordinate system of the
+	 * {@link IRootPart}'s visual).
+	 */
+	private static final double CELL_SIZE = 256;
+
+	private double margin = DEFAULT_MARGIN;
+
+	// expanded viewport (minX, minY, maxX, maxY), or null if empty
+	private double[] region;
+	private InfiniteCanvas canvas;
+	private Node reference;
+
+	// registered contents, their parents, bounds, and pin counts
+	private Map<Object, IVisualPart<? extends Node>> parents = new HashMap<>();
+	private Map<IVisualPart<? extends Node>, Set<Object>> children = new IdentityHashMap<>();
+	private UniformGrid<Object> grid = new UniformGrid<>(CELL_SIZE);
+	private Map<Object, Integer> pins = new HashMap<>();
+
+	private Set<IVisualPart<? extends Node>> dirtyParents = new LinkedHashSet<>();
+	private ReadOnlyBooleanWrapper dirtyProperty = new ReadOnlyBooleanWrapper(
+			false);
+
+	private ChangeListener<Object> viewportListener = new ChangeListener<Object>() {
+		@Override
+		public void changed(ObservableValue<? extends Object> observable,
+				Object oldValue, Object newValue) {
+			updateRegion(false);
+		}
+	};
+
+	private static boolean intersects(double[] r, double[] b) {
+		return r != null && UniformGrid.intersects(b, r[0], r[1], r[2], r[3]);
+	}
+
+	/**
+	 * Computes the viewport of the {@link InfiniteCanvas} in the coordinate
+	 * system of the {@link IRootPart}'s visual, or returns <code>null</code>
+	 * if the viewport is empty.
+	 */
+	private double[] computeViewport() {
+		Bounds viewport = canvas.getLayoutBounds();
+		if (viewport.getWidth() <= 0 || viewport.getHeight() <= 0) {
+			return null;
+		}
+		Bounds b = reference.sceneToLocal(canvas.localToScene(viewport));
+		return new double[] { b.getMinX(), b.getMinY(), b.getMaxX(),
+				b.getMaxY() };
+	}
+
+	@Override
+	public void dispose() {
+		// setAdaptable() already clears the registered contents
+	}
+
+	/**
+	 * Returns a {@link ReadOnlyBooleanProperty} that indicates whether the
+	 * materialization of some registered content elements changed, so that
+	 * the content part children of their parents need to be synchronized (see
+	 * {@link #pollDirtyParent()}).
+	 *
+	 * @return A {@link ReadOnlyBooleanProperty} that indicates whether parents
+	 *         need to be synchronized.
+	 */
+	public ReadOnlyBooleanProperty dirtyProperty() {
+		return dirtyProperty.getReadOnlyProperty();
+	}
+
+	/**
+	 * Removes the given content element from this {@link ViewportVirtualizer}
+	 * (but does not reset its pin count).
+	 */
+	private void forget(Object content) {
+		parents.remove(content);
+		grid.remove(content);
+	}
+
+	/**
+	 * Returns the (model) bounds of the given content element in the
+	 * coordinate system of the {@link IRootPart}'s visual, or
+	 * <code>null</code> if the bounds are unknown, in which case the content
+	 * element is always materialized.
+	 *
+	 * @param content
+	 *            The content element for which to return the bounds.
+	 * @return The bounds of the given content element, or <code>null</code>.
+	 */
+	protected abstract Bounds getContentBounds(Object content);
+
+	/**
+	 * Returns the margin by which the viewport is expanded on each side,
+	 * relative to the viewport size.
+	 *
+	 * @return The margin by which the viewport is expanded.
+	 */
+	public double getMargin() {
+		return margin;
+	}
+
+	/**
+	 * Returns the parent {@link IVisualPart} for whose content part children
+	 * the given content element was registered, or <code>null</code> if the
+	 * content element is not registered.
+	 *
+	 * @param content
+	 *            The content element for which to return the parent.
+	 * @return The parent {@link IVisualPart} of the given content element, or
+	 *         <code>null</code>.
+	 */
+	public IVisualPart<? extends Node> getParent(Object content) {
+		return parents.get(content);
+	}
+
+	/**
+	 * Returns whether the materialization of some registered content elements
+	 * changed, so that the content part children of their parents need to be
+	 * synchronized.
+	 *
+	 * @return <code>true</code> if parents need to be synchronized,
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isDirty() {
+		return dirtyProperty.get();
+	}
+
+	/**
+	 * Returns <code>true</code> if an {@link IContentPart} should be created
+	 * for the given content element, i.e. if its bounds are unknown or
+	 * intersect the expanded viewport, or if it is pinned. Otherwise returns
+	 * <code>false</code>.
+	 *
+	 * @param content
+	 *            The content element to test.
+	 * @return <code>true</code> if the given content element is to be
+	 *         materialized, <code>false</code> otherwise.
+	 */
+	public boolean isMaterialized(Object content) {
+		double[] b = grid.get(content);
+		return b == null || intersects(region, b) || pins.containsKey(content);
+	}
+
+	private void markDirty(IVisualPart<? extends Node> parent) {
+		if (parent != null) {
+			dirtyParents.add(parent);
+			dirtyProperty.set(true);
+		}
+	}
+
+	/**
+	 * Pins the given content element, so that it is materialized independent
+	 * of its bounds, until it is {@link #unpin(Object) unpinned} equally
+	 * often. Returns <code>true</code> if the content element was registered
+	 * but not materialized before, so that the content part children of its
+	 * {@link #getParent(Object) parent} need to be synchronized immediately.
+	 *
+	 * @param content
+	 *            The content element to pin.
+	 * @return <code>true</code> if the content element was not materialized
+	 *         before, <code>false</code> otherwise.
+	 */
+	public boolean pin(Object content) {
+		boolean materialized = !parents.containsKey(content)
+				|| isMaterialized(content);
+		Integer count = pins.get(content);
+		pins.put(content, count == null ? 1 : count + 1);
+		return !materialized;
+	}
+
+	/**
+	 * Removes and returns the next parent {@link IVisualPart} whose content
+	 * part children need to be synchronized, or returns <code>null</code> if
+	 * no parent needs to be synchronized.
+	 *
+	 * @return The next parent {@link IVisualPart} that needs to be
+	 *         synchronized, or <code>null</code>.
+	 */
+	public IVisualPart<? extends Node> pollDirtyParent() {
+		Iterator<IVisualPart<? extends Node>> iterator = dirtyParents
+				.iterator();
+		if (!iterator.hasNext()) {
+			dirtyProperty.set(false);
+			return null;
+		}
+		IVisualPart<? extends Node> parent = iterator.next();
+		iterator.remove();
+		return parent;
+	}
+
+	/**
+	 * Re-evaluates the bounds of all registered content elements (see
+	 * {@link #getContentBounds(Object)}) and the expanded viewport. Parents of
+	 * content elements whose materialization changed are marked dirty.
+	 */
+	public void refresh() {
+		for (Object content : new ArrayList<>(parents.keySet())) {
+			boolean materialized = isMaterialized(content);
+			updateBounds(content);
+			if (materialized != isMaterialized(content)) {
+				markDirty(parents.get(content));
+			}
+		}
+		updateRegion(false);
+	}
+
+	/**
+	 * Unregisters all content elements that were registered as content
+	 * children of the given parent, which is called when the parent is
+	 * removed from the viewer.
+	 *
+	 * @param parent
+	 *            The parent {@link IVisualPart} that was removed.
+	 */
+	public void removeContents(IVisualPart<? extends Node> parent) {
+		Set<Object> contents = children.remove(parent);
+		if (contents != null) {
+			for (Object content : contents) {
+				if (parents.get(content) == parent) {
+					forget(content);
+				}
+			}
+		}
+		dirtyParents.remove(parent);
+	}
+
+	@Override
+	public void setAdaptable(IViewer adaptable) {
+		if (getAdaptable() != null) {
+			stopObserving();
+			parents.clear();
+			children.clear();
+			grid.clear();
+			pins.clear();
+			dirtyParents.clear();
+			dirtyProperty.set(false);
+		}
+		if (adaptable != null && !(adaptable instanceof InfiniteCanvasViewer)) {
+			throw new IllegalArgumentException(
+					"The ViewportVirtualizer can only be bound to an InfiniteCanvasViewer.");
+		}
+		super.setAdaptable(adaptable);
+	}
+
+	/**
+	 * Sets the margin by which the viewport is expanded on each side,
+	 * relative to the viewport size. A larger margin results in less
+	 * synchronizations when scrolling, a smaller margin results in less
+	 * materialized parts.
+	 *
+	 * @param margin
+	 *            The new margin, which may not be negative.
+	 */
+	public void setMargin(double margin) {
+		if (margin < 0) {
+			throw new IllegalArgumentException(
+					"The margin may not be negative, but is " + margin + ".");
+		}
+		this.margin = margin;
+		if (canvas != null) {
+			updateRegion(true);
+		}
+	}
+
+	private void stopObserving() {
+		if (canvas != null) {
+			canvas.layoutBoundsProperty().removeListener(viewportListener);
+			reference.localToSceneTransformProperty()
+					.removeListener(viewportListener);
+			canvas = null;
+			reference = null;
+		}
+		region = null;
+	}
+
+	/**
+	 * Unpins the given content element (see {@link #pin(Object)}). If the
+	 * content element is not to be materialized anymore, its parent is marked
+	 * dirty.
+	 *
+	 * @param content
+	 *            The content element to unpin.
+	 */
+	public void unpin(Object content) {
+		Integer count = pins.get(content);
+		if (count == null) {
+			return;
+		}
+		if (count > 1) {
+			pins.put(content, count - 1);
+			return;
+		}
+		pins.remove(content);
+		if (parents.containsKey(content) && !isMaterialized(content)) {
+			markDirty(parents.get(content));
+		}
+	}
+
+	/**
+	 * Re-evaluates the bounds of the given content element and updates the
+	 * grid accordingly.
+	 */
+	private void updateBounds(Object content) {
+		Bounds contentBounds = getContentBounds(content);
+		double[] oldBounds = grid.get(content);
+		if (contentBounds == null) {
+			if (oldBounds != null) {
+				grid.remove(content);
+			}
+			return;
+		}
+		double[] newBounds = new double[] { contentBounds.getMinX(),
+				contentBounds.getMinY(), contentBounds.getMaxX(),
+				contentBounds.getMaxY() };
+		if (oldBounds != null && oldBounds[0] == newBounds[0]
+				&& oldBounds[1] == newBounds[1] && oldBounds[2] == newBounds[2]
+				&& oldBounds[3] == newBounds[3]) {
+			return;
+		}
+		grid.put(content, newBounds);
+	}
+
+	/**
+	 * Registers the given content children for the given parent and returns
+	 * those content children that are to be materialized (see
+	 * {@link #isMaterialized(Object)}), preserving their order. Content
+	 * elements that were registered for the given parent before, but are not
+	 * contained in the given content children, are unregistered.
+	 *
+	 * @param parent
+	 *            The parent {@link IVisualPart} whose content part children
+	 *            are synchronized.
+	 * @param contentChildren
+	 *            The content children of the given parent.
+	 * @return A {@link List} containing the content children that are to be
+	 *         materialized.
+	 */
+	public List<Object> updateContents(IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren) {
+		if (canvas == null) {
+			canvas = ((InfiniteCanvasViewer) getAdaptable()).getCanvas();
+			reference = getAdaptable().getRootPart().getVisual();
+			canvas.layoutBoundsProperty().addListener(viewportListener);
+			reference.localToSceneTransformProperty()
+					.addListener(viewportListener);
+			updateRegion(true);
+		}
+		Set<Object> oldContents = children.get(parent);
+		Set<Object> newContents = new HashSet<>(contentChildren);
+		if (oldContents != null) {
+			for (Object content : oldContents) {
+				if (!newContents.contains(content)
+						&& parents.get(content) == parent) {
+					forget(content);
+				}
+			}
+		}
+		if (newContents.isEmpty()) {
+			children.remove(parent);
+		} else {
+			children.put(parent, newContents);
+		}
+		List<Object> materialized = new ArrayList<>();
+		for (Object content : contentChildren) {
+			parents.put(content, parent);
+			updateBounds(content);
+			if (isMaterialized(content)) {
+				materialized.add(content);
+			}
+		}
+		return materialized;
+	}
+
+	/**
+	 * Re-computes the expanded viewport, unless the current one still covers
+	 * the viewport (and <i>force</i> is <code>false</code>), and marks the
+	 * parents of all content elements dirty whose materialization changed.
+	 */
+	private void updateRegion(boolean force) {
+		double[] oldRegion = region;
+		double[] viewport = computeViewport();
+		if (viewport == null) {
+			region = null;
+			if (oldRegion != null) {
+				invalidate(oldRegion);
+			}
+			return;
+		}
+		double width = viewport[2] - viewport[0];
+		double height = viewport[3] - viewport[1];
+		if (!force && region != null && viewport[0] >= region[0]
+				&& viewport[1] >= region[1] && viewport[2] <= region[2]
+				&& viewport[3] <= region[3]
+				&& 2 * (1 + 2 * margin) * width >= region[2] - region[0]
+				&& 2 * (1 + 2 * margin) * height >= region[3] - region[1]) {
+			// the viewport is still covered, and did not shrink significantly
+			return;
+		}
+		region = new double[] { viewport[0] - margin * width,
+				viewport[1] - margin * height, viewport[2] + margin * width,
+				viewport[3] + margin * height };
+		invalidate(oldRegion);
+	}
+
+	/**
+	 * Marks the parents of all content elements dirty whose materialization
+	 * changed because of the transition from the given old expanded viewport
+	 * to the current one.
+	 */
+	private void invalidate(double[] oldRegion) {
+		Set<Object> candidates = new HashSet<>();
+		if (oldRegion != null) {
+			candidates.addAll(grid.getCandidates(oldRegion[0], oldRegion[1],
+					oldRegion[2], oldRegion[3]));
+		}
+		if (region != null) {
+			candidates.addAll(grid.getCandidates(region[0], region[1],
+					region[2], region[3]));
+		}
+		for (Object content : candidates) {
+			double[] b = grid.get(content);
+			if (!pins.containsKey(content)
+					&& intersects(oldRegion, b) != intersects(region, b)) {
+				markDirty(parents.get(content));
+			}
+		}
+	}
+
+}
@@ -20,7 +20,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ AbstractVisualPartTests.class, BendableTests.class, ContentSynchronizationTests.class,
 		FocusTraversalPolicyTests.class, SelectionModelTests.class, AbstractHandlePartTests.class,
 		BendConnectionPolicyTests.class, ClickDragGestureTests.class, TypeStrokeGestureTests.class, TransformPolicyTests.class,
-		FocusTraversalPolicyTests.class, ResizePolicyTests.class })
+		FocusTraversalPolicyTests.class, ResizePolicyTests.class, ViewportVirtualizerTests.class,
+		LevelOfDetailModelTests.class, SpatialIndexTests.class })
 public class AllTests {
 
 }
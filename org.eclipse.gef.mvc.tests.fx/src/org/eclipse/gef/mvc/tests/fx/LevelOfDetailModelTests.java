@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel.LevelOfDetail;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPartFactory;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.multibindings.MapBinder;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Tests for the {@link LevelOfDetailModel}.
+ *
+ * @author agent
+ *
+ */
+public class LevelOfDetailModelTests {
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	/**
+	 * Tests that level of detail rendering is not enabled by default, and that
+	 * the LevelOfDetailBehavior can be activated without a
+	 * {@link LevelOfDetailModel}.
+	 */
+	@Test
+	public void disabledByDefault() throws Throwable {
+		assertEquals(LevelOfDetail.FULL, LevelOfDetailModel.getLevelOfDetail(null));
+
+		IDomain domain = Guice.createInjector(new MvcFxModule() {
+			@Override
+			protected void bindIRootPartAdaptersForContentViewer(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+				super.bindIRootPartAdaptersForContentViewer(adapterMapBinder);
+				// bind the behavior, but not the model
+				bindLevelOfDetailBehaviorAsIRootPartAdapter(adapterMapBinder);
+			}
+
+			@Override
+			protected void configure() {
+				binder().bind(IContentPartFactory.class).to(CellContentPartFactory.class);
+				super.configure();
+			}
+		}).getInstance(IDomain.class);
+		InfiniteCanvasViewer viewer = (InfiniteCanvasViewer) domain
+				.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		assertNull(viewer.getAdapter(LevelOfDetailModel.class));
+
+		ctx.createScene(viewer.getCanvas(), 100, 100);
+		ctx.runAndWait(() -> {
+			domain.activate();
+		});
+		assertEquals(LevelOfDetail.FULL, LevelOfDetailModel.getLevelOfDetail(viewer));
+		ctx.runAndWait(() -> {
+			domain.deactivate();
+		});
+	}
+
+	/**
+	 * Tests that the level of detail is reduced below the thresholds, and that
+	 * it is only increased again when a threshold is exceeded by the
+	 * hysteresis.
+	 */
+	@Test
+	public void hysteresis() {
+		LevelOfDetailModel model = new LevelOfDetailModel();
+		model.setReducedDetailThreshold(0.5);
+		model.setMinimalDetailThreshold(0.3);
+		model.setHysteresis(0.2);
+		assertEquals(LevelOfDetail.FULL, model.getLevelOfDetail());
+
+		model.update(0.49);
+		assertEquals(LevelOfDetail.REDUCED, model.getLevelOfDetail());
+		model.update(0.29);
+		assertEquals(LevelOfDetail.MINIMAL, model.getLevelOfDetail());
+
+		// within the hysteresis, the detail is not increased
+		model.update(0.35);
+		assertEquals(LevelOfDetail.MINIMAL, model.getLevelOfDetail());
+		model.update(0.36);
+		assertEquals(LevelOfDetail.REDUCED, model.getLevelOfDetail());
+		model.update(0.59);
+		assertEquals(LevelOfDetail.REDUCED, model.getLevelOfDetail());
+		model.update(0.6);
+		assertEquals(LevelOfDetail.FULL, model.getLevelOfDetail());
+
+		// large zoom changes can skip levels
+		model.update(0.1);
+		assertEquals(LevelOfDetail.MINIMAL, model.getLevelOfDetail());
+		model.update(1);
+		assertEquals(LevelOfDetail.FULL, model.getLevelOfDetail());
+	}
+
+	/**
+	 * Tests that changes are only reported when a threshold is crossed, and
+	 * that configuration changes are applied to the last zoom factor.
+	 */
+	@Test
+	public void notifications() {
+		LevelOfDetailModel model = new LevelOfDetailModel();
+		final List<LevelOfDetail> changes = new ArrayList<>();
+		model.levelOfDetailProperty().addListener(new ChangeListener<LevelOfDetail>() {
+			@Override
+			public void changed(ObservableValue<? extends LevelOfDetail> observable, LevelOfDetail oldValue,
+					LevelOfDetail newValue) {
+				changes.add(newValue);
+			}
+		});
+		for (double zoom = 1; zoom > 0.4; zoom -= 0.01) {
+			model.update(zoom);
+		}
+		assertEquals(1, changes.size());
+		assertEquals(LevelOfDetail.REDUCED, changes.get(0));
+
+		// lowering the threshold re-evaluates the current zoom factor
+		model.setReducedDetailThreshold(0.2);
+		model.setMinimalDetailThreshold(0.1);
+		assertEquals(2, changes.size());
+		assertEquals(LevelOfDetail.FULL, model.getLevelOfDetail());
+	}
+
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.mvc.fx.viewer.SpatialIndex;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPartFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Tests for the {@link SpatialIndex}.
+ *
+ * @author agent
+ *
+ */
+public class SpatialIndexTests {
+
+	private static IDomain domain;
+	private static InfiniteCanvasViewer viewer;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private Cell c0 = new Cell("C0");
+	private Cell c1 = new Cell("C1");
+	private Cell c2 = new Cell("C2");
+
+	@Before
+	public void activate() throws Throwable {
+		if (domain == null) {
+			domain = Guice.createInjector(new MvcFxModule() {
+				@Override
+				protected void configure() {
+					binder().bind(IContentPartFactory.class).to(CellContentPartFactory.class);
+					super.configure();
+				}
+			}).getInstance(IDomain.class);
+			viewer = (InfiniteCanvasViewer) domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+			ctx.createScene(viewer.getCanvas(), 400, 400);
+		}
+		ctx.runAndWait(() -> {
+			domain.activate();
+			viewer.getContents().setAll(c0, c1, c2);
+			setBounds(c0, 0, 0, 50, 50);
+			setBounds(c1, 100, 0, 50, 50);
+			setBounds(c2, 1000, 1000, 50, 50);
+		});
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	private IContentPart<? extends Node> getPart(Cell cell) {
+		return viewer.getContentPartMap().get(cell);
+	}
+
+	/**
+	 * Returns the {@link SpatialIndex#getContentParts(Bounds, boolean) parts}
+	 * within the given bounds, which are specified in the coordinate system of
+	 * the content layer.
+	 */
+	private List<IContentPart<? extends Node>> query(double x, double y, double w, double h, boolean containedOnly)
+			throws Throwable {
+		return ctx.runAndWait(() -> {
+			Node layer = getPart(c0).getVisual().getParent();
+			return viewer.getAdapter(SpatialIndex.class)
+					.getContentParts(layer.localToScene(new BoundingBox(x, y, w, h)), containedOnly);
+		});
+	}
+
+	private void setBounds(Cell cell, double x, double y, double w, double h) {
+		Rectangle visual = (Rectangle) getPart(cell).getVisual();
+		visual.setX(x);
+		visual.setY(y);
+		visual.setWidth(w);
+		visual.setHeight(h);
+	}
+
+	@Test
+	public void containedOnly() throws Throwable {
+		assertEquals(Arrays.asList(getPart(c0)), query(-10, -10, 70, 70, true));
+		// c1 is only partially covered
+		assertEquals(Arrays.asList(getPart(c0)), query(-10, -10, 120, 70, true));
+		assertEquals(new HashSet<>(Arrays.asList(getPart(c0), getPart(c1))),
+				new HashSet<>(query(-10, -10, 120, 70, false)));
+	}
+
+	@Test
+	public void insert() throws Throwable {
+		Cell c3 = new Cell("C3");
+		ctx.runAndWait(() -> {
+			viewer.getContents().add(c3);
+			setBounds(c3, 500, 500, 50, 50);
+		});
+		assertEquals(Arrays.asList(getPart(c3)), query(490, 490, 20, 20, false));
+		assertEquals(Arrays.asList(getPart(c2)), query(990, 990, 20, 20, false));
+	}
+
+	@Test
+	public void move() throws Throwable {
+		assertEquals(Arrays.asList(getPart(c0)), query(0, 0, 10, 10, false));
+		ctx.runAndWait(() -> {
+			setBounds(c0, 600, 600, 50, 50);
+		});
+		assertEquals(Collections.emptyList(), query(0, 0, 10, 10, false));
+		assertEquals(Arrays.asList(getPart(c0)), query(590, 590, 20, 20, false));
+
+		// moving the layer does not affect the scene-relative queries
+		ctx.runAndWait(() -> {
+			viewer.getCanvas().setHorizontalScrollOffset(-100);
+		});
+		try {
+			assertEquals(Arrays.asList(getPart(c0)), query(590, 590, 20, 20, false));
+		} finally {
+			ctx.runAndWait(() -> {
+				viewer.getCanvas().setHorizontalScrollOffset(0);
+			});
+		}
+	}
+
+	@Test
+	public void nearest() throws Throwable {
+		SpatialIndex index = viewer.getAdapter(SpatialIndex.class);
+		IContentPart<? extends Node> nearest = ctx.runAndWait(() -> {
+			Node layer = getPart(c0).getVisual().getParent();
+			return index.getNearestContentPart(layer.localToScene(new Point2D(90, 25)), 50);
+		});
+		assertSame(getPart(c1), nearest);
+		IContentPart<? extends Node> none = ctx.runAndWait(() -> {
+			Node layer = getPart(c0).getVisual().getParent();
+			return index.getNearestContentPart(layer.localToScene(new Point2D(500, 25)), 50);
+		});
+		assertNull(none);
+	}
+
+	@Test
+	public void remove() throws Throwable {
+		IContentPart<? extends Node> p1 = getPart(c1);
+		assertEquals(Arrays.asList(p1), query(90, 0, 20, 20, false));
+		ctx.runAndWait(() -> {
+			viewer.getContents().remove(c1);
+		});
+		assertEquals(Collections.emptyList(), query(90, 0, 20, 20, false));
+	}
+
+}
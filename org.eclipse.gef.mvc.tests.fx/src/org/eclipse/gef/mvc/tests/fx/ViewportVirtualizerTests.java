@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.mvc.fx.MvcFxModule;
+import org.eclipse.gef.mvc.fx.behaviors.ContentPartPool;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IContentPartFactory;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.mvc.fx.viewer.ViewportVirtualizer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.stubs.Cell;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPart;
+import org.eclipse.gef.mvc.tests.fx.stubs.CellContentPartFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.multibindings.MapBinder;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+/**
+ * Tests for the {@link ViewportVirtualizer}.
+ *
+ * @author agent
+ *
+ */
+public class ViewportVirtualizerTests {
+
+	/**
+	 * Places the cell "C<i>" at (100 * i + 10, 10), with a size of 50 x 50.
+	 */
+	public static class CellViewportVirtualizer extends ViewportVirtualizer {
+		public CellViewportVirtualizer() {
+			setMargin(0);
+		}
+
+		@Override
+		protected Bounds getContentBounds(Object content) {
+			int index = Integer.parseInt(((Cell) content).name.substring(1));
+			return new BoundingBox(100 * index + 10, 10, 50, 50);
+		}
+	}
+
+	private static IDomain domain;
+	private static InfiniteCanvasViewer viewer;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	@Before
+	public void activate() throws Throwable {
+		if (domain == null) {
+			domain = Guice.createInjector(new MvcFxModule() {
+
+				@Override
+				protected void bindIViewerAdaptersForContentViewer(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+					super.bindIViewerAdaptersForContentViewer(adapterMapBinder);
+					adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(CellViewportVirtualizer.class);
+				}
+
+				@Override
+				protected void configure() {
+					binder().bind(IContentPartFactory.class).to(CellContentPartFactory.class);
+					super.configure();
+				}
+			}).getInstance(IDomain.class);
+			viewer = (InfiniteCanvasViewer) domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+			ctx.createScene(viewer.getCanvas(), 100, 100);
+		}
+		ctx.runAndWait(() -> {
+			viewer.getCanvas().resize(100, 100);
+			domain.activate();
+		});
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			viewer.getCanvas().setHorizontalScrollOffset(0);
+			domain.deactivate();
+		});
+	}
+
+	/**
+	 * Tests that parts are only created for the cells within the viewport, and
+	 * that parts are pooled and revived when scrolling.
+	 */
+	@Test
+	public void partsAreMaterializedWithinViewport() throws Throwable {
+		List<Cell> contents = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			contents.add(new Cell("C" + i));
+		}
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(contents);
+		});
+		assertEquals(1, contentPartMap.size());
+		IContentPart<? extends Node> firstPart = contentPartMap.get(contents.get(0));
+		assertNotNull(firstPart);
+
+		// scroll to the 11th cell
+		ctx.runAndWait(() -> {
+			viewer.getCanvas().setHorizontalScrollOffset(-1000);
+		});
+		assertEquals(1, contentPartMap.size());
+		assertNull(contentPartMap.get(contents.get(0)));
+		assertNotNull(contentPartMap.get(contents.get(10)));
+		assertTrue(viewer.getAdapter(ContentPartPool.class).getPooled().contains(firstPart));
+
+		// scroll back, so that the pooled part is revived
+		ctx.runAndWait(() -> {
+			viewer.getCanvas().setHorizontalScrollOffset(0);
+		});
+		assertEquals(1, contentPartMap.size());
+		assertSame(firstPart, contentPartMap.get(contents.get(0)));
+	}
+
+	/**
+	 * Tests that parts are reset before they are pooled, so that they can be
+	 * evicted right away if the pool does not have any capacity.
+	 */
+	@Test
+	public void partsAreResetBeforeEviction() throws Throwable {
+		List<Cell> contents = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			contents.add(new Cell("C" + i));
+		}
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+		ContentPartPool pool = viewer.getAdapter(ContentPartPool.class);
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(contents);
+		});
+		IContentPart<? extends Node> firstPart = contentPartMap.get(contents.get(0));
+		assertNotNull(firstPart);
+
+		try {
+			ctx.runAndWait(() -> {
+				pool.setCapacity(0);
+				viewer.getCanvas().setHorizontalScrollOffset(-1000);
+			});
+			assertTrue(pool.getPooled().isEmpty());
+			assertNull(firstPart.getContent());
+
+			// scroll back, so that a new part is created
+			ctx.runAndWait(() -> {
+				viewer.getCanvas().setHorizontalScrollOffset(0);
+			});
+			IContentPart<? extends Node> newPart = contentPartMap.get(contents.get(0));
+			assertNotNull(newPart);
+			assertNotSame(firstPart, newPart);
+		} finally {
+			pool.setCapacity(Integer.MAX_VALUE);
+		}
+	}
+
+	/**
+	 * Tests that re-pooling a part for the same content element makes it the
+	 * most recently pooled one.
+	 */
+	@Test
+	public void repooledPartsAreMostRecent() {
+		ContentPartPool pool = new ContentPartPool();
+		Cell c0 = new Cell("C0");
+		Cell c1 = new Cell("C1");
+		CellContentPart p0 = new CellContentPart();
+		CellContentPart p1 = new CellContentPart();
+		pool.add(c0, p0);
+		pool.add(c1, p1);
+		pool.add(c0, p0);
+		// the least recently pooled part (for C1) is evicted
+		pool.setCapacity(1);
+		assertEquals(1, pool.getPooled().size());
+		assertNull(pool.remove(c1));
+		assertSame(p0, pool.remove(c0));
+	}
+}
@@ -12,10 +12,22 @@
  *******************************************************************************/
 package org.eclipse.gef.zest.fx.behaviors;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.graph.Graph;
@@ -23,6 +35,7 @@ import org.eclipse.gef.layout.ILayoutAlgorithm;
 import org.eclipse.gef.layout.ILayoutFilter;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.parts.PartUtils;
@@ -35,6 +48,8 @@ import org.eclipse.gef.zest.fx.models.NavigationModel.ViewportState;
 import org.eclipse.gef.zest.fx.parts.GraphPart;
 import org.eclipse.gef.zest.fx.parts.NodePart;
 
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
@@ -53,6 +68,110 @@ import javafx.scene.Parent;
 // only applicable for GraphPart (see #getHost())
 public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 
+	/**
+	 * The default time budget (in milliseconds) for the iterations that are
+	 * performed per pulse during a progressive layout pass.
+	 */
+	public static final long DEFAULT_PROGRESSIVE_TIME_BUDGET = 8;
+
+	/**
+	 * The default maximum (normalized) node displacement (see
+	 * {@link SpringLayoutAlgorithm#getMaxDisplacement()}) below which a
+	 * progressive layout pass is finished. A node that is displaced by this
+	 * value moves by 0.1% of the layout bounds.
+	 */
+	public static final double DEFAULT_PROGRESSIVE_CONVERGENCE_THRESHOLD = 0.005;
+
+	/**
+	 * A copy of the layout-relevant nodes and edges of a {@link LayoutContext},
+	 * against which an {@link ILayoutAlgorithm} can be executed on a worker
+	 * thread. Locations and sizes computed for the copy can afterwards be
+	 * transferred to the original nodes.
+	 */
+	private static class AsyncLayoutCopy {
+
+		private final Map<org.eclipse.gef.graph.Node, org.eclipse.gef.graph.Node> copies = new IdentityHashMap<>();
+		private final LayoutContext layoutContext = new LayoutContext();
+
+		/**
+		 * Copies the layout-relevant nodes and edges of the given
+		 * {@link LayoutContext}. Has to be called on the JavaFX application
+		 * thread.
+		 */
+		AsyncLayoutCopy(LayoutContext original, ILayoutAlgorithm layoutAlgorithm) {
+			List<org.eclipse.gef.graph.Node> nodes = new ArrayList<>();
+			for (org.eclipse.gef.graph.Node node : original.getNodes()) {
+				org.eclipse.gef.graph.Node copy = new org.eclipse.gef.graph.Node(copyAttributes(node.getAttributes()));
+				copies.put(node, copy);
+				nodes.add(copy);
+			}
+			List<Edge> edges = new ArrayList<>();
+			for (Edge edge : original.getEdges()) {
+				org.eclipse.gef.graph.Node source = copies.get(edge.getSource());
+				org.eclipse.gef.graph.Node target = copies.get(edge.getTarget());
+				if (source != null && target != null) {
+					edges.add(new Edge(copyAttributes(edge.getAttributes()), source, target));
+				}
+			}
+			layoutContext
+					.setGraph(new Graph(copyAttributes(original.getGraph().getAttributes()), nodes, edges));
+			layoutContext.setLayoutAlgorithm(layoutAlgorithm);
+		}
+
+		/**
+		 * Transfers the computed locations and sizes to the original nodes
+		 * within a {@link Graph#batchUpdate(Runnable) batch update} of the
+		 * given {@link Graph}. Has to be called on the JavaFX application
+		 * thread.
+		 */
+		void applyResults(Graph graph) {
+			graph.batchUpdate(new Runnable() {
+				@Override
+				public void run() {
+					for (Map.Entry<org.eclipse.gef.graph.Node, org.eclipse.gef.graph.Node> entry : copies.entrySet()) {
+						org.eclipse.gef.graph.Node node = entry.getKey();
+						org.eclipse.gef.graph.Node copy = entry.getValue();
+						Point location = LayoutProperties.getLocation(copy);
+						if (location != null && !location.equals(LayoutProperties.getLocation(node))) {
+							LayoutProperties.setLocation(node, location);
+						}
+						Dimension size = LayoutProperties.getSize(copy);
+						if (size != null && !size.equals(LayoutProperties.getSize(node))) {
+							LayoutProperties.setSize(node, size);
+						}
+					}
+				}
+			});
+		}
+
+		/**
+		 * Copies the given attributes, so that mutable geometric values (e.g.
+		 * locations) are not shared with the original.
+		 */
+		private static Map<String, Object> copyAttributes(Map<String, Object> attributes) {
+			Map<String, Object> copy = new HashMap<>(attributes);
+			for (Map.Entry<String, Object> entry : copy.entrySet()) {
+				Object value = entry.getValue();
+				if (value instanceof Point) {
+					entry.setValue(((Point) value).getCopy());
+				} else if (value instanceof Dimension) {
+					entry.setValue(((Dimension) value).getCopy());
+				} else if (value instanceof Rectangle) {
+					entry.setValue(((Rectangle) value).getCopy());
+				}
+			}
+			return copy;
+		}
+
+		/**
+		 * Runs the layout algorithm against this copy. May be called on
+		 * any thread.
+		 */
+		void run() {
+			layoutContext.applyLayout(true);
+		}
+	}
+
 	private Runnable postLayout = new Runnable() {
 		@Override
 		public void run() {
@@ -101,34 +220,489 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 
 	private boolean skipNextLayout;
 
+	private boolean asynchronous = false;
+	private Executor layoutExecutor;
+	private ExecutorService defaultLayoutExecutor;
+	private CompletableFuture<Void> pendingLayout;
+	// the layout algorithm that is executed on the worker thread (if any)
+	private ILayoutAlgorithm workerLayoutAlgorithm;
+	// the layout pass that is deferred until the worker thread is finished
+	private Supplier<CompletableFuture<Void>> deferredLayout;
+	private boolean progressive = false;
+	private long progressiveTimeBudget = DEFAULT_PROGRESSIVE_TIME_BUDGET;
+	private double progressiveConvergenceThreshold = DEFAULT_PROGRESSIVE_CONVERGENCE_THRESHOLD;
+	private AnimationTimer progressiveLayoutTimer;
+
+	/**
+	 * Performs one layout pass using the static layout algorithm that is
+	 * configured for the layout context. If this behavior is
+	 * {@link #setAsynchronous(boolean) asynchronous}, the layout pass is
+	 * delegated to {@link #applyLayoutAsync(boolean, Object)}. A pending
+	 * layout pass is cancelled. If the layout algorithm is still executed by a
+	 * cancelled asynchronous layout pass, the layout pass is deferred until
+	 * the worker is finished.
+	 *
+	 * @param clean
+	 *            Whether to fully re-compute the layout or not.
+	 * @param extra
+	 *            An extra {@link Object} that is passed-on to the
+	 *            {@link ILayoutAlgorithm}.
+	 */
+	public void applyLayout(final boolean clean, final Object extra) {
+		if (progressive) {
+			applyLayoutProgressively(clean, extra);
+			return;
+		}
+		if (asynchronous) {
+			applyLayoutAsync(clean, extra);
+			return;
+		}
+
+		cancelPendingLayout();
+		if (!updateLayoutContext()) {
+			return;
+		}
+		if (isExecutedByWorker(getLayoutContext().getLayoutAlgorithm())) {
+			deferLayout(new Supplier<CompletableFuture<Void>>() {
+				@Override
+				public CompletableFuture<Void> get() {
+					applyLayout(clean, extra);
+					return CompletableFuture.completedFuture(null);
+				}
+			});
+			return;
+		}
+
+		// apply layout (if no algorithm is set, will be a no-op)
+		getLayoutContext().applyLayout(true);
+	}
+
 	/**
 	 * Performs one layout pass using the static layout algorithm that is
-	 * configured for the layout context.
+	 * configured for the layout context, without blocking the JavaFX
+	 * application thread. The layout-relevant attributes (i.e. sizes and
+	 * locations, as provided by the pre-layout pass) are copied, the layout
+	 * algorithm is executed against the copy using the
+	 * {@link #setLayoutExecutor(Executor) layout executor}, and the results
+	 * are transferred back on the JavaFX application thread in a single step,
+	 * which is followed by the post-layout pass. A layout pass that is still
+	 * pending is cancelled, i.e. its results are discarded. The worker checks
+	 * for cancellation before and after executing the layout algorithm.
+	 * <p>
+	 * At most one layout pass is executed by the worker at a time. If a
+	 * cancelled layout pass is still executing, the new layout pass is
+	 * deferred until the worker is finished, and only the most recently
+	 * requested layout pass is started then. Synchronous and progressive
+	 * layout passes that would use the layout algorithm instance that is
+	 * executed by the worker are deferred in the same way, so that the layout
+	 * algorithm is never accessed by the worker and the JavaFX application
+	 * thread concurrently. Independent instances can be used for each layout
+	 * pass by specifying a provider as the layout algorithm (see
+	 * {@link ZestProperties#setLayoutAlgorithm(Graph, com.google.inject.Provider)}
+	 * ). As the layout algorithm is executed on a worker thread, it may not be
+	 * accessed by clients until the returned future is completed.
+	 *
+	 * @param clean
+	 *            Whether to fully re-compute the layout or not.
+	 * @param extra
+	 *            An extra {@link Object} that is passed-on to the
+	 *            {@link ILayoutAlgorithm}.
+	 * @return A {@link CompletableFuture} that is completed (on the JavaFX
+	 *         application thread) after the results have been applied, or
+	 *         that is cancelled when the layout pass is superseded by another
+	 *         one.
+	 */
+	public CompletableFuture<Void> applyLayoutAsync(final boolean clean, final Object extra) {
+		cancelPendingLayout();
+		if (!updateLayoutContext()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		if (workerLayoutAlgorithm != null) {
+			return deferLayout(new Supplier<CompletableFuture<Void>>() {
+				@Override
+				public CompletableFuture<Void> get() {
+					return applyLayoutAsync(clean, extra);
+				}
+			});
+		}
+		return startAsyncLayout();
+	}
+
+	/**
+	 * Performs one layout pass progressively, if the layout algorithm that is
+	 * configured for the layout context is a {@link SpringLayoutAlgorithm}.
+	 * The algorithm's iterations are performed in time-boxed slices (see
+	 * {@link #setProgressiveTimeBudget(long)}), one slice per JavaFX pulse,
+	 * and the intermediate locations are pushed to the node parts after each
+	 * slice (via the post-layout pass). The layout pass finishes when the
+	 * algorithm is {@link SpringLayoutAlgorithm#isConverged() converged}, the
+	 * maximum node displacement falls below the
+	 * {@link #setProgressiveConvergenceThreshold(double) progressive
+	 * convergence threshold}, or the maximum number of iterations is reached.
+	 * If the algorithm throws an exception, the layout pass is stopped and the
+	 * returned future is completed exceptionally. A layout pass that is still
+	 * pending is cancelled.
+	 * <p>
+	 * Other layout algorithms are applied
+	 * {@link #applyLayoutAsync(boolean, Object) asynchronously} if this
+	 * behavior is {@link #setAsynchronous(boolean) asynchronous}, and
+	 * synchronously otherwise.
 	 *
 	 * @param clean
 	 *            Whether to fully re-compute the layout or not.
 	 * @param extra
 	 *            An extra {@link Object} that is passed-on to the
 	 *            {@link ILayoutAlgorithm}.
+	 * @return A {@link CompletableFuture} that is completed (on the JavaFX
+	 *         application thread) after the last slice has been applied, or
+	 *         that is cancelled when the layout pass is superseded by another
+	 *         one.
+	 */
+	public CompletableFuture<Void> applyLayoutProgressively(final boolean clean, final Object extra) {
+		cancelPendingLayout();
+		if (!updateLayoutContext()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		LayoutContext layoutContext = getLayoutContext();
+		boolean isSpringLayout = layoutContext.getLayoutAlgorithm() instanceof SpringLayoutAlgorithm;
+		if ((!isSpringLayout && asynchronous) ? workerLayoutAlgorithm != null
+				: isExecutedByWorker(layoutContext.getLayoutAlgorithm())) {
+			return deferLayout(new Supplier<CompletableFuture<Void>>() {
+				@Override
+				public CompletableFuture<Void> get() {
+					return applyLayoutProgressively(clean, extra);
+				}
+			});
+		}
+		if (!isSpringLayout) {
+			if (asynchronous) {
+				return startAsyncLayout();
+			}
+			layoutContext.applyLayout(true);
+			return CompletableFuture.completedFuture(null);
+		}
+		final SpringLayoutAlgorithm layoutAlgorithm = (SpringLayoutAlgorithm) layoutContext.getLayoutAlgorithm();
+
+		// initialize the algorithm (without performing any iterations)
+		layoutContext.applyLayout(false);
+
+		final CompletableFuture<Void> future = new CompletableFuture<>();
+		pendingLayout = future;
+		progressiveLayoutTimer = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				if (future.isDone() || !isActive()) {
+					stop();
+					return;
+				}
+				try {
+					if (layoutAlgorithm.performIterations(progressiveTimeBudget)
+							&& !(layoutAlgorithm.getMaxDisplacement() < progressiveConvergenceThreshold)) {
+						return;
+					}
+					// perform the finishing steps (e.g. fit within the layout bounds)
+					stop();
+					layoutAlgorithm.finishIterations();
+				} catch (Throwable t) {
+					stop();
+					future.completeExceptionally(t);
+					return;
+				}
+				future.complete(null);
+			}
+		};
+		progressiveLayoutTimer.start();
+		return future;
+	}
+
+	/**
+	 * Starts an asynchronous layout pass for the (already updated) layout
+	 * context.
+	 */
+	private CompletableFuture<Void> startAsyncLayout() {
+		LayoutContext layoutContext = getLayoutContext();
+		ILayoutAlgorithm layoutAlgorithm = layoutContext.getLayoutAlgorithm();
+		if (layoutAlgorithm == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		// copy the graph on the application thread
+		layoutContext.preLayout();
+		final AsyncLayoutCopy layoutCopy = new AsyncLayoutCopy(layoutContext, layoutAlgorithm);
+
+		final CompletableFuture<Void> future = new CompletableFuture<>();
+		pendingLayout = future;
+		workerLayoutAlgorithm = layoutAlgorithm;
+		getLayoutExecutor().execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					// skip execution if cancelled before started
+					if (!future.isDone()) {
+						layoutCopy.run();
+					}
+				} catch (Throwable t) {
+					future.completeExceptionally(t);
+				} finally {
+					Platform.runLater(new Runnable() {
+						@Override
+						public void run() {
+							// discard results if cancelled in the meantime
+							if (!future.isDone() && isActive()) {
+								layoutCopy.applyResults(getHost().getContent());
+								getLayoutContext().postLayout();
+								future.complete(null);
+							}
+							workerFinished();
+						}
+					});
+				}
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Defers the given layout pass until the worker thread is finished, so
+	 * that only the most recently deferred layout pass is started then.
+	 *
+	 * @return A {@link CompletableFuture} that is completed when the started
+	 *         layout pass is completed, or that is cancelled when the layout
+	 *         pass is superseded by another one.
+	 */
+	private CompletableFuture<Void> deferLayout(Supplier<CompletableFuture<Void>> layout) {
+		cancelPendingLayout();
+		deferredLayout = layout;
+		pendingLayout = new CompletableFuture<>();
+		return pendingLayout;
+	}
+
+	/**
+	 * Returns <code>true</code> if the given {@link ILayoutAlgorithm} is
+	 * currently executed on the worker thread, otherwise <code>false</code>.
+	 */
+	private boolean isExecutedByWorker(ILayoutAlgorithm layoutAlgorithm) {
+		return layoutAlgorithm != null && layoutAlgorithm == workerLayoutAlgorithm;
+	}
+
+	/**
+	 * Called on the JavaFX application thread when the worker thread finished
+	 * executing the layout algorithm. Starts the deferred layout pass (if
+	 * any).
+	 */
+	private void workerFinished() {
+		workerLayoutAlgorithm = null;
+		if (deferredLayout == null) {
+			return;
+		}
+		Supplier<CompletableFuture<Void>> layout = deferredLayout;
+		final CompletableFuture<Void> future = pendingLayout;
+		deferredLayout = null;
+		pendingLayout = null;
+		if (future.isDone() || !isActive()) {
+			return;
+		}
+		layout.get().whenComplete(new BiConsumer<Void, Throwable>() {
+			@Override
+			public void accept(Void result, Throwable throwable) {
+				if (throwable == null) {
+					future.complete(result);
+				} else {
+					future.completeExceptionally(throwable);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Cancels the pending asynchronous or progressive layout pass (if any), so
+	 * that its (remaining) results are discarded.
+	 */
+	protected void cancelPendingLayout() {
+		deferredLayout = null;
+		if (progressiveLayoutTimer != null) {
+			progressiveLayoutTimer.stop();
+			progressiveLayoutTimer = null;
+		}
+		if (pendingLayout != null) {
+			pendingLayout.cancel(false);
+			pendingLayout = null;
+		}
+	}
+
+	/**
+	 * Returns the {@link Executor} that is used to execute asynchronous layout
+	 * passes. If no executor was set, a single-threaded (daemon) executor is
+	 * used, which is shut down upon deactivation.
+	 *
+	 * @return The {@link Executor} that is used to execute asynchronous layout
+	 *         passes.
+	 */
+	protected Executor getLayoutExecutor() {
+		if (layoutExecutor != null) {
+			return layoutExecutor;
+		}
+		if (defaultLayoutExecutor == null) {
+			defaultLayoutExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "Zest Layout");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return defaultLayoutExecutor;
+	}
+
+	/**
+	 * Returns the future of the pending asynchronous or progressive layout
+	 * pass, or <code>null</code> if no such layout pass is pending.
+	 *
+	 * @return The future of the pending asynchronous or progressive layout
+	 *         pass, or <code>null</code>.
+	 */
+	public CompletableFuture<Void> getPendingLayout() {
+		return pendingLayout == null || pendingLayout.isDone() ? null : pendingLayout;
+	}
+
+	/**
+	 * Returns whether layout passes that are initiated by this behavior are
+	 * executed asynchronously.
+	 *
+	 * @return <code>true</code> if layout passes are executed asynchronously,
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isAsynchronous() {
+		return asynchronous;
+	}
+
+	/**
+	 * Sets whether layout passes that are initiated by this behavior (or
+	 * {@link #applyLayout(boolean, Object)}) are executed
+	 * {@link #applyLayoutAsync(boolean, Object) asynchronously}. By default,
+	 * layout passes are executed synchronously.
+	 *
+	 * @param asynchronous
+	 *            <code>true</code> to execute layout passes asynchronously,
+	 *            <code>false</code> to execute them synchronously.
+	 */
+	public void setAsynchronous(boolean asynchronous) {
+		this.asynchronous = asynchronous;
+	}
+
+	/**
+	 * Returns whether layout passes that are initiated by this behavior are
+	 * executed {@link #applyLayoutProgressively(boolean, Object)
+	 * progressively}.
+	 *
+	 * @return <code>true</code> if layout passes are executed progressively,
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean isProgressive() {
+		return progressive;
+	}
+
+	/**
+	 * Sets whether layout passes that are initiated by this behavior (or
+	 * {@link #applyLayout(boolean, Object)}) are executed
+	 * {@link #applyLayoutProgressively(boolean, Object) progressively}. By
+	 * default, layout passes are not executed progressively.
+	 *
+	 * @param progressive
+	 *            <code>true</code> to execute layout passes progressively,
+	 *            <code>false</code> otherwise.
+	 */
+	public void setProgressive(boolean progressive) {
+		this.progressive = progressive;
+	}
+
+	/**
+	 * Returns the maximum (normalized) node displacement below which a
+	 * progressive layout pass is finished.
+	 *
+	 * @return The convergence threshold for progressive layout passes.
+	 */
+	public double getProgressiveConvergenceThreshold() {
+		return progressiveConvergenceThreshold;
+	}
+
+	/**
+	 * Sets the maximum (normalized) node displacement (see
+	 * {@link SpringLayoutAlgorithm#getMaxDisplacement()}) below which a
+	 * progressive layout pass is finished. This is evaluated in addition to
+	 * the {@link SpringLayoutAlgorithm#getConvergenceThreshold() convergence
+	 * threshold} of the algorithm, which disables the convergence check by
+	 * default. The default value is
+	 * {@link #DEFAULT_PROGRESSIVE_CONVERGENCE_THRESHOLD}. A value of
+	 * <code>0</code> only finishes the layout pass when the algorithm is
+	 * converged or the maximum number of iterations is reached.
+	 *
+	 * @param threshold
+	 *            The new convergence threshold for progressive layout passes.
+	 */
+	public void setProgressiveConvergenceThreshold(double threshold) {
+		progressiveConvergenceThreshold = threshold;
+	}
+
+	/**
+	 * Returns the time budget (in milliseconds) for the iterations that are
+	 * performed per pulse during a progressive layout pass.
+	 *
+	 * @return The time budget per pulse in milliseconds.
+	 */
+	public long getProgressiveTimeBudget() {
+		return progressiveTimeBudget;
+	}
+
+	/**
+	 * Sets the time budget (in milliseconds) for the iterations that are
+	 * performed per pulse during a progressive layout pass. The default value
+	 * is {@link #DEFAULT_PROGRESSIVE_TIME_BUDGET}.
+	 *
+	 * @param timeBudget
+	 *            The new time budget per pulse in milliseconds.
+	 */
+	public void setProgressiveTimeBudget(long timeBudget) {
+		progressiveTimeBudget = timeBudget;
+	}
+
+	/**
+	 * Sets the {@link Executor} that is used to execute asynchronous layout
+	 * passes. Passing <code>null</code> restores the default executor.
+	 *
+	 * @param layoutExecutor
+	 *            The {@link Executor} to use for asynchronous layout passes.
+	 */
+	public void setLayoutExecutor(Executor layoutExecutor) {
+		this.layoutExecutor = layoutExecutor;
+	}
+
+	/**
+	 * Updates the {@link LayoutContext} (i.e. its graph and layout algorithm)
+	 * in preparation of a layout pass.
+	 *
+	 * @return <code>true</code> if a layout pass is to be performed,
+	 *         <code>false</code> if it is to be skipped.
 	 */
 	@SuppressWarnings("unchecked")
-	public void applyLayout(boolean clean, Object extra) {
+	private boolean updateLayoutContext() {
 		// check child parts exist for all content children
 		if (getHost().getChildrenUnmodifiable().size() != getHost().getContentChildrenUnmodifiable().size()) {
-			return;
+			return false;
 		} else {
 			List<IContentPart<? extends Node>> childContentParts = PartUtils
 					.filterParts(getHost().getChildrenUnmodifiable(), IContentPart.class);
 			for (IContentPart<? extends Node> cp : childContentParts) {
 				if (!getHost().getContentChildrenUnmodifiable().contains(cp.getContent())) {
-					return;
+					return false;
 				}
 			}
 		}
 
 		if (skipNextLayout) {
 			skipNextLayout = false;
-			return;
+			return false;
 		}
 
 		Graph graph = getHost().getContent();
@@ -150,9 +724,7 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		if (layoutContext.getGraph() != graph) {
 			layoutContext.setGraph(graph);
 		}
-
-		// apply layout (if no algorithm is set, will be a no-op)
-		layoutContext.applyLayout(true);
+		return true;
 	}
 
 	/**
@@ -266,6 +838,13 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 	protected void doDeactivate() {
 		getHost().getChildrenUnmodifiable().removeListener(childrenObserver);
 
+		// discard results of pending layout
+		cancelPendingLayout();
+		if (defaultLayoutExecutor != null) {
+			defaultLayoutExecutor.shutdownNow();
+			defaultLayoutExecutor = null;
+		}
+
 		final HidingModel hidingModel = getHost().getRoot().getViewer().getAdapter(HidingModel.class);
 		if (hidingModel != null) {
 			hidingModel.hiddenProperty().removeListener(hidingModelObserver);
@@ -19,6 +19,8 @@ import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.gef.common.attributes.IAttributeStore;
 import org.eclipse.gef.fx.listeners.VisualChangeListener;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel.LevelOfDetail;
 import org.eclipse.gef.mvc.fx.operations.TransformVisualOperation;
 import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
 import org.eclipse.gef.mvc.fx.parts.ITransformableContentPart;
@@ -194,6 +196,21 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 		setLabelPosition(computeLabelPosition());
 	}
 
+	/**
+	 * Shows the {@link #getText() text} only when rendering at
+	 * {@link LevelOfDetail#FULL full} detail.
+	 *
+	 * @return <code>true</code> if the text is shown, otherwise
+	 *         <code>false</code>.
+	 */
+	protected boolean refreshLevelOfDetail() {
+		boolean showText = LevelOfDetailModel.getLevelOfDetail(getViewer()) == LevelOfDetail.FULL;
+		if (getText() != null && getText().isVisible() != showText) {
+			getText().setVisible(showText);
+		}
+		return showText;
+	}
+
 	/**
 	 * Adjusts the label's position to fit the given {@link Point}.
 	 *
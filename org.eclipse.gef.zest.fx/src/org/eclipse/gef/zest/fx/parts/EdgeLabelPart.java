@@ -114,11 +114,19 @@ public class EdgeLabelPart extends AbstractLabelPart {
 			}
 		}
 
+		// labels are only shown at full detail
+		boolean showText = refreshLevelOfDetail();
+
 		// XXX: We may be refreshed before being anchored on the anchorage.
 		if (getFirstAnchorage() == null) {
 			return;
 		}
 
+		// hidden labels do not need to be positioned
+		if (!showText) {
+			return;
+		}
+
 		refreshPosition(getVisual(), getLabelPosition());
 	}
 
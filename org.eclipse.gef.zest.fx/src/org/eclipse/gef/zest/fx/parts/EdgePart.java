@@ -22,8 +22,11 @@ import org.eclipse.gef.fx.anchors.IAnchor;
 import org.eclipse.gef.fx.nodes.Connection;
 import org.eclipse.gef.fx.nodes.IConnectionInterpolator;
 import org.eclipse.gef.fx.nodes.IConnectionRouter;
+import org.eclipse.gef.fx.nodes.PolylineInterpolator;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel.LevelOfDetail;
 import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
 import org.eclipse.gef.mvc.fx.parts.IBendableContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
@@ -79,6 +82,11 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 
 	};
 
+	// interpolator that is replaced by a polyline interpolator when rendering
+	// at minimal detail
+	private IConnectionInterpolator replacedInterpolator;
+	private IConnectionInterpolator simplifiedInterpolator;
+
 	@Override
 	protected void doActivate() {
 		super.doActivate();
@@ -245,16 +253,41 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 			visual.getEndDecoration().setStyle(targetDecorationCssStyle);
 		}
 
+		// decorations are only rendered at full detail
+		LevelOfDetail levelOfDetail = LevelOfDetailModel.getLevelOfDetail(getViewer());
+		boolean showDecorations = levelOfDetail == LevelOfDetail.FULL;
+		if (visual.getStartDecoration() != null) {
+			visual.getStartDecoration().setVisible(showDecorations);
+		}
+		if (visual.getEndDecoration() != null) {
+			visual.getEndDecoration().setVisible(showDecorations);
+		}
+
 		// connection router
 		IConnectionRouter router = ZestProperties.getRouter(edge);
 		if (router != null) {
 			visual.setRouter(router);
 		}
 
-		// interpolator
+		// interpolator (straight polylines are used at minimal detail)
 		IConnectionInterpolator interpolator = ZestProperties.getInterpolator(edge);
-		if (interpolator != null) {
-			visual.setInterpolator(interpolator);
+		if (levelOfDetail == LevelOfDetail.MINIMAL) {
+			if (simplifiedInterpolator == null) {
+				replacedInterpolator = interpolator != null ? interpolator : visual.getInterpolator();
+				simplifiedInterpolator = new PolylineInterpolator();
+				visual.setInterpolator(simplifiedInterpolator);
+			}
+		} else {
+			if (simplifiedInterpolator != null) {
+				if (interpolator == null) {
+					interpolator = replacedInterpolator;
+				}
+				replacedInterpolator = null;
+				simplifiedInterpolator = null;
+			}
+			if (interpolator != null) {
+				visual.setInterpolator(interpolator);
+			}
 		}
 
 		// TODO: replace the following code with
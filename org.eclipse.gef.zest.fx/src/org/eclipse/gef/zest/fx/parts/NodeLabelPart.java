@@ -86,11 +86,19 @@ public class NodeLabelPart extends AbstractLabelPart {
 			getText().setText(label);
 		}
 
+		// labels are only shown at full detail
+		boolean showText = refreshLevelOfDetail();
+
 		IVisualPart<? extends javafx.scene.Node> firstAnchorage = getFirstAnchorage();
 		if (firstAnchorage == null) {
 			return;
 		}
 
+		// hidden labels do not need to be positioned
+		if (!showText) {
+			return;
+		}
+
 		refreshPosition(getVisual(), getLabelPosition());
 	}
 
@@ -24,10 +24,13 @@ import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel;
+import org.eclipse.gef.mvc.fx.models.LevelOfDetailModel.LevelOfDetail;
 import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
 import org.eclipse.gef.mvc.fx.parts.IResizableContentPart;
 import org.eclipse.gef.mvc.fx.parts.ITransformableContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import org.eclipse.gef.zest.fx.ZestProperties;
 
 import com.google.common.collect.HashMultimap;
@@ -52,6 +55,7 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
 import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
 import javafx.scene.paint.Stop;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Line;
@@ -154,6 +158,12 @@ public class NodePart extends AbstractContentPart<Group>
 	 */
 	public static final String CSS_CLASS_SHAPE = "shape";
 
+	/**
+	 * The CSS class that is applied to the {@link Rectangle} that replaces the
+	 * shape when rendering at {@link LevelOfDetail#MINIMAL minimal} detail.
+	 */
+	public static final String CSS_CLASS_SIMPLIFIED_SHAPE = "simplified-shape";
+
 	/**
 	 * The CSS class that is applied to the {@link Text} that displays the
 	 * label.
@@ -180,6 +190,8 @@ public class NodePart extends AbstractContentPart<Group>
 	private Tooltip tooltipNode;
 	private VBox vbox;
 	private Node shape;
+	private Rectangle simplifiedShape;
+	private Dimension pendingVBoxSize;
 
 	private Node nestedGraphIcon;
 	private StackPane nestedContentStackPane;
@@ -276,13 +288,18 @@ public class NodePart extends AbstractContentPart<Group>
 			public void resize(double w, double h) {
 				// for shape we use the exact size
 				shape.resize(w, h);
-				// for vbox we use the preferred size
-				vbox.setPrefSize(w, h);
-				vbox.autosize();
-				// and we relocate it to be horizontally and vertically centered
-				// w.r.t. the shape
-				Bounds vboxBounds = vbox.getLayoutBounds();
-				vbox.relocate((w - vboxBounds.getWidth()) / 2, (h - vboxBounds.getHeight()) / 2);
+				if (simplifiedShape != null) {
+					simplifiedShape.setWidth(w);
+					simplifiedShape.setHeight(h);
+				}
+				// the (invisible) vbox does not need to be laid out when
+				// rendering at reduced detail, it is laid out when it is shown
+				// again (see refreshLevelOfDetail())
+				if (!vbox.isVisible()) {
+					pendingVBoxSize = new Dimension(w, h);
+					return;
+				}
+				layoutVBox(w, h);
 			};
 		};
 
@@ -382,6 +399,7 @@ public class NodePart extends AbstractContentPart<Group>
 		}
 
 		refreshShape();
+		refreshLevelOfDetail();
 
 		// set CSS style
 		if (attrs.containsKey(ZestProperties.SHAPE_CSS_STYLE__N)) {
@@ -576,6 +594,72 @@ public class NodePart extends AbstractContentPart<Group>
 		}
 	}
 
+	/**
+	 * Lays out the {@link VBox} that contains label, icon, and nested content
+	 * for the given size of the visual.
+	 */
+	private void layoutVBox(double w, double h) {
+		// for vbox we use the preferred size
+		vbox.setPrefSize(w, h);
+		vbox.autosize();
+		// and we relocate it to be horizontally and vertically centered
+		// w.r.t. the shape
+		Bounds vboxBounds = vbox.getLayoutBounds();
+		vbox.relocate((w - vboxBounds.getWidth()) / 2, (h - vboxBounds.getHeight()) / 2);
+	}
+
+	/**
+	 * Adjusts the visualization to the current {@link LevelOfDetail level of
+	 * detail} (see {@link LevelOfDetailModel#getLevelOfDetail(IViewer)}).
+	 * Label, icon, and nested content are only shown when rendering at
+	 * {@link LevelOfDetail#FULL full} detail. At {@link LevelOfDetail#MINIMAL
+	 * minimal} detail, the shape is replaced by a filled {@link Rectangle}.
+	 */
+	private void refreshLevelOfDetail() {
+		LevelOfDetail levelOfDetail = LevelOfDetailModel.getLevelOfDetail(getViewer());
+		boolean showDetails = levelOfDetail == LevelOfDetail.FULL;
+		if (vbox != null && vbox.isVisible() != showDetails) {
+			vbox.setVisible(showDetails);
+			if (showDetails && pendingVBoxSize != null) {
+				// the vbox was not laid out while it was hidden
+				layoutVBox(pendingVBoxSize.width, pendingVBoxSize.height);
+				pendingVBoxSize = null;
+			}
+		}
+
+		if (levelOfDetail == LevelOfDetail.MINIMAL && getShape() != null) {
+			if (simplifiedShape == null) {
+				simplifiedShape = new Rectangle();
+				simplifiedShape.getStyleClass().add(CSS_CLASS_SIMPLIFIED_SHAPE);
+				simplifiedShape.setStrokeType(StrokeType.INSIDE);
+				simplifiedShape.setMouseTransparent(true);
+				Bounds shapeBounds = getShape().getLayoutBounds();
+				simplifiedShape.setWidth(shapeBounds.getWidth());
+				simplifiedShape.setHeight(shapeBounds.getHeight());
+				getVisual().getChildren().add(0, simplifiedShape);
+			}
+			// take over fill and stroke of the shape
+			Paint fill = Color.LIGHTGRAY;
+			Paint stroke = Color.BLACK;
+			if (getShape() instanceof GeometryNode) {
+				fill = ((GeometryNode<?>) getShape()).getFill();
+				stroke = ((GeometryNode<?>) getShape()).getStroke();
+			} else if (getShape() instanceof Shape) {
+				fill = ((Shape) getShape()).getFill();
+				stroke = ((Shape) getShape()).getStroke();
+			}
+			simplifiedShape.setFill(fill);
+			simplifiedShape.setStroke(stroke);
+			getShape().setVisible(false);
+		} else if (simplifiedShape != null) {
+			getVisual().getChildren().remove(simplifiedShape);
+			simplifiedShape = null;
+			if (getShape() != null) {
+				getShape().setVisible(true);
+			}
+		}
+	}
+
 	private void refreshShape() {
 		Node shape = ZestProperties.getShape(getContent());
 		if (this.shape != shape && shape != null) {
@@ -598,7 +682,9 @@ public class NodePart extends AbstractContentPart<Group>
 	 *
 	 */
 	protected void refreshTooltip() {
-		String tooltip = ZestProperties.getTooltip(getContent());
+		// tooltips are only installed when rendering at full detail
+		String tooltip = LevelOfDetailModel.getLevelOfDetail(getViewer()) == LevelOfDetail.FULL
+				? ZestProperties.getTooltip(getContent()) : null;
 		if (tooltip != null && !tooltip.isEmpty()) {
 			if (tooltipNode == null) {
 				tooltipNode = new Tooltip(tooltip);
@@ -609,6 +695,7 @@ public class NodePart extends AbstractContentPart<Group>
 		} else {
 			if (tooltipNode != null) {
 				Tooltip.uninstall(getVisual(), tooltipNode);
+				tooltipNode = null;
 			}
 		}
 	}
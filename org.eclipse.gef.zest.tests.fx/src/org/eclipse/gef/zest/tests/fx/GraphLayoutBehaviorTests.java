@@ -0,0 +1,356 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.gef.mvc.fx.domain.IDomain;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.zest.fx.ZestFxModule;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.behaviors.GraphLayoutBehavior;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import javafx.application.Platform;
+import javafx.collections.MapChangeListener;
+
+public class GraphLayoutBehaviorTests {
+
+	/**
+	 * A {@link SpringLayoutAlgorithm} that can be configured to fail, and that
+	 * counts how often the iterations are finished.
+	 */
+	private static class FailingSpringLayoutAlgorithm extends SpringLayoutAlgorithm {
+		private boolean failing = false;
+		private int finishCount = 0;
+
+		@Override
+		public void finishIterations() {
+			finishCount++;
+			super.finishIterations();
+		}
+
+		@Override
+		public boolean performIterations(long timeBudget) {
+			if (failing) {
+				throw new IllegalStateException("failing");
+			}
+			return super.performIterations(timeBudget);
+		}
+	}
+
+	/**
+	 * An {@link ILayoutAlgorithm} that moves all nodes to a fixed location
+	 * and records the threads on which it is executed.
+	 */
+	private static class RecordingLayoutAlgorithm implements ILayoutAlgorithm {
+		private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+		private volatile Point location = new Point(100, 100);
+
+		@Override
+		public void applyLayout(LayoutContext layoutContext, boolean clean) {
+			threads.add(Thread.currentThread());
+			for (Node node : layoutContext.getNodes()) {
+				LayoutProperties.setLocation(node, location.getCopy());
+			}
+		}
+	}
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private IDomain domain;
+	private IViewer viewer;
+
+	@Before
+	public void activate() throws Throwable {
+		domain = Guice.createInjector(new ZestFxModule()).getInstance(IDomain.class);
+		viewer = domain.getAdapter(AdapterKey.get(IViewer.class, IDomain.CONTENT_VIEWER_ROLE));
+		ctx.createScene(viewer.getCanvas(), 400, 400);
+		ctx.runAndWait(() -> {
+			domain.activate();
+		});
+	}
+
+	private Graph createGraph(ILayoutAlgorithm layoutAlgorithm) {
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < 5; i++) {
+			builder.node("n" + i);
+		}
+		for (int i = 1; i < 5; i++) {
+			builder.edge("n0", "n" + i);
+		}
+		Graph graph = builder.build();
+		for (Node node : graph.getNodes()) {
+			ZestProperties.setLabel(node, "Node");
+		}
+		ZestProperties.setLayoutAlgorithm(graph, layoutAlgorithm);
+		return graph;
+	}
+
+	@After
+	public void deactivate() throws Throwable {
+		ctx.runAndWait(() -> {
+			viewer.getContents().clear();
+			domain.deactivate();
+		});
+	}
+
+	/**
+	 * Executes the queued worker tasks on the current (test) thread, including
+	 * those that are queued in the meantime, and waits until the results are
+	 * processed on the JavaFX application thread.
+	 */
+	private int runWorkerTasks(List<Runnable> workerTasks) throws Throwable {
+		int count = 0;
+		while (true) {
+			// process pending results (which may queue further tasks)
+			ctx.runAndWait(() -> {
+			});
+			Runnable task;
+			synchronized (workerTasks) {
+				if (workerTasks.isEmpty()) {
+					return count;
+				}
+				task = workerTasks.remove(0);
+			}
+			task.run();
+			count++;
+		}
+	}
+
+	private GraphLayoutBehavior setContents(Graph graph) throws Throwable {
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(Collections.singletonList(graph));
+		});
+		return viewer.getContentPartMap().get(graph).getAdapter(GraphLayoutBehavior.class);
+	}
+
+	/**
+	 * Tests that an asynchronous layout pass executes the layout algorithm on
+	 * the worker, and transfers the results to the graph.
+	 */
+	@Test
+	public void asyncLayoutIsApplied() throws Throwable {
+		RecordingLayoutAlgorithm layoutAlgorithm = new RecordingLayoutAlgorithm();
+		Graph graph = createGraph(layoutAlgorithm);
+		GraphLayoutBehavior behavior = setContents(graph);
+		List<Runnable> workerTasks = Collections.synchronizedList(new ArrayList<>());
+		behavior.setLayoutExecutor(workerTasks::add);
+		layoutAlgorithm.threads.clear();
+
+		CompletableFuture<Void> future = ctx.runAndWait(() -> {
+			return behavior.applyLayoutAsync(true, null);
+		});
+		assertEquals(1, workerTasks.size());
+		assertFalse(future.isDone());
+		assertEquals(1, runWorkerTasks(workerTasks));
+		future.get(10, TimeUnit.SECONDS);
+		assertEquals(Collections.singletonList(Thread.currentThread()), layoutAlgorithm.threads);
+		for (Node node : graph.getNodes()) {
+			assertEquals(new Point(100, 100), LayoutProperties.getLocation(node));
+		}
+	}
+
+	/**
+	 * Tests that the results of an asynchronous layout pass are applied in one
+	 * batch, i.e. listeners are only notified after the results were applied
+	 * to all nodes.
+	 */
+	@Test
+	public void asyncLayoutIsAppliedInOneBatch() throws Throwable {
+		RecordingLayoutAlgorithm layoutAlgorithm = new RecordingLayoutAlgorithm();
+		Graph graph = createGraph(layoutAlgorithm);
+		GraphLayoutBehavior behavior = setContents(graph);
+		List<Runnable> workerTasks = Collections.synchronizedList(new ArrayList<>());
+		behavior.setLayoutExecutor(workerTasks::add);
+		layoutAlgorithm.location = new Point(200, 200);
+
+		CompletableFuture<Void> future = ctx.runAndWait(() -> {
+			return behavior.applyLayoutAsync(true, null);
+		});
+		// observe the nodes while the results are applied
+		List<Boolean> allApplied = Collections.synchronizedList(new ArrayList<>());
+		ctx.runAndWait(() -> {
+			for (Node node : graph.getNodes()) {
+				node.attributesProperty().addListener((MapChangeListener<String, Object>) change -> {
+					boolean applied = true;
+					for (Node n : graph.getNodes()) {
+						applied &= new Point(200, 200).equals(LayoutProperties.getLocation(n));
+					}
+					allApplied.add(applied);
+				});
+			}
+		});
+		runWorkerTasks(workerTasks);
+		future.get(10, TimeUnit.SECONDS);
+		assertFalse(allApplied.isEmpty());
+		assertFalse(allApplied.contains(false));
+	}
+
+	/**
+	 * Tests that the results of a cancelled asynchronous layout pass are
+	 * discarded, and that the layout algorithm is not executed if the layout
+	 * pass is cancelled before it is started.
+	 */
+	@Test
+	public void asyncLayoutIsCancelled() throws Throwable {
+		RecordingLayoutAlgorithm layoutAlgorithm = new RecordingLayoutAlgorithm();
+		Graph graph = createGraph(layoutAlgorithm);
+		GraphLayoutBehavior behavior = setContents(graph);
+		List<Runnable> workerTasks = Collections.synchronizedList(new ArrayList<>());
+		behavior.setLayoutExecutor(workerTasks::add);
+		layoutAlgorithm.threads.clear();
+		Point location = LayoutProperties.getLocation(graph.getNodes().get(0));
+
+		CompletableFuture<Void> future = ctx.runAndWait(() -> {
+			return behavior.applyLayoutAsync(true, null);
+		});
+		future.cancel(false);
+		assertEquals(1, runWorkerTasks(workerTasks));
+		assertTrue(layoutAlgorithm.threads.isEmpty());
+		assertEquals(location, LayoutProperties.getLocation(graph.getNodes().get(0)));
+		assertNull(behavior.getPendingLayout());
+	}
+
+	/**
+	 * Tests that superseded asynchronous layout passes are dropped, i.e. only
+	 * the most recently requested layout pass is executed after the worker is
+	 * finished.
+	 */
+	@Test
+	public void asyncLayoutIsSuperseded() throws Throwable {
+		RecordingLayoutAlgorithm layoutAlgorithm = new RecordingLayoutAlgorithm();
+		GraphLayoutBehavior behavior = setContents(createGraph(layoutAlgorithm));
+		List<Runnable> workerTasks = Collections.synchronizedList(new ArrayList<>());
+		behavior.setLayoutExecutor(workerTasks::add);
+		layoutAlgorithm.threads.clear();
+
+		List<CompletableFuture<Void>> futures = ctx.runAndWait(() -> {
+			List<CompletableFuture<Void>> result = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				result.add(behavior.applyLayoutAsync(true, null));
+			}
+			return result;
+		});
+		// the first layout pass is started, the others are deferred
+		assertEquals(1, workerTasks.size());
+		assertTrue(futures.get(0).isCancelled());
+		assertTrue(futures.get(1).isCancelled());
+		assertFalse(futures.get(2).isDone());
+
+		// the cancelled layout pass is skipped, and the last one is executed
+		assertEquals(2, runWorkerTasks(workerTasks));
+		futures.get(2).get(10, TimeUnit.SECONDS);
+		assertEquals(1, layoutAlgorithm.threads.size());
+	}
+
+	/**
+	 * Tests that a synchronous layout pass is deferred while the layout
+	 * algorithm is executed on the worker thread.
+	 */
+	@Test
+	public void syncLayoutIsDeferredWhileWorkerIsBusy() throws Throwable {
+		RecordingLayoutAlgorithm layoutAlgorithm = new RecordingLayoutAlgorithm();
+		GraphLayoutBehavior behavior = setContents(createGraph(layoutAlgorithm));
+		List<Runnable> workerTasks = Collections.synchronizedList(new ArrayList<>());
+		behavior.setLayoutExecutor(workerTasks::add);
+		layoutAlgorithm.threads.clear();
+
+		CompletableFuture<Void> future = ctx.runAndWait(() -> {
+			CompletableFuture<Void> asyncLayout = behavior.applyLayoutAsync(true, null);
+			behavior.applyLayout(true, null);
+			return asyncLayout;
+		});
+		assertTrue(future.isCancelled());
+		assertTrue(layoutAlgorithm.threads.isEmpty());
+		assertNotNull(behavior.getPendingLayout());
+
+		// the synchronous layout pass is performed when the worker finished
+		assertEquals(1, runWorkerTasks(workerTasks));
+		assertEquals(1, layoutAlgorithm.threads.size());
+		assertTrue(ctx.runAndWait(() -> {
+			return layoutAlgorithm.threads.get(0) == Thread.currentThread() && Platform.isFxApplicationThread();
+		}));
+	}
+
+	/**
+	 * Tests that an exception that is thrown by the layout algorithm stops
+	 * the progressive layout pass and completes its future exceptionally.
+	 */
+	@Test
+	public void progressiveLayoutFailure() throws Throwable {
+		FailingSpringLayoutAlgorithm layoutAlgorithm = new FailingSpringLayoutAlgorithm();
+		GraphLayoutBehavior behavior = setContents(createGraph(layoutAlgorithm));
+
+		layoutAlgorithm.failing = true;
+		CompletableFuture<Void> future = ctx.runAndWait(() -> {
+			return behavior.applyLayoutProgressively(true, null);
+		});
+		try {
+			future.get(10, TimeUnit.SECONDS);
+			fail("The progressive layout pass should have failed.");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		assertNull(behavior.getPendingLayout());
+	}
+
+	/**
+	 * Tests that a progressive layout pass finishes even though the
+	 * convergence check of the layout algorithm is disabled and the number of
+	 * iterations is not limited, and that the finishing steps of the layout
+	 * algorithm are performed once.
+	 */
+	@Test
+	public void progressiveLayoutFinishes() throws Throwable {
+		FailingSpringLayoutAlgorithm layoutAlgorithm = new FailingSpringLayoutAlgorithm();
+		GraphLayoutBehavior behavior = setContents(createGraph(layoutAlgorithm));
+
+		layoutAlgorithm.setIterations(Integer.MAX_VALUE);
+		CompletableFuture<Void> future = ctx.runAndWait(() -> {
+			return behavior.applyLayoutProgressively(true, null);
+		});
+		future.get(10, TimeUnit.SECONDS);
+		assertTrue(layoutAlgorithm.getMaxDisplacement() < behavior.getProgressiveConvergenceThreshold());
+		assertEquals(1, layoutAlgorithm.finishCount);
+		assertNull(behavior.getPendingLayout());
+	}
+
+}